@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2020 SAP SE and others.
+ * Copyright (c) 2014, 2026 SAP SE and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,9 +22,20 @@ import static org.junit.Assert.assertNotEquals;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.eclipse.jdt.debug.tests.TestUtil;
 import org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceConsole;
+import org.eclipse.jdt.internal.debug.ui.console.JavaThreadDump;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IDocumentPartitioningListenerExtension;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITypedRegion;
 import org.eclipse.jface.text.Position;
 import org.eclipse.swt.custom.ST;
 import org.eclipse.ui.PlatformUI;
@@ -411,4 +422,177 @@ public class JavaStackTraceConsoleTest extends AbstractJavaStackTraceConsoleTest
 		String[] matchTexts = linkTextsAtPositions(38);
 		assertArrayEquals(allLinks(), new String[] { "java.base/Charset.java:296" }, matchTexts);
 	}
+
+	private static final String THREAD_DUMP = "Full thread dump\n\n" //
+			+ "\"worker-1\" #11 prio=5 tid=0x1 nid=0x1 waiting on condition\n" //
+			+ "   java.lang.Thread.State: WAITING (parking)\n" //
+			+ "\tat jdk.internal.misc.Unsafe.park(Native Method)\n" //
+			+ "\t- parking to wait for <0x0001> (a java.util.concurrent.locks.AbstractQueuedSynchronizer$ConditionObject)\n" //
+			+ "\tat java.util.concurrent.locks.LockSupport.park(LockSupport.java:194)\n\n" //
+			+ "\"main\" #1 prio=5 tid=0x2 nid=0x2 runnable\n" //
+			+ "   java.lang.Thread.State: RUNNABLE\n" //
+			+ "\tat Main.main(Main.java:4)\n\n" //
+			+ "\"worker-2\" #12 prio=5 tid=0x3 nid=0x3 waiting on condition\n" //
+			+ "   java.lang.Thread.State: WAITING (parking)\n" //
+			+ "\tat jdk.internal.misc.Unsafe.park(Native Method)\n" //
+			+ "\t- parking to wait for <0x0002> (a java.util.concurrent.locks.AbstractQueuedSynchronizer$ConditionObject)\n" //
+			+ "\tat java.util.concurrent.locks.LockSupport.park(LockSupport.java:194)\n";
+
+	/** Test the thread dump model of the console document. */
+	public void testThreadDumpParsed() throws Exception {
+		consoleDocumentWithText(THREAD_DUMP);
+		List<JavaThreadDump.ThreadStack> threads = fConsole.getThreadDump().getThreads();
+		assertEquals(3, threads.size());
+		assertTrue(threads.get(0).getHeader().startsWith("\"worker-1\""));
+		assertEquals("java.lang.Thread.State: RUNNABLE", threads.get(1).getState());
+		assertEquals(2, threads.get(2).getFrames().size());
+
+		List<JavaThreadDump.StackGroup> groups = fConsole.getThreadDump().groupIdenticalStacks();
+		assertEquals(2, groups.size());
+		assertEquals(2, groups.get(0).getCount());
+		assertEquals(1, groups.get(1).getCount());
+	}
+
+	/** Test that edits only parse the changed threads again and keep the model consistent. */
+	public void testThreadDumpIncrementalUpdate() throws Exception {
+		IDocument doc = new Document();
+		JavaThreadDump dump = new JavaThreadDump();
+		doc.addDocumentListener(new IDocumentListener() {
+			@Override
+			public void documentAboutToBeChanged(DocumentEvent event) {
+				dump.textChanged(event.getOffset(), event.getLength(), event.getText() == null ? 0 : event.getText().length());
+			}
+
+			@Override
+			public void documentChanged(DocumentEvent event) {
+			}
+		});
+		doc.set(THREAD_DUMP);
+		assertTrue(dump.update(doc));
+		assertEquals(3, dump.getThreads().size());
+
+		// edit inside the second thread
+		int mainOffset = THREAD_DUMP.indexOf("Main.main");
+		doc.replace(mainOffset, "Main.main".length(), "Other.run");
+		assertTrue(dump.isDirty());
+		assertTrue(dump.update(doc));
+		List<JavaThreadDump.ThreadStack> threads = dump.getThreads();
+		assertEquals(3, threads.size());
+		assertEquals("at Other.run(Main.java:4)", threads.get(1).getFrames().get(0));
+		assertEquals(doc.get().indexOf("\"worker-2\""), threads.get(2).getOffset());
+
+		// remove the header of the second thread, it becomes part of the first
+		int headerOffset = doc.get().indexOf("\"main\"");
+		doc.replace(headerOffset, 1, "");
+		assertTrue(dump.update(doc));
+		threads = dump.getThreads();
+		assertEquals(2, threads.size());
+		assertEquals(3, threads.get(0).getFrames().size());
+		assertEquals(doc.get().indexOf("\"worker-2\""), threads.get(1).getOffset());
+
+		// append a thread
+		doc.replace(doc.getLength(), 0, "\"worker-3\" #13\n\tat Main.main(Main.java:4)\n");
+		assertTrue(dump.update(doc));
+		threads = dump.getThreads();
+		assertEquals(3, threads.size());
+		assertEquals(doc.getLength(), threads.get(2).getOffset() + threads.get(2).getLength());
+	}
+
+	/** Test that the partitions of the threads only change around an edit. */
+	public void testThreadPartitions() throws Exception {
+		IDocument doc = consoleDocumentWithText(THREAD_DUMP);
+		assertEquals(List.of(doc.get().indexOf("\"worker-1\""), doc.get().indexOf("\"main\""), doc.get().indexOf("\"worker-2\"")), threadPartitionOffsets(doc));
+		List<IRegion> changes = new ArrayList<>();
+		IDocumentPartitioningListenerExtension listener = new IDocumentPartitioningListenerExtension() {
+			@Override
+			public void documentPartitioningChanged(IDocument document) {
+			}
+
+			@Override
+			public void documentPartitioningChanged(IDocument document, IRegion region) {
+				changes.add(region);
+			}
+		};
+		doc.addDocumentPartitioningListener(listener);
+		try {
+			// edit inside the second thread, the partitions do not change
+			int mainOffset = doc.get().indexOf("Main.main");
+			sync(() -> {
+				doc.replace(mainOffset, "Main.main".length(), "Other.run");
+				return null;
+			});
+			assertEquals(List.of(), changes);
+			assertEquals(3, threadPartitionOffsets(doc).size());
+
+			// remove the header of the second thread, only its partition changes
+			int headerOffset = doc.get().indexOf("\"main\"");
+			sync(() -> {
+				doc.replace(headerOffset, 1, "");
+				return null;
+			});
+			assertEquals(List.of(doc.get().indexOf("\"worker-1\""), doc.get().indexOf("\"worker-2\"")), threadPartitionOffsets(doc));
+			assertEquals(1, changes.size());
+			assertTrue(changes.get(0).getOffset() >= headerOffset);
+
+			// append a thread
+			sync(() -> {
+				doc.replace(doc.getLength(), 0, "\"worker-3\" #13\n\tat Main.main(Main.java:4)\n");
+				return null;
+			});
+			List<Integer> offsets = threadPartitionOffsets(doc);
+			assertEquals(3, offsets.size());
+			assertEquals(doc.get().indexOf("\"worker-3\""), offsets.get(2).intValue());
+		} finally {
+			doc.removeDocumentPartitioningListener(listener);
+		}
+	}
+
+	private static List<Integer> threadPartitionOffsets(IDocument doc) throws BadLocationException {
+		List<Integer> offsets = new ArrayList<>();
+		for (ITypedRegion region : doc.computePartitioning(0, doc.getLength())) {
+			if (JavaStackTraceConsole.THREAD_PARTITION_TYPE.equals(region.getType())) {
+				offsets.add(region.getOffset());
+			}
+		}
+		return offsets;
+	}
+
+	/** Test replacing the console content by groups of identical stacks. */
+	public void testGroupIdenticalStacks() throws Exception {
+		IDocument doc = consoleDocumentWithText(THREAD_DUMP);
+		sync(() -> fConsole.groupIdenticalStacks());
+		TestUtil.waitForJobs(getName(), 30, 1000);
+		assertEquals("Full thread dump", getLine(doc, 0));
+		assertTrue(getLine(doc, 2).startsWith("2"));
+		assertTrue(getLine(doc, 3).startsWith("\"worker-1\""));
+		assertTrue(getLine(doc, 4).startsWith("\"worker-2\""));
+		assertEquals("java.lang.Thread.State: WAITING (parking)", getLine(doc, 5).trim());
+		assertEquals("at jdk.internal.misc.Unsafe.park(Native Method)", getLine(doc, 6).trim());
+		assertEquals(3, fConsole.getThreadDump().getThreads().size());
+	}
+
+	/** Test that grouping identical stacks keeps the text around the threads in place. */
+	public void testGroupIdenticalStacksKeepsOtherText() throws Exception {
+		String deadlock = "JNI global references: 7\n\n" //
+				+ "Found one Java-level deadlock:\n" //
+				+ "=============================\n" //
+				+ "\"worker-1\":\n" //
+				+ "  waiting to lock monitor 0x3 (object 0x4, a java.lang.Object),\n" //
+				+ "  which is held by \"worker-2\"\n\n" //
+				+ "Java stack information for the threads listed above:\n" //
+				+ "===================================================\n" //
+				+ "\"worker-1\":\n" //
+				+ "\tat Main.run(Main.java:10)\n\n" //
+				+ "Found 1 deadlock.\n";
+		String grouped = JavaThreadDump.groupIdenticalStacks(THREAD_DUMP + "\n" + deadlock);
+		assertTrue(grouped, grouped.startsWith("Full thread dump\n\n2"));
+		assertTrue(grouped, grouped.endsWith("\tat Main.main(Main.java:4)\n\n" + deadlock));
+		assertEquals(1, grouped.split("\"worker-2\" #12").length - 1);
+		assertNull(JavaThreadDump.groupIdenticalStacks("JNI global references: 7\n"));
+
+		IDocument doc = consoleDocumentWithText(THREAD_DUMP + "\n" + deadlock);
+		sync(() -> fConsole.groupIdenticalStacks());
+		TestUtil.waitForJobs(getName(), 30, 1000);
+		assertEquals(grouped, doc.get());
+	}
 }
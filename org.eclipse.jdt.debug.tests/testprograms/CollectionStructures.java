@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tests logical structures of core JDK collections.
+ */
+public class CollectionStructures {
+
+	public static void main(String[] args) {
+		Map<Integer, String> hashMap = new HashMap<>();
+		Map<Integer, String> linkedHashMap = new LinkedHashMap<>();
+		Map<Integer, String> concurrentHashMap = new ConcurrentHashMap<>();
+		Map<Integer, String> treeMap = new TreeMap<>();
+		for (int i = 1000; i > 0; i--) {
+			hashMap.put(i, Integer.toString(i));
+			linkedHashMap.put(i, Integer.toString(i));
+			concurrentHashMap.put(i, Integer.toString(i));
+			treeMap.put(i, Integer.toString(i));
+		}
+		List<String> arrayList = new ArrayList<>();
+		ArrayDeque<String> arrayDeque = new ArrayDeque<>();
+		for (int i = 0; i < 10; i++) {
+			arrayList.add(Integer.toString(i));
+			arrayDeque.addLast(Integer.toString(i));
+		}
+		// move the head of the deque past the end of its array
+		for (int i = 10; i < 20; i++) {
+			arrayDeque.addFirst(Integer.toString(i));
+			arrayDeque.removeLast();
+		}
+		// collections whose logical structures are evaluated
+		List<Integer> linkedList = new LinkedList<>();
+		List<Integer> vector = new Vector<>();
+		Set<Integer> treeSet = new TreeSet<>();
+		Map<Integer, String> hashtable = new Hashtable<>();
+		for (int i = 0; i < 1000; i++) {
+			linkedList.add(i);
+			vector.add(i);
+			treeSet.add(i);
+			hashtable.put(i, Integer.toString(i));
+		}
+		Map.Entry<Integer, String> entry = treeMap.entrySet().iterator().next();
+		System.out.println(entry);
+	}
+}
@@ -0,0 +1,24 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+public class TracedValues {
+	public static void main(String[] args) {
+		int[] counts = new int[1];
+		for (int i = 0; i < 3; i++) {
+			String name = "value" + i;
+			counts[0] = i;
+		}
+		System.out.println(counts[0]);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2006 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,27 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.breakpoints;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.jdi.internal.request.EventRequestImpl;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaExceptionBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.debug.tests.ui.Accessor;
+import org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+
+import com.sun.jdi.request.ExceptionRequest;
 
 /**
  * Tests exception breakpoints.
@@ -164,6 +178,108 @@ public class ExceptionBreakpointTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * tests that wildcards in the filters match any sequence of characters in the name of the class that throws the exception
+	 * @throws Exception
+	 */
+	public void testWildcardScopedException() throws Exception {
+		String typeName = "ThrowsException";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("TestException", true, false);
+		ex.setInclusionFilters(new String[] {"TestIO", "Throws*ion"});
+		ex.setExclusionFilters(new String[] {"*Exception2"});
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IBreakpoint hit = getBreakpoint(thread);
+			assertNotNull("suspended, but not by breakpoint", hit);
+			assertEquals("suspended, but not by exception breakpoint", ex ,hit);
+			ex.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * tests that inclusion filters that match the same class suspend only once
+	 * @throws Exception
+	 */
+	public void testOverlappingInclusiveScopedException() throws Exception {
+		String typeName = "ThrowsException";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("TestException", true, false);
+		ex.setInclusionFilters(new String[] {"ThrowsException", "Throws*", "TestIO"});
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IBreakpoint hit = getBreakpoint(thread);
+			assertNotNull("suspended, but not by breakpoint", hit);
+			assertEquals("suspended, but not by exception breakpoint", ex ,hit);
+			// the second exception is uncaught
+			resumeAndExit(thread);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * tests that qualified and package inclusion filters are checked by the VM, with one request per
+	 * filter not included in another, and that overlapping filters suspend only once
+	 * @throws Exception
+	 */
+	public void testOverlappingPackageScopedException() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.ThrowsPackagedException";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("java.lang.IllegalStateException", true, false);
+		ex.setInclusionFilters(new String[] {typeName, "org.eclipse.debug.tests.*", "java.util.*"});
+		AtomicInteger suspends = new AtomicInteger();
+		IDebugEventSetListener listener = events -> {
+			for (DebugEvent event : events) {
+				if (event.getKind() == DebugEvent.SUSPEND && event.getDetail() == DebugEvent.BREAKPOINT) {
+					suspends.incrementAndGet();
+				}
+			}
+		};
+		DebugPlugin.getDefault().addDebugEventListener(listener);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IBreakpoint hit = getBreakpoint(thread);
+			assertEquals("suspended, but not by exception breakpoint", ex, hit);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertEquals("Should suspend in the nested class", typeName + "$Thrower", frame.getDeclaringTypeName());
+			assertEquals("Should suspend at the throw", 20, frame.getLineNumber());
+
+			List<List<String>> filters = new ArrayList<>();
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			for (ExceptionRequest request : target.getEventRequestManager().exceptionRequests()) {
+				if (ex.equals(request.getProperty(JavaBreakpoint.JAVA_BREAKPOINT_PROPERTY))) {
+					@SuppressWarnings("unchecked")
+					List<String> classFilters = (List<String>) new Accessor(request, EventRequestImpl.class).get("fClassFilters");
+					filters.add(classFilters);
+				}
+			}
+			assertEquals("Wrong number of requests", 2, filters.size());
+			assertTrue("Wrong class filters " + filters, filters.contains(Arrays.asList("org.eclipse.debug.tests.*")));
+			assertTrue("Wrong class filters " + filters, filters.contains(Arrays.asList("java.util.*")));
+
+			resumeAndExit(thread);
+			assertEquals("Should suspend once", 1, suspends.get());
+		} finally {
+			DebugPlugin.getDefault().removeDebugEventListener(listener);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * tests the hit count of an exception breakpoint
 	 * @throws Exception
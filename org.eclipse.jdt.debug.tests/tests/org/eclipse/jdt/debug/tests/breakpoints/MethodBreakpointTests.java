@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -33,8 +33,11 @@ import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 
+import com.sun.jdi.request.EventRequestManager;
+
 /**
  * Tests method breakpoints.
  */
@@ -265,6 +268,37 @@ public class MethodBreakpointTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that a method exit breakpoint on a method implemented in Java is
+	 * hit at the return of the method, with the value being returned, and
+	 * without a method exit request for the whole type.
+	 * @throws Exception
+	 */
+	public void testExitBreakpointAtReturns() throws Exception {
+		String typeName = "MethodExitAndException";
+		IJavaMethodBreakpoint bp = createMethodBreakpoint(typeName, "f", "()I", false, true);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Method exit breakpoint not hit within timeout period", thread);
+			assertEquals("suspended, but not by the exit breakpoint", bp, getBreakpoint(thread));
+			assertFalse("should suspend on exit", bp.isEntrySuspend(thread.getDebugTarget()));
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			assertEquals("Should be in 'f'", "f", frame.getMethodName());
+			IVariable returning = frame.getVariables()[0];
+			assertEquals("Wrong returning value name", "f() is returning", returning.getName());
+			assertEquals("Wrong returning value", 123, ((IJavaPrimitiveValue)returning.getValue()).getIntValue());
+
+			EventRequestManager manager = ((JDIDebugTarget)thread.getDebugTarget()).getEventRequestManager();
+			assertTrue("Should be no method exit request", manager.methodExitRequests().isEmpty());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * Tests an inclusive thread filter on a method breakpoint
 	 * @throws Exception
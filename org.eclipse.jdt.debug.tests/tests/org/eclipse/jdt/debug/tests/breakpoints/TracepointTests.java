@@ -0,0 +1,119 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.breakpoints;
+
+import org.eclipse.jdt.debug.core.IJavaArray;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaTraceRecord;
+import org.eclipse.jdt.debug.core.IJavaTracepoint;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.debug.core.JDIDebugModel;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests tracepoints
+ */
+public class TracepointTests extends AbstractDebugTest {
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public TracepointTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that a tracepoint records the values of its variables without
+	 * suspending, and keeps only the latest records
+	 * @throws Exception
+	 */
+	public void testTracepointRecords() throws Exception {
+		String typeName = "HitCountLooper";
+		IJavaTracepoint tracepoint = JDIDebugModel.createTracepoint(getBreakpointResource(typeName), typeName, 19, -1, -1, new String[] {"i", "missing"}, true, null);
+		tracepoint.setBufferSize(3);
+		IJavaLineBreakpoint bp = createLineBreakpoint(18, typeName);
+		bp.setHitCount(5);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaDebugTarget target = (IJavaDebugTarget) thread.getDebugTarget();
+			IJavaTraceRecord[] records = tracepoint.getTraceRecords(target);
+			assertEquals("wrong number of records", 3, records.length);
+			for (int i = 0; i < records.length; i++) {
+				assertEquals("wrong thread", thread, records[i].getThread());
+				assertEquals("wrong variable", "i", records[i].getVariableNames()[0]);
+				IJavaValue[] values = records[i].getValues();
+				assertEquals("wrong value of 'i'", i + 1, ((IJavaPrimitiveValue) values[0]).getIntValue());
+				assertNull("'missing' should have no value", values[1]);
+				String[] texts = records[i].getValueTexts();
+				assertEquals("wrong text of 'i'", String.valueOf(i + 1), texts[0]);
+				assertNull("'missing' should have no text", texts[1]);
+			}
+
+			tracepoint.clearTraceRecords(target);
+			assertEquals("records should be cleared", 0, tracepoint.getTraceRecords(target).length);
+			bp.delete();
+			tracepoint.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that a tracepoint records primitive values and string contents at
+	 * the hit, and other objects as live references
+	 * @throws Exception
+	 */
+	public void testTracepointValueTexts() throws Exception {
+		String typeName = "TracedValues";
+		IJavaTracepoint tracepoint = JDIDebugModel.createTracepoint(getBreakpointResource(typeName), typeName, 20, -1, -1, new String[] {"i", "name", "counts"}, true, null);
+		IJavaLineBreakpoint bp = createLineBreakpoint(22, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaDebugTarget target = (IJavaDebugTarget) thread.getDebugTarget();
+			IJavaTraceRecord[] records = tracepoint.getTraceRecords(target);
+			assertEquals("wrong number of records", 3, records.length);
+			String counts = null;
+			for (int i = 0; i < records.length; i++) {
+				String[] texts = records[i].getValueTexts();
+				assertEquals("wrong text of 'i'", String.valueOf(i), texts[0]);
+				assertEquals("wrong text of 'name'", "value" + i, texts[1]);
+				assertTrue("wrong text of 'counts': " + texts[2], texts[2].startsWith("int[] (id="));
+				if (counts != null) {
+					assertEquals("'counts' is the same object", counts, texts[2]);
+				}
+				counts = texts[2];
+
+				// the array is a live reference, its element was assigned after the hits
+				IJavaArray array = (IJavaArray) records[i].getValues()[2];
+				assertEquals("'counts' should have its current value", 2, ((IJavaPrimitiveValue) array.getValue(0)).getIntValue());
+			}
+			bp.delete();
+			tracepoint.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.debug.tests.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.core.resources.IFolder;
@@ -23,11 +24,13 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationType;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.debug.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.RuntimeClasspathCache;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
 import org.eclipse.jdt.launching.IRuntimeClasspathProvider;
@@ -566,4 +569,92 @@ public class ClasspathProviderTests extends AbstractDebugTest {
 
         assertTrue("Classpath is missing " + jarPath, list.contains(jarPath));
 	}
+
+	/**
+	 * Tests that the resolved runtime classpath of a launch configuration is
+	 * cached without sharing its entries, and resolved again after the
+	 * classpath of its project changes.
+	 */
+	public void testResolvedClasspathCacheInvalidation() throws Exception {
+		IJavaProject project = JavaProjectHelper.createJavaProject("CachedClasspath");
+		IJavaProject other = JavaProjectHelper.createJavaProject("OtherClasspath");
+		try {
+			JavaProjectHelper.addSourceContainer(project, "src", "bin");
+			JavaProjectHelper.addContainerEntry(project, new Path(JavaRuntime.JRE_CONTAINER));
+			JavaProjectHelper.addSourceContainer(other, "src", "bin");
+			ILaunchConfigurationType type = getLaunchManager().getLaunchConfigurationType(IJavaLaunchConfigurationConstants.ID_JAVA_APPLICATION);
+			ILaunchConfigurationWorkingCopy wc = type.newInstance(null, "CachedClasspath");
+			wc.setAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, project.getElementName());
+
+			IRuntimeClasspathEntry[] unresolved = JavaRuntime.computeUnresolvedRuntimeClasspath(wc);
+			IRuntimeClasspathEntry[] resolved = JavaRuntime.resolveRuntimeClasspath(unresolved, wc);
+			assertTrue("Resolved classpath should not be empty", resolved.length > 1);
+
+			// replace the cached classpath with a marker, only returned if the classpath is not resolved again
+			RuntimeClasspathCache cache = RuntimeClasspathCache.getDefault();
+			RuntimeClasspathCache.Key key = cache.getKey(unresolved, wc, JavaRuntime.isModularConfiguration(wc));
+			assertNotNull("Classpath should be cached", key);
+			IRuntimeClasspathEntry[] marker = Arrays.copyOf(resolved, resolved.length - 1);
+			cache.put(key, marker, cache.getGeneration());
+			IRuntimeClasspathEntry[] again = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(wc), wc);
+			assertTrue("Resolved classpath should be read from the cache", Arrays.equals(marker, again));
+
+			// entries returned by the cache are not shared
+			IRuntimeClasspathEntry[] third = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(wc), wc);
+			for (int i = 0; i < again.length; i++) {
+				assertNotSame("Resolved entry should not be shared", again[i], third[i]);
+				assertNotSame("Resolved entry should not be shared", marker[i], again[i]);
+			}
+			int property = third[0].getClasspathProperty();
+			again[0].setClasspathProperty(property == IRuntimeClasspathEntry.USER_CLASSES ? IRuntimeClasspathEntry.BOOTSTRAP_CLASSES
+					: IRuntimeClasspathEntry.USER_CLASSES);
+			IRuntimeClasspathEntry[] fourth = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(wc), wc);
+			assertEquals("Changing a returned entry should not change the cache", property, fourth[0].getClasspathProperty());
+
+			// changes of unrelated projects keep the cached classpath
+			IPath archive = get14Project().getProject().getFolder("src").getFile("A.jar").getLocation();
+			JavaProjectHelper.addLibrary(other, archive);
+			IRuntimeClasspathEntry[] unrelated = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(wc), wc);
+			assertEquals("Unrelated change should keep the cached classpath", marker.length, unrelated.length);
+
+			JavaProjectHelper.addLibrary(project, archive);
+			IRuntimeClasspathEntry[] changed = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(wc), wc);
+			assertEquals("Library should be added to the resolved classpath", resolved.length + 1, changed.length);
+			boolean found = false;
+			for (IRuntimeClasspathEntry entry : changed) {
+				found |= archive.equals(entry.getPath());
+			}
+			assertTrue("Resolved classpath is missing " + archive, found);
+		} finally {
+			project.getProject().delete(true, null);
+			other.getProject().delete(true, null);
+		}
+	}
+
+	/**
+	 * Tests that the resolved runtime classpath of a launch configuration is
+	 * resolved again after the classpath of a project it requires changes.
+	 */
+	public void testResolvedClasspathCacheRequiredProject() throws Exception {
+		IJavaProject project = JavaProjectHelper.createJavaProject("CachedClasspath");
+		IJavaProject required = JavaProjectHelper.createJavaProject("RequiredClasspath");
+		try {
+			JavaProjectHelper.addSourceContainer(project, "src", "bin");
+			JavaProjectHelper.addContainerEntry(project, new Path(JavaRuntime.JRE_CONTAINER));
+			JavaProjectHelper.addSourceContainer(required, "src", "bin");
+			JavaProjectHelper.addRequiredProject(project, required);
+			ILaunchConfigurationType type = getLaunchManager().getLaunchConfigurationType(IJavaLaunchConfigurationConstants.ID_JAVA_APPLICATION);
+			ILaunchConfigurationWorkingCopy wc = type.newInstance(null, "CachedClasspath");
+			wc.setAttribute(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME, project.getElementName());
+
+			IRuntimeClasspathEntry[] resolved = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(wc), wc);
+			IPath archive = get14Project().getProject().getFolder("src").getFile("A.jar").getLocation();
+			JavaProjectHelper.addToClasspath(required, JavaCore.newLibraryEntry(archive, null, null, true));
+			IRuntimeClasspathEntry[] changed = JavaRuntime.resolveRuntimeClasspath(JavaRuntime.computeUnresolvedRuntimeClasspath(wc), wc);
+			assertEquals("Exported library should be added to the resolved classpath", resolved.length + 1, changed.length);
+		} finally {
+			project.getProject().delete(true, null);
+			required.getProject().delete(true, null);
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,14 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
@@ -68,6 +76,28 @@ public class ExecutionEnvironmentTests extends AbstractDebugTest {
 		fail("vm should be J2SE-1.4 compliant");
 	}
 
+	/**
+	 * Tests that compatible VMs of environments can be queried from several threads at once
+	 */
+	public void testAnalyzeConcurrently() throws Exception {
+		IExecutionEnvironment[] environments = JavaRuntime.getExecutionEnvironmentsManager().getExecutionEnvironments();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<IVMInstall[]>> futures = new ArrayList<>();
+			for (IExecutionEnvironment environment : environments) {
+				futures.add(executor.submit(() -> environment.getCompatibleVMs()));
+			}
+			for (int i = 0; i < environments.length; i++) {
+				IVMInstall[] installs = futures.get(i).get(60, TimeUnit.SECONDS);
+				assertEquals("wrong compatible VMs for " + environments[i].getId(), Arrays.asList(environments[i].getCompatibleVMs()), Arrays.asList(installs));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		IExecutionEnvironment environment = JavaRuntime.getExecutionEnvironmentsManager().getEnvironment(JavaProjectHelper.JAVA_SE_1_7_EE_NAME);
+		assertTrue("default VM should be compatible", Arrays.asList(environment.getCompatibleVMs()).contains(JavaRuntime.getDefaultVMInstall()));
+	}
+
 	private int compareJavaVersions(IVMInstall vm, String ver) {
 		if (vm instanceof AbstractVMInstall) {
 			AbstractVMInstall install = (AbstractVMInstall) vm;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2009 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,20 +13,38 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.ILineBreakpoint;
+import org.eclipse.jdi.Bootstrap;
+import org.eclipse.jdi.internal.connect.RecordingConnection;
+import org.eclipse.jdi.internal.connect.ReplayConnection;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpString;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJdwpMetrics;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 
+import com.sun.jdi.VMDisconnectedException;
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+import com.sun.jdi.connect.spi.Connection;
+
 /**
  * Tests raw JDWP commands sent to a target.
  *
@@ -34,6 +52,78 @@ import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
  */
 public class JDWPTests extends AbstractDebugTest {
 
+	/**
+	 * Connection to a fake VM, answering the commands sent to connect to a VM
+	 * and to retrieve its version.
+	 */
+	private static class FakeVMConnection extends Connection {
+
+		private final BlockingQueue<byte[]> fReplies = new LinkedBlockingQueue<>();
+		private volatile boolean fOpen = true;
+
+		@Override
+		public byte[] readPacket() throws IOException {
+			try {
+				while (fOpen) {
+					byte[] reply = fReplies.poll(100, TimeUnit.MILLISECONDS);
+					if (reply != null) {
+						return reply;
+					}
+				}
+			} catch (InterruptedException e) {
+			}
+			throw new ClosedConnectionException();
+		}
+
+		@Override
+		public void writePacket(byte[] packet) throws IOException {
+			JdwpCommandPacket command = (JdwpCommandPacket) JdwpPacket.build(packet);
+			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+			DataOutputStream outData = new DataOutputStream(outBytes);
+			outData.writeInt(0);
+			outData.writeInt(command.getId());
+			outData.writeByte(JdwpPacket.FLAG_REPLY_PACKET);
+			switch (command.getCommand()) {
+				case JdwpCommandPacket.VM_ID_SIZES:
+					outData.writeShort(JdwpReplyPacket.NONE);
+					for (int i = 0; i < 5; i++) {
+						outData.writeInt(8);
+					}
+					break;
+				case JdwpCommandPacket.VM_VERSION:
+					outData.writeShort(JdwpReplyPacket.NONE);
+					JdwpString.write("Fake VM", outData);
+					outData.writeInt(17);
+					outData.writeInt(0);
+					JdwpString.write("17", outData);
+					JdwpString.write("Fake", outData);
+					break;
+				case JdwpCommandPacket.ER_SET:
+					outData.writeShort(JdwpReplyPacket.NONE);
+					outData.writeInt(1);
+					break;
+				case JdwpCommandPacket.VM_DISPOSE:
+					outData.writeShort(JdwpReplyPacket.NONE);
+					break;
+				default:
+					outData.writeShort(JdwpReplyPacket.NOT_IMPLEMENTED);
+			}
+			byte[] reply = outBytes.toByteArray();
+			reply[3] = (byte) reply.length;
+			fReplies.add(reply);
+		}
+
+		@Override
+		public void close() {
+			fOpen = false;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return fOpen;
+		}
+	}
+
 	/**
 	 * Constructor
 	 * @param name
@@ -105,4 +195,117 @@ public class JDWPTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that the commands sent to a target are counted in its JDWP
+	 * metrics, with their sizes and latencies.
+	 * @throws Exception
+	 */
+	public void testJdwpMetrics() throws Exception {
+		String typeName = "Breakpoints";
+		ILineBreakpoint bp = createLineBreakpoint(55, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaDebugTarget jdiTarget = (IJavaDebugTarget) thread.getDebugTarget();
+			IJdwpMetrics metrics = jdiTarget.getJdwpMetrics();
+			assertNotNull("Missing JDWP metrics", metrics);
+			assertTrue("Breakpoint event set should be counted", metrics.getEventSetCount() > 0);
+			// VM capabilities
+			int command = (1 << 8) + 12;
+			long count = metrics.getCount(command);
+			long bytesSent = metrics.getBytesSent(command);
+			jdiTarget.sendCommand((byte)1, (byte)12, null);
+			assertEquals("Wrong command count", count + 1, metrics.getCount(command));
+			// header only
+			assertEquals("Wrong bytes sent", bytesSent + 11, metrics.getBytesSent(command));
+			assertTrue("Reply should be counted", metrics.getBytesReceived(command) >= 11 + 7);
+			long[] histogram = metrics.getLatencyHistogram(command);
+			assertEquals("Wrong number of histogram buckets", 64, histogram.length);
+			long completed = 0;
+			for (long bucket : histogram) {
+				completed += bucket;
+			}
+			assertEquals("Every completed command should have a latency", count + 1, completed);
+			assertTrue("Command should be listed", Arrays.binarySearch(metrics.getCommands(), command) >= 0);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Records a session with a fake VM, then replays it without the VM, with
+	 * an artificial latency.
+	 * @throws Exception
+	 */
+	public void testRecordAndReplay() throws Exception {
+		ByteArrayOutputStream recording = new ByteArrayOutputStream();
+		VirtualMachine vm = Bootstrap.virtualMachineManager().createVirtualMachine(new RecordingConnection(new FakeVMConnection(), recording));
+		assertEquals("Wrong VM name", "Fake", vm.name());
+		assertEquals("Wrong VM version", "17", vm.version());
+		vm.dispose();
+
+		ReplayConnection replay = new ReplayConnection(new ByteArrayInputStream(recording.toByteArray()));
+		replay.setLatency(TimeUnit.MILLISECONDS.toNanos(50));
+		vm = Bootstrap.virtualMachineManager().createVirtualMachine(replay);
+		long start = System.nanoTime();
+		assertEquals("Wrong replayed VM name", "Fake", vm.name());
+		assertTrue("Replies should be delayed by the latency", System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+		assertEquals("Wrong replayed VM version", "17", vm.version());
+		try {
+			vm.allThreads();
+			fail("Command not in the recording should disconnect");
+		} catch (VMDisconnectedException e) {
+			// expected
+		}
+		assertFalse("Replay should be closed", replay.isOpen());
+	}
+
+	/**
+	 * Tests that a packet reader decodes the values written to a packet as
+	 * a data input stream does, including strings with multi-byte characters.
+	 * @throws Exception
+	 */
+	public void testPacketReader() throws Exception {
+		String[] strings = { "Ljava/lang/String;", "", "caf\u00e9 \u20ac \u0000" };
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		outData.writeByte(-1);
+		outData.writeBoolean(true);
+		outData.writeShort(-2);
+		outData.writeChar('\u20ac');
+		outData.writeInt(0x80000001);
+		outData.writeLong(-3);
+		outData.writeFloat(1.5f);
+		outData.writeDouble(-2.25);
+		for (String string : strings) {
+			JdwpString.write(string, outData);
+		}
+		outData.writeLong(0xFF00000000000001L);
+		byte[] data = outBytes.toByteArray();
+
+		JdwpPacketReader reader = new JdwpPacketReader(data);
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+		assertEquals("Wrong byte", in.readByte(), reader.readByte());
+		assertEquals("Wrong boolean", in.readBoolean(), reader.readBoolean());
+		assertEquals("Wrong short", in.readShort(), reader.readShort());
+		assertEquals("Wrong char", in.readChar(), reader.readChar());
+		assertEquals("Wrong int", in.readInt(), reader.readInt());
+		assertEquals("Wrong long", in.readLong(), reader.readLong());
+		assertEquals("Wrong float", in.readFloat(), reader.readFloat(), 0);
+		assertEquals("Wrong double", in.readDouble(), reader.readDouble(), 0);
+		for (String string : strings) {
+			assertEquals("Wrong string", string, JdwpString.read(in));
+			assertEquals("Wrong string", string, reader.readString());
+		}
+		assertEquals("Wrong ID", in.readLong(), reader.readID(8));
+		assertEquals("Should be no available bytes", 0, reader.available());
+		try {
+			reader.readInt();
+			fail("Reading past the end of the data should fail");
+		} catch (EOFException e) {
+			// expected
+		}
+	}
 }
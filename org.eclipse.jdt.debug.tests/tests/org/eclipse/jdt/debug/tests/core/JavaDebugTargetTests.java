@@ -19,13 +19,19 @@ import java.lang.reflect.Method;
 import java.util.List;
 
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.debug.core.model.IThread;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+
+import com.sun.jdi.ThreadReference;
 
 /**
  * Tests IJavaDebugTarget API
@@ -74,6 +80,36 @@ public class JavaDebugTargetTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that the thread state captured in bulk when the VM suspends matches the state of the underlying threads
+	 */
+	public void testThreadSnapshotOnSuspendAll() throws Exception {
+		String typeName = "Breakpoints";
+		IJavaLineBreakpoint bp = createLineBreakpoint(55, typeName);
+		bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_VM);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName, false);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaDebugTarget target = (IJavaDebugTarget) thread.getDebugTarget();
+			for (IThread t : target.getThreads()) {
+				JDIThread jdiThread = (JDIThread) t;
+				if (!jdiThread.isSuspended()) {
+					continue;
+				}
+				ThreadReference underlyingThread = jdiThread.getUnderlyingThread();
+				assertEquals("Wrong thread name", underlyingThread.name(), jdiThread.getName());
+				assertEquals("Wrong frame count", underlyingThread.frameCount(), jdiThread.getFrameCount());
+			}
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertEquals("Wrong top frame line", 55, frame.getLineNumber());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	public void testIsAvailable() throws Exception {
 		String typeName = "Breakpoints";
 		createLineBreakpoint(55, typeName);
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.util.List;
+
+import org.eclipse.debug.core.model.ILineBreakpoint;
+import org.eclipse.debug.core.model.IStackFrame;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJdwpMetrics;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+
+/**
+ * Tests windowed computation of stack frames on deep stacks
+ */
+public class StackFrameWindowTests extends AbstractDebugTest {
+
+	private static final String TYPE_NAME = "DeepRecursion";
+
+	/**
+	 * Number of frames retrieved at a time
+	 */
+	private static final int FRAME_WINDOW_SIZE = 64;
+
+	/**
+	 * Bounds of the size of a frame in a reply to <code>ThreadReference.Frames</code>: a frame ID and a location, made of
+	 * a tag, a class ID, a method ID and an index, with 8 byte IDs
+	 */
+	private static final int MIN_FRAME_BYTES = 33;
+	private static final int MAX_FRAME_BYTES = 64;
+
+	public StackFrameWindowTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that a window of frames can be computed without computing the whole stack and that the frames are the same as in the complete stack.
+	 */
+	public void testFrameWindows() throws Exception {
+		ILineBreakpoint bp = createLineBreakpoint(23, TYPE_NAME);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(TYPE_NAME, bp);
+			JDIThread jdiThread = (JDIThread) thread;
+			int count = thread.getFrameCount();
+			assertEquals("Wrong frame count", 502, count);
+
+			List<IJavaStackFrame> top = jdiThread.computeStackFrames(0, 10);
+			assertEquals("Wrong number of top frames", 10, top.size());
+			assertSame("Wrong top frame", thread.getTopStackFrame(), top.get(0));
+
+			List<IJavaStackFrame> bottom = jdiThread.computeStackFrames(count - 5, 100);
+			assertEquals("Wrong number of bottom frames", 5, bottom.size());
+			assertEquals("Wrong bottom frame", "main", bottom.get(4).getMethodName());
+
+			IStackFrame[] all = thread.getStackFrames();
+			assertEquals("Wrong number of frames", count, all.length);
+			for (int i = 0; i < top.size(); i++) {
+				assertSame("Top frame not re-used", all[i], top.get(i));
+			}
+			for (int i = 0; i < bottom.size(); i++) {
+				assertSame("Bottom frame not re-used", all[count - 5 + i], bottom.get(i));
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that unchanged bottom frames are re-used after a step when only the top window has been computed.
+	 */
+	public void testBottomFramesPreserved() throws Exception {
+		ILineBreakpoint bp = createLineBreakpoint(23, TYPE_NAME);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(TYPE_NAME, bp);
+			JDIThread jdiThread = (JDIThread) thread;
+			int count = thread.getFrameCount();
+			IJavaStackFrame bottom = jdiThread.computeStackFrames(count - 1, 1).get(0);
+			IJavaStackFrame top = (IJavaStackFrame) thread.getTopStackFrame();
+
+			thread = stepOver(top);
+			jdiThread = (JDIThread) thread;
+			assertEquals("Wrong frame count after step", count, thread.getFrameCount());
+			assertSame("Top frame not re-used", top, thread.getTopStackFrame());
+			assertEquals("Wrong line number after step", 24, top.getLineNumber());
+			assertSame("Bottom frame not re-used", bottom, jdiThread.computeStackFrames(count - 1, 1).get(0));
+			assertEquals("Wrong bottom frame", "main", bottom.getMethodName());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that stepping in a deep recursion only retrieves the top window of frames from the VM.
+	 */
+	public void testStepBindsOnlyTopWindow() throws Exception {
+		ILineBreakpoint bp = createLineBreakpoint(23, TYPE_NAME);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(TYPE_NAME, bp);
+			int count = thread.getFrameCount();
+			IJdwpMetrics metrics = ((IJavaDebugTarget) thread.getDebugTarget()).getJdwpMetrics();
+			assertNotNull("Missing JDWP metrics", metrics);
+			long received = metrics.getBytesReceived(JdwpCommandPacket.TR_FRAMES);
+
+			thread = stepOver((IJavaStackFrame) thread.getTopStackFrame());
+			assertEquals("Wrong line number after step", 24, ((IJavaStackFrame) thread.getTopStackFrame()).getLineNumber());
+			thread = stepOver((IJavaStackFrame) thread.getTopStackFrame());
+			thread = stepReturn((IJavaStackFrame) thread.getTopStackFrame());
+			assertEquals("Wrong frame count after step return", count - 1, thread.getFrameCount());
+
+			// each of the three steps retrieves at most the top window, the whole stack would be larger
+			long stepped = metrics.getBytesReceived(JdwpCommandPacket.TR_FRAMES) - received;
+			assertTrue("Frames below the top window retrieved: " + stepped + " bytes", stepped < 3 * FRAME_WINDOW_SIZE * MAX_FRAME_BYTES);
+			assertTrue("Stack not deep enough for the test", 3 * FRAME_WINDOW_SIZE * MAX_FRAME_BYTES < count * MIN_FRAME_BYTES);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,13 @@ package org.eclipse.jdt.debug.tests.core;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
@@ -25,10 +31,13 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.jdt.debug.testplugin.JavaTestPlugin;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.launching.LaunchingPlugin;
+import org.eclipse.jdt.internal.launching.LibraryInfo;
+import org.eclipse.jdt.internal.launching.LibraryInfoStore;
 import org.eclipse.jdt.launching.ILibraryLocationResolver;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstall2;
 import org.eclipse.jdt.launching.IVMInstall3;
+import org.eclipse.jdt.launching.IVMInstallType;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.LibraryLocation;
 import org.eclipse.jdt.launching.VMStandin;
@@ -99,6 +108,70 @@ public class VMInstallTests extends AbstractDebugTest {
 		assertNotNull("'user.home' system property should be cached", value);
 	}
 
+	/**
+	 * Tests that the default library locations of the default VM can be computed from several threads at once
+	 *
+	 * @throws Exception
+	 */
+	public void testDefaultLibraryLocationsConcurrently() throws Exception {
+		IVMInstall def = JavaRuntime.getDefaultVMInstall();
+		IVMInstallType type = def.getVMInstallType();
+		File location = def.getInstallLocation();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<LibraryLocation[]>> futures = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				futures.add(executor.submit(() -> type.getDefaultLibraryLocations(location)));
+			}
+			LibraryLocation[] expected = futures.get(0).get(60, TimeUnit.SECONDS);
+			assertTrue("should have library locations", expected.length > 0);
+			for (Future<LibraryLocation[]> future : futures) {
+				LibraryLocation[] locations = future.get(60, TimeUnit.SECONDS);
+				assertEquals("wrong number of library locations", expected.length, locations.length);
+				for (int i = 0; i < expected.length; i++) {
+					assertEquals("wrong library location", expected[i].getSystemLibraryPath(), locations[i].getSystemLibraryPath());
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Tests that library info written in batches to a {@link LibraryInfoStore} is read back, including removals
+	 * and paths with special characters
+	 *
+	 * @throws Exception
+	 */
+	public void testLibraryInfoStore() throws Exception {
+		File file = File.createTempFile("libraryInfos", ".txt");
+		try {
+			LibraryInfoStore store = new LibraryInfoStore(file);
+			store.load();
+			store.put("/jdk8", new LibraryInfo("1.8.0_402", new String[] { "/jdk8/jre/lib/rt.jar", "/jdk8/jre/lib/a	b\\c.jar" }, new String[] {
+					"/jdk8/jre/lib/ext" }, new String[0]));
+			store.put("/jdk17", new LibraryInfo("17", new String[0], new String[0], new String[0]));
+			store.flush();
+			store.put("/jdk11", new LibraryInfo("11", new String[0], new String[0], new String[0]));
+			store.put("/jdk17", null);
+			store.flush();
+
+			LibraryInfoStore restored = new LibraryInfoStore(file);
+			assertTrue("store should be loaded", restored.load());
+			assertNull("removed library info should not be restored", restored.get("/jdk17"));
+			assertEquals("wrong version", "11", restored.get("/jdk11").getVersion());
+			LibraryInfo info = restored.get("/jdk8");
+			assertNotNull("library info should be restored", info);
+			assertEquals("wrong version", "1.8.0_402", info.getVersion());
+			assertEquals("wrong boot path", 2, info.getBootpath().length);
+			assertEquals("wrong boot path", "/jdk8/jre/lib/a	b\\c.jar", info.getBootpath()[1]);
+			assertEquals("wrong extension dirs", "/jdk8/jre/lib/ext", info.getExtensionDirs()[0]);
+			assertEquals("wrong endorsed dirs", 0, info.getEndorsedDirs().length);
+		} finally {
+			file.delete();
+		}
+	}
+
 	/**
 	 * Tests the new support for {@link ILibraryLocationResolver}s asking for {@link LibraryLocation}s
 	 * using the {@link JavaRuntime#getLibraryLocations(IVMInstall)}s API
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2020 Cedric Chabanois and others.
+ * Copyright (c) 2018, 2026 Cedric Chabanois and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -209,6 +210,11 @@ public class ClasspathShortenerTests extends AbstractDebugTest {
 		assertEquals(1, classpathShortener.getProcessTempFiles().size());
 		assertArrayEquals(new String[] { JAVA_8_PATH, ENCODING_ARG, "-cp", classpathShortener.getProcessTempFiles().get(0).getAbsolutePath(),
 				MAIN_CLASS, "-arg1", "arg2" }, classpathShortener.getCmdLine());
+		// cached in the state location, out of the working directory
+		assertNotEquals(classpathShortener.getProcessTempFilesDir(), classpathShortener.getProcessTempFiles().get(0).getParentFile());
+		for (String entry : getClasspathAttributeFromJarManifest(classpathShortener.getProcessTempFiles().get(0)).split(" ")) {
+			assertTrue(entry, new URI(entry).isAbsolute());
+		}
 		List<File> classpathJars = getClasspathJarsFromJarManifest(classpathShortener.getProcessTempFiles().get(0));
 		String filePathSuffix = new File(userHomePath("/workspace/myProject/bin")).getPath();
 		int index = classpathJars.get(0).getCanonicalFile().getPath().lastIndexOf(filePathSuffix);
@@ -218,6 +224,56 @@ public class ClasspathShortenerTests extends AbstractDebugTest {
 		assertNotEquals("Second Classpath jar file location not found", -1, index);
 	}
 
+	public void testArgFileReusedForVeryLongClasspath() throws Exception {
+		// Given
+		String classpath = getVeryLongClasspath();
+		String[] cmdLine = new String[] { JAVA_10_PATH, ENCODING_ARG, "-cp", classpath, MAIN_CLASS, "-arg1", "arg2" };
+		ClasspathShortenerForTest firstClasspathShortener = new ClasspathShortenerForTest(Platform.OS_LINUX, "10.0.1", cmdLine, 4, null);
+		firstClasspathShortener.setMaxArgLength(ClasspathShortener.MAX_ARG_STRLEN_LINUX);
+		classpathShortener = new ClasspathShortenerForTest(Platform.OS_LINUX, "10.0.1", cmdLine, 4, null);
+		classpathShortener.setMaxArgLength(ClasspathShortener.MAX_ARG_STRLEN_LINUX);
+
+		// When
+		assertTrue(firstClasspathShortener.shortenCommandLineIfNecessary());
+		File argFile = firstClasspathShortener.getProcessTempFiles().get(0);
+		Object fileKey = Files.readAttributes(argFile.toPath(), BasicFileAttributes.class).fileKey();
+		boolean result = classpathShortener.shortenCommandLineIfNecessary();
+
+		// Then
+		assertTrue(result);
+		assertEquals(1, classpathShortener.getProcessTempFiles().size());
+		assertEquals(argFile, classpathShortener.getProcessTempFiles().get(0));
+		if (fileKey != null) {
+			assertEquals("Argument file should not be written again", fileKey, Files.readAttributes(argFile.toPath(), BasicFileAttributes.class).fileKey());
+		}
+		assertArrayEquals(firstClasspathShortener.getCmdLine(), classpathShortener.getCmdLine());
+		assertEquals("-classpath " + classpathShortener.quoteWindowsPath(classpath), getFileContents(argFile));
+	}
+
+	public void testClasspathOnlyJarReusedForVeryLongClasspath() throws Exception {
+		// Given
+		String classpath = getVeryLongClasspath();
+		String[] cmdLine = new String[] { JAVA_8_PATH, ENCODING_ARG, "-cp", classpath, MAIN_CLASS, "-arg1", "arg2" };
+		ClasspathShortenerForTest firstClasspathShortener = new ClasspathShortenerForTest(Platform.OS_LINUX, "1.8.0_171", cmdLine, 4, null);
+		firstClasspathShortener.setMaxArgLength(ClasspathShortener.MAX_ARG_STRLEN_LINUX);
+		firstClasspathShortener.setAllowToUseClasspathOnlyJar(true);
+		classpathShortener = new ClasspathShortenerForTest(Platform.OS_LINUX, "1.8.0_171", cmdLine, 4, null);
+		classpathShortener.setMaxArgLength(ClasspathShortener.MAX_ARG_STRLEN_LINUX);
+		classpathShortener.setAllowToUseClasspathOnlyJar(true);
+
+		// When
+		assertTrue(firstClasspathShortener.shortenCommandLineIfNecessary());
+		boolean result = classpathShortener.shortenCommandLineIfNecessary();
+
+		// Then
+		assertTrue(result);
+		assertEquals(1, classpathShortener.getProcessTempFiles().size());
+		File jarFile = classpathShortener.getProcessTempFiles().get(0);
+		assertEquals(firstClasspathShortener.getProcessTempFiles().get(0), jarFile);
+		assertArrayEquals(firstClasspathShortener.getCmdLine(), classpathShortener.getCmdLine());
+		assertEquals(10000, getClasspathJarsFromJarManifest(jarFile).size());
+	}
+
 	public void testClasspathEnvVariableUsedForLongClasspathOnJava8OnWindows() {
 		// Given
 		String classpath = getClasspathOrModulePath(userHomePath("/workspace/myProject/bin"), userHomePath("/workspace/myProject/lib/lib 1.jar"));
@@ -307,6 +363,17 @@ public class ClasspathShortenerTests extends AbstractDebugTest {
 		return userHome + path;
 	}
 
+	/**
+	 * Returns a classpath of 10000 jars, longer than the maximum argument length on Linux
+	 */
+	private String getVeryLongClasspath() {
+		String[] classpathElements = new String[10000];
+		for (int i = 0; i < classpathElements.length; i++) {
+			classpathElements[i] = userHomePath("/.m2/repository/org/example/artifact" + i + "/1.0.0/artifact" + i + "-1.0.0.jar");
+		}
+		return getClasspathOrModulePath(classpathElements);
+	}
+
 	private String getClasspathOrModulePath(String... classpathElements) {
 		return String.join(";", classpathElements);
 	}
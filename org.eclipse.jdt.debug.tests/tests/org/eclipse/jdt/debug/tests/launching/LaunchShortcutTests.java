@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2012 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,9 +16,17 @@ package org.eclipse.jdt.debug.tests.launching;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.core.runtime.Path;
 import org.eclipse.debug.internal.ui.launchConfigurations.LaunchConfigurationManager;
 import org.eclipse.debug.internal.ui.launchConfigurations.LaunchShortcutExtension;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.debug.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.JavaLaunchableTester;
+import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.ui.activities.WorkbenchActivityHelper;
 
 /**
@@ -137,6 +145,29 @@ public class LaunchShortcutTests extends AbstractDebugTest {
 		assertEquals("The description should match the specific run one: Run Description", "Run Description", descr); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	/**
+	 * Tests that the indexed results of the launchable property tester are
+	 * computed again after the tested compilation unit changes
+	 */
+	public void testLaunchableTesterIndexUpdate() throws Exception {
+		IJavaProject project = JavaProjectHelper.createJavaProject("LaunchableIndex"); //$NON-NLS-1$
+		try {
+			IPackageFragmentRoot root = JavaProjectHelper.addSourceContainer(project, "src", "bin"); //$NON-NLS-1$ //$NON-NLS-2$
+			JavaProjectHelper.addContainerEntry(project, new Path(JavaRuntime.JRE_CONTAINER));
+			IPackageFragment fragment = root.createPackageFragment("p", true, null); //$NON-NLS-1$
+			ICompilationUnit cu = fragment.createCompilationUnit("Main.java", "package p;\npublic class Main {\n}\n", true, null); //$NON-NLS-1$ //$NON-NLS-2$
+			JavaLaunchableTester tester = new JavaLaunchableTester();
+			assertFalse("Main should not have a main method", tester.test(cu, "hasMain", new Object[0], null)); //$NON-NLS-1$ //$NON-NLS-2$
+			assertFalse("Main should not have a main method", tester.test(cu, "hasMain", new Object[0], null)); //$NON-NLS-1$ //$NON-NLS-2$
+
+			cu.getBuffer().setContents("package p;\npublic class Main {\n\tpublic static void main(String[] args) {}\n}\n"); //$NON-NLS-1$
+			cu.save(null, true);
+			assertTrue("Main should have a main method", tester.test(cu, "hasMain", new Object[0], null)); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			project.getProject().delete(true, null);
+		}
+	}
+
 	/**
 	 * Returns a listing of all applicable <code>LaunchShortcutExtension</code>s for the given
 	 * launch configuration type id.
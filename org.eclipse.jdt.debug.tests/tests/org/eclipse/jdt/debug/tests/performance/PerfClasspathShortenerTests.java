@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.debug.tests.connectors.MockLaunch;
+import org.eclipse.jdt.internal.launching.ClasspathShortener;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests the latency added to launches by shortening very long classpaths.
+ */
+public class PerfClasspathShortenerTests extends AbstractDebugPerformanceTest {
+
+	private final Set<File> fTempFiles = new HashSet<>();
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public PerfClasspathShortenerTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fTempFiles.forEach(File::delete);
+		super.tearDown();
+	}
+
+	/**
+	 * Tests the performance of relaunching with a classpath of 10000 entries
+	 * shortened with an argument file.
+	 * @throws Exception
+	 */
+	public void testArgFileForVeryLongClasspath() throws Exception {
+		tagAsSummary("Shorten 10000 entries classpath with argument file", Dimension.ELAPSED_PROCESS);
+		measureShortening("10.0.1", false);
+	}
+
+	/**
+	 * Tests the performance of relaunching with a classpath of 10000 entries
+	 * shortened with a classpath-only jar.
+	 * @throws Exception
+	 */
+	public void testClasspathOnlyJarForVeryLongClasspath() throws Exception {
+		tagAsSummary("Shorten 10000 entries classpath with classpath-only jar", Dimension.ELAPSED_PROCESS);
+		measureShortening("1.8.0_171", true);
+	}
+
+	private void measureShortening(String javaVersion, boolean useClasspathOnlyJar) throws Exception {
+		StringBuilder classpath = new StringBuilder();
+		String userHome = System.getProperty("user.home");
+		for (int i = 0; i < 10000; i++) {
+			if (i != 0) {
+				classpath.append(File.pathSeparatorChar);
+			}
+			classpath.append(userHome).append("/.m2/repository/org/example/artifact").append(i).append("/1.0.0/artifact").append(i).append("-1.0.0.jar");
+		}
+		String[] cmdLine = new String[] { "/usr/lib/jvm/java/bin/java", "-cp", classpath.toString(), "my.package.MainClass" };
+		// warm up
+		for (int i = 0; i < 10; i++) {
+			shorten(javaVersion, useClasspathOnlyJar, cmdLine);
+		}
+		for (int i = 0; i < 50; i++) {
+			startMeasuring();
+			for (int j = 0; j < 10; j++) {
+				shorten(javaVersion, useClasspathOnlyJar, cmdLine);
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void shorten(String javaVersion, boolean useClasspathOnlyJar, String[] cmdLine) {
+		ClasspathShortener shortener = new ClasspathShortener(Platform.OS_LINUX, javaVersion, new MockLaunch(), cmdLine, 2, null, null) {
+			@Override
+			protected boolean getLaunchConfigurationUseClasspathOnlyJarAttribute() throws CoreException {
+				return useClasspathOnlyJar;
+			}
+
+			@Override
+			protected char getPathSeparatorChar() {
+				return File.pathSeparatorChar;
+			}
+		};
+		assertTrue("Classpath should be shortened", shortener.shortenCommandLineIfNecessary());
+		fTempFiles.addAll(shortener.getProcessTempFiles());
+	}
+}
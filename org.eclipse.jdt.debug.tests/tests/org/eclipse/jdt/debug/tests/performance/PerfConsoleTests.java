@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2019 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.performance;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
@@ -23,6 +26,7 @@ import org.eclipse.debug.ui.console.IConsole;
 import org.eclipse.debug.ui.console.IConsoleLineTrackerExtension;
 import org.eclipse.jdt.debug.testplugin.ConsoleLineTracker;
 import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceTypeCache;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.text.IRegion;
@@ -77,6 +81,50 @@ public class PerfConsoleTests extends AbstractDebugPerformanceTest implements IC
         runVariableLength(2500, 75); // 4 lines * 2500 repeats = 10000 lines
     }
 
+    /**
+     * Tests the performance of resolving the types of 5000 stack trace links,
+     * as done when the links are shown in the Java stack trace console
+     * @throws Exception
+     */
+    public void testStackTraceConsoleLinkResolution5000Lines() throws Exception {
+        tagAsSummary("Stack Trace Console 5,000 lines: link resolution", Dimension.ELAPSED_PROCESS);
+        String[] typeNames = new String[] { "java.lang.String", "java.lang.Thread", "java.lang.Object", "java.util.ArrayList",
+                "java.util.HashMap", "Breakpoints", "DropTests", "StepFilterOne", "ThrowsNPE", "org.eclipse.debug.tests.targets.Watchpoint" };
+        List<String> links = new ArrayList<>(5000);
+        for (int i = 0; i < 5000; i++) {
+            links.add(typeNames[i % typeNames.length]);
+        }
+        JavaStackTraceTypeCache cache = JavaStackTraceTypeCache.getDefault();
+        for (int i = 0; i < 5; i++) {
+            resolveLinks(cache, links);
+        }
+        for (int i = 0; i < 20; i++) {
+            startMeasuring();
+            resolveLinks(cache, links);
+            stopMeasuring();
+        }
+        commitMeasurements();
+        assertPerformance();
+        for (String typeName : typeNames) {
+            assertFalse("Type not found: " + typeName, cache.findTypes(typeName).isEmpty());
+        }
+    }
+
+    /**
+     * Resolves the given link type names in one batch from an empty cache, then
+     * looks up the types of each link
+     * @param cache
+     * @param links
+     * @throws Exception
+     */
+    private void resolveLinks(JavaStackTraceTypeCache cache, List<String> links) throws Exception {
+        cache.clear();
+        cache.resolve(links, null);
+        for (String typeName : links) {
+            cache.findTypes(typeName);
+        }
+    }
+
     /**
      * @see org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest#setUp()
      */
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.sourcelookup.ISourceContainer;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.launching.JavaSourceLookupDirector;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests performance of source lookup, as done when a stack frame is selected.
+ */
+public class PerfSourceLookupTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Source names looked up for each measurement, a mix of JRE and project
+	 * sources as for the frames of a suspended thread
+	 */
+	private static final String[] SOURCE_NAMES = new String[] { "java/lang/Thread.java", "java/lang/String.java", "java/util/ArrayList.java",
+			"java/util/HashMap.java", "java/io/PrintStream.java", "Breakpoints.java", "org/eclipse/debug/tests/targets/CallLoop.java",
+			"does/not/Exist.java" };
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public PerfSourceLookupTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests the performance of looking up sources with the package index of
+	 * the Java source lookup participant.
+	 * @throws Exception
+	 */
+	public void testIndexedSourceLookup() throws Exception {
+		tagAsSummary("Source lookup with package index", Dimension.ELAPSED_PROCESS);
+		JavaSourceLookupDirector director = createDirector();
+		try {
+			// warm up, also builds the index
+			for (int i = 0; i < 10; i++) {
+				lookupIndexed(director);
+			}
+			for (int i = 0; i < 100; i++) {
+				startMeasuring();
+				for (int j = 0; j < 10; j++) {
+					lookupIndexed(director);
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			director.dispose();
+		}
+	}
+
+	/**
+	 * Tests the performance of looking up sources by probing every source
+	 * container in turn, as done without the package index.
+	 * @throws Exception
+	 */
+	public void testLinearSourceLookup() throws Exception {
+		tagAsSummary("Source lookup probing every container", Dimension.ELAPSED_PROCESS);
+		JavaSourceLookupDirector director = createDirector();
+		try {
+			ISourceContainer[] containers = director.getSourceContainers();
+			// warm up
+			for (int i = 0; i < 10; i++) {
+				lookupLinear(containers);
+			}
+			for (int i = 0; i < 100; i++) {
+				startMeasuring();
+				for (int j = 0; j < 10; j++) {
+					lookupLinear(containers);
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			director.dispose();
+		}
+	}
+
+	/**
+	 * Returns a director with the default source lookup path of a launch
+	 * configuration in the test project, as for a launch.
+	 */
+	private JavaSourceLookupDirector createDirector() throws Exception {
+		ILaunchConfiguration configuration = getLaunchConfiguration("Breakpoints");
+		JavaSourceLookupDirector director = new JavaSourceLookupDirector();
+		director.initializeParticipants();
+		director.initializeDefaults(configuration);
+		assertTrue("Expected to find JRE sources", director.findSourceElements(SOURCE_NAMES[0]).length > 0);
+		return director;
+	}
+
+	private void lookupIndexed(JavaSourceLookupDirector director) throws Exception {
+		for (String name : SOURCE_NAMES) {
+			director.findSourceElements(name);
+		}
+	}
+
+	private void lookupLinear(ISourceContainer[] containers) throws Exception {
+		for (String name : SOURCE_NAMES) {
+			for (ISourceContainer container : containers) {
+				if (container.findSourceElements(name).length > 0) {
+					break;
+				}
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2015 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,15 +13,22 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.performance;
 
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.ui.DebugUITools;
 import org.eclipse.debug.ui.IDebugModelPresentation;
 import org.eclipse.debug.ui.IValueDetailListener;
+import org.eclipse.jdt.debug.core.IJavaArray;
+import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.ui.JavaDetailFormattersManager;
 import org.eclipse.test.performance.Dimension;
 
 /**
@@ -31,6 +38,8 @@ public class PerfVariableDetailTests extends AbstractDebugPerformanceTest implem
 
     private Object fLock = new Object();
 
+    private int fDetailCount = 0;
+
     /**
      * Constructor
      * @param name
@@ -45,6 +54,7 @@ public class PerfVariableDetailTests extends AbstractDebugPerformanceTest implem
     @Override
 	public void detailComputed(IValue value, String result) {
     	synchronized (fLock) {
+    		fDetailCount++;
     		fLock.notifyAll();
 		}
 	}
@@ -98,4 +108,59 @@ public class PerfVariableDetailTests extends AbstractDebugPerformanceTest implem
         	terminateAndRemove(thread);
         }
     }
+
+    /**
+     * Tests the performance of calculating the 'toString' details of the elements of a
+     * collection in batches, as when selecting several elements
+     * @throws Exception
+     */
+    public void testToStringDetailsBatch() throws Exception {
+    	tagAsSummary("Computing variable toString() details in batches", Dimension.ELAPSED_PROCESS);
+    	removeAllBreakpoints();
+    	String typeName = "VariableDetails";
+    	createLineBreakpoint(27, typeName);
+    	IJavaThread thread = null;
+    	try {
+    		ILaunchConfiguration configuration = getLaunchConfiguration(typeName);
+    		thread = launchToBreakpoint(configuration, false);
+    		IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+    		assertNotNull("Missing top stack frame", frame);
+    		IJavaVariable variable = frame.findVariable("v");
+    		assertNotNull("Missing variable 'v'", variable);
+    		IJavaArray elementData = (IJavaArray) ((IJavaObject) variable.getValue()).getField("elementData", false).getValue();
+    		IJavaValue[] values = Arrays.copyOf(elementData.getValues(), 100);
+    		JavaDetailFormattersManager manager = JavaDetailFormattersManager.getDefault();
+
+    		// warm up, computes and remembers the details
+    		for (int i = 0; i < 10; i++) {
+    			computeDetails(manager, values, thread);
+    		}
+
+    		// test
+    		for (int i = 0; i < 300; i++) {
+    			startMeasuring();
+    			computeDetails(manager, values, thread);
+    			stopMeasuring();
+    		}
+
+    		commitMeasurements();
+    		assertPerformance();
+
+    	} finally {
+    		removeAllBreakpoints();
+    		terminateAndRemove(thread);
+    	}
+    }
+
+    private void computeDetails(JavaDetailFormattersManager manager, IJavaValue[] values, IJavaThread thread) throws Exception {
+    	synchronized (fLock) {
+    		fDetailCount = 0;
+    		manager.computeValueDetails(values, thread, this, new NullProgressMonitor());
+    		long timeout = System.currentTimeMillis() + 30000;
+    		while (fDetailCount < values.length && System.currentTimeMillis() < timeout) {
+    			fLock.wait(1000);
+    		}
+    		assertEquals("Missing details", values.length, fDetailCount);
+    	}
+    }
 }
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.sourcelookup;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.model.IDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaClassUnloadListener;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaReferenceType;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.IJDIHelpers;
+import org.eclipse.jdt.launching.sourcelookup.advanced.AdvancedSourceLookupParticipant;
+
+/**
+ * Tests the classes locations remembered per reference type by the {@link AdvancedSourceLookupParticipant}.
+ */
+public class AdvancedSourceLookupParticipantTests extends AbstractDebugTest {
+
+	private static final String TYPE_NAME = "a.b.Type";
+
+	/**
+	 * Helpers counting the classes location lookups and recording the class unload listeners
+	 */
+	private static class CountingHelpers implements IJDIHelpers {
+
+		int lookups;
+
+		final List<IJavaClassUnloadListener> listeners = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public File getClassesLocation(Object element) throws DebugException {
+			lookups++;
+			return null;
+		}
+
+		@Override
+		public String getSourcePath(Object element) throws DebugException {
+			return null;
+		}
+
+		@Override
+		public Iterable<File> getStackFramesClassesLocations(Object element) throws DebugException {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public boolean addClassUnloadListener(IDebugTarget target, IJavaClassUnloadListener listener) {
+			listeners.add(listener);
+			return true;
+		}
+
+		@Override
+		public void removeClassUnloadListener(IDebugTarget target, IJavaClassUnloadListener listener) {
+			listeners.remove(listener);
+		}
+	}
+
+	private IJavaDebugTarget target;
+	private IJavaStackFrame frame;
+
+	public AdvancedSourceLookupParticipantTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		target = (IJavaDebugTarget) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {
+				IJavaDebugTarget.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+						case "isTerminated":
+						case "isDisconnected":
+							return Boolean.FALSE;
+						default:
+							return objectMethod(proxy, method.getName(), args);
+					}
+				});
+		IJavaReferenceType type = (IJavaReferenceType) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {
+				IJavaReferenceType.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+						case "getDebugTarget":
+							return target;
+						case "getName":
+							return TYPE_NAME;
+						default:
+							return objectMethod(proxy, method.getName(), args);
+					}
+				});
+		frame = (IJavaStackFrame) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {
+				IJavaStackFrame.class }, (proxy, method, args) -> {
+					if ("getReferenceType".equals(method.getName())) {
+						return type;
+					}
+					return objectMethod(proxy, method.getName(), args);
+				});
+	}
+
+	/**
+	 * Implements the {@link Object} methods of the proxies by identity
+	 */
+	static Object objectMethod(Object proxy, String name, Object[] args) {
+		switch (name) {
+			case "equals":
+				return Boolean.valueOf(proxy == args[0]);
+			case "hashCode":
+				return Integer.valueOf(System.identityHashCode(proxy));
+			case "toString":
+				return "proxy@" + Integer.toHexString(System.identityHashCode(proxy));
+			default:
+				throw new UnsupportedOperationException(name);
+		}
+	}
+
+	/**
+	 * Tests that unloading the type of a frame forgets the remembered classes location of the type.
+	 */
+	public void testUnloadInvalidatesLocation() throws Exception {
+		CountingHelpers jdi = new CountingHelpers();
+		AdvancedSourceLookupParticipant participant = new AdvancedSourceLookupParticipant(jdi);
+		try {
+			participant.getSourceContainer(frame, false, null);
+			participant.getSourceContainer(frame, false, null);
+			assertEquals("Location should be remembered for the type", 1, jdi.lookups);
+			assertEquals("Should listen to unloaded classes", 1, jdi.listeners.size());
+
+			jdi.listeners.get(0).classUnloaded(target, "a.b.Other");
+			participant.getSourceContainer(frame, false, null);
+			assertEquals("Unloading another type should keep the location", 1, jdi.lookups);
+
+			jdi.listeners.get(0).classUnloaded(target, TYPE_NAME);
+			participant.getSourceContainer(frame, false, null);
+			assertEquals("Unloading the type should forget the location", 2, jdi.lookups);
+		} finally {
+			participant.dispose();
+		}
+		assertTrue("Dispose should remove the unload listener", jdi.listeners.isEmpty());
+	}
+
+	/**
+	 * Tests that the remembered locations of a target are disposed when the target terminates.
+	 */
+	public void testTerminateDisposesLocations() throws Exception {
+		CountingHelpers jdi = new CountingHelpers();
+		AdvancedSourceLookupParticipant participant = new AdvancedSourceLookupParticipant(jdi);
+		try {
+			participant.getSourceContainer(frame, false, null);
+			assertEquals("Should listen to unloaded classes", 1, jdi.listeners.size());
+
+			DebugPlugin.getDefault().fireDebugEventSet(new DebugEvent[] { new DebugEvent(target, DebugEvent.TERMINATE) });
+			long timeout = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+			while (!jdi.listeners.isEmpty() && System.currentTimeMillis() < timeout) {
+				Thread.sleep(20);
+			}
+			assertTrue("Terminate should remove the unload listener", jdi.listeners.isEmpty());
+
+			// the locations of the terminated target are gone, a new target instance starts over
+			participant.getSourceContainer(frame, false, null);
+			assertEquals("Location should be looked up again", 2, jdi.lookups);
+			assertEquals("Should listen to unloaded classes again", 1, jdi.listeners.size());
+		} finally {
+			participant.dispose();
+		}
+	}
+}
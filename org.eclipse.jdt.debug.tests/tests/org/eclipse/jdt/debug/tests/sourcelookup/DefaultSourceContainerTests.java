@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2006 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.sourcelookup;
 
+import java.util.List;
+
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.sourcelookup.ISourceContainer;
 import org.eclipse.debug.core.sourcelookup.containers.DefaultSourceContainer;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.launching.JavaSourceLookupDirector;
+import org.eclipse.jdt.internal.launching.JavaSourcePackageIndex;
+import org.eclipse.jdt.launching.sourcelookup.containers.JavaProjectSourceContainer;
+import org.eclipse.jdt.launching.sourcelookup.containers.PackageFragmentRootSourceContainer;
 
 /**
  * Tests default source containers
@@ -47,4 +52,38 @@ public class DefaultSourceContainerTests extends AbstractDebugTest {
 		DefaultSourceContainer restore = (DefaultSourceContainer) director2.getSourceContainers()[0];
 		assertEquals("Default source container memento failed", container, restore);
 	}
+
+	/**
+	 * Tests that the package index of a default container indexes the projects
+	 * and package fragment roots of the default source lookup path.
+	 *
+	 * @throws Exception
+	 */
+	public void testPackageIndexOfDefaultContainer() throws Exception {
+		JavaSourceLookupDirector director = new JavaSourceLookupDirector();
+		director.initializeParticipants();
+		director.initializeDefaults(getLaunchConfiguration("Breakpoints"));
+		JavaSourcePackageIndex index = new JavaSourcePackageIndex(director.getSourceContainers());
+		try {
+			List<ISourceContainer> missing = index.getCandidates("does/not/Exist.java");
+			for (ISourceContainer container : missing) {
+				assertFalse("Project probed for a missing package", container instanceof JavaProjectSourceContainer);
+				assertFalse("Root probed for a missing package", container instanceof PackageFragmentRootSourceContainer);
+			}
+
+			String name = "org/eclipse/debug/tests/targets/CallLoop.java";
+			List<ISourceContainer> candidates = index.getCandidates(name);
+			assertTrue("Project of the package not probed", candidates.stream().anyMatch(JavaProjectSourceContainer.class::isInstance));
+			assertTrue("Expected more candidates for an existing package", candidates.size() > missing.size());
+			Object[] elements = director.findSourceElements(name);
+			assertEquals("Wrong number of source elements", 1, elements.length);
+			assertEquals("Wrong source element", director.getSourceContainers()[0].findSourceElements(name)[0], elements[0]);
+
+			// other files are searched in the whole project
+			assertTrue("Project not probed for a non Java file", index.getCandidates("readme.txt").stream().anyMatch(JavaProjectSourceContainer.class::isInstance));
+		} finally {
+			index.dispose();
+			director.dispose();
+		}
+	}
 }
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.sourcelookup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.FileHashing;
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.FileHashing.Hasher;
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.WorkspaceProjectSourceContainers;
+
+/**
+ * Tests the persistent index of file digests of {@link FileHashing} and the parallel hashing of workspace project dependencies.
+ */
+public class FileHashingTests extends AbstractDebugTest {
+
+	private File dir;
+
+	public FileHashingTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		dir = Files.createTempDirectory("FileHashingTests").toFile().getCanonicalFile();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		try (Stream<java.nio.file.Path> paths = Files.walk(dir.toPath())) {
+			paths.sorted(Comparator.reverseOrder()).map(java.nio.file.Path::toFile).forEach(File::delete);
+		}
+		super.tearDown();
+	}
+
+	private File createFile(String name, String content) throws IOException {
+		File file = new File(dir, name);
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private static String sha1(File file) throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (byte b : MessageDigest.getInstance("SHA1").digest(Files.readAllBytes(file.toPath()))) {
+			sb.append(String.format("%02x", Integer.valueOf(b & 0xff)));
+		}
+		return sb.toString();
+	}
+
+	private static String indexLine(String hash, File file) {
+		return hash + '\t' + file.length() + '\t' + file.lastModified() + '\t' + file.getPath();
+	}
+
+	/**
+	 * Returns the lines of the given saved index for the given file.
+	 */
+	private static List<String> indexLines(File indexFile, File file) throws IOException {
+		List<String> lines = new ArrayList<>();
+		for (String line : Files.readAllLines(indexFile.toPath(), StandardCharsets.UTF_8)) {
+			if (line.endsWith('\t' + file.getPath())) {
+				lines.add(line);
+			}
+		}
+		return lines;
+	}
+
+	/**
+	 * Tests that saved digests are loaded and used instead of hashing the files again.
+	 */
+	public void testIndexRoundTrip() throws Exception {
+		File hashed = createFile("hashed.txt", "hashed");
+		assertEquals("Wrong digest", sha1(hashed), String.valueOf(FileHashing.newHasher().hash(hashed)));
+
+		File indexFile = new File(dir, "index.txt");
+		FileHashing.saveIndex(indexFile);
+		List<String> lines = indexLines(indexFile, hashed);
+		assertEquals("Saved index should contain the hashed file", 1, lines.size());
+		assertEquals("Wrong saved entry", indexLine(sha1(hashed), hashed), lines.get(0));
+
+		// a digest the file does not have proves the loaded entry is used
+		File loaded = createFile("loaded.txt", "loaded");
+		String digest = "0123456789abcdef0123456789abcdef01234567";
+		File loadedIndex = new File(dir, "loaded-index.txt");
+		Files.write(loadedIndex.toPath(), (indexLine(digest, loaded) + '\n').getBytes(StandardCharsets.UTF_8));
+		FileHashing.loadIndex(loadedIndex);
+		assertEquals("Loaded digest should be used", digest, String.valueOf(FileHashing.newHasher().hash(loaded)));
+	}
+
+	/**
+	 * Tests that saved digests of files changed since they were hashed are not loaded.
+	 */
+	public void testStaleEntryNotLoaded() throws Exception {
+		File file = createFile("stale.txt", "stale");
+		String line = "0123456789abcdef0123456789abcdef01234567\t" + file.length() + '\t' + (file.lastModified() - 2000) + '\t' + file.getPath();
+		File indexFile = new File(dir, "stale-index.txt");
+		Files.write(indexFile.toPath(), (line + '\n').getBytes(StandardCharsets.UTF_8));
+		FileHashing.loadIndex(indexFile);
+		assertEquals("Stale digest should not be loaded", sha1(file), String.valueOf(FileHashing.newHasher().hash(file)));
+	}
+
+	/**
+	 * Tests that the digest of a changed file replaces its previous digest in the index.
+	 */
+	public void testChangedFileReplacesEntry() throws Exception {
+		File file = createFile("changed.txt", "before");
+		String before = String.valueOf(FileHashing.newHasher().hash(file));
+		assertEquals("Wrong digest", sha1(file), before);
+
+		long lastModified = file.lastModified();
+		Files.write(file.toPath(), "after change".getBytes(StandardCharsets.UTF_8));
+		assertTrue("Could not change modification time", file.setLastModified(lastModified + 2000));
+		String after = String.valueOf(FileHashing.newHasher().hash(file));
+		assertEquals("Changed file should be hashed again", sha1(file), after);
+		assertFalse("Digest should change", before.equals(after));
+
+		File indexFile = new File(dir, "changed-index.txt");
+		FileHashing.saveIndex(indexFile);
+		List<String> lines = indexLines(indexFile, file);
+		assertEquals("Index should contain one entry per file", 1, lines.size());
+		assertEquals("Wrong saved entry", indexLine(after, file), lines.get(0));
+	}
+
+	/**
+	 * Tests that files hashed in parallel have the same digests as files hashed one at a time.
+	 */
+	public void testHashAll() throws Exception {
+		List<File> files = new ArrayList<>();
+		for (int i = 0; i < 32; i++) {
+			files.add(createFile("file" + i + ".txt", "content of file " + i));
+		}
+		Hasher hasher = FileHashing.newHasher();
+		FileHashing.hashAll(hasher, files);
+		for (File file : files) {
+			assertEquals("Wrong digest of " + file, sha1(file), String.valueOf(hasher.hash(file)));
+		}
+	}
+
+	/**
+	 * Tests that dependencies hashed in parallel by {@link WorkspaceProjectSourceContainers} are found by the digest of a copy.
+	 */
+	public void testWorkspaceProjectDependencyHashes() throws Exception {
+		List<File> jars = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			File jar = new File(dir, "lib" + i + ".jar");
+			try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+				out.putNextEntry(new ZipEntry("p" + i + "/A.class"));
+				out.write(("class " + i).getBytes(StandardCharsets.UTF_8));
+				out.closeEntry();
+			}
+			jars.add(jar);
+		}
+		IJavaProject project = JavaProjectHelper.createJavaProject("HashedDependencies");
+		WorkspaceProjectSourceContainers containers = new WorkspaceProjectSourceContainers();
+		try {
+			JavaProjectHelper.addSourceContainer(project, "src", "bin");
+			for (File jar : jars) {
+				Path path = new Path(jar.getPath());
+				JavaProjectHelper.addLibrary(project, path, path, null);
+			}
+			containers.initialize(new NullProgressMonitor());
+
+			File output = project.getProject().getFolder("bin").getLocation().toFile();
+			for (File jar : jars) {
+				File copy = new File(dir, "copy-" + jar.getName());
+				Files.copy(jar.toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				assertNotNull("Dependency should be found by digest: " + jar, containers.createClasspathEntryContainer(output, copy));
+			}
+			File other = createFile("other.jar", "other");
+			assertNull("Unknown dependency should not be found", containers.createClasspathEntryContainer(output, other));
+		} finally {
+			containers.close();
+			project.getProject().delete(true, null);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) Mar 12, 2016 IBM Corporation and others.
+ * Copyright (c) Mar 12, 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.ui.IValueDetailListener;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
@@ -368,4 +369,49 @@ public class DetailFormatterTests extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests that a computed detail is remembered while the program is suspended and computed
+	 * again once the program resumed
+	 *
+	 * @throws Exception
+	 */
+	public void testDetailRememberedUntilResume() throws Exception {
+		IJavaThread thread = null;
+		DetailFormatter formatter = null;
+		JavaDetailFormattersManager jdfm = JavaDetailFormattersManager.getDefault();
+		try {
+			String typename = "a.b.c.bug403028";
+			createLineBreakpoint(10, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("The program did not suspend", thread);
+			formatter = new DetailFormatter("java.util.HashMap", "return String.valueOf(System.nanoTime());", true);
+			jdfm.setAssociatedDetailFormatter(formatter);
+			IJavaVariable var = thread.findVariable("map");
+			assertNotNull("the variable 'map' must exist in the frame", var);
+			String first = computeDetail(jdfm, (IJavaValue) var.getValue(), thread);
+			assertEquals("The detail should be remembered while suspended", first, computeDetail(jdfm, (IJavaValue) var.getValue(), thread));
+
+			thread = stepOver((IJavaStackFrame) thread.getTopStackFrame());
+			var = thread.findVariable("map");
+			assertNotNull("the variable 'map' must exist in the frame", var);
+			assertFalse("The detail should be computed again after resuming", first.equals(computeDetail(jdfm, (IJavaValue) var.getValue(), thread)));
+		}
+		finally {
+			jdfm.removeAssociatedDetailFormatter(formatter);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	private String computeDetail(JavaDetailFormattersManager jdfm, IJavaValue value, IJavaThread thread) throws Exception {
+		fListener.reset();
+		jdfm.computeValueDetail(value, thread, fListener);
+		long timeout = System.currentTimeMillis() + 5000;
+		while (fListener.value == null && System.currentTimeMillis() < timeout) {
+			Thread.sleep(100);
+		}
+		assertNotNull("The computed value of the detail should not be null", fListener.result);
+		return fListener.result;
+	}
 }
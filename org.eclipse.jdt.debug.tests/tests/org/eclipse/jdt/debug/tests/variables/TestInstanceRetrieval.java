@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.debug.tests.variables;
 
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaObject;
@@ -22,6 +23,10 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.HeapWalkingManager;
+import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIAllInstancesValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
 
 /**
  * Tests for instance retrieval
@@ -97,4 +102,42 @@ public class TestInstanceRetrieval extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that the all instances value retrieves the instances of a type one
+	 * page at a time, up to the preferred maximum.
+	 *
+	 * @throws Exception
+	 */
+	public void testAllInstancesValue() throws Exception {
+		String typeName = "java6.AllInstancesTests";
+		IJavaLineBreakpoint bp = createLineBreakpoint(66, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaDebugTarget target = (IJavaDebugTarget) thread.getDebugTarget();
+			if (target.supportsInstanceRetrieval()) {
+				IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+				assertNotNull("missing top frame", frame);
+				IJavaVariable variable = frame.findVariable("rc");
+				assertNotNull("Missing variable 'rc'", variable);
+				IJavaReferenceType refType = (IJavaReferenceType) ((IJavaObject) variable.getValue()).getJavaType();
+
+				int max = HeapWalkingManager.getDefault().getAllInstancesMaxCount();
+				JDIAllInstancesValue value = new JDIAllInstancesValue((JDIDebugTarget) target, (JDIReferenceType) refType);
+				assertEquals("Wrong number of instances", max + 1, value.getSize());
+				IVariable[] page = value.getVariables(10, 20);
+				assertEquals("Wrong page size", 20, page.length);
+				for (int i = 0; i < page.length; i++) {
+					assertEquals("Wrong variable name", "[" + (10 + i) + "]", page[i].getName());
+					assertEquals("Instance is of unexpected type", refType, ((IJavaObject) page[i].getValue()).getJavaType());
+				}
+				assertEquals("Same instance should be returned", page[0].getValue(), value.getVariable(10).getValue());
+				assertEquals("Wrong placeholder name", "...", value.getVariable(max).getName());
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,14 +16,17 @@ package org.eclipse.jdt.debug.tests.variables;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILogicalStructureType;
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.debug.core.model.IIndexedValue;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.logicalstructures.JDICollectionValue;
 
 /**
  * Tests for logical structures
@@ -155,4 +158,109 @@ public class TestLogicalStructures extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests that the logical structures of core JDK collections are read from
+	 * their fields, one page at a time, in iteration order.
+	 *
+	 * @throws Exception
+	 */
+	public void testCollectionFieldStructures() throws Exception {
+		String typeName = "CollectionStructures";
+		createLineBreakpoint(57, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull("missing top frame", frame);
+
+			String[] names = new String[] { "hashMap", "linkedHashMap", "concurrentHashMap", "treeMap", "arrayList", "arrayDeque" };
+			int[] sizes = new int[] { 1000, 1000, 1000, 1000, 10, 10 };
+			for (int i = 0; i < names.length; i++) {
+				IJavaArray array = getCollectionStructure(frame, names[i]);
+				assertEquals("Wrong number of elements in " + names[i], sizes[i], array.getLength());
+				IVariable[] page = ((IIndexedValue) array).getVariables(sizes[i] - 5, 5);
+				assertEquals("Wrong page size for " + names[i], 5, page.length);
+				for (IVariable variable : page) {
+					assertFalse("Missing element in " + names[i], ((IJavaValue) variable.getValue()).isNull());
+				}
+			}
+
+			IJavaArray treeMap = getCollectionStructure(frame, "treeMap");
+			assertEquals("Wrong first key of tree map", "1", getEntryKey(treeMap.getValue(0)));
+			assertEquals("Wrong last key of tree map", "1000", getEntryKey(treeMap.getValue(999)));
+			IJavaArray linkedHashMap = getCollectionStructure(frame, "linkedHashMap");
+			assertEquals("Wrong first key of linked hash map", "1000", getEntryKey(linkedHashMap.getValue(0)));
+			IJavaArray arrayDeque = getCollectionStructure(frame, "arrayDeque");
+			assertEquals("Wrong first element of deque", "19", arrayDeque.getValue(0).getValueString());
+			assertEquals("Wrong last element of deque", "10", arrayDeque.getValue(9).getValueString());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that logical structures of collections that are not read from
+	 * their fields evaluate the size first, then only the requested pages.
+	 *
+	 * @throws Exception
+	 */
+	public void testEvaluatedCollectionStructures() throws Exception {
+		String typeName = "CollectionStructures";
+		createLineBreakpoint(57, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull("missing top frame", frame);
+
+			for (String name : new String[] { "linkedList", "vector", "treeSet" }) {
+				IJavaArray array = getCollectionStructure(frame, name);
+				assertEquals("Wrong number of elements in " + name, 1000, array.getLength());
+				IVariable[] page = ((IIndexedValue) array).getVariables(500, 100);
+				assertEquals("Wrong page size for " + name, 100, page.length);
+				for (int i = 0; i < page.length; i++) {
+					IJavaObject element = (IJavaObject) page[i].getValue();
+					assertEquals("Wrong element of " + name, Integer.toString(500 + i), element.getField("value", false).getValue().getValueString());
+				}
+				assertSame("Logical value should be reused while suspended", array, getCollectionStructure(frame, name));
+			}
+			IJavaArray hashtable = getCollectionStructure(frame, "hashtable");
+			assertEquals("Wrong number of entries in hashtable", 1000, hashtable.getLength());
+			assertNotNull("Missing key in last entry of hashtable", getEntryKey(hashtable.getValue(999)));
+
+			IJavaArray linkedList = getCollectionStructure(frame, "linkedList");
+			thread = stepOver(frame);
+			frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotSame("Logical value should be discarded after resume", linkedList, getCollectionStructure(frame, "linkedList"));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	private IJavaArray getCollectionStructure(IJavaStackFrame frame, String name) throws Exception {
+		IJavaVariable variable = frame.findVariable(name);
+		assertNotNull("Missing variable '" + name + "'", variable);
+		IValue value = variable.getValue();
+		ILogicalStructureType[] types = DebugPlugin.getLogicalStructureTypes(value);
+		assertEquals("Should be one logical structure type", 1, types.length);
+		IValue logicalValue = types[0].getLogicalStructure(value);
+		assertTrue("Logical value of '" + name + "' should be paged", logicalValue instanceof JDICollectionValue);
+		return (IJavaArray) logicalValue;
+	}
+
+	private String getEntryKey(IJavaValue entry) throws Exception {
+		ILogicalStructureType[] types = DebugPlugin.getLogicalStructureTypes(entry);
+		assertEquals("Should be one logical structure type", 1, types.length);
+		IVariable[] children = types[0].getLogicalStructure(entry).getVariables();
+		assertEquals("First entry should be key", "key", children[0].getName());
+		IJavaObject key = (IJavaObject) children[0].getValue();
+		return key.getField("value", false).getValue().getValueString();
+	}
 }
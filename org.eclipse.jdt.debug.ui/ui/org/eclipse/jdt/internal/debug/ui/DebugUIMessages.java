@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -415,6 +415,7 @@ public class DebugUIMessages extends NLS {
 	public static String JavaStepFilterPreferencePage__Use_step_filters;
 
 	public static String JavaVariableLabelProvider_0;
+	public static String JavaVariableLabelProvider_1;
 
 	public static String JavaVariableContentAssistDescription_Keystroke;
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -60,6 +60,7 @@ import org.eclipse.jdt.debug.ui.IJavaDebugUIConstants;
 import org.eclipse.jdt.internal.debug.ui.breakpoints.ExceptionInspector;
 import org.eclipse.jdt.internal.debug.ui.breakpoints.JavaBreakpointTypeAdapterFactory;
 import org.eclipse.jdt.internal.debug.ui.classpath.ClasspathEntryAdapterFactory;
+import org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceTypeCache;
 import org.eclipse.jdt.internal.debug.ui.display.JavaInspectExpression;
 import org.eclipse.jdt.internal.debug.ui.monitors.JavaContendedMonitor;
 import org.eclipse.jdt.internal.debug.ui.monitors.JavaOwnedMonitor;
@@ -445,6 +446,7 @@ public class JDIDebugUIPlugin extends AbstractUIPlugin {
 			setShuttingDown(true);
 			JDIDebugModel.removeHotCodeReplaceListener(fHCRListener);
 			JavaDebugOptionsManager.getDefault().shutdown();
+			JavaStackTraceTypeCache.shutdown();
 			if (fImageDescriptorRegistry != null) {
 				fImageDescriptorRegistry.dispose();
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILogicalStructureType;
@@ -179,6 +180,26 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 		}
 	}
 
+	/**
+	 * Computes the details of the given values in a single batch on the evaluation
+	 * thread of their debug target. The details are remembered until the target
+	 * suspends again, so that they are found when the details of the values are
+	 * asked for one by one.
+	 *
+	 * @param values values of the same debug target
+	 * @param monitor the monitor used to cancel the batch
+	 */
+	public void computeDetails(IJavaValue[] values, IProgressMonitor monitor) {
+		if (values.length == 0) {
+			return;
+		}
+		IJavaThread thread = getEvaluationThread((IJavaDebugTarget) values[0].getDebugTarget());
+		if (thread != null) {
+			JavaDetailFormattersManager.getDefault().computeValueDetails(values, thread, (value, result) -> {
+			}, monitor);
+		}
+	}
+
 	/**
 	 * Returns a thread from the specified VM that can be
 	 * used for an evaluation or <code>null</code> if
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
@@ -26,7 +32,9 @@ import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchesListener;
+import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IDebugTarget;
+import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.debug.ui.DebugUITools;
 import org.eclipse.debug.ui.IDebugUIConstants;
@@ -48,6 +56,7 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.eval.IEvaluationListener;
@@ -55,6 +64,7 @@ import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIAllInstancesValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDINullValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListValue;
 import org.eclipse.jface.util.IPropertyChangeListener;
@@ -94,7 +104,18 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 	 * Cache of compiled expressions.
 	 * Associate a pair type name/debug target to a compiled expression.
 	 */
-	private HashMap<Key, Expression> fCacheMap;
+	private Map<Key, Expression> fCacheMap;
+
+	/**
+	 * Maximum number of details remembered per debug target
+	 */
+	private static final int MAX_CACHED_DETAILS = 1000;
+
+	/**
+	 * Details computed since the last time a debug target suspended, keyed by debug target.
+	 * A new cache is used for every suspend count of a target.
+	 */
+	private final Map<IJavaDebugTarget, DetailCache> fDetailCaches = new ConcurrentHashMap<>();
 
 	/**
 	 * JavaDetailFormattersManager constructor.
@@ -105,7 +126,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		DebugPlugin.getDefault().getLaunchManager().addLaunchListener(this);
 		DebugPlugin.getDefault().addDebugEventListener(this);
 		DebugUITools.getPreferenceStore().addPropertyChangeListener(this);
-		fCacheMap= new HashMap<>();
+		fCacheMap= new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -126,7 +147,8 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 	 * Compute asynchronously the 'toString' of the given value. If a formatter is associated to
 	 * the type of the given value, this formatter is used instead of the <code>toString()</code>
 	 * method.
-	 * The result is return through the listener.
+	 * The result is return through the listener. Details of objects are remembered until the
+	 * debug target resumes.
 	 *
 	 * @param objectValue the value to 'format'
 	 * @param thread the thread to use to performed the evaluation
@@ -141,6 +163,21 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		});
 	}
 
+	/**
+	 * Compute asynchronously the details of the given values, one after the other, in a single
+	 * batch on the given thread. Details already computed since the debug target last resumed
+	 * are reported without evaluation. The results are returned through the listener, no
+	 * further details are computed once the monitor is canceled.
+	 *
+	 * @param values the values to 'format'
+	 * @param thread the thread to use to performed the evaluations
+	 * @param listener the listener
+	 * @param monitor the monitor used to cancel the batch
+	 */
+	public void computeValueDetails(IJavaValue[] values, IJavaThread thread, IValueDetailListener listener, IProgressMonitor monitor) {
+		thread.queueRunnable(new DetailBatch(values, thread, listener, monitor));
+	}
+
 	private void resolveFormatter(final IJavaValue value, final IJavaThread thread, final IValueDetailListener listener) {
 		EvaluationListener evaluationListener= new EvaluationListener(value, thread, listener);
 		if (value instanceof IJavaObject) {
@@ -157,13 +194,30 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				IJavaDebugTarget debugTarget= (IJavaDebugTarget) thread.getDebugTarget();
 				// get the compiled expression to use
 				Expression expression= getCompiledExpression(objectValue, debugTarget, thread);
+				if (!objectValue.isNull()) {
+					long uniqueId = objectValue.getUniqueId();
+					if (uniqueId != -1) {
+						DetailCache cache = getDetailCache(debugTarget);
+						DetailKey key = new DetailKey(uniqueId, expression == null ? null : expression.getExpression().getSnippet());
+						String detail = cache.get(key);
+						if (detail != null) {
+							listener.detailComputed(value, detail);
+							return;
+						}
+						if (cache.await(key, evaluationListener)) {
+							// reported once computed for the request in progress
+							return;
+						}
+						evaluationListener.setCache(cache, key);
+					}
+				}
 				if (expression != null) {
 					expression.getEngine().evaluateExpression(expression.getExpression(), objectValue, thread,
 							evaluationListener, DebugEvent.EVALUATION_IMPLICIT, false);
 					return;
 				}
 			} catch (CoreException e) {
-				listener.detailComputed(value, e.toString());
+				evaluationListener.detailComputed(e.toString(), false);
 				return;
 			}
 		}
@@ -176,8 +230,28 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 			} else if (e.getStatus().getCode() == IJavaThread.ERR_INCOMPATIBLE_THREAD_STATE) {
 				detail = DebugUIMessages.JavaDetailFormattersManager_6;
 			}
-			listener.detailComputed(value, detail);
+			evaluationListener.detailComputed(detail, false);
+		}
+	}
+
+	/**
+	 * Returns the cache of the details computed since the given debug target last suspended.
+	 */
+	private DetailCache getDetailCache(IJavaDebugTarget debugTarget) {
+		int suspendCount = getSuspendCount(debugTarget);
+		return fDetailCaches.compute(debugTarget, (target, cache) -> cache != null && cache.fSuspendCount == suspendCount ? cache
+				: new DetailCache(target, suspendCount));
+	}
+
+	/**
+	 * Returns the number of suspend events that have occurred in the given debug target, or
+	 * <code>-1</code> if unknown.
+	 */
+	static int getSuspendCount(IJavaDebugTarget debugTarget) {
+		if (debugTarget instanceof JDIDebugTarget) {
+			return ((JDIDebugTarget) debugTarget).getSuspendCount();
 		}
+		return -1;
 	}
 
 	private IJavaProject getJavaProject(IJavaObject javaValue, IJavaThread thread) throws CoreException {
@@ -451,6 +525,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				property.equals(IDebugUIConstants.PREF_MAX_DETAIL_LENGTH)) {
 			populateDetailFormattersMap();
 			fCacheMap.clear();
+			fDetailCaches.clear();
 			// If a Java stack frame is selected in the Debug view, fire a change event on
 			// it so the variables view will update for any formatter changes.
             IAdaptable selected = DebugUITools.getDebugContext();
@@ -473,6 +548,14 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 			DebugEvent event = events[i];
 			if (event.getSource() instanceof IJavaDebugTarget && event.getKind() == DebugEvent.TERMINATE) {
 				deleteCacheForTarget((IJavaDebugTarget) event.getSource());
+			} else if (event.getSource() instanceof IDebugElement && (event.getKind() == DebugEvent.RESUME && event.getDetail() != DebugEvent.EVALUATION_IMPLICIT
+					|| event.getKind() == DebugEvent.CHANGE && event.getDetail() == DebugEvent.CONTENT && event.getSource() instanceof IJavaVariable)) {
+				// objects may change once the program runs or a value is modified, start a new
+				// generation of details. Implicit evaluations are run to compute details.
+				IJavaDebugTarget target = ((IDebugElement) event.getSource()).getDebugTarget().getAdapter(IJavaDebugTarget.class);
+				if (target != null) {
+					fDetailCaches.remove(target);
+				}
 			}
 		}
 	}
@@ -520,6 +603,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				iter.remove();
 			}
 		}
+		fDetailCaches.remove(debugTarget);
 	}
 
 	/**
@@ -550,6 +634,135 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		}
 	}
 
+	/**
+	 * Key of a computed detail, the unique id of the object and the formatter snippet used
+	 */
+	static private class DetailKey {
+		private final long fUniqueId;
+		private final String fSnippet;
+
+		DetailKey(long uniqueId, String snippet) {
+			fUniqueId = uniqueId;
+			fSnippet = snippet;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof DetailKey) {
+				DetailKey key = (DetailKey) obj;
+				return fUniqueId == key.fUniqueId && (fSnippet == null ? key.fSnippet == null : fSnippet.equals(key.fSnippet));
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(fUniqueId) * 31 + (fSnippet == null ? 0 : fSnippet.hashCode());
+		}
+	}
+
+	/**
+	 * Details computed while a debug target is suspended, for one suspend count of the target.
+	 * The least recently used details are discarded first. Details computed once the target has
+	 * suspended again are not remembered, and requests of a detail that is being computed wait
+	 * for its result rather than evaluating it again.
+	 */
+	static private class DetailCache {
+		private final IJavaDebugTarget fTarget;
+		private final int fSuspendCount;
+		private final Map<DetailKey, List<EvaluationListener>> fPending = new HashMap<>();
+		private final Map<DetailKey, String> fDetails = new LinkedHashMap<DetailKey, String>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<DetailKey, String> eldest) {
+				return size() > MAX_CACHED_DETAILS;
+			}
+		};
+
+		DetailCache(IJavaDebugTarget target, int suspendCount) {
+			fTarget = target;
+			fSuspendCount = suspendCount;
+		}
+
+		synchronized String get(DetailKey key) {
+			return fDetails.get(key);
+		}
+
+		/**
+		 * Registers the listener to be notified of the detail if it is being computed, or
+		 * marks the detail as being computed otherwise.
+		 *
+		 * @return whether the detail is being computed
+		 */
+		synchronized boolean await(DetailKey key, EvaluationListener listener) {
+			List<EvaluationListener> waiting = fPending.get(key);
+			if (waiting == null) {
+				fPending.put(key, new ArrayList<>());
+				return false;
+			}
+			waiting.add(listener);
+			return true;
+		}
+
+		/**
+		 * Remembers the computed detail unless the target suspended again since this cache was
+		 * created, and returns the listeners waiting for it.
+		 */
+		synchronized List<EvaluationListener> computed(DetailKey key, String detail, boolean cacheable) {
+			if (cacheable && getSuspendCount(fTarget) == fSuspendCount) {
+				fDetails.put(key, detail);
+			}
+			List<EvaluationListener> waiting = fPending.remove(key);
+			return waiting == null ? Collections.emptyList() : waiting;
+		}
+	}
+
+	/**
+	 * Computes the details of several values one after the other on the evaluation
+	 * thread, until canceled. Details found in the cache are reported directly,
+	 * a detail requiring an asynchronous evaluation continues the batch once computed.
+	 */
+	private class DetailBatch implements Runnable, IValueDetailListener {
+		private final IJavaValue[] fValues;
+		private final IJavaThread fThread;
+		private final IValueDetailListener fListener;
+		private final IProgressMonitor fMonitor;
+		private int fIndex = -1;
+		private boolean fPending;
+		private boolean fResolving;
+
+		DetailBatch(IJavaValue[] values, IJavaThread thread, IValueDetailListener listener, IProgressMonitor monitor) {
+			fValues = values;
+			fThread = thread;
+			fListener = listener;
+			fMonitor = monitor;
+		}
+
+		@Override
+		public synchronized void run() {
+			while (!fMonitor.isCanceled() && ++fIndex < fValues.length) {
+				fPending = true;
+				fResolving = true;
+				resolveFormatter(fValues[fIndex], fThread, this);
+				fResolving = false;
+				if (fPending) {
+					// completed asynchronously, continued by detailComputed
+					return;
+				}
+			}
+		}
+
+		@Override
+		public synchronized void detailComputed(IValue value, String result) {
+			fListener.detailComputed(value, result);
+			fPending = false;
+			if (!fResolving) {
+				fThread.queueRunnable(this);
+			}
+		}
+	}
+
 	/**
 	 * Stores a compiled expression and evaluation engine used to evaluate the expression.
 	 */
@@ -599,12 +812,37 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 
 		private IJavaThread fThread;
 
+		private DetailCache fCache;
+
+		private DetailKey fKey;
+
 		public EvaluationListener(IJavaValue value, IJavaThread thread, IValueDetailListener listener) {
 			fValue= value;
 			fThread= thread;
 			fListener= listener;
 		}
 
+		/**
+		 * Sets the cache to remember the computed detail in.
+		 */
+		void setCache(DetailCache cache, DetailKey key) {
+			fCache = cache;
+			fKey = key;
+		}
+
+		/**
+		 * Reports the detail to the listener and to the requests waiting for it, and remembers
+		 * it unless it describes a failure.
+		 */
+		private void detailComputed(String detail, boolean cacheable) {
+			if (fCache != null) {
+				for (EvaluationListener waiting : fCache.computed(fKey, detail, cacheable)) {
+					waiting.fListener.detailComputed(waiting.fValue, detail);
+				}
+			}
+			fListener.detailComputed(fValue, detail);
+		}
+
 		@Override
 		public void evaluationComplete(IEvaluationResult result) {
 			if (result.hasErrors()) {
@@ -627,12 +865,12 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 						error.append("\n\t\t").append(errors[i]); //$NON-NLS-1$
 					}
 				}
-				fListener.detailComputed(fValue, error.toString());
+				detailComputed(error.toString(), false);
 			} else {
 				try {
 					valueToString(result.getValue());
 				} catch (DebugException e) {
-					fListener.detailComputed(fValue, e.getStatus().getMessage());
+					detailComputed(e.getStatus().getMessage(), false);
 				}
 			}
 		}
@@ -640,6 +878,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		public void valueToString(final IJavaValue objectValue) throws DebugException {
 			String nonEvalResult = null;
 			StringBuilder result= null;
+			boolean cacheable = true;
 			if (objectValue.getSignature() == null) {
 				// no need to spawn evaluate for a null fValue
 				nonEvalResult = DebugUIMessages.JavaDetailFormattersManager_null;
@@ -649,6 +888,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				appendJDIPrimitiveValueString(result, objectValue);
 			} else if (fThread == null || !fThread.isSuspended()) {
 				// no thread available
+				cacheable = false;
 				result = new StringBuilder();
 				result.append(DebugUIMessages.JavaDetailFormattersManager_no_suspended_threads);
 				appendJDIValueString(result, objectValue);
@@ -661,7 +901,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				nonEvalResult = result.toString();
 			}
 			if (nonEvalResult != null) {
-				fListener.detailComputed(fValue, nonEvalResult);
+				detailComputed(nonEvalResult, cacheable);
 				return;
 			}
 
@@ -676,7 +916,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 					} else {
 						appendJDIValueString(buf, objectValue);
 					}
-					fListener.detailComputed(fValue, buf.toString());
+					detailComputed(buf.toString(), true);
 				}
 			};
 			fThread.runEvaluation(eval, null, DebugEvent.EVALUATION_IMPLICIT, false);
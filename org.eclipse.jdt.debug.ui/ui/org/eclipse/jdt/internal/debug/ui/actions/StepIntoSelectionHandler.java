@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -187,7 +187,7 @@ public class StepIntoSelectionHandler implements IDebugEventFilter {
 				// compare location to desired location
 				try {
 					final IJavaStackFrame frame = (IJavaStackFrame)getThread().getTopStackFrame();
-					int stackDepth = frame.getThread().getStackFrames().length;
+					int stackDepth = getThread().getFrameCount();
 					String name = null;
 					if (frame.isConstructor()) {
 						name = frame.getDeclaringTypeName();
@@ -304,7 +304,7 @@ public class StepIntoSelectionHandler implements IDebugEventFilter {
 		fStepFilterEnabledState = getDebugTarget().isStepFiltersEnabled();
 		getDebugTarget().setStepFiltersEnabled(false);
 		try {
-			fOriginalStackDepth = getThread().getStackFrames().length;
+			fOriginalStackDepth = getThread().getFrameCount();
 			setExpectedEvent(DebugEvent.RESUME, DebugEvent.STEP_INTO);
 			getThread().stepInto();
 		} catch (DebugException e) {
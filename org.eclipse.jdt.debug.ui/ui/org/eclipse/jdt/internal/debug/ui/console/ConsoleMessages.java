@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,9 @@ public class ConsoleMessages extends NLS {
 	public static String JavaStackTraceConsoleFactory_0;
 	public static String JavaStackTraceConsole_0;
 	public static String JavaStackTraceConsole_2;
+	public static String JavaStackTraceConsole_3;
+	public static String JavaStackTraceConsolePage_0;
+	public static String JavaThreadDump_0;
 	public static String JavaStackTraceHyperlink_Source_not_found_for__0__2;
 	public static String JavaStackTraceHyperlink_Unable_to_parse_type_name_from_hyperlink__5;
 	public static String JavaStackTraceHyperlink_Unable_to_parse_line_number_from_hyperlink__6;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,16 +27,22 @@ import java.util.StringTokenizer;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.ui.IDebugUIConstants;
 import org.eclipse.jdt.internal.debug.ui.IJavaDebugHelpContextIds;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.JavaDebugImages;
 import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.rules.FastPartitioner;
-import org.eclipse.jface.text.rules.RuleBasedPartitionScanner;
+import org.eclipse.jface.text.rules.IPartitionTokenScanner;
+import org.eclipse.jface.text.rules.IToken;
+import org.eclipse.jface.text.rules.Token;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.osgi.util.NLS;
@@ -59,7 +65,7 @@ public class JavaStackTraceConsole extends TextConsole {
 	class JavaStackTraceConsolePartitioner extends FastPartitioner implements IConsoleDocumentPartitioner {
 
         public JavaStackTraceConsolePartitioner() {
-            super(new RuleBasedPartitionScanner(), null);
+            super(new ThreadPartitionScanner(), new String[] { THREAD_PARTITION_TYPE });
             getDocument().setDocumentPartitioner(this);
         }
 
@@ -75,13 +81,111 @@ public class JavaStackTraceConsole extends TextConsole {
 
     }
 
+	/**
+	 * Scanner of the threads of a thread dump. A thread partition starts with a
+	 * line beginning with the quoted thread name and includes the indented lines
+	 * that follow it, other lines have the default content type. A partition
+	 * only depends on its own lines and on the line after it, so a document
+	 * change is scanned again from the partition it touches up to the first
+	 * partition it leaves unchanged, rather than from the start of the document.
+	 */
+	private static class ThreadPartitionScanner implements IPartitionTokenScanner {
+
+		private static final IToken THREAD = new Token(THREAD_PARTITION_TYPE);
+
+		private IDocument fDocument;
+		private int fOffset;
+		private int fEnd;
+		private int fTokenOffset;
+		private int fTokenLength;
+
+		@Override
+		public void setRange(IDocument document, int offset, int length) {
+			fDocument = document;
+			fEnd = offset + length;
+			fTokenOffset = offset;
+			fTokenLength = 0;
+			try {
+				// partitions start at line starts
+				fOffset = document.getLineOffset(document.getLineOfOffset(offset));
+			} catch (BadLocationException e) {
+				fOffset = offset;
+			}
+		}
+
+		@Override
+		public void setPartialRange(IDocument document, int offset, int length, String contentType, int partitionOffset) {
+			if (partitionOffset > -1 && THREAD_PARTITION_TYPE.equals(contentType)) {
+				// resume at the start of the changed thread
+				setRange(document, partitionOffset, offset + length - partitionOffset);
+			} else {
+				setRange(document, offset, length);
+			}
+		}
+
+		@Override
+		public IToken nextToken() {
+			if (fOffset >= fEnd) {
+				fTokenOffset = fOffset;
+				fTokenLength = 0;
+				return Token.EOF;
+			}
+			try {
+				int line = fDocument.getLineOfOffset(fOffset);
+				int lines = fDocument.getNumberOfLines();
+				boolean thread = startsWith(line, '"');
+				int next = line + 1;
+				if (thread) {
+					while (next < lines && (startsWith(next, ' ') || startsWith(next, '\t'))) {
+						next++;
+					}
+				} else {
+					while (next < lines && !startsWith(next, '"') && fDocument.getLineOffset(next) < fEnd) {
+						next++;
+					}
+				}
+				int end = next < lines ? fDocument.getLineOffset(next) : fDocument.getLength();
+				fTokenOffset = fOffset;
+				fTokenLength = end - fOffset;
+				fOffset = end;
+				return thread ? THREAD : Token.UNDEFINED;
+			} catch (BadLocationException e) {
+				fOffset = fEnd;
+				return Token.EOF;
+			}
+		}
+
+		/**
+		 * Returns whether the given line starts with the given character.
+		 */
+		private boolean startsWith(int line, char c) throws BadLocationException {
+			IRegion region = fDocument.getLineInformation(line);
+			return region.getLength() > 0 && fDocument.getChar(region.getOffset()) == c;
+		}
+
+		@Override
+		public int getTokenOffset() {
+			return fTokenOffset;
+		}
+
+		@Override
+		public int getTokenLength() {
+			return fTokenLength;
+		}
+	}
+
     public final static String CONSOLE_TYPE = "javaStackTraceConsole"; //$NON-NLS-1$
+	/** Content type of the partitions of the threads in a thread dump. */
+	public final static String THREAD_PARTITION_TYPE = "javaStackTraceThread"; //$NON-NLS-1$
     public final static String FILE_NAME = JDIDebugUIPlugin.getDefault().getStateLocation().toOSString() + File.separator + "stackTraceConsole.txt"; //$NON-NLS-1$
 
 	private static final String NL = "\n"; //$NON-NLS-1$
 	private static final String INDENT_STR = "    "; //$NON-NLS-1$
 	private static final int INDENT_WIDTH = 4;
 
+	/** Delay in milliseconds before parsing changed threads of the document. */
+	private static final long PARSE_DELAY = 100;
+
     private JavaStackTraceConsolePartitioner partitioner = new JavaStackTraceConsolePartitioner();
     private IPropertyChangeListener propertyListener = new IPropertyChangeListener() {
         @Override
@@ -106,6 +210,34 @@ public class JavaStackTraceConsole extends TextConsole {
 		}
 	};
 
+	/** Threads of the document, parsed in the background. */
+	private final JavaThreadDump threadDump = new JavaThreadDump();
+	/** Document listener invalidating the changed threads. */
+	private final IDocumentListener threadDumpListener = new IDocumentListener() {
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			String text = event.getText();
+			threadDump.textChanged(event.getOffset(), event.getLength(), text == null ? 0 : text.length());
+		}
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			parseJob.schedule(PARSE_DELAY);
+		}
+	};
+	/** Parses the invalidated threads of the document. */
+	private final Job parseJob = new Job(ConsoleMessages.JavaStackTraceConsole_3) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			updateThreadDump(monitor);
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == JavaStackTraceConsole.this;
+		}
+	};
+
 	/**
 	 * Constructor
 	 */
@@ -114,6 +246,8 @@ public class JavaStackTraceConsole extends TextConsole {
         Font font = JFaceResources.getFont(IDebugUIConstants.PREF_CONSOLE_FONT);
         setFont(font);
         partitioner.connect(getDocument());
+		parseJob.setSystem(true);
+		getDocument().addDocumentListener(threadDumpListener);
     }
 
 	/**
@@ -149,6 +283,8 @@ public class JavaStackTraceConsole extends TextConsole {
     @Override
 	protected void dispose() {
         saveDocument();
+		parseJob.cancel();
+		getDocument().removeDocumentListener(threadDumpListener);
         JFaceResources.getFontRegistry().removeListener(propertyListener);
         super.dispose();
     }
@@ -201,22 +337,104 @@ public class JavaStackTraceConsole extends TextConsole {
      * performs the formatting of the stacktrace console
      */
     public void format() {
-    	WorkbenchJob job = new WorkbenchJob(ConsoleMessages.JavaStackTraceConsole_1) {
+		// the document is read in the calling UI thread, formatting a large dump
+		// must not block it and the result is dropped if the document changes in
+		// the meantime
+		IDocument document = getDocument();
+		long stamp = getModificationStamp(document);
+		String orig = document.get();
+		if (orig == null || orig.isEmpty()) {
+			return;
+		}
+		Job job = new Job(ConsoleMessages.JavaStackTraceConsole_1) {
 			@Override
-			public IStatus runInUIThread(IProgressMonitor monitor) {
-	            IDocument document = getDocument();
-	            String orig = document.get();
-	            if (orig != null && orig.length() > 0) {
-	                document.set(format(orig));
+			protected IStatus run(IProgressMonitor monitor) {
+				replaceContent(format(orig), stamp);
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+    }
+
+	/**
+	 * Replaces the threads in the document of this console with one entry per
+	 * group of threads with identical stacks. Other text of the document is kept
+	 * in place.
+	 */
+	public void groupIdenticalStacks() {
+		// the document is read in the calling UI thread
+		IDocument document = getDocument();
+		long stamp = getModificationStamp(document);
+		String text = document.get();
+		Job job = new Job(ConsoleMessages.JavaStackTraceConsole_1) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				String grouped = JavaThreadDump.groupIdenticalStacks(text);
+				if (grouped != null) {
+					replaceContent(grouped, stamp);
 				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+	}
 
+	/**
+	 * Returns the threads of this console's document. The model may not be up
+	 * to date with recent changes of the document.
+	 *
+	 * @return the thread dump model of this console
+	 */
+	public JavaThreadDump getThreadDump() {
+		return threadDump;
+	}
+
+	/**
+	 * Parses the invalidated threads of the document.
+	 *
+	 * @param monitor
+	 *            progress monitor
+	 */
+	private void updateThreadDump(IProgressMonitor monitor) {
+		IDocument document = getDocument();
+		while (threadDump.isDirty() && !monitor.isCanceled()) {
+			threadDump.update(document);
+		}
+	}
+
+	/**
+	 * Replaces the document content in the UI thread unless the document was
+	 * modified since the given modification stamp.
+	 *
+	 * @param content
+	 *            the new content
+	 * @param stamp
+	 *            modification stamp of the document the content was computed
+	 *            from
+	 */
+	private void replaceContent(String content, long stamp) {
+		WorkbenchJob job = new WorkbenchJob(ConsoleMessages.JavaStackTraceConsole_1) {
+			@Override
+			public IStatus runInUIThread(IProgressMonitor monitor) {
+				IDocument document = getDocument();
+				if (getModificationStamp(document) == stamp) {
+					document.set(content);
+				}
 				return Status.OK_STATUS;
 			}
 		};
 		job.setSystem(true);
 		job.schedule();
+	}
 
-    }
+	private static long getModificationStamp(IDocument document) {
+		if (document instanceof IDocumentExtension4) {
+			return ((IDocumentExtension4) document).getModificationStamp();
+		}
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
 
 	/**
 	 * Underlying format operation
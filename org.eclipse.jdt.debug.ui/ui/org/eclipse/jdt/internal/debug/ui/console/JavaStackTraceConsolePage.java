@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2011 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui.console;
 
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.action.IToolBarManager;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.ui.IActionBars;
+import org.eclipse.ui.IWorkbenchActionConstants;
 import org.eclipse.ui.console.IConsoleConstants;
 import org.eclipse.ui.console.IConsoleView;
 import org.eclipse.ui.console.TextConsole;
@@ -25,6 +28,7 @@ import org.eclipse.ui.console.TextConsoleViewer;
 public class JavaStackTraceConsolePage extends TextConsolePage {
 
 	private AutoFormatSettingAction fAutoFormat;
+	private Action fGroupStacks;
 
 	public JavaStackTraceConsolePage(TextConsole console, IConsoleView view) {
 		super(console, view);
@@ -38,6 +42,19 @@ public class JavaStackTraceConsolePage extends TextConsolePage {
 		fAutoFormat = new AutoFormatSettingAction(this);
 		IToolBarManager toolBarManager = actionBars.getToolBarManager();
 		toolBarManager.appendToGroup(IConsoleConstants.OUTPUT_GROUP, fAutoFormat);
+
+		fGroupStacks = new Action(ConsoleMessages.JavaStackTraceConsolePage_0) {
+			@Override
+			public void run() {
+				((JavaStackTraceConsole) getConsole()).groupIdenticalStacks();
+			}
+		};
+	}
+
+	@Override
+	protected void contextMenuAboutToShow(IMenuManager menuManager) {
+		super.contextMenuAboutToShow(menuManager);
+		menuManager.appendToGroup(IWorkbenchActionConstants.MB_ADDITIONS, fGroupStacks);
 	}
 
 	@Override
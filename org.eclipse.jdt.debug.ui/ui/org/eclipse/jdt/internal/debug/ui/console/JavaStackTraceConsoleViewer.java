@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2019 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,14 +14,25 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui.console;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.text.DocumentCommand;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextOperationTarget;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.ui.console.IHyperlink;
 import org.eclipse.ui.console.TextConsoleViewer;
+import org.eclipse.ui.progress.WorkbenchJob;
 
 /**
  * provides the viewer for Java stack trace consoles
@@ -31,6 +42,33 @@ public class JavaStackTraceConsoleViewer extends TextConsoleViewer {
 	private JavaStackTraceConsole fConsole;
 	private boolean fAutoFormat = false;
 
+	/**
+	 * Delay in milliseconds before resolving the links shown after the viewer
+	 * was scrolled or its content changed
+	 */
+	private static final long RESOLVE_LINKS_DELAY = 200;
+
+	/**
+	 * Collects the type names of the visible links, in the UI thread
+	 */
+	private final Job fCollectLinksJob = new WorkbenchJob("Collect stack trace links") { //$NON-NLS-1$
+		@Override
+		public IStatus runInUIThread(IProgressMonitor monitor) {
+			Set<String> typeNames = collectVisibleTypeNames();
+			if (!typeNames.isEmpty()) {
+				fResolveLinksJob.cancel();
+				fResolveLinksJob.setTypeNames(typeNames);
+				fResolveLinksJob.schedule();
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	/**
+	 * Resolves the collected type names with a single workspace search
+	 */
+	private final ResolveLinksJob fResolveLinksJob = new ResolveLinksJob();
+
 	/**
 	 * Constructor
 	 * @param parent the parent to add this viewer to
@@ -43,6 +81,55 @@ public class JavaStackTraceConsoleViewer extends TextConsoleViewer {
 
 		IPreferenceStore fPreferenceStore = JDIDebugUIPlugin.getDefault().getPreferenceStore();
 		fAutoFormat = fPreferenceStore.getBoolean(IJDIPreferencesConstants.PREF_AUTO_FORMAT_JSTCONSOLE);
+
+		fCollectLinksJob.setSystem(true);
+		addViewportListener(verticalOffset -> scheduleLinkResolution());
+		addTextListener(event -> scheduleLinkResolution());
+	}
+
+	/**
+	 * Resolves the types of the links shown in the viewer in the background, so
+	 * that activating one of them does not need to search the workspace.
+	 */
+	private void scheduleLinkResolution() {
+		fCollectLinksJob.cancel();
+		fCollectLinksJob.schedule(RESOLVE_LINKS_DELAY);
+	}
+
+	/**
+	 * Returns the type names of the stack trace links in the visible part of
+	 * the document.
+	 *
+	 * @return type names of the visible links
+	 */
+	private Set<String> collectVisibleTypeNames() {
+		Set<String> typeNames = new LinkedHashSet<>();
+		if (getTextWidget() == null || getTextWidget().isDisposed() || fConsole.showsUsageHint) {
+			return typeNames;
+		}
+		int start = getTopIndexStartOffset();
+		int end = getBottomIndexEndOffset();
+		for (IHyperlink link : fConsole.getHyperlinks()) {
+			if (link instanceof JavaStackTraceHyperlink) {
+				IRegion region = fConsole.getRegion(link);
+				if (region != null && region.getOffset() + region.getLength() >= start && region.getOffset() <= end) {
+					JavaStackTraceHyperlink javaLink = (JavaStackTraceHyperlink) link;
+					try {
+						typeNames.add(javaLink.getTypeName(javaLink.getLinkText()));
+					} catch (CoreException e) {
+						// not a link to a type, nothing to resolve
+					}
+				}
+			}
+		}
+		return typeNames;
+	}
+
+	@Override
+	protected void handleDispose() {
+		fCollectLinksJob.cancel();
+		fResolveLinksJob.cancel();
+		super.handleDispose();
 	}
 
 	/**
@@ -81,4 +168,31 @@ public class JavaStackTraceConsoleViewer extends TextConsoleViewer {
 	public void setAutoFormat(boolean checked) {
 		fAutoFormat = checked;
 	}
+
+	/**
+	 * Resolves type names of stack trace links in the background
+	 */
+	private static class ResolveLinksJob extends Job {
+
+		private volatile Set<String> fTypeNames;
+
+		ResolveLinksJob() {
+			super("Resolve stack trace links"); //$NON-NLS-1$
+			setSystem(true);
+		}
+
+		void setTypeNames(Set<String> typeNames) {
+			fTypeNames = typeNames;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				JavaStackTraceTypeCache.getDefault().resolve(fTypeNames, monitor);
+			} catch (CoreException e) {
+				// links are resolved again when activated
+			}
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
+	}
 }
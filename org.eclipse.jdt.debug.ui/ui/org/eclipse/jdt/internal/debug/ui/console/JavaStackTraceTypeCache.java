@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.console;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+/**
+ * Caches the types in the workspace that match type names found in stack
+ * trace hyperlinks. Type names that have not been resolved yet are searched in
+ * a single pass over the workspace. The cache is cleared when types or class
+ * paths in the workspace change.
+ */
+public class JavaStackTraceTypeCache implements IElementChangedListener {
+
+	/**
+	 * Flags of a Java element delta that may change the set of types in the
+	 * workspace
+	 */
+	private static final int TYPES_CHANGED_FLAGS = IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+			| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_MOVED_FROM | IJavaElementDelta.F_MOVED_TO;
+
+	private static JavaStackTraceTypeCache fgDefault;
+
+	/**
+	 * Map of type names to the matching types in the workspace, empty if none
+	 */
+	private final Map<String, List<IType>> fTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the shared cache, creating it if required.
+	 *
+	 * @return the shared cache
+	 */
+	public static synchronized JavaStackTraceTypeCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new JavaStackTraceTypeCache();
+			JavaCore.addElementChangedListener(fgDefault, ElementChangedEvent.POST_CHANGE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Disposes the shared cache, if it was created.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault);
+			fgDefault.clear();
+			fgDefault = null;
+		}
+	}
+
+	/**
+	 * Returns the types in the workspace matching the given type name,
+	 * searching the workspace only if the name has not been resolved before.
+	 *
+	 * @param typeName
+	 *            type name as found in a stack trace, fully qualified or
+	 *            simple for the default package
+	 * @return unmodifiable list of the matching types, possibly empty
+	 * @throws CoreException
+	 *             if the search fails
+	 */
+	public List<IType> findTypes(String typeName) throws CoreException {
+		List<IType> types = fTypes.get(typeName);
+		if (types == null) {
+			resolve(Collections.singleton(typeName), null);
+			types = fTypes.getOrDefault(typeName, Collections.emptyList());
+		}
+		return types;
+	}
+
+	/**
+	 * Resolves all of the given type names that have not been resolved yet
+	 * with a single search of the workspace.
+	 *
+	 * @param typeNames
+	 *            type names as found in stack traces
+	 * @param monitor
+	 *            progress monitor or <code>null</code>
+	 * @throws CoreException
+	 *             if the search fails
+	 */
+	public void resolve(Collection<String> typeNames, IProgressMonitor monitor) throws CoreException {
+		Map<String, List<IType>> resolved = new HashMap<>();
+		Set<String> qualifications = new LinkedHashSet<>();
+		Set<String> simpleNames = new LinkedHashSet<>();
+		boolean anyPackage = false;
+		for (String typeName : typeNames) {
+			if (fTypes.containsKey(typeName) || resolved.containsKey(typeName)) {
+				continue;
+			}
+			resolved.put(typeName, new ArrayList<>(1));
+			int dot = typeName.lastIndexOf('.');
+			if (dot == -1) {
+				// as for links, a simple name matches types in any package
+				anyPackage = true;
+				simpleNames.add(typeName);
+			} else {
+				qualifications.add(typeName.substring(0, dot));
+				simpleNames.add(typeName.substring(dot + 1));
+			}
+		}
+		if (resolved.isEmpty()) {
+			return;
+		}
+		TypeNameMatchRequestor requestor = new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				String container = match.getTypeContainerName();
+				String simpleName = match.getSimpleTypeName();
+				String qualifiedName = container.isEmpty() ? simpleName : container + '.' + simpleName;
+				List<IType> types = resolved.get(qualifiedName);
+				if (types != null) {
+					types.add(match.getType());
+				}
+				if (!container.isEmpty()) {
+					types = resolved.get(simpleName);
+					if (types != null) {
+						types.add(match.getType());
+					}
+				}
+			}
+		};
+		// the search matches any combination of the qualifications and names,
+		// unwanted combinations are ignored by the requestor
+		new SearchEngine().searchAllTypeNames(anyPackage ? null : toCharArrays(qualifications), toCharArrays(simpleNames), SearchEngine.createWorkspaceScope(), requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+		resolved.forEach((name, types) -> fTypes.put(name, Collections.unmodifiableList(types)));
+	}
+
+	/**
+	 * Discards all resolved type names.
+	 */
+	public void clear() {
+		fTypes.clear();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (!fTypes.isEmpty() && affectsTypes(event.getDelta())) {
+			clear();
+		}
+	}
+
+	/**
+	 * Returns whether the given delta may change the types matching a cached
+	 * type name.
+	 */
+	private static boolean affectsTypes(IJavaElementDelta delta) {
+		int kind = delta.getKind();
+		if (kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED) {
+			return true;
+		}
+		int flags = delta.getFlags();
+		if ((flags & TYPES_CHANGED_FLAGS) != 0) {
+			return true;
+		}
+		if (delta.getElement().getElementType() == IJavaElement.COMPILATION_UNIT && (flags & IJavaElementDelta.F_CONTENT) != 0
+				&& (flags & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+			// the types in the compilation unit are unknown
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getElement().getElementType() <= IJavaElement.TYPE && affectsTypes(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static char[][] toCharArrays(Collection<String> strings) {
+		char[][] chars = new char[strings.size()][];
+		int i = 0;
+		for (String string : strings) {
+			chars[i++] = string.toCharArray();
+		}
+		return chars;
+	}
+}
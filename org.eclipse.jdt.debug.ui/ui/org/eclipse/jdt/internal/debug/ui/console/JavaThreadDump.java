@@ -0,0 +1,462 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.console;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Model of the threads in a thread dump, as printed by <code>jstack</code>,
+ * kept up to date with a document.
+ * <p>
+ * Each thread starts with a line beginning with the quoted thread name and
+ * extends up to the next such line, so the threads tile the document after
+ * the first thread. Document changes only invalidate the threads they touch,
+ * which are parsed again by {@link #update(IDocument)}, typically from a
+ * background job.
+ * </p>
+ * <p>
+ * The lines of a thread are its header and the indented lines following it.
+ * Other text, like the JNI references or the deadlock report after the last
+ * thread, ends the lines of the preceding thread.
+ * </p>
+ */
+public class JavaThreadDump {
+
+	private static final String STATE_PREFIX = "java.lang.Thread.State:"; //$NON-NLS-1$
+	private static final String FRAME_PREFIX = "at "; //$NON-NLS-1$
+
+	/**
+	 * A thread of the dump
+	 */
+	public static final class ThreadStack {
+
+		private int fOffset;
+		private final int fLength;
+		private final int fContentLength;
+		private final String fHeader;
+		private final String fState;
+		private final List<String> fFrames;
+
+		ThreadStack(int offset, int length, int contentLength, String header, String state, List<String> frames) {
+			fOffset = offset;
+			fLength = length;
+			fContentLength = contentLength;
+			fHeader = header;
+			fState = state;
+			fFrames = Collections.unmodifiableList(frames);
+		}
+
+		/**
+		 * @return offset of the thread in the document
+		 */
+		public int getOffset() {
+			return fOffset;
+		}
+
+		/**
+		 * @return length of the thread in the document, up to the next thread
+		 */
+		public int getLength() {
+			return fLength;
+		}
+
+		/**
+		 * @return length of the lines of the thread, not including following
+		 *         blank lines or other text
+		 */
+		public int getContentLength() {
+			return fContentLength;
+		}
+
+		/**
+		 * @return the line with the thread name
+		 */
+		public String getHeader() {
+			return fHeader;
+		}
+
+		/**
+		 * @return the thread state line or <code>null</code> if none
+		 */
+		public String getState() {
+			return fState;
+		}
+
+		/**
+		 * @return the trimmed stack frame lines, without lock information
+		 */
+		public List<String> getFrames() {
+			return fFrames;
+		}
+
+		int getEnd() {
+			return fOffset + fLength;
+		}
+
+		int getContentEnd() {
+			return fOffset + fContentLength;
+		}
+
+		String getStackKey() {
+			StringBuilder key = new StringBuilder();
+			key.append(fState);
+			for (String frame : fFrames) {
+				key.append('\n').append(frame);
+			}
+			return key.toString();
+		}
+	}
+
+	/**
+	 * Threads with identical state and stack frames
+	 */
+	public static final class StackGroup {
+
+		private final List<ThreadStack> fThreads = new ArrayList<>(1);
+
+		/**
+		 * @return the threads in this group, in document order
+		 */
+		public List<ThreadStack> getThreads() {
+			return fThreads;
+		}
+
+		/**
+		 * @return the number of threads in this group
+		 */
+		public int getCount() {
+			return fThreads.size();
+		}
+
+		/**
+		 * @return the common thread state line or <code>null</code> if none
+		 */
+		public String getState() {
+			return fThreads.get(0).getState();
+		}
+
+		/**
+		 * @return the common stack frame lines
+		 */
+		public List<String> getFrames() {
+			return fThreads.get(0).getFrames();
+		}
+	}
+
+	/**
+	 * Threads in document order, not including the invalidated region
+	 */
+	private final List<ThreadStack> fThreads = new ArrayList<>();
+
+	/**
+	 * Document region to parse again or -1 if none
+	 */
+	private int fDirtyStart = -1;
+	private int fDirtyEnd = -1;
+
+	/**
+	 * Incremented with every change, used to discard parse results of outdated
+	 * text
+	 */
+	private long fStamp;
+
+	/**
+	 * Notifies this model that a document region is about to be replaced. The
+	 * offset and length are in the coordinates of the document before the
+	 * change.
+	 *
+	 * @param offset
+	 *            offset of the replaced region
+	 * @param replacedLength
+	 *            length of the replaced region
+	 * @param insertedLength
+	 *            length of the text replacing the region
+	 */
+	public synchronized void textChanged(int offset, int replacedLength, int insertedLength) {
+		fStamp++;
+		int start = offset;
+		int end = offset + replacedLength;
+		if (fDirtyStart != -1) {
+			start = Math.min(start, fDirtyStart);
+			end = Math.max(end, fDirtyEnd);
+		}
+		// threads touching the change are parsed again, a change at the start of
+		// a thread may remove its header and join it with the previous thread
+		int index = 0;
+		while (index < fThreads.size() && fThreads.get(index).getEnd() < start) {
+			index++;
+		}
+		while (index < fThreads.size() && fThreads.get(index).getOffset() <= end) {
+			ThreadStack thread = fThreads.remove(index);
+			start = Math.min(start, thread.getOffset());
+			end = Math.max(end, thread.getEnd());
+		}
+		int delta = insertedLength - replacedLength;
+		for (int i = index; i < fThreads.size(); i++) {
+			fThreads.get(i).fOffset += delta;
+		}
+		fDirtyStart = start;
+		fDirtyEnd = end + delta;
+	}
+
+	/**
+	 * @return whether a part of the document has not been parsed yet
+	 */
+	public synchronized boolean isDirty() {
+		return fDirtyStart != -1;
+	}
+
+	/**
+	 * Parses the invalidated region of the given document.
+	 *
+	 * @param document
+	 *            the document this model is kept up to date with
+	 * @return whether the model is up to date, <code>false</code> if the
+	 *         document changed during parsing
+	 */
+	public boolean update(IDocument document) {
+		int start;
+		int end;
+		long stamp;
+		synchronized (this) {
+			if (fDirtyStart == -1) {
+				return true;
+			}
+			start = fDirtyStart;
+			end = -1;
+			for (ThreadStack thread : fThreads) {
+				if (thread.getOffset() >= fDirtyEnd) {
+					end = thread.getOffset();
+					break;
+				}
+			}
+			stamp = fStamp;
+		}
+		String text;
+		try {
+			// a thread header can only start a line, and the last parsed thread
+			// extends up to the next valid thread
+			start = document.getLineOffset(document.getLineOfOffset(start));
+			if (end == -1) {
+				end = document.getLength();
+			}
+			text = document.get(start, end - start);
+		} catch (BadLocationException e) {
+			// changed concurrently
+			return false;
+		}
+		List<ThreadStack> parsed = parse(text, start);
+		synchronized (this) {
+			if (stamp != fStamp) {
+				return false;
+			}
+			int index = 0;
+			while (index < fThreads.size() && fThreads.get(index).getOffset() < start) {
+				index++;
+			}
+			fThreads.addAll(index, parsed);
+			fDirtyStart = -1;
+			fDirtyEnd = -1;
+			return true;
+		}
+	}
+
+	/**
+	 * Discards all threads, the whole document is parsed again.
+	 *
+	 * @param length
+	 *            length of the document
+	 */
+	public synchronized void reset(int length) {
+		fStamp++;
+		fThreads.clear();
+		fDirtyStart = 0;
+		fDirtyEnd = length;
+	}
+
+	/**
+	 * @return the parsed threads in document order
+	 */
+	public synchronized List<ThreadStack> getThreads() {
+		return new ArrayList<>(fThreads);
+	}
+
+	/**
+	 * Groups the parsed threads by identical state and stack frames.
+	 *
+	 * @return groups ordered by descending thread count, then by document
+	 *         order
+	 */
+	public synchronized List<StackGroup> groupIdenticalStacks() {
+		return group(fThreads);
+	}
+
+	private static List<StackGroup> group(List<ThreadStack> threads) {
+		Map<String, StackGroup> groups = new LinkedHashMap<>();
+		for (ThreadStack thread : threads) {
+			groups.computeIfAbsent(thread.getStackKey(), k -> new StackGroup()).fThreads.add(thread);
+		}
+		List<StackGroup> result = new ArrayList<>(groups.values());
+		result.sort((g1, g2) -> g2.getCount() - g1.getCount());
+		return result;
+	}
+
+	/**
+	 * Returns the text of a thread dump with one entry per group of threads
+	 * with identical stacks.
+	 *
+	 * @param groups
+	 *            stack groups
+	 * @return thread dump text
+	 */
+	public static String toText(List<StackGroup> groups) {
+		StringBuilder text = new StringBuilder();
+		for (StackGroup group : groups) {
+			if (text.length() > 0) {
+				text.append('\n');
+			}
+			text.append(NLS.bind(ConsoleMessages.JavaThreadDump_0, Integer.toString(group.getCount()))).append('\n');
+			for (ThreadStack thread : group.getThreads()) {
+				text.append(thread.getHeader()).append('\n');
+			}
+			if (group.getState() != null) {
+				text.append("   ").append(group.getState()).append('\n'); //$NON-NLS-1$
+			}
+			for (String frame : group.getFrames()) {
+				text.append('\t').append(frame).append('\n');
+			}
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Returns the given thread dump text with one entry per group of threads
+	 * with identical stacks. Only the lines of the threads are replaced, the
+	 * text before, between and after runs of consecutive threads is kept in
+	 * place.
+	 *
+	 * @param text
+	 *            thread dump text
+	 * @return the grouped text or <code>null</code> if the text contains no
+	 *         threads
+	 */
+	public static String groupIdenticalStacks(String text) {
+		List<ThreadStack> threads = parse(text, 0);
+		if (threads.isEmpty()) {
+			return null;
+		}
+		StringBuilder result = new StringBuilder(text.length());
+		int end = 0;
+		int index = 0;
+		while (index < threads.size()) {
+			// threads only separated by blank lines are grouped together
+			int first = index;
+			int runEnd = threads.get(index).getContentEnd();
+			index++;
+			while (index < threads.size() && text.substring(runEnd, threads.get(index).getOffset()).trim().isEmpty()) {
+				runEnd = threads.get(index).getContentEnd();
+				index++;
+			}
+			result.append(text, end, threads.get(first).getOffset());
+			result.append(toText(group(threads.subList(first, index))));
+			end = runEnd;
+		}
+		result.append(text, end, text.length());
+		return result.toString();
+	}
+
+	/**
+	 * Parses the threads in the given text line by line.
+	 *
+	 * @param text
+	 *            text starting at a line start
+	 * @param offset
+	 *            document offset of the text
+	 * @return the threads in the text, the first one possibly preceded by
+	 *         other lines
+	 */
+	static List<ThreadStack> parse(CharSequence text, int offset) {
+		List<ThreadStack> threads = new ArrayList<>();
+		int threadStart = -1;
+		int contentEnd = -1;
+		boolean ended = false;
+		String header = null;
+		String state = null;
+		List<String> frames = null;
+		int length = text.length();
+		int lineStart = 0;
+		while (lineStart < length) {
+			int lineEnd = lineStart;
+			while (lineEnd < length && text.charAt(lineEnd) != '\n' && text.charAt(lineEnd) != '\r') {
+				lineEnd++;
+			}
+			int next = lineEnd;
+			if (next < length && text.charAt(next) == '\r') {
+				next++;
+			}
+			if (next < length && text.charAt(next) == '\n') {
+				next++;
+			}
+			if (isHeader(text, lineStart, lineEnd)) {
+				if (threadStart != -1) {
+					threads.add(new ThreadStack(offset + threadStart, lineStart - threadStart, contentEnd - threadStart, header, state, frames));
+				}
+				threadStart = lineStart;
+				contentEnd = next;
+				ended = false;
+				header = text.subSequence(lineStart, lineEnd).toString();
+				state = null;
+				frames = new ArrayList<>();
+			} else if (threadStart != -1 && !ended) {
+				String line = text.subSequence(lineStart, lineEnd).toString().trim();
+				if (line.isEmpty()) {
+					// blank lines separate the sections of a thread
+				} else if (!Character.isWhitespace(text.charAt(lineStart))) {
+					ended = true;
+				} else {
+					contentEnd = next;
+					if (line.startsWith(FRAME_PREFIX)) {
+						frames.add(line);
+					} else if (state == null && line.startsWith(STATE_PREFIX)) {
+						state = line;
+					}
+				}
+			}
+			lineStart = next;
+		}
+		if (threadStart != -1) {
+			threads.add(new ThreadStack(offset + threadStart, length - threadStart, contentEnd - threadStart, header, state, frames));
+		}
+		return threads;
+	}
+
+	/**
+	 * Returns whether the given line starts a thread. Lines like
+	 * <code>"Thread-1":</code> of a deadlock report only refer to a thread.
+	 */
+	private static boolean isHeader(CharSequence text, int lineStart, int lineEnd) {
+		if (lineEnd == lineStart || text.charAt(lineStart) != '"') {
+			return false;
+		}
+		return !(lineEnd - lineStart > 2 && text.charAt(lineEnd - 1) == ':' && text.charAt(lineEnd - 2) == '"');
+	}
+}
@@ -68,6 +68,14 @@ public class JavaThreadContentProvider extends JavaElementContentProvider {
 		if (!thread.isSuspended()) {
 			return EMPTY;
 		}
+		if (thread instanceof JDIThread && !isDisplayMonitors()) {
+			JDIThread jThread = (JDIThread) thread;
+			if (!jThread.getDebugTarget().isSuspended() && jThread.isSuspendVoteInProgress()) {
+				return EMPTY;
+			}
+			// only retrieve the frames visible in the viewer
+			return jThread.computeStackFrames(index, length).toArray();
+		}
 		return getElements(getChildren(thread), index, length);
 	}
 
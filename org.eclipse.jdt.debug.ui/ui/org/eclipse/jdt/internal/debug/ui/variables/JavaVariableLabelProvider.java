@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,18 +13,26 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui.variables;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.debug.internal.ui.model.elements.VariableLabelProvider;
@@ -214,6 +222,68 @@ public class JavaVariableLabelProvider extends VariableLabelProvider implements
 		super.retrieveLabel(update);
 	}
 
+	/**
+	 * Computes the details shown in the labels of the updated variables in a single batch
+	 * before their labels are retrieved, unless labels show no details.
+	 */
+	@Override
+	public void update(ILabelUpdate[] updates) {
+		if (fSerializeMode != SERIALIZE_ALL && updates.length > 1) {
+			Job job = new Job(DebugUIMessages.JavaVariableLabelProvider_1) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					computeDetails(updates, monitor);
+					return Status.OK_STATUS;
+				}
+			};
+			job.setSystem(true);
+			job.schedule();
+		}
+		super.update(updates);
+	}
+
+	/**
+	 * Computes the details of the values of the updated variables whose labels show details,
+	 * until all the updates are canceled.
+	 *
+	 * @param updates label updates
+	 * @param monitor progress monitor of the job computing the details
+	 */
+	private void computeDetails(ILabelUpdate[] updates, IProgressMonitor monitor) {
+		List<IJavaValue> values = new ArrayList<>();
+		IDebugTarget target = null;
+		for (ILabelUpdate update : updates) {
+			Object element = update.getElement();
+			if (!update.isCanceled() && element instanceof IJavaVariable) {
+				try {
+					IValue value = ((IJavaVariable) element).getValue();
+					if (value instanceof IJavaValue && (target == null || target.equals(value.getDebugTarget()))
+							&& fLabelProvider.isShowLabelDetails((IJavaValue) value)) {
+						target = value.getDebugTarget();
+						values.add((IJavaValue) value);
+					}
+				} catch (DebugException e) {
+				}
+			}
+		}
+		if (values.size() > 1) {
+			fLabelProvider.computeDetails(values.toArray(new IJavaValue[values.size()]), new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					if (monitor.isCanceled()) {
+						return true;
+					}
+					for (ILabelUpdate update : updates) {
+						if (!update.isCanceled()) {
+							return false;
+						}
+					}
+					return true;
+				}
+			});
+		}
+	}
+
 	/**
 	 * Sets the serialization mode for label jobs based on the current preference setting.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -24,6 +23,7 @@ import java.util.List;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.ArrayReference;
@@ -133,7 +133,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 
 			/*
 			 * NOTE: The JDWP documentation is not clear on this: it turns out
@@ -190,7 +190,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 	 * @throws IOException if the reading fails
 	 * @returns Returns sequence of object reference values.
 	 */
-	private List<Value> readObjectSequence(int length, DataInputStream in)
+	private List<Value> readObjectSequence(int length, JdwpPacketReader in)
 			throws IOException {
 		List<Value> elements = new ArrayList<>(length);
 		for (int i = 0; i < length; i++) {
@@ -212,7 +212,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 	 * @throws IOException
 	 *             if reading from the stream encounters a problem
 	 */
-	private List<Value> readPrimitiveSequence(int length, int type, DataInputStream in)
+	private List<Value> readPrimitiveSequence(int length, int type, JdwpPacketReader in)
 			throws IOException {
 		List<Value> elements = new ArrayList<>(length);
 		for (int i = 0; i < length; i++) {
@@ -233,7 +233,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 				JdwpReplyPacket replyPacket = requestVM(
 						JdwpCommandPacket.AR_LENGTH, this);
 				defaultReplyErrorHandler(replyPacket.errorCode());
-				DataInputStream replyData = replyPacket.dataInStream();
+				JdwpPacketReader replyData = dataReader(replyPacket);
 				fLength = readInt("length", replyData); //$NON-NLS-1$
 			} catch (IOException e) {
 				defaultIOExceptionHandler(e);
@@ -443,7 +443,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 	 * @throws IOException
 	 *             if there is a problem reading from the stream
 	 */
-	public static ArrayReferenceImpl read(MirrorImpl target, DataInputStream in)
+	public static ArrayReferenceImpl read(MirrorImpl target, JdwpPacketReader in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpObjectID ID = new JdwpObjectID(vmImpl);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.Collections;
@@ -26,6 +25,7 @@ import org.eclipse.jdi.internal.jdwp.JdwpArrayID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.AbsentInformationException;
@@ -141,7 +141,7 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 					JdwpCommandPacket.AT_NEW_INSTANCE, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			ArrayReferenceImpl arrayRef = (ArrayReferenceImpl) ObjectReferenceImpl
 					.readObjectRefWithTag(this, replyData);
 			return arrayRef;
@@ -170,7 +170,7 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 	 * @return Reads JDWP representation and returns new instance.
 	 * @throws IOException if the reading fails
 	 */
-	public static ArrayTypeImpl read(MirrorImpl target, DataInputStream in)
+	public static ArrayTypeImpl read(MirrorImpl target, JdwpPacketReader in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpArrayID ID = new JdwpArrayID(vmImpl);
@@ -253,7 +253,7 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 	 * @throws IOException if the read fails
 	 */
 	public static ArrayTypeImpl readWithSignature(MirrorImpl target,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, JdwpPacketReader in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpArrayID ID = new JdwpArrayID(vmImpl);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -22,6 +21,7 @@ import java.util.List;
 import org.eclipse.jdi.internal.jdwp.JdwpClassLoaderID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.ClassLoaderReference;
@@ -88,7 +88,7 @@ public class ClassLoaderReferenceImpl extends ObjectReferenceImpl implements Cla
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.CLR_VISIBLE_CLASSES, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<ReferenceType> elements = new ArrayList<>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
@@ -110,7 +110,7 @@ public class ClassLoaderReferenceImpl extends ObjectReferenceImpl implements Cla
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ClassLoaderReferenceImpl read(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpPacketReader in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpClassLoaderID ID = new JdwpClassLoaderID(vmImpl);
 		ID.read(in);
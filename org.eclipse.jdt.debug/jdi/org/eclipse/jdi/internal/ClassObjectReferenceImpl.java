@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,12 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.jdwp.JdwpClassObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.ClassObjectReference;
@@ -60,7 +60,7 @@ public class ClassObjectReferenceImpl extends ObjectReferenceImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.COR_REFLECTED_TYPE, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			return ReferenceTypeImpl.readWithTypeTag(this, replyData);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -74,7 +74,7 @@ public class ClassObjectReferenceImpl extends ObjectReferenceImpl implements
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ClassObjectReferenceImpl read(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpPacketReader in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpClassObjectID ID = new JdwpClassObjectID(vmImpl);
 		ID.read(in);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -26,6 +25,7 @@ import org.eclipse.jdi.internal.jdwp.JdwpClassID;
 import org.eclipse.jdi.internal.jdwp.JdwpClassObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.ClassNotLoadedException;
@@ -212,7 +212,7 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 				throw new IncompatibleThreadStateException();
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			ObjectReferenceImpl object = ObjectReferenceImpl
 					.readObjectRefWithTag(this, replyData);
 			ObjectReferenceImpl exception = ObjectReferenceImpl
@@ -309,7 +309,7 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.CT_SUPERCLASS, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			fSuperclass = ClassTypeImpl.read(this, replyData);
 			return fSuperclass;
 		} catch (IOException e) {
@@ -324,7 +324,7 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 	 * @return Reads ID and returns known ReferenceTypeImpl with that ID, or if
 	 * ID is unknown a newly created ReferenceTypeImpl.
 	 */
-	public static ClassTypeImpl read(MirrorImpl target, DataInputStream in)
+	public static ClassTypeImpl read(MirrorImpl target, JdwpPacketReader in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpClassID ID = new JdwpClassID(vmImpl);
@@ -348,7 +348,7 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 	 * ID is unknown a newly created ReferenceTypeImpl.
 	 */
 	public static ClassTypeImpl readWithSignature(MirrorImpl target,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, JdwpPacketReader in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpClassID ID = new JdwpClassID(vmImpl);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.jdwp.JdwpFieldID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.Field;
@@ -169,7 +169,7 @@ public class FieldImpl extends TypeComponentImpl implements Field {
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static FieldImpl readWithReferenceTypeWithTag(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpPacketReader in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		// See Events FIELD_ACCESS and FIELD_MODIFICATION (refTypeTag + typeID +
 		// fieldID).
@@ -197,7 +197,7 @@ public class FieldImpl extends TypeComponentImpl implements Field {
 	 */
 	public static FieldImpl readWithNameSignatureModifiers(
 			ReferenceTypeImpl target, ReferenceTypeImpl referenceType,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, JdwpPacketReader in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpFieldID ID = new JdwpFieldID(vmImpl);
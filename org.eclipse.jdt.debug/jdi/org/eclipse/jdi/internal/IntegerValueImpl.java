@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 
 import com.sun.jdi.IntegerValue;
 import com.sun.jdi.Type;
@@ -73,7 +73,7 @@ public class IntegerValueImpl extends PrimitiveValueImpl implements IntegerValue
 	/**
 	 * @return Reads and returns new instance.
 	 */
-	public static IntegerValueImpl read(MirrorImpl target, DataInputStream in)
+	public static IntegerValueImpl read(MirrorImpl target, JdwpPacketReader in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		int value = target.readInt("integerValue", in); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
+
 import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.AbsentInformationException;
@@ -173,7 +174,7 @@ public class LocationImpl extends MirrorImpl implements Location {
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static LocationImpl read(MirrorImpl target, DataInputStream in)
+	public static LocationImpl read(MirrorImpl target, JdwpPacketReader in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		// Notice that Locations are not stored or cached because they don't
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,17 +14,18 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdi.Bootstrap;
 import org.eclipse.jdi.TimeoutException;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpString;
 import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
@@ -197,23 +198,51 @@ public class MirrorImpl implements Mirror {
 	 * @return Returns reply data.
 	 */
 	public JdwpReplyPacket requestVM(int command, byte[] outData) {
+		long sent = System.nanoTime();
+		JdwpCommandPacket commandPacket = sendVM(command, outData);
+		return receiveVM(commandPacket, sent);
+	}
+
+	/**
+	 * Sends a VM request without waiting for its reply. Several requests can be
+	 * sent before waiting for their replies with
+	 * {@link #receiveVM(JdwpCommandPacket, long)}, so the VM processes them
+	 * while earlier replies are being read.
+	 *
+	 * @return Returns the sent command packet.
+	 */
+	public JdwpCommandPacket sendVM(int command, byte[] outData) {
 		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
 		commandPacket.setData(outData);
-		long sent = System.currentTimeMillis();
 		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
 		fPendingJdwpRequest = true;
 		writeVerboseCommandPacketHeader(commandPacket);
+		return commandPacket;
+	}
 
+	/**
+	 * Waits for the reply to a request sent with {@link #sendVM(int, byte[])}.
+	 *
+	 * @param commandPacket
+	 *            the sent command packet
+	 * @param sent
+	 *            the time the request was sent, as returned by
+	 *            {@link System#nanoTime()}, used for the latency of the
+	 *            request
+	 * @return Returns reply data.
+	 */
+	public JdwpReplyPacket receiveVM(JdwpCommandPacket commandPacket, long sent) {
 		JdwpReplyPacket reply = fVirtualMachineImpl.packetReceiveManager()
 				.getReply(commandPacket);
-		long recieved = System.currentTimeMillis();
+		long latency = System.nanoTime() - sent;
+		fVirtualMachineImpl.jdwpMetrics().commandCompleted(commandPacket.getCommand(), commandPacket.getLength(), reply.getLength(), latency);
 		if (JDIDebugOptions.DEBUG_JDI_REQUEST_TIMES) {
 			StringBuilder buf = new StringBuilder();
-			buf.append(JDIDebugOptions.FORMAT.format(Instant.ofEpochMilli(sent)));
+			buf.append(JDIDebugOptions.FORMAT.format(Instant.now().minusNanos(latency)));
 			buf.append(" JDI Request: "); //$NON-NLS-1$
 			buf.append(commandPacket.toString());
 			buf.append("\n\tResponse Time: "); //$NON-NLS-1$
-			buf.append(recieved - sent);
+			buf.append(TimeUnit.NANOSECONDS.toMillis(latency));
 			buf.append("ms"); //$NON-NLS-1$
 			buf.append(" length: "); //$NON-NLS-1$
 			buf.append(reply.getLength());
@@ -362,186 +391,144 @@ public class MirrorImpl implements Mirror {
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * @return Returns a reader of the data of the given packet, that outputs
+	 *         verbose info if verbose is on.
+	 */
+	public JdwpPacketReader dataReader(JdwpPacket packet) {
+		if (fVerboseWriter != null) {
+			return new VerbosePacketReader(packet.data(), fVerboseWriter);
+		}
+		return packet.dataReader();
+	}
+
+	/**
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public byte readByte(String description, DataInputStream in)
+	public byte readByte(String description, JdwpPacketReader in)
 			throws IOException {
-		byte result = in.readByte();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result);
-		}
-		return result;
+		return in.readByte(description);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public short readShort(String description, DataInputStream in)
+	public short readShort(String description, JdwpPacketReader in)
 			throws IOException {
-		short result = in.readShort();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result);
-		}
-		return result;
+		return in.readShort(description);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public int readInt(String description, DataInputStream in)
+	public int readInt(String description, JdwpPacketReader in)
 			throws IOException {
-		int result = in.readInt();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result);
-		}
-		return result;
+		return in.readInt(description);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public long readLong(String description, DataInputStream in)
+	public long readLong(String description, JdwpPacketReader in)
 			throws IOException {
-		long result = in.readLong();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result);
-		}
-		return result;
+		return in.readLong(description);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public byte readByte(String description, Map<Integer, String> valueToString,
-			DataInputStream in) throws IOException {
-		byte result = in.readByte();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result, valueToString);
-		}
-		return result;
+	public byte readByte(String description, Map<Integer, String> valueToString, JdwpPacketReader in)
+			throws IOException {
+		return in.readByte(description, valueToString);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public short readShort(String description, Map<Integer, String> valueToString,
-			DataInputStream in) throws IOException {
-		short result = in.readShort();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result, valueToString);
-		}
-		return result;
+	public short readShort(String description, Map<Integer, String> valueToString, JdwpPacketReader in)
+			throws IOException {
+		return in.readShort(description, valueToString);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public int readInt(String description, Map<Integer, String> valueToString, DataInputStream in)
+	public int readInt(String description, Map<Integer, String> valueToString, JdwpPacketReader in)
 			throws IOException {
-		int result = in.readInt();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result, valueToString);
-		}
-		return result;
+		return in.readInt(description, valueToString);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public String readString(String description, DataInputStream in)
+	public String readString(String description, JdwpPacketReader in)
 			throws IOException {
-		String result = JdwpString.read(in);
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result);
-		}
-		return result;
+		return in.readString(description);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public boolean readBoolean(String description, DataInputStream in)
+	public boolean readBoolean(String description, JdwpPacketReader in)
 			throws IOException {
-		boolean result = in.readBoolean();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result);
-		}
-		return result;
+		return in.readBoolean(description);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public char readChar(String description, DataInputStream in)
+	public char readChar(String description, JdwpPacketReader in)
 			throws IOException {
-		char result = in.readChar();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result);
-		}
-		return result;
+		return in.readChar(description);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public double readDouble(String description, DataInputStream in)
+	public double readDouble(String description, JdwpPacketReader in)
 			throws IOException {
-		double result = in.readDouble();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result);
-		}
-		return result;
+		return in.readDouble(description);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public float readFloat(String description, DataInputStream in)
+	public float readFloat(String description, JdwpPacketReader in)
 			throws IOException {
-		float result = in.readFloat();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result);
-		}
-		return result;
+		return in.readFloat(description);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public byte[] readByteArray(int length, String description,
-			DataInputStream in) throws IOException {
-		byte[] result = new byte[length];
-		in.readFully(result);
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result);
-		}
-		return result;
+	public byte[] readByteArray(int length, String description, JdwpPacketReader in)
+			throws IOException {
+		return in.readByteArray(length, description);
 	}
 
 	/**
@@ -699,45 +686,33 @@ public class MirrorImpl implements Mirror {
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public byte readByte(String description, String[] bitNames,
-			DataInputStream in) throws IOException {
-		byte result = in.readByte();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result, bitNames);
-		}
-		return result;
+	public byte readByte(String description, String[] bitNames, JdwpPacketReader in)
+			throws IOException {
+		return in.readByte(description, bitNames);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public short readShort(String description, String[] bitNames,
-			DataInputStream in) throws IOException {
-		short result = in.readShort();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result, bitNames);
-		}
-		return result;
+	public short readShort(String description, String[] bitNames, JdwpPacketReader in)
+			throws IOException {
+		return in.readShort(description, bitNames);
 	}
 
 	/**
-	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 * Reads Jdwp data, the reader outputs verbose info if verbose is on.
 	 *
 	 * @return Returns value that has been read.
 	 */
-	public int readInt(String description, String[] bitNames, DataInputStream in)
+	public int readInt(String description, String[] bitNames, JdwpPacketReader in)
 			throws IOException {
-		int result = in.readInt();
-		if (fVerboseWriter != null) {
-			fVerboseWriter.println(description, result, bitNames);
-		}
-		return result;
+		return in.readInt(description, bitNames);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -26,6 +25,7 @@ import java.util.Map;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.ArrayType;
@@ -122,6 +122,56 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		}
 	}
 
+	/**
+	 * Enables or disables garbage collection for each of the given objects.
+	 * All requests are sent before the first reply is read, so the VM
+	 * processes them while earlier replies are being read, instead of one
+	 * round trip per object. Objects that have already been collected are
+	 * skipped.
+	 *
+	 * @param objects
+	 *            the objects to enable or disable garbage collection for
+	 * @param enabled
+	 *            whether garbage collection is enabled
+	 */
+	public static void setCollectionEnabled(List<ObjectReferenceImpl> objects, boolean enabled) {
+		int size = objects.size();
+		int command = enabled ? JdwpCommandPacket.OR_ENABLE_COLLECTION : JdwpCommandPacket.OR_DISABLE_COLLECTION;
+		JdwpCommandPacket[] packets = new JdwpCommandPacket[size];
+		long sent = System.nanoTime();
+		int initialized = 0;
+		try {
+			for (int i = 0; i < size; i++) {
+				ObjectReferenceImpl object = objects.get(i);
+				object.initJdwpRequest();
+				initialized++;
+				ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+				try {
+					object.write(object, new DataOutputStream(outBytes));
+				} catch (IOException e) {
+					object.defaultIOExceptionHandler(e);
+				}
+				packets[i] = object.sendVM(command, outBytes.toByteArray());
+			}
+			// read all replies first, so none is left behind on error
+			int error = JdwpReplyPacket.NONE;
+			for (int i = 0; i < size; i++) {
+				int errorCode = objects.get(i).receiveVM(packets[i], sent).errorCode();
+				if (error == JdwpReplyPacket.NONE && errorCode != JdwpReplyPacket.INVALID_OBJECT) {
+					error = errorCode;
+				}
+			}
+			if (size > 0) {
+				objects.get(0).defaultReplyErrorHandler(error);
+			}
+		} finally {
+			// balance every initJdwpRequest, also when a request fails
+			for (int i = 0; i < initialized; i++) {
+				objects.get(i).handledJdwpRequest();
+			}
+		}
+	}
+
 	/**
 	 * Inner class used to return monitor info.
 	 */
@@ -152,7 +202,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			MonitorInfo result = new MonitorInfo();
 			result.owner = ThreadReferenceImpl.read(this, replyData);
 			result.entryCount = readInt("entry count", replyData); //$NON-NLS-1$
@@ -248,16 +298,12 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int elements = readInt("elements", replyData); //$NON-NLS-1$
 			if (max > 0 && elements > max) {
 				elements = max;
 			}
-			ArrayList<ObjectReference> list = new ArrayList<>();
-			for (int i = 0; i < elements; i++) {
-				list.add((ObjectReference)ValueImpl.readWithTag(this, replyData));
-			}
-			return list;
+			return ObjectReferenceList.read(this, replyPacket.data(), replyData, elements);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -326,7 +372,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 					JdwpCommandPacket.OR_GET_VALUES, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			if (nrOfElements != nonStaticFieldsSize)
 				throw new InternalError(
@@ -453,7 +499,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 				throw new IncompatibleThreadStateException();
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			ValueImpl value = ValueImpl.readWithTag(this, replyData);
 			ObjectReferenceImpl exception = ObjectReferenceImpl
 					.readObjectRefWithTag(this, replyData);
@@ -505,7 +551,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 				defaultReplyErrorHandler(replyPacket.errorCode());
 				break;
 			}
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			boolean result = readBoolean("is collected", replyData); //$NON-NLS-1$
 			return result;
 		} catch (IOException e) {
@@ -529,7 +575,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.OR_REFERENCE_TYPE, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			fReferenceType = ReferenceTypeImpl.readWithTypeTag(this, replyData);
 			return fReferenceType;
 		} catch (IOException e) {
@@ -625,7 +671,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ObjectReferenceImpl readObjectRefWithoutTag(
-			MirrorImpl target, DataInputStream in) throws IOException {
+			MirrorImpl target, JdwpPacketReader in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpObjectID ID = new JdwpObjectID(vmImpl);
 		ID.read(in);
@@ -643,7 +689,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ObjectReferenceImpl readObjectRefWithTag(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpPacketReader in) throws IOException {
 		byte objectTag = target.readByte("object tag", JdwpID.tagMap(), in); //$NON-NLS-1$
 		switch (objectTag) {
 		case 0:
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
+
+import com.sun.jdi.ObjectReference;
+
+/**
+ * Unmodifiable list of the tagged object IDs of a JDWP reply, such as the reply
+ * to <code>ReferenceType.Instances</code> or
+ * <code>ObjectReference.ReferringObjects</code>. All the entries of these
+ * replies have the same size, so that an element is decoded from the data of
+ * the reply only when it is first accessed.
+ */
+public class ObjectReferenceList extends AbstractList<ObjectReference> implements RandomAccess {
+
+	/** Mirror the elements are read for. */
+	private final MirrorImpl fMirror;
+	/** Data of the reply. */
+	private final byte[] fData;
+	/** Offset of the first entry in the data. */
+	private final int fOffset;
+	/** Size of an entry: a tag followed by an object ID. */
+	private final int fEntrySize;
+	/** Elements decoded so far, <code>null</code> for the others. */
+	private final ObjectReference[] fElements;
+
+	private ObjectReferenceList(MirrorImpl mirror, byte[] data, int offset, int size) {
+		fMirror = mirror;
+		fData = data;
+		fOffset = offset;
+		fEntrySize = 1 + mirror.virtualMachineImpl().objectIDSize();
+		fElements = new ObjectReference[size];
+	}
+
+	/**
+	 * Reads the given number of tagged object IDs from the given reader.
+	 * Entries are decoded on access, unless verbose tracing is on: the entries
+	 * are then read at once so that they are traced with the reply.
+	 *
+	 * @param mirror
+	 *            mirror the elements are read for
+	 * @param data
+	 *            data of the reply
+	 * @param in
+	 *            reader of the data, positioned at the first entry
+	 * @param size
+	 *            number of entries to read
+	 * @return the object references of the entries
+	 * @throws IOException
+	 *             if the reply has fewer entries than requested
+	 */
+	public static ObjectReferenceList read(MirrorImpl mirror, byte[] data, JdwpPacketReader in, int size) throws IOException {
+		ObjectReferenceList list = new ObjectReferenceList(mirror, data, data.length - in.available(), size);
+		if (mirror.fVerboseWriter != null || in.available() < (long) size * list.fEntrySize) {
+			for (int i = 0; i < size; i++) {
+				list.fElements[i] = (ObjectReference) ValueImpl.readWithTag(mirror, in);
+			}
+		}
+		return list;
+	}
+
+	@Override
+	public synchronized ObjectReference get(int index) {
+		ObjectReference element = fElements[index];
+		if (element == null) {
+			JdwpPacketReader in = new JdwpPacketReader(fData);
+			try {
+				in.skipBytes(fOffset + index * fEntrySize);
+				element = (ObjectReference) ValueImpl.readWithTag(fMirror, in);
+			} catch (IOException e) {
+				fMirror.defaultIOExceptionHandler(e);
+				return null;
+			}
+			fElements[index] = element;
+		}
+		return element;
+	}
+
+	@Override
+	public int size() {
+		return fElements.length;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
+
 import com.sun.jdi.InternalException;
 import com.sun.jdi.PrimitiveType;
 import com.sun.jdi.PrimitiveValue;
@@ -181,7 +182,7 @@ public abstract class PrimitiveValueImpl extends ValueImpl implements PrimitiveV
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static PrimitiveValueImpl readWithoutTag(MirrorImpl target,
-			PrimitiveType type, DataInputStream in) throws IOException {
+			PrimitiveType type, JdwpPacketReader in) throws IOException {
 		switch (((PrimitiveTypeImpl) type).tag()) {
 		case 0:
 			return null;
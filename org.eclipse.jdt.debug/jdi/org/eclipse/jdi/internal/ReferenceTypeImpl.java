@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
@@ -34,6 +33,7 @@ import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpFieldID;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpMethodID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReferenceTypeID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.osgi.util.NLS;
@@ -530,7 +530,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_MODIFIERS, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			fModifierBits = readInt(
 					"modifiers", AccessibleImpl.getModifierStrings(), replyData); //$NON-NLS-1$
 			return fModifierBits;
@@ -671,7 +671,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			default:
 				defaultReplyErrorHandler(replyPacket.errorCode());
 			}
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			List<InterfaceType> elements = new ArrayList<>();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			for (int i = 0; i < nrOfElements; i++) {
@@ -810,7 +810,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_CLASS_LOADER, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			fClassLoader = ClassLoaderReferenceImpl.read(this, replyData);
 			return fClassLoader;
 		} catch (IOException e) {
@@ -836,7 +836,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_CLASS_OBJECT, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			fClassObject = ClassObjectReferenceImpl.read(this, replyData);
 			return fClassObject;
 		} catch (IOException e) {
@@ -857,7 +857,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_STATUS, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int status = readInt("status", classStatusStrings(), replyData); //$NON-NLS-1$
 			return status;
 		} catch (IOException e) {
@@ -935,7 +935,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					: JdwpCommandPacket.RT_FIELDS;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			List<Field> elements = new ArrayList<>();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			for (int i = 0; i < nrOfElements; i++) {
@@ -1031,7 +1031,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					JdwpCommandPacket.RT_GET_VALUES, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			HashMap<Field, Value> map = new HashMap<>();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			if (nrOfElements != fieldsSize) {
@@ -1142,7 +1142,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					: JdwpCommandPacket.RT_METHODS;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			List<Method> elements = new ArrayList<>();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			for (int i = 0; i < nrOfElements; i++) {
@@ -1222,7 +1222,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_SIGNATURE, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			setSignature(readString("signature", replyData)); //$NON-NLS-1$
 			return fSignature;
 		} catch (IOException e) {
@@ -1289,7 +1289,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.HCR_GET_CLASS_VERSION, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			fIsHCREligible = readBoolean("HCR eligible", replyData); //$NON-NLS-1$
 			fIsVersionKnown = readBoolean("version known", replyData); //$NON-NLS-1$
 			fClassFileVersion = readInt("class file version", replyData); //$NON-NLS-1$
@@ -1362,7 +1362,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 * @return Reads JDWP representation and returns new or cached instance.
 	 */
 	public static ReferenceTypeImpl readWithTypeTag(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpPacketReader in) throws IOException {
 		byte typeTag = target.readByte("type tag", JdwpID.typeTagMap(), in); //$NON-NLS-1$
 		switch (typeTag) {
 		case 0:
@@ -1391,7 +1391,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 * @return Reads JDWP representation and returns new or cached instance.
 	 */
 	public static ReferenceTypeImpl readWithTypeTagAndSignature(
-			MirrorImpl target, boolean withGenericSignature, DataInputStream in)
+			MirrorImpl target, boolean withGenericSignature, JdwpPacketReader in)
 			throws IOException {
 		byte typeTag = target.readByte("type tag", JdwpID.typeTagMap(), in); //$NON-NLS-1$
 		switch (typeTag) {
@@ -1749,7 +1749,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 						JDIMessages.ReferenceTypeImpl_31);
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			fSmap = readString(JDIMessages.ReferenceTypeImpl_32, replyData);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -1790,7 +1790,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			fSourceName = readString("source name", replyData); //$NON-NLS-1$
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -2126,7 +2126,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 				JdwpReplyPacket replyPacket = requestVM(
 						JdwpCommandPacket.RT_SIGNATURE_WITH_GENERIC, this);
 				defaultReplyErrorHandler(replyPacket.errorCode());
-				DataInputStream replyData = replyPacket.dataInStream();
+				JdwpPacketReader replyData = dataReader(replyPacket);
 				setSignature(readString("signature", replyData)); //$NON-NLS-1$
 				fGenericSignature = readString("generic signature", replyData); //$NON-NLS-1$
 				if (fGenericSignature.length() == 0) {
@@ -2202,16 +2202,12 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int elements = readInt("element count", replyData); //$NON-NLS-1$
 			if (max > 0 && elements > max) {
 				elements = max;
 			}
-			ArrayList<ObjectReference> list = new ArrayList<>();
-			for (int i = 0; i < elements; i++) {
-				list.add((ObjectReference) ValueImpl.readWithTag(this, replyData));
-			}
-			return list;
+			return ObjectReferenceList.read(this, replyPacket.data(), replyData, elements);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -2248,7 +2244,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			return readInt("major version", replyData); //$NON-NLS-1$
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -2286,7 +2282,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			readInt("major version", replyData); //$NON-NLS-1$
 			return readInt("minor version", replyData); //$NON-NLS-1$
 		} catch (IOException e) {
@@ -2325,7 +2321,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			return readInt("pool count", replyData); //$NON-NLS-1$
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -2363,7 +2359,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			readInt("pool count", replyData); //$NON-NLS-1$
 			int bytes = readInt("byte count", replyData); //$NON-NLS-1$
 			byte[] array = new byte[bytes];
@@ -2471,7 +2467,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			}
 
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			ValueImpl value = ValueImpl.readWithTag(this, replyData);
 			ObjectReferenceImpl exception = ObjectReferenceImpl
 					.readObjectRefWithTag(this, replyData);
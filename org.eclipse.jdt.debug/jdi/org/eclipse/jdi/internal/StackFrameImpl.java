@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -26,6 +25,7 @@ import java.util.Map;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpFrameID;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 
@@ -141,7 +141,7 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 					JdwpCommandPacket.SF_GET_VALUES, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			if (nrOfElements != sizeNotThis)
 				throw new InternalError(
@@ -253,7 +253,7 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 					JdwpCommandPacket.SF_THIS_OBJECT, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			ObjectReference result = ObjectReferenceImpl.readObjectRefWithTag(
 					this, replyData);
 			return result;
@@ -352,7 +352,7 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static StackFrameImpl readWithLocation(MirrorImpl target,
-			ThreadReferenceImpl thread, DataInputStream in) throws IOException {
+			ThreadReferenceImpl thread, JdwpPacketReader in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpFrameID ID = new JdwpFrameID(vmImpl);
 		ID.read(in);
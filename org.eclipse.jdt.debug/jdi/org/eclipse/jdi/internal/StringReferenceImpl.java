@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpStringID;
 
@@ -61,7 +61,7 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 					this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			String result = readString("value", replyData); //$NON-NLS-1$
 			return result;
 		} catch (IOException e) {
@@ -75,7 +75,7 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static StringReferenceImpl read(MirrorImpl target, DataInputStream in)
+	public static StringReferenceImpl read(MirrorImpl target, JdwpPacketReader in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpStringID ID = new JdwpStringID(vmImpl);
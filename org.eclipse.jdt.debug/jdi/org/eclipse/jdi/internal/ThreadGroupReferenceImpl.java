@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -21,6 +20,7 @@ import java.util.List;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpThreadGroupID;
 
@@ -78,7 +78,7 @@ public class ThreadGroupReferenceImpl extends ObjectReferenceImpl implements
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.TGR_NAME,
 					this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			fName = readString("name", replyData); //$NON-NLS-1$
 			return fName;
 		} catch (IOException e) {
@@ -102,7 +102,7 @@ public class ThreadGroupReferenceImpl extends ObjectReferenceImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.TGR_PARENT, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			fParent = ThreadGroupReferenceImpl.read(this, replyData);
 			return fParent;
 		} catch (IOException e) {
@@ -156,7 +156,7 @@ public class ThreadGroupReferenceImpl extends ObjectReferenceImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.TGR_CHILDREN, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			ChildrenInfo result = new ChildrenInfo();
 			int nrThreads = readInt("nr threads", replyData); //$NON-NLS-1$
 			result.childThreads = new ArrayList<>(nrThreads);
@@ -224,7 +224,7 @@ public class ThreadGroupReferenceImpl extends ObjectReferenceImpl implements
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ThreadGroupReferenceImpl read(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpPacketReader in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpThreadGroupID ID = new JdwpThreadGroupID(vmImpl);
 		ID.read(in);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -28,6 +27,7 @@ import java.util.Map;
 import org.eclipse.jdi.OpaqueFrameException;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpThreadID;
 import org.eclipse.osgi.util.NLS;
@@ -72,6 +72,9 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	/** JDWP Tag. */
 	protected static final byte tag = JdwpID.THREAD_TAG;
 
+	/** Number of requests sent per thread by {@link #snapshot(List)}. */
+	private static final int SNAPSHOT_REQUESTS = 5;
+
 	/** Is thread currently at a breakpoint? */
 	private boolean fIsAtBreakpoint = false;
 
@@ -137,7 +140,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			ObjectReference result = ObjectReferenceImpl.readObjectRefWithTag(
 					this, replyData);
 			return result;
@@ -237,7 +240,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int result = readInt("frame count", replyData); //$NON-NLS-1$
 			return result;
 		} catch (IOException e) {
@@ -285,7 +288,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<StackFrame> frames = new ArrayList<>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
@@ -342,7 +345,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 				throw new ObjectCollectedException();
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			// remove the thread status reply
 			readInt("thread status", threadStatusMap(), replyData); //$NON-NLS-1$
 			int suspendStatus = readInt(
@@ -379,7 +382,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 						throw new ObjectCollectedException();
 				}
 				defaultReplyErrorHandler(replyPacket.errorCode());
-				DataInputStream replyData = replyPacket.dataInStream();
+				JdwpPacketReader replyData = dataReader(replyPacket);
 				result = readBoolean("isVirtual", replyData); //$NON-NLS-1$
 			} catch (IOException e) {
 				defaultIOExceptionHandler(e);
@@ -408,7 +411,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 				throw new ObjectCollectedException();
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			return readString("name", replyData); //$NON-NLS-1$
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -439,7 +442,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 						JDIMessages.ThreadReferenceImpl_Thread_was_not_suspended_5);
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 
 			int nrOfMonitors = readInt("nr of monitors", replyData); //$NON-NLS-1$
 			List<ObjectReference> result = new ArrayList<>(nrOfMonitors);
@@ -481,7 +484,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 				throw new VMDisconnectedException(JDIMessages.vm_dead);
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 
 			int owned = readInt("owned monitors", replyData); //$NON-NLS-1$
 			List<com.sun.jdi.MonitorInfo> result = new ArrayList<>(owned);
@@ -541,27 +544,11 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 				return THREAD_STATUS_NOT_STARTED;
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int threadStatus = readInt(
 					"thread status", threadStatusMap(), replyData); //$NON-NLS-1$
 			readInt("suspend status", suspendStatusStrings(), replyData); //$NON-NLS-1$
-			switch (threadStatus) {
-			case JDWP_THREAD_STATUS_ZOMBIE:
-				return THREAD_STATUS_ZOMBIE;
-			case JDWP_THREAD_STATUS_RUNNING:
-				return THREAD_STATUS_RUNNING;
-			case JDWP_THREAD_STATUS_SLEEPING:
-				return THREAD_STATUS_SLEEPING;
-			case JDWP_THREAD_STATUS_MONITOR:
-				return THREAD_STATUS_MONITOR;
-			case JDWP_THREAD_STATUS_WAIT:
-				return THREAD_STATUS_WAIT;
-			case -1: // see bug 30816
-				return THREAD_STATUS_UNKNOWN;
-			}
-			throw new InternalException(
-					JDIMessages.ThreadReferenceImpl_Unknown_thread_status_received___6
-							+ threadStatus);
+			return toThreadStatus(threadStatus);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return 0;
@@ -570,6 +557,133 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		}
 	}
 
+	/**
+	 * @return Returns the JDI thread status for the given JDWP thread status.
+	 */
+	private static int toThreadStatus(int threadStatus) {
+		switch (threadStatus) {
+		case JDWP_THREAD_STATUS_ZOMBIE:
+			return THREAD_STATUS_ZOMBIE;
+		case JDWP_THREAD_STATUS_RUNNING:
+			return THREAD_STATUS_RUNNING;
+		case JDWP_THREAD_STATUS_SLEEPING:
+			return THREAD_STATUS_SLEEPING;
+		case JDWP_THREAD_STATUS_MONITOR:
+			return THREAD_STATUS_MONITOR;
+		case JDWP_THREAD_STATUS_WAIT:
+			return THREAD_STATUS_WAIT;
+		case -1: // see bug 30816
+			return THREAD_STATUS_UNKNOWN;
+		}
+		throw new InternalException(
+				JDIMessages.ThreadReferenceImpl_Unknown_thread_status_received___6
+						+ threadStatus);
+	}
+
+	/**
+	 * Retrieves the status, suspend count, name, frame count and top frame of
+	 * each of the given threads. All requests are sent before the first reply is read, so
+	 * the VM processes them while earlier replies are being decoded, instead of
+	 * one round trip per request.
+	 *
+	 * @param threads
+	 *            the threads to take a snapshot of
+	 * @return Returns a snapshot for each of the given threads, in the same
+	 *         order. The snapshot of a thread that has been garbage collected
+	 *         is <code>null</code>.
+	 */
+	public static ThreadSnapshot[] snapshot(List<ThreadReferenceImpl> threads) {
+		int size = threads.size();
+		ThreadSnapshot[] snapshots = new ThreadSnapshot[size];
+		JdwpCommandPacket[] packets = new JdwpCommandPacket[size * SNAPSHOT_REQUESTS];
+		long sent = System.nanoTime();
+		int initialized = 0;
+		try {
+			for (int i = 0; i < size; i++) {
+				ThreadReferenceImpl thread = threads.get(i);
+				thread.initJdwpRequest();
+				initialized++;
+				try {
+					ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+					DataOutputStream outData = new DataOutputStream(outBytes);
+					thread.write(thread, outData);
+					byte[] threadData = outBytes.toByteArray();
+					thread.writeInt(0, "start", outData); //$NON-NLS-1$
+					thread.writeInt(1, "length", outData); //$NON-NLS-1$
+					int offset = i * SNAPSHOT_REQUESTS;
+					packets[offset] = thread.sendVM(JdwpCommandPacket.TR_STATUS, threadData);
+					packets[offset + 1] = thread.sendVM(JdwpCommandPacket.TR_SUSPEND_COUNT, threadData);
+					packets[offset + 2] = thread.sendVM(JdwpCommandPacket.TR_NAME, threadData);
+					packets[offset + 3] = thread.sendVM(JdwpCommandPacket.TR_FRAME_COUNT, threadData);
+					packets[offset + 4] = thread.sendVM(JdwpCommandPacket.TR_FRAMES, outBytes.toByteArray());
+				} catch (IOException e) {
+					thread.defaultIOExceptionHandler(e);
+				}
+			}
+			for (int i = 0; i < size; i++) {
+				snapshots[i] = threads.get(i).readSnapshot(packets, i * SNAPSHOT_REQUESTS, sent);
+			}
+		} finally {
+			// balance every initJdwpRequest, also when a request fails
+			for (int i = 0; i < initialized; i++) {
+				threads.get(i).handledJdwpRequest();
+			}
+		}
+		return snapshots;
+	}
+
+	/**
+	 * @return Returns a snapshot read from the replies to the requests sent by
+	 *         {@link #snapshot(List)}, or <code>null</code> if this thread has
+	 *         been garbage collected.
+	 */
+	private ThreadSnapshot readSnapshot(JdwpCommandPacket[] packets, int offset, long sent) {
+		// read all replies first, so none is left behind on error
+		JdwpReplyPacket statusReply = receiveVM(packets[offset], sent);
+		JdwpReplyPacket suspendCountReply = receiveVM(packets[offset + 1], sent);
+		JdwpReplyPacket nameReply = receiveVM(packets[offset + 2], sent);
+		JdwpReplyPacket frameCountReply = receiveVM(packets[offset + 3], sent);
+		JdwpReplyPacket framesReply = receiveVM(packets[offset + 4], sent);
+		try {
+			switch (statusReply.errorCode()) {
+			case JdwpReplyPacket.INVALID_THREAD:
+				return null;
+			}
+			defaultReplyErrorHandler(statusReply.errorCode());
+			JdwpPacketReader replyData = dataReader(statusReply);
+			int threadStatus = readInt(
+					"thread status", threadStatusMap(), replyData); //$NON-NLS-1$
+			int suspendStatus = readInt(
+					"suspend status", suspendStatusStrings(), replyData); //$NON-NLS-1$
+			int suspendCount = -1;
+			if (suspendCountReply.errorCode() == JdwpReplyPacket.NONE) {
+				suspendCount = readInt("suspend count", dataReader(suspendCountReply)); //$NON-NLS-1$
+			}
+			String name = null;
+			if (nameReply.errorCode() == JdwpReplyPacket.NONE) {
+				name = readString("name", dataReader(nameReply)); //$NON-NLS-1$
+			}
+			// frames can only be retrieved from suspended threads
+			int frameCount = -1;
+			if (frameCountReply.errorCode() == JdwpReplyPacket.NONE) {
+				frameCount = readInt("frame count", dataReader(frameCountReply)); //$NON-NLS-1$
+			}
+			StackFrame topFrame = null;
+			if (framesReply.errorCode() == JdwpReplyPacket.NONE) {
+				replyData = dataReader(framesReply);
+				if (readInt("elements", replyData) > 0) { //$NON-NLS-1$
+					topFrame = StackFrameImpl.readWithLocation(this, this, replyData);
+				}
+			}
+			return new ThreadSnapshot(this, toThreadStatus(threadStatus),
+					suspendStatus == SUSPEND_STATUS_SUSPENDED, suspendCount, name,
+					frameCount, topFrame);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		}
+	}
+
 	/**
 	 * Stops this thread with an asynchronous exception.
 	 *
@@ -636,7 +750,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.TR_SUSPEND_COUNT, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int result = readInt("suspend count", replyData); //$NON-NLS-1$
 			return result;
 		} catch (IOException e) {
@@ -664,7 +778,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 				throw new ObjectCollectedException();
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			fThreadGroup = ThreadGroupReferenceImpl.read(this, replyData);
 			return fThreadGroup;
 		} catch (IOException e) {
@@ -723,7 +837,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			boolean result = readBoolean("is enclosed", replyData); //$NON-NLS-1$
 			return result;
 		} catch (IOException e) {
@@ -754,7 +868,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static ThreadReferenceImpl read(MirrorImpl target, DataInputStream in)
+	public static ThreadReferenceImpl read(MirrorImpl target, JdwpPacketReader in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpThreadID ID = new JdwpThreadID(vmImpl);
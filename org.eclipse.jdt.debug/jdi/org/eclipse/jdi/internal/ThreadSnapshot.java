@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import com.sun.jdi.StackFrame;
+import com.sun.jdi.ThreadReference;
+
+/**
+ * State of a thread retrieved in bulk with the state of other threads.
+ *
+ * @see ThreadReferenceImpl#snapshot(java.util.List)
+ */
+public class ThreadSnapshot {
+
+	private final ThreadReference fThread;
+	private final int fStatus;
+	private final boolean fSuspended;
+	private final int fSuspendCount;
+	private final String fName;
+	private final int fFrameCount;
+	private final StackFrame fTopFrame;
+
+	/**
+	 * Creates new ThreadSnapshot.
+	 */
+	public ThreadSnapshot(ThreadReference thread, int status, boolean suspended, int suspendCount, String name, int frameCount, StackFrame topFrame) {
+		fThread = thread;
+		fStatus = status;
+		fSuspended = suspended;
+		fSuspendCount = suspendCount;
+		fName = name;
+		fFrameCount = frameCount;
+		fTopFrame = topFrame;
+	}
+
+	/**
+	 * @return Returns the thread.
+	 */
+	public ThreadReference thread() {
+		return fThread;
+	}
+
+	/**
+	 * @return Returns the thread's status, one of the
+	 *         <code>ThreadReference.THREAD_STATUS_*</code> constants.
+	 */
+	public int status() {
+		return fStatus;
+	}
+
+	/**
+	 * @return Returns whether the thread was suspended.
+	 */
+	public boolean isSuspended() {
+		return fSuspended;
+	}
+
+	/**
+	 * @return Returns the number of pending suspends of the thread, or -1 if it
+	 *         could not be retrieved.
+	 */
+	public int suspendCount() {
+		return fSuspendCount;
+	}
+
+	/**
+	 * @return Returns the thread's name, or <code>null</code> if it could not
+	 *         be retrieved.
+	 */
+	public String name() {
+		return fName;
+	}
+
+	/**
+	 * @return Returns the number of frames on the thread's stack, or -1 if the
+	 *         thread was not suspended.
+	 */
+	public int frameCount() {
+		return fFrameCount;
+	}
+
+	/**
+	 * @return Returns the top frame of the thread's stack, or <code>null</code>
+	 *         if the thread was not suspended or has no frames.
+	 */
+	public StackFrame topFrame() {
+		return fTopFrame;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.text.MessageFormat;
@@ -23,6 +22,7 @@ import java.util.List;
 
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 
 import com.sun.jdi.ArrayType;
 import com.sun.jdi.ClassNotLoadedException;
@@ -63,7 +63,7 @@ public abstract class ValueImpl extends MirrorImpl implements Value {
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static ValueImpl readWithTag(MirrorImpl target, DataInputStream in)
+	public static ValueImpl readWithTag(MirrorImpl target, JdwpPacketReader in)
 			throws IOException {
 		byte tag = target.readByte("object tag", JdwpID.tagMap(), in); //$NON-NLS-1$
 		return readWithoutTag(target, tag, in);
@@ -73,7 +73,7 @@ public abstract class ValueImpl extends MirrorImpl implements Value {
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ValueImpl readWithoutTag(MirrorImpl target, int type,
-			DataInputStream in) throws IOException {
+			JdwpPacketReader in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		// See also ArrayReference Impl.
 		switch (type) {
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
+
+/**
+ * Reader of the data of a packet that outputs verbose info on the values that
+ * are read with a description.
+ */
+class VerbosePacketReader extends JdwpPacketReader {
+	/** VerboseWriter where verbose info is written to. */
+	private final VerboseWriter fVerboseWriter;
+
+	VerbosePacketReader(byte[] data, VerboseWriter verboseWriter) {
+		super(data);
+		fVerboseWriter = verboseWriter;
+	}
+
+	@Override
+	public byte readByte(String description) throws IOException {
+		byte result = readByte();
+		fVerboseWriter.println(description, result);
+		return result;
+	}
+
+	@Override
+	public byte readByte(String description, Map<Integer, String> valueToString) throws IOException {
+		byte result = readByte();
+		fVerboseWriter.println(description, result, valueToString);
+		return result;
+	}
+
+	@Override
+	public byte readByte(String description, String[] bitNames) throws IOException {
+		byte result = readByte();
+		fVerboseWriter.println(description, result, bitNames);
+		return result;
+	}
+
+	@Override
+	public short readShort(String description) throws IOException {
+		short result = readShort();
+		fVerboseWriter.println(description, result);
+		return result;
+	}
+
+	@Override
+	public short readShort(String description, Map<Integer, String> valueToString) throws IOException {
+		short result = readShort();
+		fVerboseWriter.println(description, result, valueToString);
+		return result;
+	}
+
+	@Override
+	public short readShort(String description, String[] bitNames) throws IOException {
+		short result = readShort();
+		fVerboseWriter.println(description, result, bitNames);
+		return result;
+	}
+
+	@Override
+	public int readInt(String description) throws IOException {
+		int result = readInt();
+		fVerboseWriter.println(description, result);
+		return result;
+	}
+
+	@Override
+	public int readInt(String description, Map<Integer, String> valueToString) throws IOException {
+		int result = readInt();
+		fVerboseWriter.println(description, result, valueToString);
+		return result;
+	}
+
+	@Override
+	public int readInt(String description, String[] bitNames) throws IOException {
+		int result = readInt();
+		fVerboseWriter.println(description, result, bitNames);
+		return result;
+	}
+
+	@Override
+	public long readLong(String description) throws IOException {
+		long result = readLong();
+		fVerboseWriter.println(description, result);
+		return result;
+	}
+
+	@Override
+	public boolean readBoolean(String description) throws IOException {
+		boolean result = readBoolean();
+		fVerboseWriter.println(description, result);
+		return result;
+	}
+
+	@Override
+	public char readChar(String description) throws IOException {
+		char result = readChar();
+		fVerboseWriter.println(description, result);
+		return result;
+	}
+
+	@Override
+	public float readFloat(String description) throws IOException {
+		float result = readFloat();
+		fVerboseWriter.println(description, result);
+		return result;
+	}
+
+	@Override
+	public double readDouble(String description) throws IOException {
+		double result = readDouble();
+		fVerboseWriter.println(description, result);
+		return result;
+	}
+
+	@Override
+	public String readString(String description) throws IOException {
+		String result = readString();
+		fVerboseWriter.println(description, result);
+		return result;
+	}
+
+	@Override
+	public byte[] readByteArray(int length, String description) throws IOException {
+		byte[] result = super.readByteArray(length, description);
+		fVerboseWriter.println(description, result);
+		return result;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -31,7 +30,9 @@ import org.eclipse.jdi.internal.connect.PacketReceiveManager;
 import org.eclipse.jdi.internal.connect.PacketSendManager;
 import org.eclipse.jdi.internal.event.EventQueueImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpMetrics;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReferenceTypeID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
@@ -161,6 +162,10 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	private String fDefaultStratum;
 	private PacketReceiveManager fPacketReceiveManager;
 	private PacketSendManager fPacketSendManager;
+	/**
+	 * Statistics of the JDWP traffic with this VM.
+	 */
+	private final JdwpMetrics fJdwpMetrics = new JdwpMetrics();
 
 	/**
 	 * Creates a new Virtual Machine.
@@ -334,6 +339,14 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		return fPacketReceiveManager;
 	}
 
+	/**
+	 * @return Returns the statistics of the JDWP traffic with the Virtual
+	 *         Machine.
+	 */
+	public final JdwpMetrics jdwpMetrics() {
+		return fJdwpMetrics;
+	}
+
 	/*
 	 * @return Returns Manager for sending packets to the Virtual Machine.
 	 */
@@ -377,7 +390,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 					: JdwpCommandPacket.VM_ALL_CLASSES;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<ReferenceType> elements = new ArrayList<>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
@@ -426,7 +439,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		try {
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.VM_ALL_THREADS);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<ThreadReference> elements = new ArrayList<>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
@@ -463,7 +476,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		try {
 			JdwpReplyPacket replyPacket = requestVM(command);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 
 			fCanWatchFieldModification = readBoolean(
 					"watch field modification", replyData); //$NON-NLS-1$
@@ -658,7 +671,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.VM_CLASSES_BY_SIGNATURE, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<ReferenceType> elements = new ArrayList<>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
@@ -829,7 +842,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 					JdwpCommandPacket.VM_CREATE_STRING, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			StringReference result = StringReferenceImpl.read(this, replyData);
 			return result;
 		} catch (IOException e) {
@@ -912,7 +925,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.VM_TOP_LEVEL_THREAD_GROUPS);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int nrGroups = readInt("nr of groups", replyData); //$NON-NLS-1$
 			ArrayList<ThreadGroupReference> result = new ArrayList<>(nrGroups);
 			for (int i = 0; i < nrGroups; i++) {
@@ -990,7 +1003,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			JdwpReplyPacket replyPacket = mirror
 					.requestVM(JdwpCommandPacket.VM_ID_SIZES);
 			mirror.defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 
 			fFieldIDSize = mirror.readInt("field ID size", replyData); //$NON-NLS-1$
 			fMethodIDSize = mirror.readInt("method ID size", replyData); //$NON-NLS-1$
@@ -1017,7 +1030,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		try {
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.VM_VERSION);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 
 			fVersionDescription = readString("version descr.", replyData); //$NON-NLS-1$
 			fJdwpMajorVersion = readInt("major version", replyData); //$NON-NLS-1$
@@ -1053,7 +1066,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			try {
 				JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.HCR_CAPABILITIES);
 				defaultReplyErrorHandler(replyPacket.errorCode());
-				DataInputStream replyData = replyPacket.dataInStream();
+				JdwpPacketReader replyData = dataReader(replyPacket);
 
 				fHcrCapabilities[HCR_CAN_RELOAD_CLASSES] = readBoolean(
 						"reload classes", replyData); //$NON-NLS-1$
@@ -1150,7 +1163,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.HCR_CLASSES_HAVE_CHANGED, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 
 			byte resultFlag = readByte("result", resultHCRMap(), replyData); //$NON-NLS-1$
 			switch (resultFlag) {
@@ -1483,7 +1496,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpPacketReader replyData = dataReader(replyPacket);
 			int counts = readInt("counts", replyData); //$NON-NLS-1$
 			if (counts != size) {
 				throw new InternalError(JDIMessages.VirtualMachineImpl_3);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -23,6 +24,7 @@ import java.util.List;
 
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.preferences.IPreferencesService;
+import org.eclipse.jdi.internal.connect.RecordingConnection;
 import org.eclipse.jdi.internal.connect.SocketAttachingConnectorImpl;
 import org.eclipse.jdi.internal.connect.SocketLaunchingConnectorImpl;
 import org.eclipse.jdi.internal.connect.SocketListeningConnectorImpl;
@@ -30,6 +32,7 @@ import org.eclipse.jdi.internal.connect.SocketRawLaunchingConnectorImpl;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.VirtualMachineManager;
@@ -240,7 +243,7 @@ public class VirtualMachineManagerImpl implements VirtualMachineManager {
 	 */
 	@Override
 	public VirtualMachine createVirtualMachine(Connection connection) throws IOException {
-		VirtualMachineImpl vmImpl = new VirtualMachineImpl(connection);
+		VirtualMachineImpl vmImpl = new VirtualMachineImpl(record(connection));
 		return vmImpl;
 	}
 
@@ -249,8 +252,29 @@ public class VirtualMachineManagerImpl implements VirtualMachineManager {
 	 */
 	@Override
 	public VirtualMachine createVirtualMachine(Connection connection, Process process) throws IOException {
-		VirtualMachineImpl vmImpl = new VirtualMachineImpl(connection);
+		VirtualMachineImpl vmImpl = new VirtualMachineImpl(record(connection));
 		vmImpl.setLaunchedProcess(process);
 		return vmImpl;
 	}
+
+	/**
+	 * @return Returns a connection recording the JDWP session to a new file
+	 *         if sessions must be recorded, the given connection otherwise.
+	 */
+	private Connection record(Connection connection) {
+		if (!JDIDebugOptions.DEBUG_JDI_RECORD) {
+			return connection;
+		}
+		String directory = JDIDebugOptions.DEBUG_JDI_RECORD_DIR;
+		if (directory == null || directory.isEmpty()) {
+			directory = System.getProperty("java.io.tmpdir"); //$NON-NLS-1$
+		}
+		try {
+			File file = File.createTempFile("jdwp-", ".rec", new File(directory)); //$NON-NLS-1$ //$NON-NLS-2$
+			return new RecordingConnection(connection, new FileOutputStream(file));
+		} catch (IOException e) {
+			JDIDebugPlugin.logError(NLS.bind(JDIMessages.VirtualMachineManagerImpl_Could_not_record_JDWP_session_in__0__3, directory), e);
+			return connection;
+		}
+	}
 }
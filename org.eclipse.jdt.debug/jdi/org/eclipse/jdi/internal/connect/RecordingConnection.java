@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Connection that records the JDWP packets exchanged through another
+ * connection, so that the session can be replayed with a
+ * {@link ReplayConnection}.
+ * <p>
+ * A recording starts with the {@link #MAGIC} number and the {@link #VERSION}
+ * of its format, followed by one record per packet:
+ * <ul>
+ * <li>a byte, {@link #TO_VM} or {@link #FROM_VM}</li>
+ * <li>a long, the time the packet was sent or received in nanoseconds since
+ * the start of the recording</li>
+ * <li>the packet, as sent on the wire, starting with its length</li>
+ * </ul>
+ * </p>
+ */
+public class RecordingConnection extends Connection {
+
+	/**
+	 * Magic number at the start of a recording
+	 */
+	public static final int MAGIC = 0x4A445750; // "JDWP"
+
+	/**
+	 * Version of the recording format
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * Record of a packet sent to the VM
+	 */
+	public static final byte TO_VM = 0;
+
+	/**
+	 * Record of a packet received from the VM
+	 */
+	public static final byte FROM_VM = 1;
+
+	private final Connection fConnection;
+	private final DataOutputStream fOutput;
+	private final long fStart = System.nanoTime();
+
+	/**
+	 * Creates a connection recording the packets exchanged through the given
+	 * connection to the given stream. The stream is closed with this
+	 * connection.
+	 *
+	 * @param connection
+	 *            the connection to the VM
+	 * @param output
+	 *            the stream to write the recording to
+	 * @throws IOException
+	 *             if the recording header can't be written
+	 */
+	public RecordingConnection(Connection connection, OutputStream output) throws IOException {
+		fConnection = connection;
+		fOutput = new DataOutputStream(new BufferedOutputStream(output));
+		fOutput.writeInt(MAGIC);
+		fOutput.writeShort(VERSION);
+	}
+
+	@Override
+	public byte[] readPacket() throws IOException {
+		byte[] packet = fConnection.readPacket();
+		record(FROM_VM, packet);
+		return packet;
+	}
+
+	@Override
+	public void writePacket(byte[] packet) throws IOException {
+		// record first, so the reply is never recorded before its command
+		record(TO_VM, packet);
+		fConnection.writePacket(packet);
+	}
+
+	/**
+	 * Writes a record of the given packet.
+	 */
+	private void record(byte direction, byte[] packet) throws IOException {
+		long time = System.nanoTime() - fStart;
+		int length = ((packet[0] & 0xFF) << 24) + ((packet[1] & 0xFF) << 16) + ((packet[2] & 0xFF) << 8) + (packet[3] & 0xFF);
+		synchronized (fOutput) {
+			fOutput.writeByte(direction);
+			fOutput.writeLong(time);
+			fOutput.write(packet, 0, length);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			fConnection.close();
+		} finally {
+			synchronized (fOutput) {
+				fOutput.close();
+			}
+		}
+	}
+
+	@Override
+	public boolean isOpen() {
+		return fConnection.isOpen();
+	}
+}
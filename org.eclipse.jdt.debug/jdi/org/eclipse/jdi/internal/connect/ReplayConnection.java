@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Connection that serves a session recorded by a {@link RecordingConnection}
+ * in place of a VM, so that JDI clients can be benchmarked and tested without
+ * starting a VM.
+ * <p>
+ * Each command written is matched to the first recorded command that was not
+ * matched yet and has the same contents, ignoring packet identifiers. Packets
+ * of the VM are read in recorded order: a reply is read once its command has
+ * been written, with the identifier of the written command, and is skipped if
+ * its command was not written but a command recorded after the reply was.
+ * Events are read once the command recorded before them, or a later one, has
+ * been written. A command that can't be matched closes the connection.
+ * </p>
+ * <p>
+ * An artificial latency can be set to simulate a remote VM: a reply is then
+ * not read before that latency has elapsed since its command was written.
+ * </p>
+ */
+public class ReplayConnection extends Connection {
+
+	/**
+	 * Recorded packet.
+	 */
+	private static class Record {
+		final boolean fFromVM;
+		final byte[] fPacket;
+		final boolean fReply;
+		/**
+		 * Index of the record of the command of a reply, or of the last
+		 * command recorded before an event, <code>-1</code> if none
+		 */
+		int fCommand = -1;
+		/**
+		 * For a command, the identifier of the matching written command, or
+		 * <code>-1</code> if not written yet
+		 */
+		int fWrittenId = -1;
+		/**
+		 * For a command, the time the matching command was written
+		 */
+		long fWritten;
+
+		Record(boolean fromVM, byte[] packet) {
+			fFromVM = fromVM;
+			fPacket = packet;
+			fReply = fromVM && (packet[8] & JdwpPacket.FLAG_REPLY_PACKET) != 0;
+		}
+	}
+
+	private final Record[] fRecords;
+	/**
+	 * Index of the next record to read
+	 */
+	private int fNextRead;
+	/**
+	 * Index of the last record matched by a written command
+	 */
+	private int fLastWritten = -1;
+	private long fLatency;
+	private boolean fOpen = true;
+
+	/**
+	 * Creates a connection replaying the session recorded in the given stream.
+	 * The stream is read entirely and closed.
+	 *
+	 * @param input
+	 *            the stream to read the recording from
+	 * @throws IOException
+	 *             if the recording can't be read
+	 */
+	public ReplayConnection(InputStream input) throws IOException {
+		List<Record> records = new ArrayList<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(input))) {
+			if (in.readInt() != RecordingConnection.MAGIC || in.readShort() != RecordingConnection.VERSION) {
+				throw new IOException("Not a JDWP recording"); //$NON-NLS-1$
+			}
+			int direction;
+			while ((direction = in.read()) != -1) {
+				in.readLong();
+				int length = in.readInt();
+				if (length < 11) {
+					throw new IOException("JDWP Packet under 11 bytes"); //$NON-NLS-1$
+				}
+				byte[] packet = new byte[length];
+				writeInt(packet, 0, length);
+				in.readFully(packet, 4, length - 4);
+				records.add(new Record(direction == RecordingConnection.FROM_VM, packet));
+			}
+		} catch (EOFException e) {
+			throw new IOException("Truncated JDWP recording", e); //$NON-NLS-1$
+		}
+		fRecords = records.toArray(new Record[records.size()]);
+		int lastCommand = -1;
+		for (int i = 0; i < fRecords.length; i++) {
+			Record record = fRecords[i];
+			if (!record.fFromVM) {
+				lastCommand = i;
+			} else if (!record.fReply) {
+				record.fCommand = lastCommand;
+			} else {
+				int id = getId(record.fPacket);
+				for (int j = i - 1; j >= 0; j--) {
+					if (!fRecords[j].fFromVM && getId(fRecords[j].fPacket) == id) {
+						record.fCommand = j;
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sets the minimum time between writing a command and reading its reply.
+	 *
+	 * @param latency
+	 *            the latency in nanoseconds
+	 */
+	public synchronized void setLatency(long latency) {
+		fLatency = latency;
+	}
+
+	@Override
+	public byte[] readPacket() throws IOException {
+		Record record;
+		long readTime = 0;
+		synchronized (this) {
+			while (true) {
+				if (!fOpen) {
+					throw new ClosedConnectionException();
+				}
+				while (fNextRead < fRecords.length && !fRecords[fNextRead].fFromVM) {
+					fNextRead++;
+				}
+				if (fNextRead < fRecords.length) {
+					record = fRecords[fNextRead];
+					if (record.fCommand == -1) {
+						if (record.fReply) {
+							// reply to a command that was not recorded
+							fNextRead++;
+							continue;
+						}
+						break;
+					}
+					Record command = fRecords[record.fCommand];
+					if (command.fWrittenId != -1) {
+						readTime = command.fWritten + fLatency;
+						break;
+					}
+					if (!record.fReply && fLastWritten > record.fCommand) {
+						break;
+					}
+					if (record.fReply && fLastWritten > fNextRead) {
+						// the command of this reply was skipped
+						fNextRead++;
+						continue;
+					}
+				}
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					throw new ClosedConnectionException();
+				}
+			}
+			fNextRead++;
+		}
+		byte[] packet = record.fPacket.clone();
+		if (record.fReply) {
+			writeInt(packet, 4, fRecords[record.fCommand].fWrittenId);
+			long delay = readTime - System.nanoTime();
+			if (delay > 0) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(delay);
+				} catch (InterruptedException e) {
+					throw new ClosedConnectionException();
+				}
+			}
+		}
+		return packet;
+	}
+
+	@Override
+	public synchronized void writePacket(byte[] packet) throws IOException {
+		if (!fOpen) {
+			throw new ClosedConnectionException();
+		}
+		for (int i = 0; i < fRecords.length; i++) {
+			Record record = fRecords[i];
+			if (!record.fFromVM && record.fWrittenId == -1 && matches(record.fPacket, packet)) {
+				record.fWrittenId = getId(packet);
+				record.fWritten = System.nanoTime();
+				fLastWritten = Math.max(fLastWritten, i);
+				notifyAll();
+				return;
+			}
+		}
+		fOpen = false;
+		notifyAll();
+		throw new IOException("JDWP command not in recording"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns whether the given packets have the same contents, ignoring their
+	 * identifiers.
+	 */
+	private static boolean matches(byte[] recorded, byte[] packet) {
+		int length = recorded.length;
+		if (packet.length < length || getInt(packet, 0) != length) {
+			return false;
+		}
+		for (int i = 8; i < length; i++) {
+			if (recorded[i] != packet[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int getId(byte[] packet) {
+		return getInt(packet, 4);
+	}
+
+	private static int getInt(byte[] bytes, int index) {
+		return ((bytes[index] & 0xFF) << 24) + ((bytes[index + 1] & 0xFF) << 16) + ((bytes[index + 2] & 0xFF) << 8) + (bytes[index + 3] & 0xFF);
+	}
+
+	private static void writeInt(byte[] bytes, int index, int value) {
+		bytes[index] = (byte) (value >>> 24);
+		bytes[index + 1] = (byte) (value >>> 16);
+		bytes[index + 2] = (byte) (value >>> 8);
+		bytes[index + 3] = (byte) value;
+	}
+
+	@Override
+	public synchronized void close() {
+		fOpen = false;
+		notifyAll();
+	}
+
+	@Override
+	public synchronized boolean isOpen() {
+		return fOpen;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.HashMap;
@@ -22,6 +21,7 @@ import java.util.Map;
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.ThreadReference;
@@ -108,7 +108,7 @@ public abstract class EventImpl extends MirrorImpl implements Event {
 	/**
 	 * @return Creates, reads and returns new EventImpl.
 	 */
-	public static EventImpl read(MirrorImpl target, DataInputStream dataInStream)
+	public static EventImpl read(MirrorImpl target, JdwpPacketReader dataInStream)
 			throws IOException {
 		byte eventKind = target.readByte(
 				"event kind", eventKindMap(), dataInStream); //$NON-NLS-1$
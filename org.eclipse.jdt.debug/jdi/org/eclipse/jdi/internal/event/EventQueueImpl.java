@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,7 +71,8 @@ public class EventQueueImpl extends MirrorImpl implements EventQueue {
 				JdwpCommandPacket packet = getCommandVM(
 						JdwpCommandPacket.E_COMPOSITE, timeout);
 				initJdwpEventSet(packet);
-				set = EventSetImpl.read(this, packet.dataInStream());
+				virtualMachineImpl().jdwpMetrics().eventSetReceived(packet.getLength());
+				set = EventSetImpl.read(this, dataReader(packet));
 				handledJdwpEventSet(null);
 			} while (set.isEmpty());
 			return set;
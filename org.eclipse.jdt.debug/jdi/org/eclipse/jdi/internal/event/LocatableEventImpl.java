@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.LocationImpl;
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.Locatable;
@@ -46,7 +46,7 @@ public abstract class LocatableEventImpl extends EventImpl implements Locatable
 	 * Reads Thread and Location.
 	 */
 	public void readThreadAndLocation(MirrorImpl target,
-			DataInputStream dataInStream) throws IOException {
+			JdwpPacketReader dataInStream) throws IOException {
 		fThreadRef = ThreadReferenceImpl.read(target, dataInStream);
 		fLocation = LocationImpl.read(target, dataInStream);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.event.StepEvent;
@@ -43,7 +43,7 @@ public class StepEventImpl extends LocatableEventImpl implements StepEvent {
 	 *         already been read.
 	 */
 	public static StepEventImpl read(MirrorImpl target, RequestID requestID,
-			DataInputStream dataInStream) throws IOException {
+			JdwpPacketReader dataInStream) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		StepEventImpl event = new StepEventImpl(vmImpl, requestID);
 		event.readThreadAndLocation(target, dataInStream);
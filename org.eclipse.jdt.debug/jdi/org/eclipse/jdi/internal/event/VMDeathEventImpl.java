@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.event.VMDeathEvent;
@@ -46,7 +46,7 @@ public class VMDeathEventImpl extends EventImpl implements VMDeathEvent {
 	 * @return
 	 */
 	public static VMDeathEventImpl read(MirrorImpl target, RequestID requestID,
-			DataInputStream dataInStream) {
+			JdwpPacketReader dataInStream) {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		VMDeathEventImpl event = new VMDeathEventImpl(vmImpl, requestID);
 		return event;
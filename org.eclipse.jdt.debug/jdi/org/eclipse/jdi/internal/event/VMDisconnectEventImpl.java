@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.event.VMDisconnectEvent;
@@ -47,7 +47,7 @@ public class VMDisconnectEventImpl extends EventImpl implements
 	 * @return the new event
 	 */
 	public static VMDisconnectEventImpl read(MirrorImpl target,
-			RequestID requestID, DataInputStream dataInStream) {
+			RequestID requestID, JdwpPacketReader dataInStream) {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		VMDisconnectEventImpl event = new VMDisconnectEventImpl(vmImpl,
 				requestID);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,12 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.event.VMStartEvent;
@@ -44,7 +44,7 @@ public class VMStartEventImpl extends EventImpl implements VMStartEvent {
 	 *         already been read.
 	 */
 	public static VMStartEventImpl read(MirrorImpl target, RequestID requestID,
-			DataInputStream dataInStream) throws IOException {
+			JdwpPacketReader dataInStream) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		VMStartEventImpl event = new VMStartEventImpl(vmImpl, requestID);
 		event.fThreadRef = ThreadReferenceImpl.read(target, dataInStream);
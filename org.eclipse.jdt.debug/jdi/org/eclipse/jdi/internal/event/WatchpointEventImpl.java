@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.FieldImpl;
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ObjectReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.Field;
@@ -52,7 +52,7 @@ public abstract class WatchpointEventImpl extends LocatableEventImpl implements
 	 *         already been read.
 	 */
 	public void readWatchpointEventFields(MirrorImpl target,
-			DataInputStream dataInStream) throws IOException {
+			JdwpPacketReader dataInStream) throws IOException {
 		readThreadAndLocation(target, dataInStream);
 		fField = FieldImpl.readWithReferenceTypeWithTag(target, dataInStream);
 		fObjectReference = ObjectReferenceImpl.readObjectRefWithTag(target,
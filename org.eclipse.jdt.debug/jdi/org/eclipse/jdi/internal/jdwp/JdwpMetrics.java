@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.jdwp;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.debug.core.IJdwpMetrics;
+
+/**
+ * Statistics of the JDWP traffic with a virtual machine. Recording a completed
+ * command only increments counters, the statistics of a command are allocated
+ * the first time it completes.
+ */
+public class JdwpMetrics implements IJdwpMetrics {
+
+	/**
+	 * Statistics of one command.
+	 */
+	private static class CommandMetrics {
+		final LongAdder fCount = new LongAdder();
+		final LongAdder fBytesSent = new LongAdder();
+		final LongAdder fBytesReceived = new LongAdder();
+		final LongAdder fLatency = new LongAdder();
+		final AtomicLongArray fHistogram = new AtomicLongArray(Long.SIZE);
+	}
+
+	/**
+	 * Statistics of the commands, indexed by command set then command.
+	 */
+	private final AtomicReferenceArray<AtomicReferenceArray<CommandMetrics>> fCommandSets = new AtomicReferenceArray<>(256);
+	private final LongAdder fEventSetCount = new LongAdder();
+	private final LongAdder fEventSetBytes = new LongAdder();
+	private final long fStart = System.nanoTime();
+
+	/**
+	 * Records a command that completed.
+	 *
+	 * @param command
+	 *            command set and command identifiers
+	 * @param bytesSent
+	 *            length of the command packet
+	 * @param bytesReceived
+	 *            length of the reply packet
+	 * @param latency
+	 *            time from sending the command to receiving the reply, in
+	 *            nanoseconds
+	 */
+	public void commandCompleted(int command, int bytesSent, int bytesReceived, long latency) {
+		CommandMetrics metrics = getCommandMetrics(command, true);
+		metrics.fCount.increment();
+		metrics.fBytesSent.add(bytesSent);
+		metrics.fBytesReceived.add(bytesReceived);
+		metrics.fLatency.add(latency);
+		metrics.fHistogram.incrementAndGet(latency <= 0 ? 0 : 63 - Long.numberOfLeadingZeros(latency));
+	}
+
+	/**
+	 * Records an event set that was received.
+	 *
+	 * @param bytes
+	 *            length of the event set packet
+	 */
+	public void eventSetReceived(int bytes) {
+		fEventSetCount.increment();
+		fEventSetBytes.add(bytes);
+	}
+
+	/**
+	 * Returns the statistics of the given command, or <code>null</code> if it
+	 * never completed and <code>create</code> is <code>false</code>.
+	 */
+	private CommandMetrics getCommandMetrics(int command, boolean create) {
+		int commandSet = (command >> 8) & 0xff;
+		AtomicReferenceArray<CommandMetrics> commands = fCommandSets.get(commandSet);
+		if (commands == null) {
+			if (!create) {
+				return null;
+			}
+			fCommandSets.compareAndSet(commandSet, null, new AtomicReferenceArray<>(256));
+			commands = fCommandSets.get(commandSet);
+		}
+		CommandMetrics metrics = commands.get(command & 0xff);
+		if (metrics == null && create) {
+			commands.compareAndSet(command & 0xff, null, new CommandMetrics());
+			metrics = commands.get(command & 0xff);
+		}
+		return metrics;
+	}
+
+	@Override
+	public int[] getCommands() {
+		int[] commands = new int[16];
+		int count = 0;
+		for (int commandSet = 0; commandSet < fCommandSets.length(); commandSet++) {
+			AtomicReferenceArray<CommandMetrics> commandMetrics = fCommandSets.get(commandSet);
+			if (commandMetrics == null) {
+				continue;
+			}
+			for (int command = 0; command < commandMetrics.length(); command++) {
+				if (commandMetrics.get(command) != null) {
+					if (count == commands.length) {
+						commands = Arrays.copyOf(commands, count * 2);
+					}
+					commands[count++] = (commandSet << 8) + command;
+				}
+			}
+		}
+		return Arrays.copyOf(commands, count);
+	}
+
+	@Override
+	public long getCount(int command) {
+		CommandMetrics metrics = getCommandMetrics(command, false);
+		return metrics == null ? 0 : metrics.fCount.sum();
+	}
+
+	@Override
+	public long getBytesSent(int command) {
+		CommandMetrics metrics = getCommandMetrics(command, false);
+		return metrics == null ? 0 : metrics.fBytesSent.sum();
+	}
+
+	@Override
+	public long getBytesReceived(int command) {
+		CommandMetrics metrics = getCommandMetrics(command, false);
+		return metrics == null ? 0 : metrics.fBytesReceived.sum();
+	}
+
+	@Override
+	public long getTotalLatency(int command) {
+		CommandMetrics metrics = getCommandMetrics(command, false);
+		return metrics == null ? 0 : metrics.fLatency.sum();
+	}
+
+	@Override
+	public long[] getLatencyHistogram(int command) {
+		long[] histogram = new long[Long.SIZE];
+		CommandMetrics metrics = getCommandMetrics(command, false);
+		if (metrics != null) {
+			for (int i = 0; i < histogram.length; i++) {
+				histogram[i] = metrics.fHistogram.get(i);
+			}
+		}
+		return histogram;
+	}
+
+	@Override
+	public long getEventSetCount() {
+		return fEventSetCount.sum();
+	}
+
+	@Override
+	public long getEventSetBytes() {
+		return fEventSetBytes.sum();
+	}
+
+	@Override
+	public long getElapsedTime() {
+		return System.nanoTime() - fStart;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -98,6 +98,14 @@ public abstract class JdwpPacket {
 		return new DataInputStream(new ByteArrayInputStream(new byte[0]));
 	}
 
+	/**
+	 * @return Returns a reader of the data of the packet, which has nothing to
+	 *         read if there is none.
+	 */
+	public JdwpPacketReader dataReader() {
+		return new JdwpPacketReader(fDataBuf);
+	}
+
 	/**
 	 * Assigns data to packet.
 	 */
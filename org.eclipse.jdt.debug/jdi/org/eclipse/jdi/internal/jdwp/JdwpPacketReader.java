@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.jdwp;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Reads Java Debug Wire Protocol (JDWP) data from the data of a packet. Values
+ * are decoded directly from the bytes of the packet, which are read in order
+ * from a cursor, so that reading a value allocates nothing but the value
+ * itself.
+ * <p>
+ * The methods that take a description are the ones used to read mirrors. This
+ * reader ignores the description, subclasses may override these methods to
+ * trace the values that are read.
+ * </p>
+ */
+public class JdwpPacketReader {
+	private static final byte[] EMPTY = new byte[0];
+
+	/** Data that is read. */
+	private final byte[] fData;
+	/** Index of the next byte to read. */
+	private int fPosition;
+	/** Buffer used to decode strings that are not ASCII. */
+	private char[] fChars;
+
+	/**
+	 * Creates a reader of the given data.
+	 *
+	 * @param data
+	 *            data of a packet, <code>null</code> if the packet has no data
+	 */
+	public JdwpPacketReader(byte[] data) {
+		fData = data == null ? EMPTY : data;
+	}
+
+	/**
+	 * @return Returns the number of bytes that remain to be read.
+	 */
+	public final int available() {
+		return fData.length - fPosition;
+	}
+
+	/**
+	 * Moves the cursor past the given number of bytes, and returns its previous
+	 * position.
+	 */
+	private int advance(int length) throws EOFException {
+		int position = fPosition;
+		if (length > fData.length - position) {
+			fPosition = fData.length;
+			throw new EOFException();
+		}
+		fPosition = position + length;
+		return position;
+	}
+
+	/**
+	 * Skips the given number of bytes.
+	 */
+	public final void skipBytes(int length) throws IOException {
+		advance(length);
+	}
+
+	public final byte readByte() throws IOException {
+		return fData[advance(1)];
+	}
+
+	public final int readUnsignedByte() throws IOException {
+		return fData[advance(1)] & 0xFF;
+	}
+
+	public final boolean readBoolean() throws IOException {
+		return fData[advance(1)] != 0;
+	}
+
+	public final short readShort() throws IOException {
+		int i = advance(2);
+		return (short) ((fData[i] << 8) | (fData[i + 1] & 0xFF));
+	}
+
+	public final char readChar() throws IOException {
+		return (char) readShort();
+	}
+
+	public final int readInt() throws IOException {
+		int i = advance(4);
+		byte[] data = fData;
+		return (data[i] << 24) | ((data[i + 1] & 0xFF) << 16)
+				| ((data[i + 2] & 0xFF) << 8) | (data[i + 3] & 0xFF);
+	}
+
+	public final long readLong() throws IOException {
+		return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+	}
+
+	public final float readFloat() throws IOException {
+		return Float.intBitsToFloat(readInt());
+	}
+
+	public final double readDouble() throws IOException {
+		return Double.longBitsToDouble(readLong());
+	}
+
+	/**
+	 * Reads bytes until the given array is full.
+	 */
+	public final void readFully(byte[] bytes) throws IOException {
+		System.arraycopy(fData, advance(bytes.length), bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Reads an ID of the given size.
+	 */
+	public final long readID(int size) throws IOException {
+		int i = advance(size);
+		long value = 0;
+		for (int end = i + size; i < end; i++) {
+			value = value << 8 | (fData[i] & 0xFF);
+		}
+		return value;
+	}
+
+	/**
+	 * Reads a string, as written by {@link JdwpString#write}.
+	 */
+	public final String readString() throws IOException {
+		int length = readInt();
+		int offset = advance(length);
+		byte[] data = fData;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			if ((data[i] & 0xFF) >= 0xC0) {
+				if (fChars == null || fChars.length < length) {
+					fChars = new char[Math.max(length, 64)];
+				}
+				return JdwpString.decode(data, offset, length, fChars);
+			}
+		}
+		// No multi-byte character: each byte is a character.
+		return new String(data, offset, length, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public byte readByte(String description) throws IOException {
+		return readByte();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public byte readByte(String description, Map<Integer, String> valueToString) throws IOException {
+		return readByte();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public byte readByte(String description, String[] bitNames) throws IOException {
+		return readByte();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public short readShort(String description) throws IOException {
+		return readShort();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public short readShort(String description, Map<Integer, String> valueToString) throws IOException {
+		return readShort();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public short readShort(String description, String[] bitNames) throws IOException {
+		return readShort();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public int readInt(String description) throws IOException {
+		return readInt();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public int readInt(String description, Map<Integer, String> valueToString) throws IOException {
+		return readInt();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public int readInt(String description, String[] bitNames) throws IOException {
+		return readInt();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public long readLong(String description) throws IOException {
+		return readLong();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public boolean readBoolean(String description) throws IOException {
+		return readBoolean();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public char readChar(String description) throws IOException {
+		return readChar();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public float readFloat(String description) throws IOException {
+		return readFloat();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public double readDouble(String description) throws IOException {
+		return readDouble();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public String readString(String description) throws IOException {
+		return readString();
+	}
+
+	/**
+	 * Reads Jdwp data with the given description.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public byte[] readByteArray(int length, String description) throws IOException {
+		byte[] result = new byte[length];
+		readFully(result);
+		return result;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,31 +32,48 @@ public class JdwpString {
 		int utfSize = in.readInt();
 		byte utfBytes[] = new byte[utfSize];
 		in.readFully(utfBytes);
-		/* Guess at buffer size */
-		StringBuilder strBuffer = new StringBuilder(utfSize / 3 * 2);
-		for (int i = 0; i < utfSize;) {
+		return decode(utfBytes, 0, utfSize, new char[utfSize]);
+	}
+
+	/**
+	 * Decodes the UTF bytes of a String, using the given buffer that has at
+	 * least as many characters as there are bytes.
+	 */
+	static String decode(byte[] utfBytes, int offset, int utfSize,
+			char[] chars) throws UTFDataFormatException {
+		int length = 0;
+		int end = offset + utfSize;
+		for (int i = offset; i < end;) {
 			int a = utfBytes[i] & 0xFF;
 			if ((a >> 4) < 12) {
-				strBuffer.append((char) a);
+				chars[length++] = (char) a;
 				i++;
 			} else {
+				if (i + 1 >= end) {
+					throw new UTFDataFormatException(
+							JDWPMessages.JdwpString_Input_does_not_match_UTF_Specification_3);
+				}
 				int b = utfBytes[i + 1] & 0xFF;
 				if ((a >> 4) < 14) {
 					if ((b & 0xBF) == 0) {
 						throw new UTFDataFormatException(
 								JDWPMessages.JdwpString_Second_byte_input_does_not_match_UTF_Specification_1);
 					}
-					strBuffer.append((char) (((a & 0x1F) << 6) | (b & 0x3F)));
+					chars[length++] = (char) (((a & 0x1F) << 6) | (b & 0x3F));
 					i += 2;
 				} else {
+					if (i + 2 >= end) {
+						throw new UTFDataFormatException(
+								JDWPMessages.JdwpString_Input_does_not_match_UTF_Specification_3);
+					}
 					int c = utfBytes[i + 2] & 0xFF;
 					if ((a & 0xEF) > 0) {
 						if (((b & 0xBF) == 0) || ((c & 0xBF) == 0)) {
 							throw new UTFDataFormatException(
 									JDWPMessages.JdwpString_Second_or_third_byte_input_does_not_mach_UTF_Specification_2);
 						}
-						strBuffer.append((char) (((a & 0x0F) << 12)
-								| ((b & 0x3F) << 6) | (c & 0x3F)));
+						chars[length++] = (char) (((a & 0x0F) << 12)
+								| ((b & 0x3F) << 6) | (c & 0x3F));
 						i += 3;
 					} else {
 						throw new UTFDataFormatException(
@@ -65,7 +82,7 @@ public class JdwpString {
 				}
 			}
 		}
-		return strBuffer.toString();
+		return new String(chars, 0, length);
 	}
 
 	/**
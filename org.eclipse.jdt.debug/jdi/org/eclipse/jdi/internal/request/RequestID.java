@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.request;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.MirrorImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpPacketReader;
 
 public class RequestID {
 	/**
@@ -83,7 +83,7 @@ public class RequestID {
 	/**
 	 * @return Returns a new request ID read from stream.
 	 */
-	public static RequestID read(MirrorImpl target, DataInputStream in)
+	public static RequestID read(MirrorImpl target, JdwpPacketReader in)
 			throws IOException {
 		int result = target.readInt("request ID", in); //$NON-NLS-1$
 		return new RequestID(result);
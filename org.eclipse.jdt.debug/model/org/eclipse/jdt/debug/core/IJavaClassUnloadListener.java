@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.core;
+
+/**
+ * Notification of classes being unloaded in a Java debug target. Once a class
+ * is unloaded, a class of the same name may be loaded again from a different
+ * location.
+ * <p>
+ * Clients may implement this interface
+ * </p>
+ *
+ * @see IJavaDebugTarget#addClassUnloadListener(IJavaClassUnloadListener)
+ * @since 3.22
+ */
+public interface IJavaClassUnloadListener {
+
+	/**
+	 * Notification that a class was unloaded in the given target. Called from
+	 * the thread dispatching events of the target; the target is not suspended.
+	 *
+	 * @param target
+	 *            the target in which the class was unloaded
+	 * @param typeName
+	 *            the fully qualified name of the unloaded class
+	 */
+	public void classUnloaded(IJavaDebugTarget target, String typeName);
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -580,4 +580,37 @@ public interface IJavaDebugTarget extends IDebugTarget, IStepFilters {
 	public void removeHotCodeReplaceListener(
 			IJavaHotCodeReplaceListener listener);
 
+	/**
+	 * Returns statistics of the JDWP commands sent to this target and of the
+	 * event sets received from it. Statistics are always collected, at a
+	 * negligible cost, and are only computed when read.
+	 *
+	 * @return statistics of the JDWP traffic with this target, or
+	 *         <code>null</code> if not available
+	 * @since 3.22
+	 */
+	public IJdwpMetrics getJdwpMetrics();
+
+	/**
+	 * Registers the given listener for notification of classes unloaded in
+	 * this target. Has no effect if an identical listener is already
+	 * registered. Unloaded classes are only tracked while at least one listener
+	 * is registered.
+	 *
+	 * @param listener
+	 *            class unload listener
+	 * @since 3.22
+	 */
+	public void addClassUnloadListener(IJavaClassUnloadListener listener);
+
+	/**
+	 * Removes the given listener from this target. Has no effect if an
+	 * identical listener is not already registered.
+	 *
+	 * @param listener
+	 *            class unload listener
+	 * @since 3.22
+	 */
+	public void removeClassUnloadListener(IJavaClassUnloadListener listener);
+
 }
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.core;
+
+/**
+ * The values of the traced variables of a tracepoint, recorded when a thread
+ * hit the tracepoint.
+ * <p>
+ * Primitive values and the contents of strings are recorded when the
+ * tracepoint is hit, see {@link #getValueTexts()}. Other objects are recorded
+ * by reference only: they are not prevented from being garbage collected, and
+ * {@link #getValues()} returns their current state, which may have changed
+ * since the hit.
+ * </p>
+ *
+ * @see IJavaTracepoint#getTraceRecords(IJavaDebugTarget)
+ * @since 3.22
+ * @noimplement This interface is not intended to be implemented by clients.
+ * @noextend This interface is not intended to be extended by clients.
+ */
+public interface IJavaTraceRecord {
+
+	/**
+	 * Returns the time of the hit, in milliseconds since the epoch.
+	 *
+	 * @return the time of the hit
+	 */
+	public long getTime();
+
+	/**
+	 * Returns the thread that hit the tracepoint.
+	 *
+	 * @return the thread that hit the tracepoint
+	 */
+	public IJavaThread getThread();
+
+	/**
+	 * Returns the names of the traced variables, in the order of the values.
+	 *
+	 * @return the names of the traced variables
+	 */
+	public String[] getVariableNames();
+
+	/**
+	 * Returns the values of the traced variables. The value of a variable that
+	 * is not visible at the tracepoint is <code>null</code>. Objects other
+	 * than strings are live references to the objects of the target.
+	 *
+	 * @return the values of the traced variables
+	 */
+	public IJavaValue[] getValues();
+
+	/**
+	 * Returns the texts of the values of the traced variables, recorded when
+	 * the tracepoint was hit. The text of a primitive value is the value, the
+	 * text of a string is its contents, truncated if it is very long, and the
+	 * text of another object is its declared type name and unique id, as in
+	 * <code>int[] (id=42)</code>. The text of a <code>null</code> value is
+	 * <code>"null"</code>, and the text of a variable that is not visible at
+	 * the tracepoint is <code>null</code>.
+	 *
+	 * @return the texts of the values of the traced variables
+	 */
+	public String[] getValueTexts();
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.core;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * A line breakpoint that never suspends execution. Each time a thread reaches
+ * its line, the values of the traced variables are recorded in a buffer of the
+ * debug target, and the thread is resumed at once, without evaluating any
+ * expression or firing any debug event.
+ * <p>
+ * A traced variable is identified by its name: a local variable visible at the
+ * line, or else a field of the type declaring the method of the line. The
+ * buffer of a target holds the latest records, up to the buffer size of this
+ * tracepoint, and is discarded when this tracepoint is removed from the target.
+ * </p>
+ * <p>
+ * Conditions and hit counts do not apply to tracepoints: every hit is
+ * recorded.
+ * </p>
+ *
+ * @see JDIDebugModel#createTracepoint(org.eclipse.core.resources.IResource,
+ *      String, int, int, int, String[], boolean, java.util.Map)
+ * @since 3.22
+ * @noimplement This interface is not intended to be implemented by clients.
+ * @noextend This interface is not intended to be extended by clients.
+ */
+public interface IJavaTracepoint extends IJavaLineBreakpoint {
+
+	/**
+	 * Returns the names of the variables whose values are recorded when this
+	 * tracepoint is hit.
+	 *
+	 * @return the names of the traced variables, possibly empty
+	 * @exception CoreException
+	 *                if unable to access the property from this breakpoint's
+	 *                underlying marker
+	 */
+	public String[] getTracedVariables() throws CoreException;
+
+	/**
+	 * Sets the names of the variables whose values are recorded when this
+	 * tracepoint is hit.
+	 *
+	 * @param names
+	 *            the names of the variables to trace
+	 * @exception CoreException
+	 *                if unable to set the property on this breakpoint's
+	 *                underlying marker
+	 */
+	public void setTracedVariables(String[] names) throws CoreException;
+
+	/**
+	 * Returns the maximum number of records kept for each debug target. When
+	 * the buffer of a target is full, each new record replaces the oldest one.
+	 *
+	 * @return the maximum number of records kept for each debug target
+	 * @exception CoreException
+	 *                if unable to access the property from this breakpoint's
+	 *                underlying marker
+	 */
+	public int getBufferSize() throws CoreException;
+
+	/**
+	 * Sets the maximum number of records kept for each debug target. Records
+	 * already in the buffers are discarded.
+	 *
+	 * @param size
+	 *            the maximum number of records kept for each debug target,
+	 *            greater than zero
+	 * @exception CoreException
+	 *                if unable to set the property on this breakpoint's
+	 *                underlying marker
+	 */
+	public void setBufferSize(int size) throws CoreException;
+
+	/**
+	 * Returns the records of the hits of this tracepoint in the given debug
+	 * target, from the oldest to the latest.
+	 *
+	 * @param target
+	 *            a debug target
+	 * @return the records in the buffer of the given target, possibly empty
+	 */
+	public IJavaTraceRecord[] getTraceRecords(IJavaDebugTarget target);
+
+	/**
+	 * Discards the records of the hits of this tracepoint in the given debug
+	 * target.
+	 *
+	 * @param target
+	 *            a debug target
+	 */
+	public void clearTraceRecords(IJavaDebugTarget target);
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.core;
+
+/**
+ * Statistics of the JDWP traffic between the debugger and a Java debug target,
+ * collected since the target was connected. Statistics are updated as commands
+ * complete, so successive calls may return increasing values.
+ * <p>
+ * A command is identified by its command set and command identifiers as
+ * defined by JDWP, as <code>(commandSet &lt;&lt; 8) + command</code>. The
+ * latency of a command is the time from sending the command to receiving its
+ * reply, in nanoseconds.
+ * </p>
+ *
+ * @see IJavaDebugTarget#getJdwpMetrics()
+ * @since 3.22
+ * @noimplement This interface is not intended to be implemented by clients.
+ * @noextend This interface is not intended to be extended by clients.
+ */
+public interface IJdwpMetrics {
+
+	/**
+	 * Returns the commands that completed at least once.
+	 *
+	 * @return the commands that completed at least once, in ascending order
+	 */
+	public int[] getCommands();
+
+	/**
+	 * Returns the number of times the given command completed.
+	 *
+	 * @param command
+	 *            command set and command identifiers
+	 * @return the number of times the given command completed
+	 */
+	public long getCount(int command);
+
+	/**
+	 * Returns the number of bytes sent for the given command, including packet
+	 * headers.
+	 *
+	 * @param command
+	 *            command set and command identifiers
+	 * @return the number of bytes sent for the given command
+	 */
+	public long getBytesSent(int command);
+
+	/**
+	 * Returns the number of bytes received in replies to the given command,
+	 * including packet headers.
+	 *
+	 * @param command
+	 *            command set and command identifiers
+	 * @return the number of bytes received for the given command
+	 */
+	public long getBytesReceived(int command);
+
+	/**
+	 * Returns the sum of the latencies of the given command, in nanoseconds.
+	 *
+	 * @param command
+	 *            command set and command identifiers
+	 * @return the sum of the latencies of the given command
+	 */
+	public long getTotalLatency(int command);
+
+	/**
+	 * Returns the histogram of the latencies of the given command. Element
+	 * <code>i</code> of the histogram is the number of times the command
+	 * completed in at least <code>2^i</code> and less than
+	 * <code>2^(i+1)</code> nanoseconds, except element <code>0</code> which
+	 * also counts latencies below one nanosecond.
+	 *
+	 * @param command
+	 *            command set and command identifiers
+	 * @return the histogram of the latencies of the given command, with 64
+	 *         elements
+	 */
+	public long[] getLatencyHistogram(int command);
+
+	/**
+	 * Returns the number of event sets received from the target.
+	 *
+	 * @return the number of event sets received
+	 */
+	public long getEventSetCount();
+
+	/**
+	 * Returns the number of bytes received in event sets, including packet
+	 * headers.
+	 *
+	 * @return the number of bytes received in event sets
+	 */
+	public long getEventSetBytes();
+
+	/**
+	 * Returns the time elapsed since these statistics started to be collected,
+	 * in nanoseconds. Rates are computed by dividing counts by this time.
+	 *
+	 * @return the time elapsed since the target was connected
+	 */
+	public long getElapsedTime();
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,7 @@ import org.eclipse.jdt.internal.debug.core.breakpoints.JavaMethodEntryBreakpoint
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaPatternBreakpoint;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaStratumLineBreakpoint;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaTargetPatternBreakpoint;
+import org.eclipse.jdt.internal.debug.core.breakpoints.JavaTracepoint;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaWatchpoint;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.osgi.service.prefs.BackingStoreException;
@@ -527,6 +528,61 @@ public class JDIDebugModel {
 				hitCount, register, attributes);
 	}
 
+	/**
+	 * Creates and returns a tracepoint in the type with the given name, at the
+	 * given line number. Each time a thread reaches the line, the values of
+	 * the given variables are recorded and the thread is resumed at once. The
+	 * marker associated with the tracepoint will be created on the specified
+	 * resource.
+	 *
+	 * @param resource
+	 *            the resource on which to create the associated breakpoint
+	 *            marker
+	 * @param typeName
+	 *            the fully qualified name of the type the tracepoint is to be
+	 *            installed in, as for
+	 *            {@link #createLineBreakpoint(IResource, String, int, int, int, int, boolean, Map)}
+	 * @param lineNumber
+	 *            the lineNumber on which the tracepoint is set - line numbers
+	 *            are 1 based, associated with the source file in which the
+	 *            tracepoint is set
+	 * @param charStart
+	 *            the first character index associated with the tracepoint, or
+	 *            -1 if unspecified, in the source file in which the tracepoint
+	 *            is set
+	 * @param charEnd
+	 *            the last character index associated with the tracepoint, or -1
+	 *            if unspecified, in the source file in which the tracepoint is
+	 *            set
+	 * @param variables
+	 *            the names of the local variables or fields to record
+	 * @param register
+	 *            whether to add this tracepoint to the breakpoint manager
+	 * @param attributes
+	 *            a map of client defined attributes that should be assigned to
+	 *            the underlying breakpoint marker on creation, or
+	 *            <code>null</code> if none.
+	 * @return a tracepoint
+	 * @exception CoreException
+	 *                If this method fails. Reasons include:
+	 *                <ul>
+	 *                <li>Failure creating underlying marker. The exception's
+	 *                status contains the underlying exception responsible for
+	 *                the failure.</li>
+	 *                </ul>
+	 * @since 3.22
+	 */
+	public static IJavaTracepoint createTracepoint(IResource resource,
+			String typeName, int lineNumber, int charStart, int charEnd,
+			String[] variables, boolean register, Map<String, Object> attributes)
+			throws CoreException {
+		if (attributes == null) {
+			attributes = new HashMap<>(10);
+		}
+		return new JavaTracepoint(resource, typeName, lineNumber, charStart,
+				charEnd, variables, register, attributes);
+	}
+
 	/**
 	 * Creates and returns a target pattern breakpoint for the given resource at
 	 * the given line number. Clients must set the class name pattern per target
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,8 @@ public class JDIDebugOptions implements DebugOptionsListener {
 	public static final String DEBUG_FLAG = "org.eclipse.jdt.debug/debug"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_VERBOSE_FLAG = "org.eclipse.jdt.debug/debug/jdi/verbose"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_VERBOSE_FILE = "org.eclipse.jdt.debug/debug/jdi/verbose/file"; //$NON-NLS-1$
+	public static final String DEBUG_JDI_RECORD_FLAG = "org.eclipse.jdt.debug/debug/jdi/record"; //$NON-NLS-1$
+	public static final String DEBUG_JDI_RECORD_DIRECTORY = "org.eclipse.jdt.debug/debug/jdi/record/directory"; //$NON-NLS-1$
 
 	public static boolean DEBUG = false;
 	public static boolean DEBUG_JDI_EVENTS = false;
@@ -44,6 +46,8 @@ public class JDIDebugOptions implements DebugOptionsListener {
 	public static boolean DEBUG_AST_EVAL_THREAD_TRACE = false;
 	public static boolean DEBUG_JDI_VEBOSE;
 	public static String DEBUG_JDI_VEBOSE_FILE;
+	public static boolean DEBUG_JDI_RECORD;
+	public static String DEBUG_JDI_RECORD_DIR;
 
 	/**
 	 * The {@link DebugTrace} object to print to OSGi tracing
@@ -78,6 +82,10 @@ public class JDIDebugOptions implements DebugOptionsListener {
 		if (DEBUG && DEBUG_JDI_VEBOSE) {
 			DEBUG_JDI_VEBOSE_FILE = options.getOption(DEBUG_JDI_VERBOSE_FILE);
 		}
+		DEBUG_JDI_RECORD = DEBUG && options.getBooleanOption(DEBUG_JDI_RECORD_FLAG, false);
+		if (DEBUG_JDI_RECORD) {
+			DEBUG_JDI_RECORD_DIR = options.getOption(DEBUG_JDI_RECORD_DIRECTORY);
+		}
 	}
 
 	/**
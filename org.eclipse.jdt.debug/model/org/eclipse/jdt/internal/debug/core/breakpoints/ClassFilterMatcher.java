@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+/**
+ * Class filters of an exception breakpoint, compiled once so that matching a
+ * type name does not allocate.
+ * <p>
+ * A filter matches a type name when the name contains the filter, where
+ * <code>*</code> stands for any sequence of characters. An empty filter, the
+ * default package, matches any type name.
+ * </p>
+ */
+final class ClassFilterMatcher {
+
+	private static final ClassFilterMatcher EMPTY = new ClassFilterMatcher(new String[0], new String[0][], false);
+
+	/**
+	 * The filters this matcher was compiled from
+	 */
+	private final String[] fFilters;
+
+	/**
+	 * For each filter, the literal parts between its <code>*</code> wildcards
+	 */
+	private final String[][] fSegments;
+
+	/**
+	 * Whether one of the filters matches any type name
+	 */
+	private final boolean fMatchesAll;
+
+	private ClassFilterMatcher(String[] filters, String[][] segments, boolean matchesAll) {
+		fFilters = filters;
+		fSegments = segments;
+		fMatchesAll = matchesAll;
+	}
+
+	/**
+	 * Returns a matcher of the given filters.
+	 *
+	 * @param filters
+	 *            class filters, or <code>null</code>
+	 * @return a matcher of the given filters
+	 */
+	static ClassFilterMatcher compile(String[] filters) {
+		if (filters == null || filters.length == 0) {
+			return EMPTY;
+		}
+		String[][] segments = new String[filters.length][];
+		boolean matchesAll = false;
+		for (int i = 0; i < filters.length; i++) {
+			segments[i] = split(filters[i]);
+			if (segments[i].length == 0) {
+				matchesAll = true;
+			}
+		}
+		return new ClassFilterMatcher(filters, segments, matchesAll);
+	}
+
+	/**
+	 * Returns the non empty parts of the given filter between its
+	 * <code>*</code> wildcards.
+	 */
+	private static String[] split(String filter) {
+		int count = 0;
+		int start = 0;
+		String[] segments = new String[filter.length() / 2 + 1];
+		while (start <= filter.length()) {
+			int end = filter.indexOf('*', start);
+			if (end == -1) {
+				end = filter.length();
+			}
+			if (end > start) {
+				segments[count++] = filter.substring(start, end);
+			}
+			start = end + 1;
+		}
+		String[] result = new String[count];
+		System.arraycopy(segments, 0, result, 0, count);
+		return result;
+	}
+
+	/**
+	 * Returns whether this matcher was compiled from the given filters.
+	 */
+	boolean isCompiledFrom(String[] filters) {
+		return filters == fFilters || (filters == null && fFilters.length == 0);
+	}
+
+	/**
+	 * Returns whether this matcher has no filter.
+	 */
+	boolean isEmpty() {
+		return fSegments.length == 0;
+	}
+
+	/**
+	 * Returns whether one of the filters matches the given type name.
+	 *
+	 * @param typeName
+	 *            fully qualified type name
+	 * @return whether one of the filters matches the given type name
+	 */
+	boolean matches(String typeName) {
+		if (fMatchesAll) {
+			return true;
+		}
+		for (String[] segments : fSegments) {
+			int index = 0;
+			int i = 0;
+			while (i < segments.length) {
+				index = typeName.indexOf(segments[i], index);
+				if (index == -1) {
+					break;
+				}
+				index += segments[i].length();
+				i++;
+			}
+			if (i == segments.length) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
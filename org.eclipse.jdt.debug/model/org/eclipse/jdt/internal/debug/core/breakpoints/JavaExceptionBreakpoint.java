@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
-import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -29,7 +28,6 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.IPreferencesService;
 import org.eclipse.debug.core.DebugException;
-import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaExceptionBreakpoint;
@@ -133,6 +131,12 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 */
 	protected String[] fExclusionClassFilters = null;
 
+	/**
+	 * The inclusion and exclusion class filters, compiled when first matched.
+	 */
+	private ClassFilterMatcher fInclusionMatcher;
+	private ClassFilterMatcher fExclusionMatcher;
+
 	private ObjectReference fLastException;
 	private JDIDebugTarget fLastTarget;
 
@@ -197,7 +201,6 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 		if (!isCaught() && !isUncaught()) {
 			return null;
 		}
-		ExceptionRequest request = null;
 		EventRequestManager manager = target.getEventRequestManager();
 		if (manager == null) {
 			target.requestFailed(
@@ -206,10 +209,18 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 			return null;
 		}
 
+		String[] classFilters = getRequestClassFilters();
+		EventRequest[] requests = new EventRequest[Math.max(classFilters.length, 1)];
 		try {
-			request = manager.createExceptionRequest(type, isCaught(),
-					isUncaught());
-			configureRequest(request, target);
+			for (int i = 0; i < requests.length; i++) {
+				ExceptionRequest request = manager.createExceptionRequest(type,
+						isCaught(), isUncaught());
+				if (classFilters.length > 0) {
+					request.addClassFilter(classFilters[i]);
+				}
+				configureRequest(request, target);
+				requests[i] = request;
+			}
 		} catch (VMDisconnectedException e) {
 			if (target.isAvailable()) {
 				JDIDebugPlugin.log(e);
@@ -219,7 +230,87 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 			target.internalError(e);
 			return null;
 		}
-		return new EventRequest[] { request };
+		return requests;
+	}
+
+	/**
+	 * Returns the class patterns that restrict the requests of this
+	 * breakpoint to the inclusion filters, one request per pattern, or an
+	 * empty array if the requests can't be restricted.
+	 * <p>
+	 * A JDWP class pattern is anchored: it matches a class name that equals
+	 * it, or that starts or ends with it around its wildcard. A filter of the
+	 * breakpoint matches a class name that contains it, see
+	 * {@link ClassFilterMatcher}, so the VM would miss most of the locations
+	 * that a simple name or a suffix filter includes. The inclusion filters
+	 * are only checked by the VM when each of them is a qualified class name
+	 * or a package pattern such as <code>com.example.*</code>, which both
+	 * matchers read alike from the start of a class name. A qualified class
+	 * name is sent as a prefix, so that its nested classes are reported as
+	 * well. The VM only misses a class name that contains the filter past its
+	 * start, such as <code>org.com.example.Foo</code>. Other inclusion
+	 * filters are only checked when the exception is reported.
+	 * </p>
+	 * <p>
+	 * Prefixes included in others are removed, so that an exception is
+	 * reported by one request at most. A hit count can't be shared by several
+	 * requests, so it restricts a single request only.
+	 * </p>
+	 */
+	private String[] getRequestClassFilters() throws CoreException {
+		String[] filters = getInclusionClassFilters();
+		List<String> prefixes = new ArrayList<>(filters.length);
+		for (String filter : filters) {
+			if (!isQualifiedPattern(filter)) {
+				return new String[0];
+			}
+			prefixes.add(filter.endsWith("*") ? filter.substring(0, filter.length() - 1) : filter); //$NON-NLS-1$
+		}
+		for (int i = prefixes.size() - 1; i >= 0; i--) {
+			String prefix = prefixes.get(i);
+			for (int j = 0; j < prefixes.size(); j++) {
+				String other = prefixes.get(j);
+				if (i != j && prefix.startsWith(other) && (!other.startsWith(prefix) || j < i)) {
+					prefixes.remove(i);
+					break;
+				}
+			}
+		}
+		if (prefixes.size() > 1 && getHitCount() > 0) {
+			return new String[0];
+		}
+		String[] patterns = new String[prefixes.size()];
+		for (int i = 0; i < patterns.length; i++) {
+			patterns[i] = prefixes.get(i) + '*';
+		}
+		return patterns;
+	}
+
+	/**
+	 * Returns whether the given filter can be checked by the VM as a JDWP
+	 * class pattern, that is a class name that may start or end with
+	 * <code>*</code>.
+	 */
+	private static boolean isClassPattern(String filter) {
+		int wildcard = filter.indexOf('*');
+		if (wildcard == -1) {
+			return filter.length() > 0;
+		}
+		return filter.lastIndexOf('*') == wildcard
+				&& (wildcard == 0 || wildcard == filter.length() - 1);
+	}
+
+	/**
+	 * Returns whether the given filter is a qualified class name or a package
+	 * name followed by <code>.*</code>.
+	 */
+	private static boolean isQualifiedPattern(String filter) {
+		int wildcard = filter.indexOf('*');
+		if (wildcard == -1) {
+			return filter.indexOf('.') > 0;
+		}
+		return wildcard == filter.length() - 1 && wildcard > 1
+				&& filter.charAt(wildcard - 1) == '.';
 	}
 
 	/**
@@ -387,7 +478,7 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 				name = ex.type().name();
 				if (!name.equals(getTypeName())) {
 					if (!isSuspendOnSubclasses()
-							& isSubclass((ClassType) ex.type(), getTypeName())) {
+							&& isSubclass(fLastTarget, (ClassType) ex.type(), getTypeName())) {
 						return true;
 					}
 				}
@@ -405,41 +496,21 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 			}
 			setExceptionName(name);
 			disableTriggerPoint(event);
-			IBreakpoint[] allBreakpoints = DebugPlugin.getDefault().getBreakpointManager().getBreakpoints();
-			for (IBreakpoint iBreakpoint : allBreakpoints) {
-				if (iBreakpoint instanceof JavaExceptionBreakpoint) {
-					JavaExceptionBreakpoint jExceptionBreakpoint = (JavaExceptionBreakpoint)iBreakpoint;
-					try {
-						//This Java Exception breakpoint is the  breakpoint created for catching compilation and Uncaught exception in JavaDebugOptionsManagaer initialization
-						// This does not have scope defined
-						if (jExceptionBreakpoint.getTypeName().equals(name)) {
-							if (jExceptionBreakpoint.getExclusionClassFilters().length >= 1
-						|| jExceptionBreakpoint.getInclusionClassFilters().length >= 1
-						|| filtersIncludeDefaultPackage(jExceptionBreakpoint.fInclusionClassFilters)
-						|| filtersIncludeDefaultPackage(jExceptionBreakpoint.fExclusionClassFilters)) {
-							Location location = ((ExceptionEvent) event).location();
-							String typeName = location.declaringType().name();
-							boolean defaultPackage = typeName.indexOf('.') == -1;
-							boolean included = true;
-							String[] filters = jExceptionBreakpoint.getInclusionClassFilters();
-							if (filters.length > 0) {
-								included = matchesFilters(filters, typeName, defaultPackage);
-							}
-							boolean excluded = false;
-							filters = jExceptionBreakpoint.getExclusionClassFilters();
-							if (filters.length > 0) {
-								excluded = matchesFilters(filters, typeName, defaultPackage);
-							}
-							if (included && !excluded) {
-								return !suspend(thread, suspendVote);
-							}
-							return true;
-							}
-						}
-					}
-					catch (CoreException e) {
-						e.printStackTrace();
+			// The first exception breakpoint for the thrown type that has a
+			// scope decides, this includes the breakpoint created for catching
+			// compilation and uncaught exceptions in JavaDebugOptionsManager
+			// initialization, which has no scope
+			for (JavaExceptionBreakpoint jExceptionBreakpoint : fLastTarget.getExceptionBreakpoints(name)) {
+				ClassFilterMatcher inclusion = jExceptionBreakpoint.getInclusionMatcher();
+				ClassFilterMatcher exclusion = jExceptionBreakpoint.getExclusionMatcher();
+				if (!inclusion.isEmpty() || !exclusion.isEmpty()) {
+					Location location = ((ExceptionEvent) event).location();
+					String typeName = location.declaringType().name();
+					boolean included = inclusion.isEmpty() || inclusion.matches(typeName);
+					if (included && !exclusion.matches(typeName)) {
+						return !suspend(thread, suspendVote);
 					}
+					return true;
 				}
 			}
 
@@ -452,19 +523,19 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 * Returns whether the given class type is a subclass of the classes with the
 	 * given name.
 	 *
+	 * @param target
+	 *            the target of the class type, which caches its superclasses
 	 * @param type
 	 *            the class type reference
 	 * @return true if the specified the class type is a subclass of the class
 	 *         with the given name
 	 * @since 3.2
 	 */
-	private boolean isSubclass(ClassType type, String typeName) {
-		type = type.superclass();
-		while (type != null) {
-			if (type.name().equals(typeName)) {
+	private boolean isSubclass(JDIDebugTarget target, ClassType type, String typeName) {
+		for (String superclass : target.getSuperclassNames(type)) {
+			if (superclass.equals(typeName)) {
 				return true;
 			}
-			type = type.superclass();
 		}
 		return false;
 	}
@@ -514,20 +585,7 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 */
 	protected boolean matchesFilters(String[] filters, String typeName,
 			boolean defaultPackage) {
-		for (String filter2 : filters) {
-			String filter = filter2;
-			if (defaultPackage && filter.length() == 0) {
-				return true;
-			}
-
-			filter = filter.replaceAll("\\.", "\\\\."); //$NON-NLS-1$//$NON-NLS-2$
-			filter = filter.replaceAll("\\*", "\\.\\*"); //$NON-NLS-1$//$NON-NLS-2$
-			Pattern pattern = Pattern.compile(filter);
-			if (pattern.matcher(typeName).find()) {
-				return true;
-			}
-		}
-		return false;
+		return ClassFilterMatcher.compile(filters).matches(typeName);
 	}
 
 	/**
@@ -593,18 +651,14 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	@Override
 	protected void configureRequest(EventRequest eRequest, JDIDebugTarget target)
 			throws CoreException {
-		String[] iFilters = getInclusionClassFilters();
-		String[] eFilters = getExclusionClassFilters();
-
 		ExceptionRequest request = (ExceptionRequest) eRequest;
 
-		if (iFilters.length == 1) {
-			if (eFilters.length == 0) {
-				request.addClassFilter(iFilters[0]);
-			}
-		} else if (eFilters.length == 1) {
-			if (iFilters.length == 0) {
-				request.addClassExclusionFilter(eFilters[0]);
+		// An anchored JDWP pattern excludes fewer locations than the filter,
+		// which is safe since the filters are checked again when the
+		// exception is reported
+		for (String filter : getExclusionClassFilters()) {
+			if (isClassPattern(filter)) {
+				request.addClassExclusionFilter(filter);
 			}
 		}
 
@@ -698,6 +752,32 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 		fExclusionClassFilters = filters;
 	}
 
+	/**
+	 * Returns the inclusion class filters, compiled.
+	 */
+	ClassFilterMatcher getInclusionMatcher() {
+		String[] filters = getInclusionClassFilters();
+		ClassFilterMatcher matcher = fInclusionMatcher;
+		if (matcher == null || !matcher.isCompiledFrom(filters)) {
+			matcher = ClassFilterMatcher.compile(filters);
+			fInclusionMatcher = matcher;
+		}
+		return matcher;
+	}
+
+	/**
+	 * Returns the exclusion class filters, compiled.
+	 */
+	ClassFilterMatcher getExclusionMatcher() {
+		String[] filters = getExclusionClassFilters();
+		ClassFilterMatcher matcher = fExclusionMatcher;
+		if (matcher == null || !matcher.isCompiledFrom(filters)) {
+			matcher = ClassFilterMatcher.compile(filters);
+			fExclusionMatcher = matcher;
+		}
+		return matcher;
+	}
+
 	/**
 	 * @see JavaBreakpoint#installableReferenceType(ReferenceType,
 	 *      JDIDebugTarget)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.breakpoints;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -34,7 +37,6 @@ import org.eclipse.jdt.internal.debug.core.model.LambdaUtils;
 import org.eclipse.jdt.internal.debug.core.model.MethodResult;
 import org.eclipse.jdt.internal.debug.core.model.MethodResult.ResultType;
 
-import com.sun.jdi.ClassType;
 import com.sun.jdi.Location;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
@@ -135,6 +137,24 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	 */
 	private Boolean fUsesTypePattern = null;
 
+	/**
+	 * Property identifier for the breakpoint requests installed at the return
+	 * instructions of a method, to report exits from that method only
+	 */
+	private static final String RETURN_LOCATION = "org.eclipse.jdt.debug.core.returnLocation"; //$NON-NLS-1$
+
+	/**
+	 * Property identifier for the method exit requests created when a thread
+	 * reaches a return instruction, to report the exit of that thread only
+	 */
+	private static final String RETURN_EXIT = "org.eclipse.jdt.debug.core.returnExit"; //$NON-NLS-1$
+
+	/**
+	 * Method exit requests created at return instructions that have not
+	 * reported their exit yet, by target
+	 */
+	private Map<JDIDebugTarget, List<EventRequest>> fReturnExitRequests = new HashMap<>();
+
 	/**
 	 * Constructs a new method breakpoint
 	 */
@@ -284,20 +304,14 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		if (manager != null) {
 			try {
 				if (entry) {
-					if (classFilter instanceof ClassType && getMethodName() != null
-							&& getMethodSignature() != null) {
+					if (classFilter instanceof ReferenceType) {
 						// use a line breakpoint if possible for better performance
-						ClassType clazz = (ClassType) classFilter;
-						if (clazz.name().equals(getTypeName())) {
-							// only use line breakpoint when there is an exact match
-							Method method = clazz.concreteMethodByName(
-									getMethodName(), getMethodSignature());
-							if (method != null && !method.isNative()) {
-								Location location = method.location();
-								if (location != null && location.codeIndex() != -1) {
-									request = manager
-											.createBreakpointRequest(location);
-								}
+						Method method = getConcreteMethod((ReferenceType) classFilter);
+						if (method != null) {
+							Location location = method.location();
+							if (location != null && location.codeIndex() != -1) {
+								request = manager
+										.createBreakpointRequest(location);
 							}
 						}
 					}
@@ -338,6 +352,184 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		return null;
 	}
 
+	/**
+	 * Returns the method of the given type this breakpoint suspends in, if
+	 * its requests can be located in the code of that method. That is when
+	 * the type is the type of this breakpoint, and this breakpoint is for a
+	 * method with a given name and signature, implemented in that type in
+	 * Java.
+	 *
+	 * @param type
+	 *            the type in which to create requests
+	 * @return the method of this breakpoint, or <code>null</code> if method
+	 *         entry and exit requests must be used
+	 */
+	private Method getConcreteMethod(ReferenceType type) throws CoreException {
+		String methodName = getMethodName();
+		String methodSignature = getMethodSignature();
+		if (methodName == null || methodSignature == null || isNativeOnly()
+				|| !type.name().equals(getTypeName())) {
+			return null;
+		}
+		for (Method method : type.methodsByName(methodName)) {
+			if (!method.declaringType().equals(type) || method.isAbstract()
+					|| method.isNative()) {
+				continue;
+			}
+			String signature = method.signature();
+			if (signature.equals(methodSignature)
+					|| signature.replace('$', '.').equals(methodSignature)) {
+				return method;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns new breakpoint requests for exits from this breakpoint's method
+	 * in the given type, one at each return instruction of the method. Unlike
+	 * a method exit request, these requests are not reported for the other
+	 * methods of the type, and do not slow down the target.
+	 *
+	 * @param target
+	 *            the target in which to create the requests
+	 * @param type
+	 *            the type on which to create the requests
+	 * @return breakpoint requests at the returns of the method, or
+	 *         <code>null</code> if a method exit request must be used
+	 * @exception CoreException
+	 *                if an exception occurs accessing this breakpoint's
+	 *                underlying marker
+	 */
+	private EventRequest[] createReturnRequests(JDIDebugTarget target,
+			ReferenceType type) throws CoreException {
+		EventRequestManager manager = target.getEventRequestManager();
+		// the hit count of a method exit must be shared by all returns
+		if (manager == null || getHitCount() > 0) {
+			return null;
+		}
+		try {
+			if (!target.getVM().canGetBytecodes()) {
+				return null;
+			}
+			Method method = getConcreteMethod(type);
+			if (method == null) {
+				return null;
+			}
+			List<Location> locations = new ArrayList<>();
+			for (int codeIndex : getReturnCodeIndexes(method.bytecodes())) {
+				Location location = method.locationOfCodeIndex(codeIndex);
+				if (location == null) {
+					return null;
+				}
+				locations.add(location);
+			}
+			if (locations.isEmpty()) {
+				return null;
+			}
+			EventRequest[] requests = new EventRequest[locations.size()];
+			for (int i = 0; i < requests.length; i++) {
+				requests[i] = manager.createBreakpointRequest(locations.get(i));
+				requests[i].putProperty(RETURN_LOCATION, Boolean.TRUE);
+				configureRequest(requests[i], target);
+			}
+			return requests;
+		} catch (VMDisconnectedException e) {
+			if (target.isAvailable()) {
+				JDIDebugPlugin.log(e);
+			}
+		} catch (RuntimeException e) {
+			target.internalError(e);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the code indexes of the return instructions in the given
+	 * bytecodes.
+	 *
+	 * @param bytecodes
+	 *            the bytecodes of a method
+	 * @return the code indexes of the return instructions
+	 */
+	static int[] getReturnCodeIndexes(byte[] bytecodes) {
+		int[] indexes = new int[4];
+		int count = 0;
+		int i = 0;
+		while (i < bytecodes.length) {
+			int opcode = bytecodes[i] & 0xFF;
+			if (opcode >= 0xAC && opcode <= 0xB1) { // ireturn ... return
+				if (count == indexes.length) {
+					indexes = Arrays.copyOf(indexes, count * 2);
+				}
+				indexes[count++] = i;
+			}
+			i += getInstructionLength(bytecodes, i);
+		}
+		return Arrays.copyOf(indexes, count);
+	}
+
+	/**
+	 * Returns the length of the instruction at the given index of the given
+	 * bytecodes, including its operands.
+	 */
+	private static int getInstructionLength(byte[] bytecodes, int index) {
+		int opcode = bytecodes[index] & 0xFF;
+		switch (opcode) {
+			case 0x10: // bipush
+			case 0x12: // ldc
+			case 0xA9: // ret
+			case 0xBC: // newarray
+				return 2;
+			case 0x11: // sipush
+			case 0x13: // ldc_w
+			case 0x14: // ldc2_w
+			case 0x84: // iinc
+			case 0xBB: // new
+			case 0xBD: // anewarray
+			case 0xC0: // checkcast
+			case 0xC1: // instanceof
+			case 0xC6: // ifnull
+			case 0xC7: // ifnonnull
+				return 3;
+			case 0xC5: // multianewarray
+				return 4;
+			case 0xB9: // invokeinterface
+			case 0xBA: // invokedynamic
+			case 0xC8: // goto_w
+			case 0xC9: // jsr_w
+				return 5;
+			case 0xC4: // wide
+				return (bytecodes[index + 1] & 0xFF) == 0x84 ? 6 : 4;
+			case 0xAA: { // tableswitch
+				int operands = (index + 4) & ~3;
+				int low = readInt(bytecodes, operands + 4);
+				int high = readInt(bytecodes, operands + 8);
+				return operands - index + 12 + (high - low + 1) * 4;
+			}
+			case 0xAB: { // lookupswitch
+				int operands = (index + 4) & ~3;
+				int pairs = readInt(bytecodes, operands + 4);
+				return operands - index + 8 + pairs * 8;
+			}
+			default:
+				if ((opcode >= 0x15 && opcode <= 0x19) // iload ... aload
+						|| (opcode >= 0x36 && opcode <= 0x3A)) { // istore ... astore
+					return 2;
+				}
+				if ((opcode >= 0x99 && opcode <= 0xA8) // ifeq ... jsr
+						|| (opcode >= 0xB2 && opcode <= 0xB8)) { // getstatic ... invokestatic
+					return 3;
+				}
+				return 1;
+		}
+	}
+
+	private static int readInt(byte[] bytes, int index) {
+		return (bytes[index] << 24) | ((bytes[index + 1] & 0xFF) << 16)
+				| ((bytes[index + 2] & 0xFF) << 8) | (bytes[index + 3] & 0xFF);
+	}
+
 	/**
 	 * @see JavaBreakpoint#setRequestThreadFilter(EventRequest)
 	 */
@@ -378,11 +570,12 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	protected void updateEnabledState(EventRequest request,
 			JDIDebugTarget target) throws CoreException {
 		boolean enabled = isEnabled();
-		if (request instanceof MethodEntryRequest
+		if (request instanceof MethodExitRequest
+				|| request.getProperty(RETURN_LOCATION) != null) {
+			enabled = enabled && isExit();
+		} else if (request instanceof MethodEntryRequest
 				|| request instanceof BreakpointRequest) {
 			enabled = enabled && isEntry();
-		} else if (request instanceof MethodExitRequest) {
-			enabled = enabled && isExit();
 		}
 
 		if (enabled != request.isEnabled()) {
@@ -433,6 +626,9 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 					suspendVote);
 		} else if (event instanceof MethodExitEvent) {
 			MethodExitEvent exitEvent = (MethodExitEvent) event;
+			if (exitEvent.request().getProperty(RETURN_EXIT) != null) {
+				deleteReturnExitRequest(exitEvent.request(), thread.getJavaDebugTarget());
+			}
 			fLastEventTypes.put(thread.getDebugTarget(), EXIT_EVENT);
 			//inActivateTriggerPoint(event);
 			boolean result = handleMethodEvent(exitEvent, exitEvent.method(), thread,
@@ -443,12 +639,78 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 			}
 			return result;
 		} else if (event instanceof BreakpointEvent) {
+			if (event.request().getProperty(RETURN_LOCATION) != null) {
+				createReturnExitRequest((BreakpointEvent) event, thread.getJavaDebugTarget());
+				return true;
+			}
 			fLastEventTypes.put(thread.getDebugTarget(), ENTRY_EVENT);
 			return super.handleBreakpointEvent(event, thread, suspendVote);
 		}
 		return true;
 	}
 
+	/**
+	 * A thread is about to return from this breakpoint's method. Creates a
+	 * method exit request for that thread only, so the exit is handled as
+	 * other method exits, with the value being returned.
+	 */
+	private void createReturnExitRequest(BreakpointEvent event,
+			JDIDebugTarget target) {
+		EventRequestManager manager = target.getEventRequestManager();
+		if (manager == null) {
+			return;
+		}
+		try {
+			MethodExitRequest request = manager.createMethodExitRequest();
+			request.addThreadFilter(event.thread());
+			request.addClassFilter(event.location().declaringType());
+			request.addCountFilter(1);
+			request.setSuspendPolicy(event.request().suspendPolicy());
+			request.putProperty(JAVA_BREAKPOINT_PROPERTY, this);
+			request.putProperty(RETURN_EXIT, Boolean.TRUE);
+			synchronized (fReturnExitRequests) {
+				fReturnExitRequests.computeIfAbsent(target, t -> new ArrayList<>()).add(request);
+			}
+			target.addJDIEventListener(this, request);
+			request.enable();
+		} catch (VMDisconnectedException e) {
+			if (target.isAvailable()) {
+				JDIDebugPlugin.log(e);
+			}
+		} catch (RuntimeException e) {
+			target.internalError(e);
+		}
+	}
+
+	/**
+	 * Deletes a method exit request created at a return instruction.
+	 */
+	private void deleteReturnExitRequest(EventRequest request,
+			JDIDebugTarget target) {
+		synchronized (fReturnExitRequests) {
+			List<EventRequest> requests = fReturnExitRequests.get(target);
+			if (requests == null || !requests.remove(request)) {
+				return;
+			}
+			if (requests.isEmpty()) {
+				fReturnExitRequests.remove(target);
+			}
+		}
+		target.removeJDIEventListener(this, request);
+		try {
+			EventRequestManager manager = target.getEventRequestManager();
+			if (manager != null) {
+				manager.deleteEventRequest(request);
+			}
+		} catch (VMDisconnectedException e) {
+			if (target.isAvailable()) {
+				JDIDebugPlugin.log(e);
+			}
+		} catch (RuntimeException e) {
+			target.internalError(e);
+		}
+	}
+
 	/**
 	 * Method entry/exit events are fired each time any method is invoked in a
 	 * class in which a method entry/exit breakpoint has been installed. When a
@@ -719,6 +981,16 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	@Override
 	public void removeFromTarget(JDIDebugTarget target) throws CoreException {
 		fLastEventTypes.remove(target);
+		List<EventRequest> requests;
+		synchronized (fReturnExitRequests) {
+			requests = fReturnExitRequests.get(target);
+			requests = requests == null ? null : new ArrayList<>(requests);
+		}
+		if (requests != null) {
+			for (EventRequest request : requests) {
+				deleteReturnExitRequest(request, target);
+			}
+		}
 		super.removeFromTarget(target);
 	}
 
@@ -752,10 +1024,15 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 			return false;
 		}
 		EventRequest entryRequest = createMethodEntryRequest(target, type);
-		EventRequest exitRequest = createMethodExitRequest(target, type);
-
 		registerRequest(entryRequest, target);
-		registerRequest(exitRequest, target);
+		EventRequest[] exitRequests = createReturnRequests(target, type);
+		if (exitRequests == null) {
+			registerRequest(createMethodExitRequest(target, type), target);
+		} else {
+			for (EventRequest exitRequest : exitRequests) {
+				registerRequest(exitRequest, target);
+			}
+		}
 		return true;
 	}
 
@@ -0,0 +1,458 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaTraceRecord;
+import org.eclipse.jdt.debug.core.IJavaTracepoint;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
+
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.Field;
+import com.sun.jdi.IncompatibleThreadStateException;
+import com.sun.jdi.LocalVariable;
+import com.sun.jdi.ObjectCollectedException;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.StackFrame;
+import com.sun.jdi.StringReference;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VMDisconnectedException;
+import com.sun.jdi.Value;
+import com.sun.jdi.event.ClassPrepareEvent;
+import com.sun.jdi.event.Event;
+import com.sun.jdi.event.EventSet;
+import com.sun.jdi.event.LocatableEvent;
+import com.sun.jdi.request.EventRequest;
+
+/**
+ * A line breakpoint that records the values of variables and resumes the
+ * thread that hit it at once.
+ * <p>
+ * Hits are handled on the event dispatch thread: the values are read with one
+ * request per kind of variable, the contents of strings are read while the
+ * thread is still suspended, and the event set is resumed without suspending
+ * the thread in the model, so no debug event is fired. Other objects are only
+ * recorded by reference.
+ * </p>
+ */
+public class JavaTracepoint extends JavaLineBreakpoint implements IJavaTracepoint {
+
+	/**
+	 * Breakpoint attribute storing the comma separated names of the traced
+	 * variables (value
+	 * <code>"org.eclipse.jdt.debug.core.tracedVariables"</code>). This
+	 * attribute is stored as a <code>String</code>.
+	 */
+	protected static final String TRACED_VARIABLES = "org.eclipse.jdt.debug.core.tracedVariables"; //$NON-NLS-1$
+
+	/**
+	 * Breakpoint attribute storing the number of records kept for each target
+	 * (value <code>"org.eclipse.jdt.debug.core.bufferSize"</code>). This
+	 * attribute is stored as an <code>int</code>.
+	 */
+	protected static final String BUFFER_SIZE = "org.eclipse.jdt.debug.core.bufferSize"; //$NON-NLS-1$
+
+	/**
+	 * Property of the requests of a tracepoint storing the variables traced at
+	 * the location of the request, resolved on the first hit.
+	 */
+	private static final String TRACER = "org.eclipse.jdt.debug.core.tracer"; //$NON-NLS-1$
+
+	public static final String JAVA_TRACEPOINT = "org.eclipse.jdt.debug.javaTracepointMarker"; //$NON-NLS-1$
+
+	/**
+	 * Default number of records kept for each target
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1000;
+
+	/**
+	 * Maximum number of characters of a string recorded by a hit
+	 */
+	private static final int MAX_TEXT_LENGTH = 1000;
+
+	/**
+	 * Records of the hits, by target
+	 */
+	private final Map<JDIDebugTarget, TraceBuffer> fBuffers = new ConcurrentHashMap<>();
+
+	public JavaTracepoint() {
+	}
+
+	/**
+	 * Creates a tracepoint recording the values of the given variables.
+	 */
+	public JavaTracepoint(IResource resource, String typeName, int lineNumber,
+			int charStart, int charEnd, String[] variables, boolean add,
+			Map<String, Object> attributes) throws DebugException {
+		super(resource, typeName, lineNumber, charStart, charEnd, 0, add,
+				addTracepointAttributes(attributes, variables), JAVA_TRACEPOINT);
+	}
+
+	private static Map<String, Object> addTracepointAttributes(Map<String, Object> attributes, String[] variables) {
+		attributes.put(TRACED_VARIABLES, serializeNames(variables));
+		attributes.put(BUFFER_SIZE, Integer.valueOf(DEFAULT_BUFFER_SIZE));
+		return attributes;
+	}
+
+	private static String serializeNames(String[] names) {
+		StringBuilder buffer = new StringBuilder();
+		for (String name : names) {
+			if (buffer.length() > 0) {
+				buffer.append(',');
+			}
+			buffer.append(name.trim());
+		}
+		return buffer.toString();
+	}
+
+	@Override
+	public String[] getTracedVariables() throws CoreException {
+		List<String> names = new ArrayList<>();
+		StringTokenizer tokenizer = new StringTokenizer(ensureMarker().getAttribute(TRACED_VARIABLES, ""), ","); //$NON-NLS-1$ //$NON-NLS-2$
+		while (tokenizer.hasMoreTokens()) {
+			String name = tokenizer.nextToken().trim();
+			if (name.length() > 0) {
+				names.add(name);
+			}
+		}
+		return names.toArray(new String[names.size()]);
+	}
+
+	@Override
+	public void setTracedVariables(String[] names) throws CoreException {
+		setAttribute(TRACED_VARIABLES, serializeNames(names));
+		recreate();
+	}
+
+	@Override
+	public int getBufferSize() throws CoreException {
+		return ensureMarker().getAttribute(BUFFER_SIZE, DEFAULT_BUFFER_SIZE);
+	}
+
+	@Override
+	public void setBufferSize(int size) throws CoreException {
+		if (size != getBufferSize()) {
+			setAttribute(BUFFER_SIZE, Math.max(size, 1));
+			fBuffers.clear();
+		}
+	}
+
+	@Override
+	public IJavaTraceRecord[] getTraceRecords(IJavaDebugTarget target) {
+		TraceBuffer buffer = fBuffers.get(target);
+		return buffer == null ? new IJavaTraceRecord[0] : buffer.getRecords();
+	}
+
+	@Override
+	public void clearTraceRecords(IJavaDebugTarget target) {
+		fBuffers.remove(target);
+	}
+
+	@Override
+	public void removeFromTarget(JDIDebugTarget target) throws CoreException {
+		fBuffers.remove(target);
+		super.removeFromTarget(target);
+	}
+
+	/**
+	 * Tracepoints have no condition.
+	 */
+	@Override
+	public boolean supportsCondition() {
+		return false;
+	}
+
+	/**
+	 * Tracepoints have no condition, so that their events are never deferred
+	 * to a job by the event dispatcher.
+	 */
+	@Override
+	public boolean isConditionEnabled() throws CoreException {
+		return false;
+	}
+
+	/**
+	 * Every hit is recorded, a tracepoint has no hit count.
+	 */
+	@Override
+	protected void configureRequestHitCount(EventRequest request) throws CoreException {
+	}
+
+	/**
+	 * Only the thread that hit the tracepoint is suspended, while its
+	 * variables are read.
+	 */
+	@Override
+	protected int getJDISuspendPolicy() throws CoreException {
+		return EventRequest.SUSPEND_EVENT_THREAD;
+	}
+
+	@Override
+	public boolean handleEvent(Event event, JDIDebugTarget target, boolean suspendVote, EventSet eventSet) {
+		if (!(event instanceof LocatableEvent)) {
+			return super.handleEvent(event, target, suspendVote, eventSet);
+		}
+		ThreadReference threadRef = ((LocatableEvent) event).thread();
+		JDIThread thread = target.findThread(threadRef);
+		if (thread == null || thread.isIgnoringBreakpoints()) {
+			return true;
+		}
+		try {
+			EventRequest request = event.request();
+			StackFrame frame = threadRef.frame(0);
+			Tracer tracer = (Tracer) request.getProperty(TRACER);
+			if (tracer == null) {
+				tracer = new Tracer(getTracedVariables(), frame);
+				request.putProperty(TRACER, tracer);
+			}
+			Value[] values = tracer.getValues(frame);
+			String[] texts = tracer.getTexts(values);
+			TraceBuffer buffer = fBuffers.get(target);
+			if (buffer == null) {
+				buffer = new TraceBuffer(getBufferSize());
+				TraceBuffer previous = fBuffers.putIfAbsent(target, buffer);
+				if (previous != null) {
+					buffer = previous;
+				}
+			}
+			buffer.add(new TraceRecord(System.currentTimeMillis(), thread, tracer, values, texts));
+		} catch (VMDisconnectedException e) {
+			// the target is gone, and so are the records of this hit
+		} catch (IncompatibleThreadStateException | CoreException e) {
+			JDIDebugPlugin.log(e);
+		} catch (RuntimeException e) {
+			target.internalError(e);
+		}
+		return true;
+	}
+
+	/**
+	 * The thread was not suspended in the model, there is nothing to complete
+	 * unless the event is a class prepare event.
+	 */
+	@Override
+	public void eventSetComplete(Event event, JDIDebugTarget target, boolean suspend, EventSet eventSet) {
+		if (event instanceof ClassPrepareEvent) {
+			super.eventSetComplete(event, target, suspend, eventSet);
+		}
+	}
+
+	/**
+	 * The traced variables of a location, resolved to local variables and
+	 * fields.
+	 */
+	private static class Tracer {
+		final String[] fNames;
+		/**
+		 * For each name, its local variable or field, or <code>null</code> if
+		 * it is not visible
+		 */
+		final Object[] fVariables;
+		private final List<LocalVariable> fLocals = new ArrayList<>();
+		private final List<Field> fFields = new ArrayList<>();
+		private final List<Field> fStaticFields = new ArrayList<>();
+		private final ReferenceType fType;
+
+		Tracer(String[] names, StackFrame frame) {
+			fNames = names;
+			fVariables = new Object[names.length];
+			fType = frame.location().declaringType();
+			boolean isStatic = frame.location().method().isStatic();
+			for (int i = 0; i < names.length; i++) {
+				LocalVariable local = null;
+				try {
+					local = frame.visibleVariableByName(names[i]);
+				} catch (AbsentInformationException e) {
+					// no local variables, look for a field
+				}
+				if (local != null) {
+					fLocals.add(local);
+					fVariables[i] = local;
+					continue;
+				}
+				Field field = fType.fieldByName(names[i]);
+				if (field != null && (field.isStatic() || !isStatic)) {
+					if (field.isStatic()) {
+						fStaticFields.add(field);
+					} else {
+						fFields.add(field);
+					}
+					fVariables[i] = field;
+				}
+			}
+		}
+
+		Value[] getValues(StackFrame frame) {
+			Value[] values = new Value[fNames.length];
+			if (!fLocals.isEmpty()) {
+				setValues(values, frame.getValues(fLocals));
+			}
+			if (!fFields.isEmpty()) {
+				ObjectReference thisObject = frame.thisObject();
+				if (thisObject != null) {
+					setValues(values, thisObject.getValues(fFields));
+				}
+			}
+			if (!fStaticFields.isEmpty()) {
+				setValues(values, fType.getValues(fStaticFields));
+			}
+			return values;
+		}
+
+		/**
+		 * Returns the texts of the given values, read while the thread is
+		 * suspended. Objects other than strings are described by the declared
+		 * type of their variable, which needs no request.
+		 */
+		String[] getTexts(Value[] values) {
+			String[] texts = new String[values.length];
+			for (int i = 0; i < values.length; i++) {
+				Value value = values[i];
+				if (fVariables[i] == null) {
+					continue;
+				}
+				if (value == null) {
+					texts[i] = "null"; //$NON-NLS-1$
+				} else if (value instanceof StringReference) {
+					texts[i] = getText((StringReference) value);
+				} else if (value instanceof ObjectReference) {
+					String typeName = fVariables[i] instanceof LocalVariable ? ((LocalVariable) fVariables[i]).typeName()
+							: ((Field) fVariables[i]).typeName();
+					texts[i] = typeName + " (id=" + ((ObjectReference) value).uniqueID() + ')'; //$NON-NLS-1$
+				} else {
+					texts[i] = value.toString();
+				}
+			}
+			return texts;
+		}
+
+		private static String getText(StringReference string) {
+			try {
+				String text = string.value();
+				return text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) + "..." : text; //$NON-NLS-1$
+			} catch (ObjectCollectedException e) {
+				// not reachable while the thread is suspended in the frame
+				return null;
+			}
+		}
+
+		private void setValues(Value[] values, Map<?, Value> map) {
+			for (int i = 0; i < fVariables.length; i++) {
+				if (fVariables[i] != null && map.containsKey(fVariables[i])) {
+					values[i] = map.get(fVariables[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Latest records of the hits in a target.
+	 */
+	private static class TraceBuffer {
+		private final TraceRecord[] fRecords;
+		/**
+		 * Index of the next record to write
+		 */
+		private int fNext;
+		private int fCount;
+
+		TraceBuffer(int size) {
+			fRecords = new TraceRecord[Math.max(size, 1)];
+		}
+
+		synchronized void add(TraceRecord record) {
+			fRecords[fNext] = record;
+			fNext = (fNext + 1) % fRecords.length;
+			if (fCount < fRecords.length) {
+				fCount++;
+			}
+		}
+
+		synchronized IJavaTraceRecord[] getRecords() {
+			IJavaTraceRecord[] records = new IJavaTraceRecord[fCount];
+			int first = (fNext - fCount + fRecords.length) % fRecords.length;
+			for (int i = 0; i < fCount; i++) {
+				records[i] = fRecords[(first + i) % fRecords.length];
+			}
+			return records;
+		}
+	}
+
+	/**
+	 * Record of a hit. The values are wrapped for the model when they are
+	 * requested, their texts are read at the hit.
+	 */
+	private static class TraceRecord implements IJavaTraceRecord {
+		private final long fTime;
+		private final JDIThread fThread;
+		private final Tracer fTracer;
+		private final Value[] fValues;
+		private final String[] fTexts;
+
+		TraceRecord(long time, JDIThread thread, Tracer tracer, Value[] values, String[] texts) {
+			fTime = time;
+			fThread = thread;
+			fTracer = tracer;
+			fValues = values;
+			fTexts = texts;
+		}
+
+		@Override
+		public long getTime() {
+			return fTime;
+		}
+
+		@Override
+		public IJavaThread getThread() {
+			return fThread;
+		}
+
+		@Override
+		public String[] getVariableNames() {
+			return fTracer.fNames.clone();
+		}
+
+		@Override
+		public IJavaValue[] getValues() {
+			JDIDebugTarget target = fThread.getJavaDebugTarget();
+			IJavaValue[] values = new IJavaValue[fValues.length];
+			for (int i = 0; i < fValues.length; i++) {
+				if (fTracer.fVariables[i] != null) {
+					values[i] = JDIValue.createValue(target, fValues[i]);
+				}
+			}
+			return values;
+		}
+
+		@Override
+		public String[] getValueTexts() {
+			return fTexts.clone();
+		}
+	}
+}
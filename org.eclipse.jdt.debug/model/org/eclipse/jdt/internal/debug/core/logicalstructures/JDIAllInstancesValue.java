@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import org.eclipse.jdt.internal.debug.core.HeapWalkingManager;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectList;
 import org.eclipse.jdt.internal.debug.core.model.JDIPlaceholderValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
 
@@ -40,10 +41,11 @@ import org.eclipse.jdt.internal.debug.core.model.JDIReferenceType;
  */
 public class JDIAllInstancesValue extends JDIArrayValue {
 
-	private IJavaObject[] fInstances;
+	private JDIObjectList fInstances;
 	private JDIReferenceType fRoot;
 	private IJavaArrayType fType;
 	private boolean fIsMoreThanPreference;
+	private int fMax;
 
 	/**
 	 * Constructor, specifies whether there are more instances available than
@@ -67,37 +69,75 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	}
 
 	/**
-	 * @return an array of java objects that are instances of the root type
+	 * Returns the number of instances that are displayed, retrieving the
+	 * instances of the root type if they were not retrieved yet. An additional
+	 * placeholder value is displayed when there are more instances than should
+	 * be displayed. The instances are retrieved again when their retrieval was
+	 * canceled.
+	 *
+	 * @return the number of instances that are displayed
 	 */
-	protected IJavaObject[] getInstances() {
-		if (fInstances != null) {
-			return fInstances;
+	private synchronized int getInstanceCount() {
+		if (fRoot == null) {
+			return 0;
 		}
-		IJavaObject[] instances = new IJavaObject[0];
-		fIsMoreThanPreference = false;
-		if (fRoot != null) {
-			int max = HeapWalkingManager.getDefault()
-					.getAllInstancesMaxCount();
-			try {
-				if (max == 0) {
-					instances = fRoot.getInstances(max);
-				} else {
-					instances = fRoot.getInstances(max + 1);
-					if (instances.length > max) {
-						instances[max] = new JDIPlaceholderValue(
-								(JDIDebugTarget) fRoot.getDebugTarget(),
-								MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_2, Integer.toString(max)));
-						fIsMoreThanPreference = true;
-					}
-				}
-			} catch (DebugException e) {
-				JDIDebugPlugin.log(e);
-			}
+		if (fInstances == null || fInstances.isCanceled()) {
+			fMax = HeapWalkingManager.getDefault().getAllInstancesMaxCount();
+			fInstances = fRoot.getInstanceList(fMax == 0 ? 0 : fMax + 1);
+		}
+		int count = 0;
+		try {
+			count = fInstances.size();
+		} catch (DebugException e) {
+			JDIDebugPlugin.log(e);
+		}
+		fIsMoreThanPreference = fMax > 0 && count > fMax;
+		return fIsMoreThanPreference ? fMax : count;
+	}
+
+	/**
+	 * Returns the instances in the given range, ending with a placeholder
+	 * value if the range includes the instances that are not displayed. Only
+	 * the instances in the range are created.
+	 */
+	private synchronized IJavaObject[] getInstances(int offset, int length) throws DebugException {
+		int count = getInstanceCount();
+		int size = fIsMoreThanPreference ? count + 1 : count;
+		if (offset < 0 || length < 0 || offset + length > size) {
+			internalError(LogicalStructuresMessages.JDIAllInstancesValue_1);
+		}
+		int retrieved = Math.max(0, Math.min(length, count - offset));
+		IJavaObject[] instances = fInstances.getObjects(offset, retrieved);
+		if (retrieved < length) {
+			IJavaObject[] objects = new IJavaObject[length];
+			System.arraycopy(instances, 0, objects, 0, retrieved);
+			objects[retrieved] = new JDIPlaceholderValue(
+					(JDIDebugTarget) fRoot.getDebugTarget(),
+					MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_2, Integer.toString(fMax)));
+			instances = objects;
 		}
-		fInstances = instances;
 		return instances;
 	}
 
+	/**
+	 * @return an array of java objects that are instances of the root type
+	 */
+	protected IJavaObject[] getInstances() {
+		try {
+			return getInstances(0, getSize());
+		} catch (DebugException e) {
+			JDIDebugPlugin.log(e);
+			return new IJavaObject[0];
+		}
+	}
+
+	/**
+	 * @return whether the retrieval of the instances was canceled
+	 */
+	private boolean isCanceled() {
+		return fInstances != null && fInstances.isCanceled();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -105,7 +145,8 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public synchronized int getLength() throws DebugException {
-		return getInstances().length;
+		int count = getInstanceCount();
+		return fIsMoreThanPreference ? count + 1 : count;
 	}
 
 	/*
@@ -115,7 +156,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public int getSize() throws DebugException {
-		return getInstances().length;
+		return getLength();
 	}
 
 	/*
@@ -126,10 +167,10 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public IJavaValue getValue(int index) throws DebugException {
-		if (index > getInstances().length - 1 || index < 0) {
+		if (index > getSize() - 1 || index < 0) {
 			internalError(LogicalStructuresMessages.JDIAllInstancesValue_0);
 		}
-		return getInstances()[index];
+		return getInstances(index, 1)[0];
 	}
 
 	/*
@@ -150,17 +191,10 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public IVariable getVariable(int offset) throws DebugException {
-		if (offset > getInstances().length - 1 || offset < 0) {
+		if (offset > getSize() - 1 || offset < 0) {
 			internalError(LogicalStructuresMessages.JDIAllInstancesValue_1);
 		}
-		if (isMoreThanPreference() && offset == getInstances().length - 1) {
-			return new JDIPlaceholderVariable(
-					LogicalStructuresMessages.JDIAllInstancesValue_4,
-					getInstances()[offset]);
-		}
-		return new JDIPlaceholderVariable(MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_5,
-				Integer.toString(offset)),
-				getInstances()[offset]);
+		return getVariables(offset, 1)[0];
 	}
 
 	/*
@@ -176,12 +210,18 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 		if (length == 0) {
 			return new IVariable[0];
 		}
-		if (offset > getInstances().length - 1 || offset < 0) {
-			internalError(LogicalStructuresMessages.JDIAllInstancesValue_1);
-		}
+		IJavaObject[] instances = getInstances(offset, length);
 		IVariable[] vars = new JDIPlaceholderVariable[length];
 		for (int i = 0; i < length; i++) {
-			vars[i] = getVariable(i + offset);
+			if (isMoreThanPreference() && offset + i == fMax) {
+				vars[i] = new JDIPlaceholderVariable(
+						LogicalStructuresMessages.JDIAllInstancesValue_4,
+						instances[i]);
+			} else {
+				vars[i] = new JDIPlaceholderVariable(MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_5,
+						Integer.toString(offset + i)),
+						instances[i]);
+			}
 		}
 		return vars;
 	}
@@ -193,7 +233,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public IVariable[] getVariables() throws DebugException {
-		return getVariables(0, getInstances().length);
+		return getVariables(0, getSize());
 	}
 
 	/*
@@ -238,7 +278,7 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public boolean hasVariables() throws DebugException {
-		return getInstances().length > 0;
+		return getSize() > 0;
 	}
 
 	/*
@@ -280,15 +320,18 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 */
 	@Override
 	public String getValueString() throws DebugException {
-		if (isMoreThanPreference()) {
+		int size = getSize();
+		if (isCanceled()) {
+			return LogicalStructuresMessages.JDIAllInstancesValue_14;
+		} else if (isMoreThanPreference()) {
 			return MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_7,
-							Integer.toString(getInstances().length - 1));
-		} else if (getInstances().length == 1) {
+							Integer.toString(size - 1));
+		} else if (size == 1) {
 			return MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_8,
-					Integer.toString(getInstances().length));
+					Integer.toString(size));
 		} else {
 			return MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_9,
-					Integer.toString(getInstances().length));
+					Integer.toString(size));
 		}
 	}
 
@@ -302,7 +345,9 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	public String getDetailString() {
 		StringBuilder buf = new StringBuilder();
 		Object[] elements = getInstances();
-		if (elements.length == 0) {
+		if (isCanceled()) {
+			buf.append(LogicalStructuresMessages.JDIAllInstancesValue_14);
+		} else if (elements.length == 0) {
 			buf.append(LogicalStructuresMessages.JDIAllInstancesValue_10);
 		} else {
 			String length = null;
@@ -329,8 +374,8 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 	 *         displayed
 	 */
 	protected boolean isMoreThanPreference() {
-		getInstances(); // The instances must be requested to know if there are
-						// more than the preference
+		getInstanceCount(); // The instances must be requested to know if there
+							// are more than the preference
 		return fIsMoreThanPreference;
 	}
 
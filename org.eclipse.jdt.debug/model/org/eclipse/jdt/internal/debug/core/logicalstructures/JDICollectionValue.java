@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.logicalstructures;
+
+import java.text.MessageFormat;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.debug.core.IJavaArrayType;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaType;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+
+/**
+ * Java value containing the elements of a collection, as the logical structure
+ * of the collection. Elements are retrieved on demand, one page at a time, and
+ * kept for the lifetime of this value.
+ */
+public class JDICollectionValue extends JDIArrayValue {
+
+	/**
+	 * Source of the elements of a collection.
+	 */
+	interface Elements {
+
+		/**
+		 * Returns the number of elements.
+		 *
+		 * @return the number of elements
+		 * @throws DebugException
+		 *             if the size can't be retrieved
+		 */
+		int size() throws DebugException;
+
+		/**
+		 * Returns the elements in the given range, in iteration order.
+		 *
+		 * @param offset
+		 *            index of the first element
+		 * @param length
+		 *            number of elements
+		 * @return the elements, <code>null</code> entries for elements that no
+		 *         longer exist
+		 * @throws DebugException
+		 *             if the elements can't be retrieved
+		 */
+		IJavaValue[] getValues(int offset, int length) throws DebugException;
+	}
+
+	private final IJavaObject fCollection;
+	private final Elements fElements;
+	private IJavaArrayType fType;
+	private IJavaValue[] fValues;
+	private int fSize = -1;
+
+	/**
+	 * Constructs a value containing the elements of the given collection.
+	 *
+	 * @param target
+	 *            the target VM
+	 * @param collection
+	 *            the collection
+	 * @param elements
+	 *            source of the elements of the collection
+	 */
+	JDICollectionValue(JDIDebugTarget target, IJavaObject collection, Elements elements) {
+		super(target, null);
+		fCollection = collection;
+		fElements = elements;
+		setLogicalParent(collection);
+		try {
+			IJavaType[] javaTypes = target.getJavaTypes("java.lang.Object[]"); //$NON-NLS-1$
+			if (javaTypes != null && javaTypes.length > 0) {
+				fType = (IJavaArrayType) javaTypes[0];
+			}
+		} catch (DebugException e) {
+		}
+	}
+
+	/**
+	 * Returns the elements in the given range, retrieving the ones that were
+	 * not retrieved yet.
+	 */
+	private synchronized IJavaValue[] getElements(int offset, int length) throws DebugException {
+		int size = getSize();
+		if (offset < 0 || length < 0 || offset + length > size) {
+			internalError(LogicalStructuresMessages.JDIAllInstancesValue_1);
+		}
+		if (fValues == null) {
+			fValues = new IJavaValue[size];
+		}
+		int start = offset;
+		int end = offset + length;
+		while (start < end && fValues[start] != null) {
+			start++;
+		}
+		while (end > start && fValues[end - 1] != null) {
+			end--;
+		}
+		if (start < end) {
+			IJavaValue[] values = fElements.getValues(start, end - start);
+			for (int i = 0; i < values.length; i++) {
+				fValues[start + i] = values[i] == null ? getJavaDebugTarget().nullValue() : values[i];
+			}
+		}
+		IJavaValue[] elements = new IJavaValue[length];
+		System.arraycopy(fValues, offset, elements, 0, length);
+		return elements;
+	}
+
+	@Override
+	public synchronized int getLength() throws DebugException {
+		if (fSize == -1) {
+			fSize = Math.max(0, fElements.size());
+		}
+		return fSize;
+	}
+
+	@Override
+	public int getSize() throws DebugException {
+		return getLength();
+	}
+
+	@Override
+	public IJavaValue getValue(int index) throws DebugException {
+		return getElements(index, 1)[0];
+	}
+
+	@Override
+	public IJavaValue[] getValues() throws DebugException {
+		return getElements(0, getSize());
+	}
+
+	@Override
+	public IVariable getVariable(int offset) throws DebugException {
+		return getVariables(offset, 1)[0];
+	}
+
+	@Override
+	public IVariable[] getVariables(int offset, int length) throws DebugException {
+		IJavaValue[] values = getElements(offset, length);
+		IVariable[] variables = new IVariable[length];
+		for (int i = 0; i < length; i++) {
+			variables[i] = new JDIPlaceholderVariable(MessageFormat.format(LogicalStructuresMessages.JDIAllInstancesValue_5, Integer.toString(offset + i)), values[i], fCollection);
+		}
+		return variables;
+	}
+
+	@Override
+	public IVariable[] getVariables() throws DebugException {
+		return getVariables(0, getSize());
+	}
+
+	@Override
+	public boolean hasVariables() throws DebugException {
+		return getSize() > 0;
+	}
+
+	@Override
+	public int getInitialOffset() {
+		return 0;
+	}
+
+	@Override
+	public IJavaObject[] getReferringObjects(long max) throws DebugException {
+		return new IJavaObject[0];
+	}
+
+	@Override
+	public boolean isAllocated() throws DebugException {
+		return getJavaDebugTarget().isAvailable();
+	}
+
+	@Override
+	public void disableCollection() throws DebugException {
+		// the elements are not held by this value
+	}
+
+	@Override
+	public void enableCollection() throws DebugException {
+		// the elements are not held by this value
+	}
+
+	@Override
+	public IJavaType getJavaType() throws DebugException {
+		return fType;
+	}
+
+	@Override
+	public String getSignature() throws DebugException {
+		return fType == null ? "[Ljava/lang/Object;" : fType.getSignature(); //$NON-NLS-1$
+	}
+
+	@Override
+	public String getReferenceTypeName() throws DebugException {
+		return fType == null ? "java.lang.Object[]" : fType.getName(); //$NON-NLS-1$
+	}
+
+	@Override
+	public String getValueString() throws DebugException {
+		return ""; //$NON-NLS-1$
+	}
+
+	@Override
+	public String toString() {
+		return "elements of " + fCollection; //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,636 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.logicalstructures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.ArrayType;
+import com.sun.jdi.ClassNotLoadedException;
+import com.sun.jdi.Field;
+import com.sun.jdi.IntegerValue;
+import com.sun.jdi.LongValue;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.Type;
+import com.sun.jdi.Value;
+
+/**
+ * Logical structures of core JDK collections read from their fields, without
+ * method invocations in the target.
+ * <p>
+ * The built-in logical structures for <code>java.util.Map</code>,
+ * <code>java.util.Collection</code> and <code>java.util.Map$Entry</code>
+ * evaluate <code>entrySet().toArray()</code>, <code>toArray()</code>,
+ * <code>getKey()</code> and <code>getValue()</code>, which copies whole
+ * collections in the target and invokes two methods per map entry. For
+ * <code>HashMap</code>, <code>LinkedHashMap</code>,
+ * <code>ConcurrentHashMap</code>, <code>ArrayList</code>,
+ * <code>ArrayDeque</code> and <code>TreeMap</code>, and their entries, the
+ * same structures are read from the internal fields of the collections, one
+ * page of elements at a time. Subclasses and collections with an unknown field
+ * layout are not handled, so that the evaluated structures are used.
+ * </p>
+ */
+public final class JavaCollectionStructures {
+
+	private static final String MAP = "java.util.Map"; //$NON-NLS-1$
+	private static final String COLLECTION = "java.util.Collection"; //$NON-NLS-1$
+	private static final String MAP_ENTRY = "java.util.Map$Entry"; //$NON-NLS-1$
+
+	private static final String OBJECT = "Ljava/lang/Object;"; //$NON-NLS-1$
+	private static final String OBJECT_ARRAY = "[Ljava/lang/Object;"; //$NON-NLS-1$
+	private static final String INT = "I"; //$NON-NLS-1$
+	private static final String LONG = "J"; //$NON-NLS-1$
+
+	private static final String HASH_MAP_NODE = "Ljava/util/HashMap$Node;"; //$NON-NLS-1$
+	private static final String LINKED_HASH_MAP_ENTRY = "Ljava/util/LinkedHashMap$Entry;"; //$NON-NLS-1$
+	private static final String TREE_MAP_ENTRY = "Ljava/util/TreeMap$Entry;"; //$NON-NLS-1$
+	private static final String CONCURRENT_HASH_MAP_NODE = "Ljava/util/concurrent/ConcurrentHashMap$Node;"; //$NON-NLS-1$
+	private static final String CONCURRENT_HASH_MAP_TREE_NODE = "Ljava/util/concurrent/ConcurrentHashMap$TreeNode;"; //$NON-NLS-1$
+	private static final String CONCURRENT_HASH_MAP_COUNTER_CELL = "Ljava/util/concurrent/ConcurrentHashMap$CounterCell;"; //$NON-NLS-1$
+	private static final String CONCURRENT_HASH_MAP_TREE_BIN = "java.util.concurrent.ConcurrentHashMap$TreeBin"; //$NON-NLS-1$
+
+	/**
+	 * Map entry types with <code>key</code> and <code>value</code> fields
+	 */
+	private static final Set<String> KEY_VALUE_ENTRIES = new HashSet<>(Arrays.asList("java.util.HashMap$Node", //$NON-NLS-1$
+			"java.util.HashMap$TreeNode", //$NON-NLS-1$
+			"java.util.LinkedHashMap$Entry", //$NON-NLS-1$
+			"java.util.TreeMap$Entry", //$NON-NLS-1$
+			"java.util.AbstractMap$SimpleEntry", //$NON-NLS-1$
+			"java.util.AbstractMap$SimpleImmutableEntry")); //$NON-NLS-1$
+
+	/**
+	 * Map entry types with <code>key</code> and <code>val</code> fields
+	 */
+	private static final Set<String> KEY_VAL_ENTRIES = new HashSet<>(Arrays.asList("java.util.concurrent.ConcurrentHashMap$Node", //$NON-NLS-1$
+			"java.util.concurrent.ConcurrentHashMap$TreeNode", //$NON-NLS-1$
+			"java.util.concurrent.ConcurrentHashMap$MapEntry")); //$NON-NLS-1$
+
+	/**
+	 * Number of table slots read at once when looking for the next non empty
+	 * bin of a hash table
+	 */
+	private static final int TABLE_CHUNK = 256;
+
+	private JavaCollectionStructures() {
+	}
+
+	/**
+	 * Returns the logical structure of the given value for the built-in
+	 * structure of the given type, read from the fields of the value.
+	 *
+	 * @param value
+	 *            the value
+	 * @param structureType
+	 *            the type of the built-in structure, <code>java.util.Map</code>,
+	 *            <code>java.util.Collection</code> or
+	 *            <code>java.util.Map$Entry</code>
+	 * @return the logical structure or <code>null</code> if it can't be read
+	 *         from the fields of the value
+	 */
+	public static IJavaValue getLogicalStructure(IJavaObject value, String structureType) {
+		if (!(value instanceof JDIObjectValue)) {
+			return null;
+		}
+		ObjectReference object = ((JDIObjectValue) value).getUnderlyingObject();
+		if (object == null) {
+			return null;
+		}
+		JDIDebugTarget target = (JDIDebugTarget) value.getDebugTarget();
+		try {
+			ReferenceType type = object.referenceType();
+			JDICollectionValue.Elements elements = null;
+			switch (structureType) {
+				case MAP:
+					elements = getMapElements(target, object, type);
+					break;
+				case COLLECTION:
+					elements = getCollectionElements(target, object, type);
+					break;
+				case MAP_ENTRY:
+					return getEntryStructure(target, value, object, type);
+				default:
+					break;
+			}
+			if (elements != null) {
+				return new JDICollectionValue(target, value, elements);
+			}
+		} catch (RuntimeException e) {
+			// fall back to the evaluated structure
+		}
+		return null;
+	}
+
+	private static JDICollectionValue.Elements getMapElements(JDIDebugTarget target, ObjectReference map, ReferenceType type) {
+		switch (type.name()) {
+			case "java.util.HashMap": //$NON-NLS-1$
+				return HashMapElements.create(target, map, type);
+			case "java.util.LinkedHashMap": //$NON-NLS-1$
+				return LinkedHashMapElements.create(target, map, type);
+			case "java.util.concurrent.ConcurrentHashMap": //$NON-NLS-1$
+				return ConcurrentHashMapElements.create(target, map, type);
+			case "java.util.TreeMap": //$NON-NLS-1$
+				return TreeMapElements.create(target, map, type);
+			default:
+				return null;
+		}
+	}
+
+	private static JDICollectionValue.Elements getCollectionElements(JDIDebugTarget target, ObjectReference collection, ReferenceType type) {
+		switch (type.name()) {
+			case "java.util.ArrayList": //$NON-NLS-1$
+				return ArrayElements.createArrayList(target, collection, type);
+			case "java.util.ArrayDeque": //$NON-NLS-1$
+				return ArrayElements.createArrayDeque(target, collection, type);
+			default:
+				return null;
+		}
+	}
+
+	private static IJavaValue getEntryStructure(JDIDebugTarget target, IJavaObject value, ObjectReference entry, ReferenceType type) {
+		String valueFieldName;
+		if (KEY_VALUE_ENTRIES.contains(type.name())) {
+			valueFieldName = "value"; //$NON-NLS-1$
+		} else if (KEY_VAL_ENTRIES.contains(type.name())) {
+			valueFieldName = "val"; //$NON-NLS-1$
+		} else {
+			return null;
+		}
+		Field key = getField(type, "key", OBJECT); //$NON-NLS-1$
+		Field val = getField(type, valueFieldName, OBJECT);
+		if (key == null || val == null) {
+			return null;
+		}
+		JDIPlaceholderVariable[] variables = new JDIPlaceholderVariable[] {
+				new JDIPlaceholderVariable("key", JDIValue.createValue(target, entry.getValue(key)), value), //$NON-NLS-1$
+				new JDIPlaceholderVariable("value", JDIValue.createValue(target, entry.getValue(val)), value) }; //$NON-NLS-1$
+		return new LogicalObjectStructureValue(value, variables);
+	}
+
+	/**
+	 * Returns the field of the given type with the given name and signature,
+	 * or <code>null</code> if the type has no such field.
+	 */
+	static Field getField(ReferenceType type, String name, String signature) {
+		Field field = type.fieldByName(name);
+		if (field == null || !field.signature().equals(signature)) {
+			return null;
+		}
+		return field;
+	}
+
+	/**
+	 * Returns the declared type of the given field, or <code>null</code> if it
+	 * is not loaded, and so no value of the type exists.
+	 */
+	static ReferenceType getFieldType(Field field) {
+		try {
+			Type type = field.type();
+			if (type instanceof ArrayType) {
+				type = ((ArrayType) type).componentType();
+			}
+			return type instanceof ReferenceType ? (ReferenceType) type : null;
+		} catch (ClassNotLoadedException e) {
+			return null;
+		}
+	}
+
+	static int getInt(ObjectReference object, Field field) {
+		return ((IntegerValue) object.getValue(field)).value();
+	}
+
+	static DebugException newDebugException(RuntimeException e) {
+		return new DebugException(new Status(IStatus.ERROR, JDIDebugPlugin.getUniqueIdentifier(), DebugException.TARGET_REQUEST_FAILED, e.toString(), e));
+	}
+
+	/**
+	 * Elements of an array-backed collection, possibly circular.
+	 */
+	static final class ArrayElements implements JDICollectionValue.Elements {
+
+		private final JDIDebugTarget fTarget;
+		private final ArrayReference fArray;
+		private final int fHead;
+		private final int fSize;
+
+		private ArrayElements(JDIDebugTarget target, ArrayReference array, int head, int size) {
+			fTarget = target;
+			fArray = array;
+			fHead = head;
+			fSize = size;
+		}
+
+		static ArrayElements createArrayList(JDIDebugTarget target, ObjectReference list, ReferenceType type) {
+			Field elementData = getField(type, "elementData", OBJECT_ARRAY); //$NON-NLS-1$
+			Field size = getField(type, "size", INT); //$NON-NLS-1$
+			if (elementData == null || size == null) {
+				return null;
+			}
+			ArrayReference array = (ArrayReference) list.getValue(elementData);
+			int length = getInt(list, size);
+			if (array == null || length < 0 || length > array.length()) {
+				return null;
+			}
+			return new ArrayElements(target, array, 0, length);
+		}
+
+		static ArrayElements createArrayDeque(JDIDebugTarget target, ObjectReference deque, ReferenceType type) {
+			Field elements = getField(type, "elements", OBJECT_ARRAY); //$NON-NLS-1$
+			Field head = getField(type, "head", INT); //$NON-NLS-1$
+			Field tail = getField(type, "tail", INT); //$NON-NLS-1$
+			if (elements == null || head == null || tail == null) {
+				return null;
+			}
+			ArrayReference array = (ArrayReference) deque.getValue(elements);
+			if (array == null || array.length() == 0) {
+				return null;
+			}
+			int length = array.length();
+			int first = getInt(deque, head);
+			int last = getInt(deque, tail);
+			if (first < 0 || first >= length || last < 0 || last >= length) {
+				return null;
+			}
+			return new ArrayElements(target, array, first, (last - first + length) % length);
+		}
+
+		@Override
+		public int size() {
+			return fSize;
+		}
+
+		@Override
+		public IJavaValue[] getValues(int offset, int length) throws DebugException {
+			try {
+				int arrayLength = fArray.length();
+				int start = (fHead + offset) % arrayLength;
+				List<Value> values = new ArrayList<>(length);
+				int firstLength = Math.min(length, arrayLength - start);
+				values.addAll(fArray.getValues(start, firstLength));
+				if (firstLength < length) {
+					// wraps around the end of a circular array
+					values.addAll(fArray.getValues(0, length - firstLength));
+				}
+				IJavaValue[] result = new IJavaValue[length];
+				for (int i = 0; i < length; i++) {
+					result[i] = JDIValue.createValue(fTarget, values.get(i));
+				}
+				return result;
+			} catch (RuntimeException e) {
+				throw newDebugException(e);
+			}
+		}
+	}
+
+	/**
+	 * Elements of a linked collection, read in iteration order and kept so
+	 * that a page can be read after the previous ones.
+	 */
+	abstract static class LinkedElements implements JDICollectionValue.Elements {
+
+		private final JDIDebugTarget fTarget;
+		private final int fSize;
+		private final List<ObjectReference> fNodes = new ArrayList<>();
+		private boolean fStarted;
+		private ObjectReference fLast;
+
+		LinkedElements(JDIDebugTarget target, int size) {
+			fTarget = target;
+			fSize = size;
+		}
+
+		/**
+		 * Returns the first node, or <code>null</code> if none.
+		 */
+		abstract ObjectReference first();
+
+		/**
+		 * Returns the node after the given node, or <code>null</code> if none.
+		 */
+		abstract ObjectReference next(ObjectReference node);
+
+		@Override
+		public int size() {
+			return fSize;
+		}
+
+		@Override
+		public synchronized IJavaValue[] getValues(int offset, int length) throws DebugException {
+			try {
+				int end = Math.min(offset + length, fSize);
+				while (fNodes.size() < end) {
+					ObjectReference node = fStarted ? (fLast == null ? null : next(fLast)) : first();
+					fStarted = true;
+					if (node == null) {
+						break;
+					}
+					fNodes.add(node);
+					fLast = node;
+				}
+			} catch (RuntimeException e) {
+				throw newDebugException(e);
+			}
+			IJavaValue[] values = new IJavaValue[length];
+			for (int i = 0; i < length && offset + i < fNodes.size(); i++) {
+				values[i] = JDIValue.createValue(fTarget, fNodes.get(offset + i));
+			}
+			return values;
+		}
+	}
+
+	/**
+	 * Entries of a <code>HashMap</code>, in the order of its table bins.
+	 */
+	static class HashMapElements extends LinkedElements {
+
+		private final ArrayReference fTable;
+		private final Field fNext;
+		private List<Value> fChunk;
+		private int fChunkStart;
+		private int fIndex;
+
+		HashMapElements(JDIDebugTarget target, int size, ArrayReference table, Field next) {
+			super(target, size);
+			fTable = table;
+			fNext = next;
+		}
+
+		static HashMapElements create(JDIDebugTarget target, ObjectReference map, ReferenceType type) {
+			Field table = getField(type, "table", "[" + HASH_MAP_NODE); //$NON-NLS-1$ //$NON-NLS-2$
+			Field size = getField(type, "size", INT); //$NON-NLS-1$
+			if (table == null || size == null) {
+				return null;
+			}
+			ArrayReference array = (ArrayReference) map.getValue(table);
+			if (array == null) {
+				return new HashMapElements(target, 0, null, null);
+			}
+			ReferenceType nodeType = getFieldType(table);
+			Field next = nodeType == null ? null : getField(nodeType, "next", HASH_MAP_NODE); //$NON-NLS-1$
+			if (next == null) {
+				return null;
+			}
+			return new HashMapElements(target, getInt(map, size), array, next);
+		}
+
+		@Override
+		ObjectReference first() {
+			return fTable == null ? null : nextBin();
+		}
+
+		@Override
+		ObjectReference next(ObjectReference node) {
+			ObjectReference next = (ObjectReference) node.getValue(fNext);
+			return next != null ? next : nextBin();
+		}
+
+		/**
+		 * Returns the first node of the next non empty bin, or
+		 * <code>null</code> if none.
+		 */
+		ObjectReference nextBin() {
+			int length = fTable.length();
+			while (fIndex < length) {
+				if (fChunk == null || fIndex >= fChunkStart + fChunk.size()) {
+					fChunkStart = fIndex;
+					fChunk = fTable.getValues(fIndex, Math.min(TABLE_CHUNK, length - fIndex));
+				}
+				ObjectReference bin = (ObjectReference) fChunk.get(fIndex - fChunkStart);
+				fIndex++;
+				if (bin != null) {
+					ObjectReference first = getFirst(bin);
+					if (first != null) {
+						return first;
+					}
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Returns the first entry of the given bin.
+		 */
+		ObjectReference getFirst(ObjectReference bin) {
+			return bin;
+		}
+	}
+
+	/**
+	 * Entries of a <code>ConcurrentHashMap</code>, in the order of its table
+	 * bins.
+	 */
+	static final class ConcurrentHashMapElements extends HashMapElements {
+
+		private final Field fHash;
+		private final Field fFirst;
+
+		private ConcurrentHashMapElements(JDIDebugTarget target, int size, ArrayReference table, Field next, Field hash, Field first) {
+			super(target, size, table, next);
+			fHash = hash;
+			fFirst = first;
+		}
+
+		static ConcurrentHashMapElements create(JDIDebugTarget target, ObjectReference map, ReferenceType type) {
+			Field table = getField(type, "table", "[" + CONCURRENT_HASH_MAP_NODE); //$NON-NLS-1$ //$NON-NLS-2$
+			Field nextTable = getField(type, "nextTable", "[" + CONCURRENT_HASH_MAP_NODE); //$NON-NLS-1$ //$NON-NLS-2$
+			Field baseCount = getField(type, "baseCount", LONG); //$NON-NLS-1$
+			Field counterCells = getField(type, "counterCells", "[" + CONCURRENT_HASH_MAP_COUNTER_CELL); //$NON-NLS-1$ //$NON-NLS-2$
+			if (table == null || nextTable == null || baseCount == null || counterCells == null) {
+				return null;
+			}
+			if (map.getValue(nextTable) != null) {
+				// entries are being moved to a new table
+				return null;
+			}
+			ArrayReference array = (ArrayReference) map.getValue(table);
+			if (array == null) {
+				return new ConcurrentHashMapElements(target, 0, null, null, null, null);
+			}
+			ReferenceType nodeType = getFieldType(table);
+			Field next = nodeType == null ? null : getField(nodeType, "next", CONCURRENT_HASH_MAP_NODE); //$NON-NLS-1$
+			Field hash = nodeType == null ? null : getField(nodeType, "hash", INT); //$NON-NLS-1$
+			if (next == null || hash == null) {
+				return null;
+			}
+			Field first = null;
+			List<ReferenceType> treeBins = map.virtualMachine().classesByName(CONCURRENT_HASH_MAP_TREE_BIN);
+			if (!treeBins.isEmpty()) {
+				first = getField(treeBins.get(0), "first", CONCURRENT_HASH_MAP_TREE_NODE); //$NON-NLS-1$
+				if (first == null) {
+					return null;
+				}
+			}
+			// as ConcurrentHashMap#sumCount()
+			long size = ((LongValue) map.getValue(baseCount)).value();
+			ArrayReference cells = (ArrayReference) map.getValue(counterCells);
+			if (cells != null) {
+				ReferenceType cellType = getFieldType(counterCells);
+				Field value = cellType == null ? null : getField(cellType, "value", LONG); //$NON-NLS-1$
+				if (value == null) {
+					return null;
+				}
+				for (Value cell : cells.getValues()) {
+					if (cell != null) {
+						size += ((LongValue) ((ObjectReference) cell).getValue(value)).value();
+					}
+				}
+			}
+			return new ConcurrentHashMapElements(target, (int) Math.min(Integer.MAX_VALUE, Math.max(0, size)), array, next, hash, first);
+		}
+
+		@Override
+		ObjectReference getFirst(ObjectReference bin) {
+			if (getInt(bin, fHash) >= 0) {
+				return bin;
+			}
+			if (fFirst != null && CONCURRENT_HASH_MAP_TREE_BIN.equals(bin.referenceType().name())) {
+				// the tree nodes of a bin are also linked in a list
+				return (ObjectReference) bin.getValue(fFirst);
+			}
+			// reservation node
+			return null;
+		}
+	}
+
+	/**
+	 * Entries of a <code>LinkedHashMap</code>, in insertion or access order.
+	 */
+	static final class LinkedHashMapElements extends LinkedElements {
+
+		private final ObjectReference fHead;
+		private final Field fAfter;
+
+		private LinkedHashMapElements(JDIDebugTarget target, int size, ObjectReference head, Field after) {
+			super(target, size);
+			fHead = head;
+			fAfter = after;
+		}
+
+		static LinkedHashMapElements create(JDIDebugTarget target, ObjectReference map, ReferenceType type) {
+			Field head = getField(type, "head", LINKED_HASH_MAP_ENTRY); //$NON-NLS-1$
+			Field size = getField(type, "size", INT); //$NON-NLS-1$
+			if (head == null || size == null) {
+				return null;
+			}
+			ObjectReference first = (ObjectReference) map.getValue(head);
+			if (first == null) {
+				return new LinkedHashMapElements(target, 0, null, null);
+			}
+			Field after = getField(first.referenceType(), "after", LINKED_HASH_MAP_ENTRY); //$NON-NLS-1$
+			if (after == null) {
+				return null;
+			}
+			return new LinkedHashMapElements(target, getInt(map, size), first, after);
+		}
+
+		@Override
+		ObjectReference first() {
+			return fHead;
+		}
+
+		@Override
+		ObjectReference next(ObjectReference node) {
+			return (ObjectReference) node.getValue(fAfter);
+		}
+	}
+
+	/**
+	 * Entries of a <code>TreeMap</code>, in key order.
+	 */
+	static final class TreeMapElements extends LinkedElements {
+
+		private final ObjectReference fRoot;
+		private final Field fLeft;
+		private final Field fRight;
+		private final Field fParent;
+
+		private TreeMapElements(JDIDebugTarget target, int size, ObjectReference root, Field left, Field right, Field parent) {
+			super(target, size);
+			fRoot = root;
+			fLeft = left;
+			fRight = right;
+			fParent = parent;
+		}
+
+		static TreeMapElements create(JDIDebugTarget target, ObjectReference map, ReferenceType type) {
+			Field root = getField(type, "root", TREE_MAP_ENTRY); //$NON-NLS-1$
+			Field size = getField(type, "size", INT); //$NON-NLS-1$
+			if (root == null || size == null) {
+				return null;
+			}
+			ObjectReference rootEntry = (ObjectReference) map.getValue(root);
+			if (rootEntry == null) {
+				return new TreeMapElements(target, 0, null, null, null, null);
+			}
+			ReferenceType entryType = rootEntry.referenceType();
+			Field left = getField(entryType, "left", TREE_MAP_ENTRY); //$NON-NLS-1$
+			Field right = getField(entryType, "right", TREE_MAP_ENTRY); //$NON-NLS-1$
+			Field parent = getField(entryType, "parent", TREE_MAP_ENTRY); //$NON-NLS-1$
+			if (left == null || right == null || parent == null) {
+				return null;
+			}
+			return new TreeMapElements(target, getInt(map, size), rootEntry, left, right, parent);
+		}
+
+		@Override
+		ObjectReference first() {
+			return fRoot == null ? null : leftmost(fRoot);
+		}
+
+		/**
+		 * Returns the successor of the given entry, as
+		 * <code>TreeMap#successor(Entry)</code>.
+		 */
+		@Override
+		ObjectReference next(ObjectReference entry) {
+			ObjectReference right = (ObjectReference) entry.getValue(fRight);
+			if (right != null) {
+				return leftmost(right);
+			}
+			ObjectReference child = entry;
+			ObjectReference parent = (ObjectReference) entry.getValue(fParent);
+			while (parent != null && child.equals(parent.getValue(fRight))) {
+				child = parent;
+				parent = (ObjectReference) parent.getValue(fParent);
+			}
+			return parent;
+		}
+
+		private ObjectReference leftmost(ObjectReference entry) {
+			ObjectReference leftmost = entry;
+			ObjectReference left = (ObjectReference) leftmost.getValue(fLeft);
+			while (left != null) {
+				leftmost = left;
+				left = (ObjectReference) leftmost.getValue(fLeft);
+			}
+			return leftmost;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2022 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.jdt.internal.debug.core.logicalstructures;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -35,10 +36,12 @@ import org.eclipse.debug.core.model.IThread;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaClassType;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaInterfaceType;
 import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
@@ -51,6 +54,7 @@ import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 
 import com.sun.jdi.VMDisconnectedException;
@@ -61,6 +65,10 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 
 	private static IStatusHandler fgStackFrameProvider;
 
+	private static final String MAP = "java.util.Map"; //$NON-NLS-1$
+	private static final String COLLECTION = "java.util.Collection"; //$NON-NLS-1$
+	private static final String SIZE_SNIPPET = "return size();"; //$NON-NLS-1$
+
 	/**
 	 * Fully qualified type name.
 	 */
@@ -87,6 +95,32 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 	 * structure or <code>null</code> if this structure was defined by the user.
 	 */
 	private String fContributingPluginId = null;
+	/**
+	 * Logical values of collections created by this logical structure, with
+	 * the suspend count of their target when they were created. A value is
+	 * reused until its target suspends again.
+	 */
+	private final Map<IJavaObject, CachedValue> fCollectionValues = new HashMap<>();
+
+	/**
+	 * Logical value of a collection for one suspend of its target.
+	 */
+	private static class CachedValue {
+
+		private final JDIDebugTarget fTarget;
+		private final int fSuspendCount;
+		private final JDICollectionValue fValue;
+
+		CachedValue(JDIDebugTarget target, JDICollectionValue value) {
+			fTarget = target;
+			fSuspendCount = target.getSuspendCount();
+			fValue = value;
+		}
+
+		boolean isStale() {
+			return !fTarget.isAvailable() || fTarget.getSuspendCount() != fSuspendCount;
+		}
+	}
 
 	/**
 	 * Performs the evaluations.
@@ -202,6 +236,58 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 		}
 	}
 
+	/**
+	 * Elements of a collection retrieved by evaluating snippets, one page at a
+	 * time, in the thread of an evaluation block.
+	 */
+	private class EvaluatedElements implements JDICollectionValue.Elements {
+
+		private final EvaluationBlock fEvaluationBlock;
+		private final int fSize;
+		private final boolean fMap;
+
+		EvaluatedElements(EvaluationBlock evaluationBlock, int size, boolean map) {
+			fEvaluationBlock = evaluationBlock;
+			fSize = size;
+			fMap = map;
+		}
+
+		@Override
+		public int size() {
+			return fSize;
+		}
+
+		@Override
+		public IJavaValue[] getValues(int offset, int length) throws DebugException {
+			String start = Integer.toString(offset);
+			String end = Integer.toString(offset + length);
+			StringBuilder snippet = new StringBuilder();
+			if (!fMap) {
+				// random access lists copy the page directly
+				snippet.append("if (this instanceof java.util.RandomAccess && this instanceof java.util.List) { java.util.List list = (java.util.List) this; return list.subList(") //$NON-NLS-1$
+						.append(start).append(", Math.min(").append(end).append(", list.size())).toArray(); } "); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			// otherwise skip the elements before the page in one evaluation
+			snippet.append(fMap ? "java.util.Iterator it = entrySet().iterator(); " : "java.util.Iterator it = iterator(); ") //$NON-NLS-1$ //$NON-NLS-2$
+					.append("for (int i = 0; i < ").append(start).append(" && it.hasNext(); i++) { it.next(); } ") //$NON-NLS-1$ //$NON-NLS-2$
+					.append("Object[] page = new Object[").append(Integer.toString(length)).append("]; ") //$NON-NLS-1$ //$NON-NLS-2$
+					.append("for (int i = 0; i < page.length && it.hasNext(); i++) { page[i] = it.next(); } return page;"); //$NON-NLS-1$
+			IJavaValue result = fEvaluationBlock.evaluate(snippet.toString());
+			IJavaValue[] values = new IJavaValue[length];
+			if (result instanceof IJavaArray) {
+				IJavaArray page = (IJavaArray) result;
+				IJavaValue[] elements = page.getValues();
+				System.arraycopy(elements, 0, values, 0, Math.min(elements.length, length));
+				// the elements remain reachable from the collection
+				page.enableCollection();
+			} else {
+				// show the error in place of the elements
+				Arrays.fill(values, result);
+			}
+			return values;
+		}
+	}
+
 	/**
 	 * Constructor from parameters.
 	 */
@@ -293,6 +379,20 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 			if (type == null) {
 				return value;
 			}
+			JDICollectionValue collectionValue = getCachedValue(javaValue);
+			if (collectionValue != null) {
+				return collectionValue;
+			}
+			if (isBuiltIn()) {
+				// built-in structures of core JDK collections are read from their fields
+				IJavaValue logicalValue = JavaCollectionStructures.getLogicalStructure(javaValue, fType);
+				if (logicalValue instanceof JDICollectionValue) {
+					return putCachedValue(javaValue, (JDICollectionValue) logicalValue);
+				}
+				if (logicalValue != null) {
+					return logicalValue;
+				}
+			}
 			IJavaStackFrame stackFrame = getStackFrame(javaValue);
 			if (stackFrame == null) {
 				return value;
@@ -309,6 +409,14 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 			EvaluationBlock evaluationBlock = new EvaluationBlock(javaValue,
 					type, (IJavaThread) stackFrame.getThread(),
 					evaluationEngine);
+			if (isBuiltIn() && (MAP.equals(fType) || COLLECTION.equals(fType))) {
+				// other collections evaluate their size, then each page when shown
+				IJavaValue size = evaluationBlock.evaluate(SIZE_SNIPPET);
+				if (size instanceof IJavaPrimitiveValue) {
+					EvaluatedElements elements = new EvaluatedElements(evaluationBlock, ((IJavaPrimitiveValue) size).getIntValue(), MAP.equals(fType));
+					return putCachedValue(javaValue, new JDICollectionValue((JDIDebugTarget) javaValue.getDebugTarget(), javaValue, elements));
+				}
+			}
 			if (fValue == null) {
 				// evaluate each variable
 				JDIPlaceholderVariable[] variables = new JDIPlaceholderVariable[fVariables.length];
@@ -349,6 +457,38 @@ public class JavaLogicalStructure implements ILogicalStructureType, ILogicalStru
 		}
 	}
 
+	/**
+	 * Returns whether this logical structure is one of the structures
+	 * contributed by this plug-in.
+	 */
+	private boolean isBuiltIn() {
+		return JDIDebugPlugin.getUniqueIdentifier().equals(fContributingPluginId);
+	}
+
+	/**
+	 * Returns the logical value of the given collection created since its
+	 * target last suspended, or <code>null</code> if none. Stale values are
+	 * discarded.
+	 */
+	private JDICollectionValue getCachedValue(IJavaObject value) {
+		synchronized (fCollectionValues) {
+			fCollectionValues.values().removeIf(CachedValue::isStale);
+			CachedValue cached = fCollectionValues.get(value);
+			return cached == null ? null : cached.fValue;
+		}
+	}
+
+	/**
+	 * Remembers the logical value of the given collection until its target
+	 * suspends again, and returns it.
+	 */
+	private JDICollectionValue putCachedValue(IJavaObject value, JDICollectionValue logicalValue) {
+		synchronized (fCollectionValues) {
+			fCollectionValues.put(value, new CachedValue((JDIDebugTarget) value.getDebugTarget(), logicalValue));
+		}
+		return logicalValue;
+	}
+
 	/**
 	 * Returns the <code>IJavaReferenceType</code> from the specified
 	 * <code>IJavaObject</code>
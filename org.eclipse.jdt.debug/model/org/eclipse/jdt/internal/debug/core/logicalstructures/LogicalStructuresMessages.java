@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2009 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ public class LogicalStructuresMessages extends NLS {
 	public static String JDIAllInstancesValue_11;
 	public static String JDIAllInstancesValue_12;
 	public static String JDIAllInstancesValue_13;
+	public static String JDIAllInstancesValue_14;
 
 	public static String JavaLogicalStructures_0;
 	public static String JavaLogicalStructures_1;
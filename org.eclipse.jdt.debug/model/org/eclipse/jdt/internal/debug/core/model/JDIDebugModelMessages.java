@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -80,12 +80,16 @@ public class JDIDebugModelMessages extends NLS {
 
 	public static String JDINullValue_0;
 
+	public static String JDIObjectList_0;
+
 	public static String JDIObjectValue_12;
 
 	public static String JDIObjectValue_13;
 
 	public static String JDIObjectValue_14;
 
+	public static String JDIObjectValue_15;
+
 	public static String JDIObjectValue_exception_retrieving_field;
 	public static String JDIObjectValue_exception_retrieving_reference_type;
 	public static String JDIObjectValue_exception_while_performing_method_lookup_for_selector;
@@ -103,8 +107,10 @@ public class JDIDebugModelMessages extends NLS {
 	public static String JDIReferenceListValue_9;
 	public static String JDIReferenceListValue_11;
 	public static String JDIReferenceListValue_15;
+	public static String JDIReferenceListValue_16;
 
 	public static String JDIReferenceType_5;
+	public static String JDIReferenceType_6;
 
 	public static String JDIStackFrame__unknown_declaring_type__1;
 	public static String JDIStackFrame__unknown_method__1;
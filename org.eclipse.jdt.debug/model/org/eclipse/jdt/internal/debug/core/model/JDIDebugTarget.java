@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -28,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IFile;
@@ -64,6 +66,8 @@ import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.core.model.ISuspendResume;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.jdi.TimeoutException;
+import org.eclipse.jdi.internal.ThreadReferenceImpl;
+import org.eclipse.jdi.internal.ThreadSnapshot;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdt.core.IClasspathEntry;
@@ -80,6 +84,7 @@ import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.TypeNameMatch;
 import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 import org.eclipse.jdt.debug.core.IJavaBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaClassUnloadListener;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaHotCodeReplaceListener;
 import org.eclipse.jdt.debug.core.IJavaObject;
@@ -88,13 +93,16 @@ import org.eclipse.jdt.debug.core.IJavaThreadGroup;
 import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.debug.core.IJdwpMetrics;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.debug.eval.EvaluationManager;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.internal.debug.core.EventDispatcher;
 import org.eclipse.jdt.internal.debug.core.IJDIEventListener;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint;
+import org.eclipse.jdt.internal.debug.core.breakpoints.JavaExceptionBreakpoint;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaLineBreakpoint;
 
 import com.sun.jdi.ClassType;
@@ -111,6 +119,7 @@ import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.event.Event;
 import com.sun.jdi.event.EventSet;
 import com.sun.jdi.event.LocatableEvent;
+import com.sun.jdi.event.ClassUnloadEvent;
 import com.sun.jdi.event.ThreadDeathEvent;
 import com.sun.jdi.event.ThreadStartEvent;
 import com.sun.jdi.event.VMDeathEvent;
@@ -188,6 +197,19 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private List<IBreakpoint> fBreakpoints;
 
+	/**
+	 * Exception breakpoints added to this target, by the name of their
+	 * exception type. The arrays are replaced, never modified.
+	 */
+	private final Map<String, JavaExceptionBreakpoint[]> fExceptionBreakpoints = new HashMap<>();
+
+	/**
+	 * Names of the superclasses of class types, from the direct superclass to
+	 * <code>java.lang.Object</code>. The superclasses of a type never change,
+	 * so they are only retrieved from the VM once.
+	 */
+	private final Map<ReferenceType, String[]> fSuperclassNames = new ConcurrentHashMap<>();
+
 	/**
 	 * Collection of types that have attempted HCR, but failed. The types are
 	 * stored by their fully qualified names.
@@ -239,6 +261,19 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private int fSuspendCount;
 
+	/**
+	 * Whether the VM was suspended and the snapshot of its threads has not
+	 * been taken yet.
+	 *
+	 * @see #takePendingSnapshot()
+	 */
+	private volatile boolean fSnapshotPending;
+
+	/**
+	 * Lock taken while the snapshot of the threads is taken
+	 */
+	private final Object fSnapshotLock = new Object();
+
 	/**
 	 * Evaluation engine cache by Java project. Engines are disposed when this
 	 * target terminates.
@@ -314,6 +349,15 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private ListenerList<IJavaHotCodeReplaceListener> fHCRListeners = new ListenerList<>();
 
+	/**
+	 * Class unload listeners, and the handler of the class unload request
+	 * registered while there is at least one listener
+	 *
+	 * @since 3.22
+	 */
+	private ListenerList<IJavaClassUnloadListener> fClassUnloadListeners = new ListenerList<>();
+	private ClassUnloadHandler fClassUnloadHandler;
+
 	/**
 	 * Java scope of the current launch, "null" means everything is in scope
 	 */
@@ -499,6 +543,98 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		fBreakpoints = breakpoints;
 	}
 
+	/**
+	 * Returns the exception breakpoints added to this target for the exception
+	 * type with the given name, in the order they were added.
+	 *
+	 * @param typeName
+	 *            fully qualified name of an exception type
+	 * @return exception breakpoints for the given type, possibly empty
+	 */
+	public JavaExceptionBreakpoint[] getExceptionBreakpoints(String typeName) {
+		synchronized (fExceptionBreakpoints) {
+			JavaExceptionBreakpoint[] breakpoints = fExceptionBreakpoints.get(typeName);
+			return breakpoints == null ? new JavaExceptionBreakpoint[0] : breakpoints;
+		}
+	}
+
+	/**
+	 * Adds the given breakpoint to the exception breakpoints of this target if
+	 * it is an exception breakpoint.
+	 */
+	private void addExceptionBreakpoint(IBreakpoint breakpoint) throws CoreException {
+		if (breakpoint instanceof JavaExceptionBreakpoint) {
+			JavaExceptionBreakpoint exceptionBreakpoint = (JavaExceptionBreakpoint) breakpoint;
+			String typeName = exceptionBreakpoint.getTypeName();
+			if (typeName == null) {
+				return;
+			}
+			synchronized (fExceptionBreakpoints) {
+				JavaExceptionBreakpoint[] breakpoints = fExceptionBreakpoints.get(typeName);
+				if (breakpoints == null) {
+					breakpoints = new JavaExceptionBreakpoint[] { exceptionBreakpoint };
+				} else {
+					breakpoints = Arrays.copyOf(breakpoints, breakpoints.length + 1);
+					breakpoints[breakpoints.length - 1] = exceptionBreakpoint;
+				}
+				fExceptionBreakpoints.put(typeName, breakpoints);
+			}
+		}
+	}
+
+	/**
+	 * Removes the given breakpoint from the exception breakpoints of this
+	 * target. Its marker may already be deleted, so it is looked up by
+	 * identity.
+	 */
+	private void removeExceptionBreakpoint(IBreakpoint breakpoint) {
+		if (breakpoint instanceof JavaExceptionBreakpoint) {
+			synchronized (fExceptionBreakpoints) {
+				Iterator<Map.Entry<String, JavaExceptionBreakpoint[]>> entries = fExceptionBreakpoints.entrySet().iterator();
+				while (entries.hasNext()) {
+					Map.Entry<String, JavaExceptionBreakpoint[]> entry = entries.next();
+					JavaExceptionBreakpoint[] breakpoints = entry.getValue();
+					for (int i = 0; i < breakpoints.length; i++) {
+						if (breakpoints[i] == breakpoint) {
+							if (breakpoints.length == 1) {
+								entries.remove();
+							} else {
+								JavaExceptionBreakpoint[] remaining = new JavaExceptionBreakpoint[breakpoints.length - 1];
+								System.arraycopy(breakpoints, 0, remaining, 0, i);
+								System.arraycopy(breakpoints, i + 1, remaining, i, remaining.length - i);
+								entry.setValue(remaining);
+							}
+							return;
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the names of the superclasses of the given class type, from its
+	 * direct superclass to <code>java.lang.Object</code>.
+	 *
+	 * @param type
+	 *            a class type of this target
+	 * @return the names of the superclasses of the given type
+	 */
+	public String[] getSuperclassNames(ClassType type) {
+		String[] names = fSuperclassNames.get(type);
+		if (names == null) {
+			List<String> list = new ArrayList<>();
+			ClassType superclass = type.superclass();
+			while (superclass != null) {
+				list.add(superclass.name());
+				superclass = superclass.superclass();
+			}
+			names = list.toArray(new String[list.size()]);
+			fSuperclassNames.put(type, names);
+		}
+		return names;
+	}
+
 	/**
 	 * Notifies this target that the underlying VM has started. This is the
 	 * first event received from the VM. The VM is resumed. This event is not
@@ -1636,6 +1772,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 						javaBreakpoint.addToTarget(this);
 					}
 					getBreakpoints().add(breakpoint);
+					addExceptionBreakpoint(breakpoint);
 				}
 			} catch (CoreException e) {
 				logError(e);
@@ -1673,6 +1810,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			try {
 				((JavaBreakpoint) breakpoint).removeFromTarget(this);
 				getBreakpoints().remove(breakpoint);
+				removeExceptionBreakpoint(breakpoint);
 				Iterator<JDIThread> threads = getThreadIterator();
 				while (threads.hasNext()) {
 					threads.next()
@@ -1701,6 +1839,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			}
 			suspendThreads();
 			setSuspended(true);
+			fSnapshotPending = true;
 			fireSuspendEvent(DebugEvent.CLIENT_REQUEST);
 		} catch (RuntimeException e) {
 			setSuspended(false);
@@ -1740,10 +1879,75 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	/**
+	 * Takes the snapshot of the suspended threads that was deferred when the VM
+	 * was suspended, if it was not taken yet. Called when the state of a thread
+	 * is first needed, such that suspending the VM does not wait for the
+	 * snapshot and no snapshot is taken if no thread is presented.
+	 *
+	 * @see #snapshotThreads()
+	 */
+	void takePendingSnapshot() {
+		if (fSnapshotPending) {
+			synchronized (fSnapshotLock) {
+				if (fSnapshotPending) {
+					fSnapshotPending = false;
+					snapshotThreads();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the suspend count, name, frame count and top frame of all
+	 * suspended threads in bulk and fills the threads' caches, such that
+	 * presenting the threads after the VM has been suspended does not need
+	 * requests per thread.
+	 *
+	 * @return the time the snapshot took in milliseconds, or -1 if the
+	 *         underlying VM does not support snapshots
+	 */
+	protected long snapshotThreads() {
+		if (!(getVM() instanceof VirtualMachineImpl)) {
+			return -1;
+		}
+		long start = System.nanoTime();
+		List<JDIThread> threads = new ArrayList<>();
+		List<ThreadReferenceImpl> underlyingThreads = new ArrayList<>();
+		Iterator<JDIThread> iterator = getThreadIterator();
+		while (iterator.hasNext()) {
+			JDIThread thread = iterator.next();
+			ThreadReference underlyingThread = thread.getUnderlyingThread();
+			if (thread.isSuspended() && underlyingThread instanceof ThreadReferenceImpl) {
+				threads.add(thread);
+				underlyingThreads.add((ThreadReferenceImpl) underlyingThread);
+			}
+		}
+		try {
+			ThreadSnapshot[] snapshots = ThreadReferenceImpl.snapshot(underlyingThreads);
+			for (int i = 0; i < snapshots.length; i++) {
+				if (snapshots[i] != null) {
+					threads.get(i).setSnapshot(snapshots[i]);
+				}
+			}
+		} catch (VMDisconnectedException e) {
+			return -1;
+		} catch (RuntimeException e) {
+			// threads retrieve their state on demand
+			logError(e);
+		}
+		long time = (System.nanoTime() - start) / 1000000;
+		if (JDIDebugOptions.DEBUG_JDI_REQUEST_TIMES) {
+			JDIDebugOptions.trace("Thread snapshot of " + underlyingThreads.size() + " threads took " + time + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		return time;
+	}
+
 	/**
 	 * Notifies threads that they have been resumed
 	 */
 	protected void resumeThreads() throws DebugException {
+		fSnapshotPending = false;
 		Iterator<JDIThread> threads = getThreadIterator();
 		while (threads.hasNext()) {
 			JDIThread thread = threads.next();
@@ -1772,6 +1976,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	protected void suspendedByBreakpoint(JavaBreakpoint breakpoint,
 			boolean queueEvent, EventSet set) {
+		fSnapshotPending = true;
 		if (queueEvent) {
 			queueSuspendEvent(DebugEvent.BREAKPOINT, set);
 		} else {
@@ -1876,6 +2081,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		removeAllBreakpoints();
 		DebugPlugin.getDefault().getBreakpointManager().enableTriggerPoints(null, true);
 		fOutOfSynchTypes.clear();
+		fSuperclassNames.clear();
 		if (fEngines != null) {
 			Iterator<IAstEvaluationEngine> engines = fEngines.values().iterator();
 			while (engines.hasNext()) {
@@ -1890,6 +2096,10 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		setEventDispatcher(null);
 		setStepFilters(new String[0]);
 		fHCRListeners.clear();
+		synchronized (fClassUnloadListeners) {
+			fClassUnloadListeners.clear();
+			fClassUnloadHandler = null;
+		}
 		fKnownTypes = null;
 		fProjects = null;
 		fScope = null;
@@ -1926,6 +2136,9 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			}
 		}
 		getBreakpoints().clear();
+		synchronized (fExceptionBreakpoints) {
+			fExceptionBreakpoints.clear();
+		}
 	}
 
 	/**
@@ -2414,6 +2627,71 @@ public class JDIDebugTarget extends JDIDebugElement implements
 
 	}
 
+	/**
+	 * An event handler for class unload events, registered while there are
+	 * class unload listeners. Notifies the listeners of each unloaded class.
+	 */
+	class ClassUnloadHandler implements IJDIEventListener {
+
+		private EventRequest fRequest;
+
+		ClassUnloadHandler() {
+			EventRequestManager manager = getEventRequestManager();
+			if (manager != null) {
+				try {
+					EventRequest req = manager.createClassUnloadRequest();
+					req.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+					req.enable();
+					addJDIEventListener(this, req);
+					fRequest = req;
+				} catch (RuntimeException e) {
+					logError(e);
+				}
+			}
+		}
+
+		/**
+		 * Notifies the class unload listeners of the unloaded class.
+		 *
+		 * @return <code>true</code> - the target is never suspended
+		 */
+		@Override
+		public boolean handleEvent(Event event, JDIDebugTarget target,
+				boolean suspend, EventSet eventSet) {
+			String typeName = ((ClassUnloadEvent) event).className();
+			for (IJavaClassUnloadListener listener : fClassUnloadListeners) {
+				listener.classUnloaded(JDIDebugTarget.this, typeName);
+			}
+			return true;
+		}
+
+		@Override
+		public void eventSetComplete(Event event, JDIDebugTarget target,
+				boolean suspend, EventSet eventSet) {
+			// do nothing
+		}
+
+		/**
+		 * Unregisters this event listener and deletes its request.
+		 */
+		void deleteRequest() {
+			if (fRequest != null) {
+				removeJDIEventListener(this, fRequest);
+				EventRequestManager manager = getEventRequestManager();
+				if (manager != null) {
+					try {
+						manager.deleteEventRequest(fRequest);
+					} catch (VMDisconnectedException e) {
+						// the request is gone with the VM
+					} catch (RuntimeException e) {
+						logError(e);
+					}
+				}
+				fRequest = null;
+			}
+		}
+	}
+
 	/**
 	 * Triggers updates on a thread when {@link java.lang.Thread#setName(String)} is called on that thread, in the target JVM.
 	 */
@@ -2830,7 +3108,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 *
 	 * @return the number of suspend events that have occurred in this target
 	 */
-	protected int getSuspendCount() {
+	public int getSuspendCount() {
 		return fSuspendCount;
 	}
 
@@ -3272,6 +3550,36 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		fHCRListeners.remove(listener);
 	}
 
+	@Override
+	public void addClassUnloadListener(IJavaClassUnloadListener listener) {
+		synchronized (fClassUnloadListeners) {
+			fClassUnloadListeners.add(listener);
+			if (fClassUnloadHandler == null && isAvailable()) {
+				fClassUnloadHandler = new ClassUnloadHandler();
+			}
+		}
+	}
+
+	@Override
+	public void removeClassUnloadListener(IJavaClassUnloadListener listener) {
+		synchronized (fClassUnloadListeners) {
+			fClassUnloadListeners.remove(listener);
+			if (fClassUnloadListeners.isEmpty() && fClassUnloadHandler != null) {
+				fClassUnloadHandler.deleteRequest();
+				fClassUnloadHandler = null;
+			}
+		}
+	}
+
+	@Override
+	public IJdwpMetrics getJdwpMetrics() {
+		VirtualMachine vm = getVM();
+		if (vm instanceof VirtualMachineImpl) {
+			return ((VirtualMachineImpl) vm).jdwpMetrics();
+		}
+		return null;
+	}
+
 	/**
 	 * Returns the current hot code replace listeners.
 	 *
@@ -0,0 +1,388 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdi.internal.ObjectReferenceImpl;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.VMDisconnectedException;
+
+/**
+ * List of objects retrieved from a target by a single request, such as the
+ * instances of a type or the objects referring to an object, as used by heap
+ * walking values.
+ * <p>
+ * The request is sent on a background job, which can be canceled while the VM
+ * computes the reply. The objects are wrapped in Java values only when a range
+ * of them is asked for, and garbage collection of these objects is disabled
+ * until the target resumes, so that the objects that are shown remain valid.
+ * Garbage collection is disabled and enabled again for all the objects of a
+ * range at once, and enabled again on a background job rather than by the
+ * thread dispatching the resume event.
+ * </p>
+ */
+public class JDIObjectList implements IDebugEventSetListener {
+
+	/**
+	 * Request of the objects to the VM.
+	 */
+	public interface Query {
+
+		/**
+		 * Retrieves the objects from the VM.
+		 *
+		 * @return the objects
+		 * @throws RuntimeException
+		 *             if the objects can't be retrieved
+		 */
+		List<ObjectReference> run();
+	}
+
+	private final JDIDebugTarget fTarget;
+	private final String fName;
+	private final String fErrorMessage;
+	private final Query fQuery;
+
+	private RetrievalJob fJob;
+	private List<ObjectReference> fReferences;
+	private boolean fCanceled;
+
+	/**
+	 * Java values of the objects asked for since the target last suspended, by
+	 * index. Garbage collection of these objects is disabled.
+	 */
+	private final Map<Integer, IJavaObject> fObjects = new HashMap<>();
+
+	/**
+	 * Java values of the objects released when the target resumed, by index.
+	 * Garbage collection of these objects is enabled again by the release job,
+	 * unless they are asked for again first.
+	 */
+	private final Map<Integer, IJavaObject> fReleased = new HashMap<>();
+
+	private ReleaseJob fReleaseJob;
+
+	/**
+	 * Job retrieving the objects. The thread waiting for the objects is
+	 * released when the job completes, or as soon as it is canceled.
+	 */
+	private class RetrievalJob extends Job {
+
+		private final CountDownLatch fDone = new CountDownLatch(1);
+		private volatile List<ObjectReference> fResult;
+		private volatile RuntimeException fException;
+		private volatile boolean fCanceled;
+
+		RetrievalJob() {
+			super(fName);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				if (!monitor.isCanceled()) {
+					fResult = fQuery.run();
+				}
+			} catch (RuntimeException e) {
+				fException = e;
+			} finally {
+				fCanceled = monitor.isCanceled();
+				fDone.countDown();
+			}
+			return fCanceled ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
+
+		@Override
+		protected void canceling() {
+			fCanceled = true;
+			fDone.countDown();
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == fTarget;
+		}
+
+		/**
+		 * Waits until the objects are retrieved or the job is canceled.
+		 */
+		void await() {
+			try {
+				fDone.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				fCanceled = true;
+			}
+		}
+	}
+
+	/**
+	 * Job enabling garbage collection of the released objects again.
+	 */
+	private class ReleaseJob extends Job {
+
+		ReleaseJob() {
+			super(JDIDebugModelMessages.JDIObjectList_0);
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			enableReleasedObjects();
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == fTarget;
+		}
+	}
+
+	/**
+	 * Constructs a list of the objects returned by the given query.
+	 *
+	 * @param target
+	 *            the target the objects are retrieved from
+	 * @param name
+	 *            name of the job retrieving the objects
+	 * @param errorMessage
+	 *            message of the exception thrown if the objects can't be
+	 *            retrieved
+	 * @param query
+	 *            request of the objects to the VM
+	 */
+	public JDIObjectList(JDIDebugTarget target, String name, String errorMessage, Query query) {
+		fTarget = target;
+		fName = name;
+		fErrorMessage = errorMessage;
+		fQuery = query;
+	}
+
+	/**
+	 * Returns the references to the objects, waiting for the job retrieving
+	 * them. Returns an empty list if the retrieval is canceled or has failed.
+	 */
+	private List<ObjectReference> getReferences() throws DebugException {
+		RetrievalJob job;
+		synchronized (this) {
+			if (fReferences != null) {
+				return fReferences;
+			}
+			if (fJob == null) {
+				fJob = new RetrievalJob();
+				fJob.schedule();
+			}
+			job = fJob;
+		}
+		job.await();
+		synchronized (this) {
+			if (fReferences == null && fJob == job) {
+				fJob = null;
+				if (job.fCanceled) {
+					fCanceled = true;
+					fReferences = Collections.emptyList();
+				} else if (job.fException != null) {
+					fReferences = Collections.emptyList();
+					fTarget.targetRequestFailed(fErrorMessage, job.fException);
+				} else {
+					fReferences = job.fResult;
+				}
+			}
+			return fReferences == null ? Collections.emptyList() : fReferences;
+		}
+	}
+
+	/**
+	 * Returns the number of objects, retrieving them if they were not retrieved
+	 * yet.
+	 *
+	 * @return the number of objects
+	 * @throws DebugException
+	 *             if the objects can't be retrieved
+	 */
+	public int size() throws DebugException {
+		return getReferences().size();
+	}
+
+	/**
+	 * Returns whether the objects have been retrieved, or their retrieval
+	 * canceled.
+	 *
+	 * @return whether the objects have been retrieved
+	 */
+	public synchronized boolean isRetrieved() {
+		return fReferences != null;
+	}
+
+	/**
+	 * Returns whether the retrieval of the objects was canceled.
+	 *
+	 * @return whether the retrieval of the objects was canceled
+	 */
+	public synchronized boolean isCanceled() {
+		return fCanceled;
+	}
+
+	/**
+	 * Returns the objects in the given range, disabling their garbage
+	 * collection until the target resumes.
+	 *
+	 * @param offset
+	 *            index of the first object
+	 * @param length
+	 *            number of objects
+	 * @return the objects
+	 * @throws DebugException
+	 *             if the objects can't be retrieved
+	 */
+	public IJavaObject[] getObjects(int offset, int length) throws DebugException {
+		List<ObjectReference> references = getReferences();
+		if (offset < 0 || length < 0 || offset + length > references.size()) {
+			fTarget.targetRequestFailed(fErrorMessage, new IndexOutOfBoundsException());
+		}
+		IJavaObject[] objects = new IJavaObject[length];
+		synchronized (this) {
+			if (fObjects.isEmpty() && length > 0) {
+				DebugPlugin.getDefault().addDebugEventListener(this);
+			}
+			List<IJavaObject> created = new ArrayList<>();
+			for (int i = 0; i < length; i++) {
+				IJavaObject object = fObjects.get(offset + i);
+				if (object == null) {
+					// a released object is still pinned until the release job runs
+					object = fReleased.remove(offset + i);
+					if (object == null) {
+						object = (IJavaObject) JDIValue.createValue(fTarget, references.get(offset + i));
+						created.add(object);
+					}
+					fObjects.put(offset + i, object);
+				}
+				objects[i] = object;
+			}
+			setCollectionEnabled(created, false);
+		}
+		return objects;
+	}
+
+	/**
+	 * Enables garbage collection of the objects that were asked for, on a
+	 * background job.
+	 */
+	public void releaseObjects() {
+		synchronized (this) {
+			if (fObjects.isEmpty()) {
+				return;
+			}
+			fReleased.putAll(fObjects);
+			fObjects.clear();
+			DebugPlugin.getDefault().removeDebugEventListener(this);
+			if (fReleaseJob == null) {
+				fReleaseJob = new ReleaseJob();
+			}
+		}
+		fReleaseJob.schedule();
+	}
+
+	/**
+	 * Enables garbage collection of the released objects that were not asked
+	 * for again. The lock is held meanwhile, so that an object is not asked for
+	 * again while its garbage collection is being enabled.
+	 */
+	private synchronized void enableReleasedObjects() {
+		if (fReleased.isEmpty()) {
+			return;
+		}
+		List<IJavaObject> released = new ArrayList<>(fReleased.values());
+		fReleased.clear();
+		if (fTarget.isAvailable()) {
+			setCollectionEnabled(released, true);
+		}
+	}
+
+	/**
+	 * Enables or disables garbage collection of the given objects, with
+	 * requests sent to the VM all at once. Objects that have been collected
+	 * since they were retrieved are skipped.
+	 *
+	 * @param objects
+	 *            the objects
+	 * @param enabled
+	 *            whether garbage collection is enabled
+	 */
+	private void setCollectionEnabled(List<IJavaObject> objects, boolean enabled) {
+		if (objects.isEmpty() || !fTarget.supportsSelectiveGarbageCollection()) {
+			return;
+		}
+		List<ObjectReferenceImpl> references = new ArrayList<>(objects.size());
+		try {
+			for (IJavaObject object : objects) {
+				ObjectReference reference = ((JDIObjectValue) object).getUnderlyingObject();
+				if (reference instanceof ObjectReferenceImpl) {
+					references.add((ObjectReferenceImpl) reference);
+				} else if (enabled) {
+					reference.enableCollection();
+				} else {
+					reference.disableCollection();
+				}
+			}
+			ObjectReferenceImpl.setCollectionEnabled(references, enabled);
+		} catch (UnsupportedOperationException e) {
+			// The VM does not support enable/disable GC - update target
+			// capabilities and ignore (bug 246577)
+			fTarget.setSupportsSelectiveGarbageCollection(false);
+		} catch (VMDisconnectedException e) {
+			// the objects are gone with the VM
+		} catch (RuntimeException e) {
+			JDIDebugPlugin.log(e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.debug.core.IDebugEventSetListener#handleDebugEvents(org.eclipse
+	 * .debug.core.DebugEvent[])
+	 */
+	@Override
+	public void handleDebugEvents(DebugEvent[] events) {
+		for (DebugEvent event : events) {
+			if ((event.getKind() == DebugEvent.RESUME && !event.isEvaluation()) || event.getKind() == DebugEvent.TERMINATE) {
+				Object source = event.getSource();
+				if (source instanceof IDebugElement && ((IDebugElement) source).getDebugTarget() == fTarget) {
+					releaseObjects();
+					return;
+				}
+			}
+		}
+	}
+}
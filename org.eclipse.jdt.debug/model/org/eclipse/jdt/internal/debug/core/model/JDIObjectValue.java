@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -572,6 +572,19 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 		return fCachedReferences;
 	}
 
+	/**
+	 * Returns a list of the objects referring to this object, which are
+	 * retrieved on a background job when the list is first accessed.
+	 *
+	 * @param max
+	 *            the maximum number of referring objects to retrieve, 0 to
+	 *            retrieve all referring objects
+	 * @return a list of the objects referring to this object
+	 */
+	public JDIObjectList getReferringObjectList(final long max) {
+		return new JDIObjectList(getJavaDebugTarget(), MessageFormat.format(JDIDebugModelMessages.JDIObjectValue_15, toString()), JDIDebugModelMessages.JDIObjectValue_12, () -> getUnderlyingObject().referringObjects(max));
+	}
+
 	/**
 	 * Returns true if references to this object have been calculated and
 	 * cached. This method will return true even if the cached references are
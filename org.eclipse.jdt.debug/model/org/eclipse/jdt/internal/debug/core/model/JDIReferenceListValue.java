@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,9 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	private IJavaObject fRoot;
 	private boolean fIsMoreThanPreference;
 	private IJavaType fType = null;
+	private JDIObjectList fReferences;
+	private int fReferencesSuspendCount;
+	private int fMax;
 
 	/**
 	 * Constructor, initializes this value with its debug target and root object
@@ -69,27 +72,57 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 		}
 	}
 
+	/**
+	 * Returns the list of the references to the root object. The list is
+	 * retrieved again when the target has suspended since it was retrieved,
+	 * or when its retrieval was canceled.
+	 *
+	 * @return the list of the references to the root object
+	 */
+	private synchronized JDIObjectList getReferenceList() {
+		JDIDebugTarget target = (JDIDebugTarget) fRoot.getDebugTarget();
+		int max = HeapWalkingManager.getDefault().getAllReferencesMaxCount();
+		if (fReferences == null
+				|| fReferencesSuspendCount != target.getSuspendCount()
+				|| fMax != max || fReferences.isCanceled()) {
+			if (fReferences != null) {
+				fReferences.releaseObjects();
+			}
+			fReferences = ((JDIObjectValue) fRoot)
+					.getReferringObjectList(max == 0 ? 0 : max + 1);
+			fReferencesSuspendCount = target.getSuspendCount();
+			fMax = max;
+		}
+		return fReferences;
+	}
+
+	/**
+	 * @return the number of references to the root object that are displayed
+	 */
+	private int getReferenceCount(JDIObjectList references) {
+		int count = 0;
+		try {
+			count = references.size();
+		} catch (DebugException e) {
+			JDIDebugPlugin.log(e);
+		}
+		fIsMoreThanPreference = fMax > 0 && count > fMax;
+		return fIsMoreThanPreference ? fMax : count;
+	}
+
 	/**
 	 * @return all references to the root object as an array of IJavaObjects
 	 */
 	protected synchronized IJavaObject[] getReferences() {
 		try {
-			int max = HeapWalkingManager.getDefault()
-					.getAllReferencesMaxCount();
-			IJavaObject[] referringObjects = null;
-			fIsMoreThanPreference = false;
-			if (max == 0) {
-				referringObjects = fRoot.getReferringObjects(max);
-			} else {
-				referringObjects = fRoot.getReferringObjects(max + 1);
-				if (referringObjects.length > max) {
-					fIsMoreThanPreference = true;
-					referringObjects[max] = new JDIPlaceholderValue(
-							(JDIDebugTarget) fRoot.getDebugTarget(),
-							MessageFormat
-									.format(JDIDebugModelMessages.JDIReferenceListValue_9,
-											Integer.toString(max)));
-				}
+			JDIObjectList references = getReferenceList();
+			int count = getReferenceCount(references);
+			IJavaObject[] referringObjects = references.getObjects(0, count);
+			if (fIsMoreThanPreference) {
+				IJavaObject[] objects = new IJavaObject[count + 1];
+				System.arraycopy(referringObjects, 0, objects, 0, count);
+				objects[count] = createMoreValue();
+				referringObjects = objects;
 			}
 			return referringObjects;
 		} catch (DebugException e) {
@@ -98,15 +131,31 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 		}
 	}
 
+	/**
+	 * @return the value shown in place of the references that are not
+	 *         displayed
+	 */
+	private IJavaObject createMoreValue() {
+		return new JDIPlaceholderValue((JDIDebugTarget) fRoot.getDebugTarget(),
+				MessageFormat.format(
+						JDIDebugModelMessages.JDIReferenceListValue_9,
+						Integer.toString(fMax)));
+	}
+
 	/**
 	 * @return whether the references to the root object have been loaded from
 	 *         the vm yet.
 	 */
 	protected synchronized boolean referencesLoaded() {
-		if (fRoot instanceof JDIObjectValue) {
-			return ((JDIObjectValue) fRoot).isReferencesLoaded();
-		}
-		return false;
+		return fReferences != null && fReferences.isRetrieved();
+	}
+
+	/**
+	 * @return whether the last retrieval of the references to the root object
+	 *         was canceled
+	 */
+	private synchronized boolean isCanceled() {
+		return fReferences != null && fReferences.isCanceled();
 	}
 
 	/*
@@ -116,22 +165,7 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	 */
 	@Override
 	public IVariable[] getVariables() throws DebugException {
-		IJavaObject[] elements = getReferences();
-		IVariable[] vars = new JDIPlaceholderVariable[elements.length];
-		int length = elements.length;
-		if (fIsMoreThanPreference) {
-			length--;
-			vars[length] = new JDIPlaceholderVariable(
-					JDIDebugModelMessages.JDIReferenceListValue_11,
-					elements[length]);
-		}
-
-		for (int i = 0; i < length; i++) {
-			vars[i] = new JDIReferenceListEntryVariable(MessageFormat.format(
-					JDIDebugModelMessages.JDIReferenceListValue_0,
-					Integer.toString(i)), elements[i]);
-		}
-		return vars;
+		return getVariables(0, getSize());
 	}
 
 	/*
@@ -154,7 +188,7 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	@Override
 	public boolean hasVariables() throws DebugException {
 		if (referencesLoaded()) {
-			return getReferences().length > 0;
+			return getSize() > 0;
 		}
 		return true;
 	}
@@ -208,6 +242,9 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	 */
 	@Override
 	public String getValueString() throws DebugException {
+		if (isCanceled()) {
+			return JDIDebugModelMessages.JDIReferenceListValue_16;
+		}
 		return ""; //$NON-NLS-1$
 	}
 
@@ -221,7 +258,9 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	public String getDetailString() {
 		StringBuilder buf = new StringBuilder();
 		Object[] elements = getReferences();
-		if (elements.length == 0) {
+		if (isCanceled()) {
+			buf.append(JDIDebugModelMessages.JDIReferenceListValue_16);
+		} else if (elements.length == 0) {
 			buf.append(JDIDebugModelMessages.JDIReferenceListValue_2);
 		} else {
 			String length = null;
@@ -304,8 +343,9 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	 * @see org.eclipse.debug.core.model.IIndexedValue#getSize()
 	 */
 	@Override
-	public int getSize() throws DebugException {
-		return getVariables().length;
+	public synchronized int getSize() throws DebugException {
+		int count = getReferenceCount(getReferenceList());
+		return fIsMoreThanPreference ? count + 1 : count;
 	}
 
 	/*
@@ -315,9 +355,8 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	 */
 	@Override
 	public IVariable getVariable(int offset) throws DebugException {
-		IVariable[] variables = getVariables();
-		if (offset < variables.length) {
-			return variables[offset];
+		if (offset >= 0 && offset < getSize()) {
+			return getVariables(offset, 1)[0];
 		}
 		requestFailed(JDIDebugModelMessages.JDIReferenceListValue_7, new IndexOutOfBoundsException());
 		return null;
@@ -329,16 +368,30 @@ public class JDIReferenceListValue extends JDIObjectValue implements
 	 * @see org.eclipse.debug.core.model.IIndexedValue#getVariables(int, int)
 	 */
 	@Override
-	public IVariable[] getVariables(int offset, int length)
+	public synchronized IVariable[] getVariables(int offset, int length)
 			throws DebugException {
-		IVariable[] variables = getVariables();
-		if (offset < variables.length && (offset + length) <= variables.length) {
-			IJavaVariable[] vars = new IJavaVariable[length];
-			System.arraycopy(variables, offset, vars, 0, length);
-			return vars;
+		JDIObjectList references = getReferenceList();
+		int count = getReferenceCount(references);
+		int size = fIsMoreThanPreference ? count + 1 : count;
+		if (offset < 0 || length < 0 || offset + length > size) {
+			requestFailed(JDIDebugModelMessages.JDIReferenceListValue_8, new IndexOutOfBoundsException());
+			return null;
 		}
-		requestFailed(JDIDebugModelMessages.JDIReferenceListValue_8, new IndexOutOfBoundsException());
-		return null;
+		// only the references that are displayed are retrieved
+		int retrieved = Math.max(0, Math.min(length, count - offset));
+		IJavaObject[] elements = references.getObjects(offset, retrieved);
+		IJavaVariable[] vars = new IJavaVariable[length];
+		for (int i = 0; i < retrieved; i++) {
+			vars[i] = new JDIReferenceListEntryVariable(MessageFormat.format(
+					JDIDebugModelMessages.JDIReferenceListValue_0,
+					Integer.toString(offset + i)), elements[i]);
+		}
+		if (retrieved < length) {
+			vars[retrieved] = new JDIPlaceholderVariable(
+					JDIDebugModelMessages.JDIReferenceListValue_11,
+					createMoreValue());
+		}
+		return vars;
 	}
 
 }
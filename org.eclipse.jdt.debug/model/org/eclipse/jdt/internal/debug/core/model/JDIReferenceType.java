@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -381,6 +381,19 @@ public abstract class JDIReferenceType extends JDIType implements
 		return null;
 	}
 
+	/**
+	 * Returns a list of the instances of this type, which are retrieved on a
+	 * background job when the list is first accessed.
+	 *
+	 * @param max
+	 *            the maximum number of instances to retrieve, 0 to retrieve
+	 *            all instances
+	 * @return a list of the instances of this type
+	 */
+	public JDIObjectList getInstanceList(final long max) {
+		return new JDIObjectList(getJavaDebugTarget(), MessageFormat.format(JDIDebugModelMessages.JDIReferenceType_6, getReferenceType().name()), JDIDebugModelMessages.JDIReferenceType_5, () -> getReferenceType().instances(max));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
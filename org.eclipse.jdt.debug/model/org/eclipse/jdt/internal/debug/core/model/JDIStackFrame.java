@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -267,21 +267,17 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 			if (!exists() || isObsolete() || !getThread().canStepReturn()) {
 				return false;
 			}
-			List<IJavaStackFrame> frames = ((JDIThread) getThread())
-					.computeStackFrames();
-			if (frames != null && !frames.isEmpty()) {
-				boolean bottomFrame = this
-						.equals(frames.get(frames.size() - 1));
-				boolean aboveObsoleteFrame = false;
-				if (!bottomFrame) {
-					int index = frames.indexOf(this);
-					if (index < frames.size() - 1
-							&& ((JDIStackFrame) frames.get(index + 1))
-									.isObsolete()) {
-						aboveObsoleteFrame = true;
-					}
+			synchronized (fThread) {
+				// re-binds this frame if required
+				getUnderlyingStackFrame();
+				if (fDepth <= 0) {
+					// bottom frame
+					return false;
 				}
-				return !bottomFrame && !aboveObsoleteFrame;
+				// only the frame below this one is needed, avoid computing
+				// the whole stack
+				JDIStackFrame caller = fThread.bindStackFrame(fDepth - 1);
+				return caller != null && !caller.isObsolete();
 			}
 		} catch (DebugException e) {
 			logError(e);
@@ -373,11 +369,9 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 					}
 				}
 				if (LambdaUtils.isLambdaFrame(this)) {
-					List<IJavaStackFrame> frames = fThread.computeStackFrames();
-					int previousIndex = frames.indexOf(this) + 1;
-					if (previousIndex > 0 && previousIndex < frames.size()) {
-						IJavaStackFrame previousFrame = frames.get(previousIndex);
-						ObjectReference underlyingThisObject = ((JDIStackFrame) previousFrame).getUnderlyingThisObject();
+					JDIStackFrame previousFrame = getRelativeStackFrame(-1);
+					if (previousFrame != null) {
+						ObjectReference underlyingThisObject = previousFrame.getUnderlyingThisObject();
 						IJavaValue closureValue = JDIValue.createValue((JDIDebugTarget) getDebugTarget(), underlyingThisObject);
 						tryToResolveLambdaVariableNames(closureValue, underlyingThisObject);
 						fVariables.add(new JDILambdaVariable(closureValue));
@@ -688,11 +682,8 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 		if (isTopStackFrame()) {
 			getThread().stepReturn();
 		} else {
-			List<IJavaStackFrame> frames = ((JDIThread) getThread())
-					.computeStackFrames();
-			int index = frames.indexOf(this);
-			if (index >= 0 && index < frames.size() - 1) {
-				IStackFrame nextFrame = frames.get(index + 1);
+			IStackFrame nextFrame = getRelativeStackFrame(-1);
+			if (nextFrame != null) {
 				((JDIThread) getThread()).stepToFrame(nextFrame);
 			}
 		}
@@ -847,14 +838,22 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 			if (jdkSupport || j9Support) {
 				// Also ensure that this frame and no frames above this
 				// frame are native. Unable to pop native stack frames.
-				List<IJavaStackFrame> frames = thread.computeStackFrames();
-				if (jdkSupport) {
-					// JDK 1.4 VMs are currently unable to pop the bottom
-					// stack frame.
-					if ((frames.size() > 0)
-							&& frames.get(frames.size() - 1) == this) {
+				// Only the frames down to the one below this frame are
+				// needed, avoid computing the whole stack
+				List<IJavaStackFrame> frames;
+				synchronized (fThread) {
+					int size = thread.computeStackDepth();
+					if (!exists()) {
+						return false;
+					}
+					// re-binds this frame if required
+					getUnderlyingStackFrame();
+					if (jdkSupport && fDepth == 0) {
+						// JDK 1.4 VMs are currently unable to pop the bottom
+						// stack frame.
 						return false;
 					}
+					frames = thread.computeStackFrames(0, size - fDepth + 1);
 				}
 				int index = 0;
 				JDIStackFrame frame = null;
@@ -1346,6 +1345,28 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 		}
 	}
 
+	/**
+	 * Returns the frame at the given distance from this frame in the call
+	 * stack, binding only the window of frames containing it.
+	 *
+	 * @param offset
+	 *            distance from this frame, positive towards the top of the
+	 *            stack
+	 * @return the frame or <code>null</code> if none
+	 * @throws DebugException
+	 *             if an exception occurs retrieving frames
+	 */
+	private JDIStackFrame getRelativeStackFrame(int offset) throws DebugException {
+		synchronized (fThread) {
+			if (!exists()) {
+				return null;
+			}
+			// re-binds this frame if required
+			getUnderlyingStackFrame();
+			return fThread.bindStackFrame(fDepth + offset);
+		}
+	}
+
 	/**
 	 * Returns this stack frame's underlying JDI frame.
 	 *
@@ -1365,7 +1386,7 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 				}
 				if (fThread.isSuspended()) {
 					// re-index stack frames - See Bug 47198
-					fThread.computeStackFrames();
+					fThread.bindStackFrame(fDepth);
 					if (fDepth == -1) {
 						// try it once more before throwing error
 						fThread.computeStackFrames();
@@ -1685,11 +1706,8 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 					if (isTopStackFrame()) {
 						return true;
 					}
-					List<IJavaStackFrame> frames = fThread.computeStackFrames();
-					int index = frames.indexOf(this);
-					if (index > 0) {
-						JDIStackFrame prev = (JDIStackFrame) frames
-								.get(index - 1);
+					JDIStackFrame prev = getRelativeStackFrame(1);
+					if (prev != null) {
 						return prev.canDropToFrame();
 					}
 				}
@@ -1722,10 +1740,8 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 			} catch (ClassNotLoadedException e) {
 				targetRequestFailed(JDIDebugModelMessages.JDIThread_48, e);
 			}
-			List<IJavaStackFrame> frames = fThread.computeStackFrames();
-			int index = frames.indexOf(this);
-			if (index > 0) {
-				JDIStackFrame prev = (JDIStackFrame) frames.get(index - 1);
+			JDIStackFrame prev = getRelativeStackFrame(1);
+			if (prev != null) {
 				fThread.popFrame(prev);
 				fThread.forceReturn(value);
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@
 package org.eclipse.jdt.internal.debug.core.model;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -43,6 +45,7 @@ import org.eclipse.debug.core.model.IStepFilter;
 import org.eclipse.debug.core.model.ISuspendResume;
 import org.eclipse.debug.core.model.ITerminate;
 import org.eclipse.debug.core.model.IThread;
+import org.eclipse.jdi.internal.ThreadSnapshot;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.debug.core.IEvaluationRunnable;
 import org.eclipse.jdt.debug.core.IJavaBreakpoint;
@@ -136,9 +139,32 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	private String fPreviousName;
 	/**
-	 * Collection of stack frames
+	 * Number of stack frames retrieved from the VM at a time. Frames below the
+	 * top window are only retrieved when requested.
+	 */
+	private static final int FRAME_WINDOW_SIZE = 64;
+	/**
+	 * Collection of stack frames, top of stack first. Contains
+	 * <code>null</code> place holders for frames that have not been created
+	 * yet.
 	 */
 	private volatile List<IJavaStackFrame> fStackFrames;
+	/**
+	 * Indices of the frames in {@link #fStackFrames} that have been bound to
+	 * an underlying frame since the last suspend.
+	 */
+	private final BitSet fBoundFrames = new BitSet();
+	/**
+	 * Suspend count, name, frame count and top frame of the underlying thread
+	 * captured by the last snapshot of the suspended VM. Cleared when this
+	 * thread resumes or its stack changes.
+	 *
+	 * @see JDIDebugTarget#snapshotThreads()
+	 */
+	private volatile int fSnapshotSuspendCount = -1;
+	private volatile String fSnapshotName;
+	private volatile int fSnapshotFrameCount = -1;
+	private volatile StackFrame fSnapshotTopFrame;
 	/**
 	 * Underlying thread group, cached on first access.
 	 */
@@ -617,46 +643,12 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		if (isSuspended()) {
 			if (isTerminated()) {
 				fStackFrames.clear();
-			} else if (refreshChildren) {
-				List<StackFrame> frames = getUnderlyingFrames();
-				int oldSize = fStackFrames.size();
-				if (oldSize > 0) {
-					((JDIStackFrame) fStackFrames.get(0)).setIsTop(false);
-				}
-				int newSize = frames.size();
-				int discard = oldSize - newSize; // number of old frames to
-													// discard, if any
-				for (int i = 0; i < discard; i++) {
-					JDIStackFrame invalid = (JDIStackFrame) fStackFrames
-							.remove(0);
-					invalid.bind(null, -1);
-				}
-				int newFrames = newSize - oldSize; // number of frames to
-													// create, if any
-				int depth = oldSize;
-				for (int i = newFrames - 1; i >= 0; i--) {
-					fStackFrames.add(0, new JDIStackFrame(this,
-							frames.get(i), depth));
-					depth++;
-				}
-				int numToRebind = Math.min(newSize, oldSize); // number of
-																// frames to
-																// attempt to
-																// re-bind
-				int offset = newSize - 1;
-				for (depth = 0; depth < numToRebind; depth++) {
-					JDIStackFrame oldFrame = (JDIStackFrame) fStackFrames
-							.get(offset);
-					StackFrame frame = frames.get(offset);
-					JDIStackFrame newFrame = oldFrame.bind(frame, depth);
-					if (newFrame != oldFrame) {
-						fStackFrames.set(offset, newFrame);
-					}
-					offset--;
-				}
-				if (newSize > 0) {
-					((JDIStackFrame) fStackFrames.get(0)).setIsTop(true);
+				fBoundFrames.clear();
+			} else {
+				if (refreshChildren) {
+					refreshStackFrames();
 				}
+				bindStackFrames(0, fStackFrames.size());
 			}
 			fRefreshChildren = false;
 		} else {
@@ -665,6 +657,209 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		return fStackFrames;
 	}
 
+	/**
+	 * Returns a window of this thread's current stack frames, computing only
+	 * the frames in the requested window if required. Frames below the window
+	 * are not retrieved from the VM. Returns an empty collection if this thread
+	 * is not currently suspended, or this thread is terminated.
+	 * <p>
+	 * NOTE: this method returns a copy of the requested frames.
+	 * </p>
+	 *
+	 * @param start
+	 *            index of the first frame to return, 0 is the top of the stack
+	 * @param length
+	 *            maximum number of frames to return
+	 * @return list of <code>IJavaStackFrame</code>, possibly shorter than the
+	 *         requested length
+	 * @throws DebugException
+	 *             if an exception occurs retrieving frames
+	 * @see #computeStackFrames()
+	 */
+	public synchronized List<IJavaStackFrame> computeStackFrames(int start, int length) throws DebugException {
+		if (!isSuspended()) {
+			return Collections.EMPTY_LIST;
+		}
+		if (isTerminated()) {
+			fStackFrames.clear();
+			fBoundFrames.clear();
+		} else if (fRefreshChildren) {
+			refreshStackFrames();
+		}
+		fRefreshChildren = false;
+		int size = fStackFrames.size();
+		int from = Math.min(Math.max(start, 0), size);
+		int to = (int) Math.min((long) from + Math.max(length, 0), size);
+		bindStackFrames(from, to);
+		return new ArrayList<>(fStackFrames.subList(from, to));
+	}
+
+	/**
+	 * Returns the number of frames on this thread's stack, refreshing this
+	 * thread's stack frames first if required. Unlike
+	 * {@link #computeStackFrames()}, only the top window of frames is
+	 * retrieved from the VM. Returns 0 if this thread is not suspended, or is
+	 * terminated.
+	 *
+	 * @return number of frames on this thread's stack
+	 * @throws DebugException
+	 *             if an exception occurs retrieving the frame count
+	 */
+	protected synchronized int computeStackDepth() throws DebugException {
+		computeStackFrames(0, 0);
+		return isSuspended() ? fStackFrames.size() : 0;
+	}
+
+	/**
+	 * Binds the frame at the given depth to its underlying frame, refreshing
+	 * this thread's stack frames first if required. Only the window containing
+	 * the frame is retrieved from the VM.
+	 *
+	 * @param depth
+	 *            depth of the frame in the call stack (0 is bottom)
+	 * @return the frame at the given depth or <code>null</code> if none
+	 * @throws DebugException
+	 *             if an exception occurs retrieving frames
+	 */
+	protected synchronized JDIStackFrame bindStackFrame(int depth) throws DebugException {
+		if (!isSuspended() || isTerminated()) {
+			return null;
+		}
+		if (fRefreshChildren) {
+			refreshStackFrames();
+			fRefreshChildren = false;
+		}
+		int index = fStackFrames.size() - depth - 1;
+		if (index < 0 || depth < 0) {
+			return null;
+		}
+		bindStackFrames(index, index + 1);
+		return (JDIStackFrame) fStackFrames.get(index);
+	}
+
+	/**
+	 * Re-sizes the stack frame list to the current depth of the underlying
+	 * thread and binds the top window of frames. Frames preserved from the
+	 * previous suspend keep their position relative to the bottom of the
+	 * stack and are re-bound when their window is requested.
+	 */
+	private void refreshStackFrames() throws DebugException {
+		getJavaDebugTarget().takePendingSnapshot();
+		int newSize = fSnapshotFrameCount;
+		if (newSize < 0) {
+			newSize = getUnderlyingFrameCount();
+		}
+		int oldSize = fStackFrames.size();
+		if (oldSize > 0 && fStackFrames.get(0) != null) {
+			((JDIStackFrame) fStackFrames.get(0)).setIsTop(false);
+		}
+		int discard = oldSize - newSize; // number of old frames to
+											// discard, if any
+		for (int i = 0; i < discard; i++) {
+			JDIStackFrame invalid = (JDIStackFrame) fStackFrames.remove(0);
+			if (invalid != null) {
+				invalid.bind(null, -1);
+			}
+		}
+		if (newSize > oldSize) {
+			// placeholders for new frames, created when their window is bound
+			fStackFrames.addAll(0, Collections.nCopies(newSize - oldSize, null));
+		}
+		fBoundFrames.clear();
+		StackFrame topFrame = fSnapshotTopFrame;
+		if (topFrame != null && newSize > 0) {
+			// the rest of the top window is bound when requested
+			bindStackFrame(0, topFrame, newSize);
+			((JDIStackFrame) fStackFrames.get(0)).setIsTop(true);
+		} else {
+			bindStackFrames(0, Math.min(newSize, FRAME_WINDOW_SIZE));
+		}
+	}
+
+	/**
+	 * Ensures all frames in the given range are bound to underlying frames,
+	 * retrieving at least a window of frames from the VM at a time. Frames
+	 * preserved from a previous suspend are re-bound when possible, otherwise
+	 * new frames are created.
+	 *
+	 * @param from
+	 *            index of the first frame (inclusive), 0 is the top of the
+	 *            stack
+	 * @param to
+	 *            index of the last frame (exclusive)
+	 */
+	private void bindStackFrames(int from, int to) throws DebugException {
+		int first = fBoundFrames.nextClearBit(from);
+		if (first >= to) {
+			return;
+		}
+		int size = fStackFrames.size();
+		int last = fBoundFrames.previousClearBit(to - 1);
+		int end = Math.min(Math.max(last + 1, first + FRAME_WINDOW_SIZE), size);
+		List<StackFrame> frames = getUnderlyingFrames(first, end - first);
+		for (int i = 0; i < frames.size(); i++) {
+			int index = first + i;
+			if (!fBoundFrames.get(index)) {
+				bindStackFrame(index, frames.get(i), size);
+			}
+		}
+		if (first == 0 && !frames.isEmpty()) {
+			((JDIStackFrame) fStackFrames.get(0)).setIsTop(true);
+		}
+	}
+
+	/**
+	 * Re-binds the frame at the given index to the given underlying frame, or
+	 * creates a new frame if there is none or it cannot be re-bound.
+	 */
+	private void bindStackFrame(int index, StackFrame frame, int size) {
+		int depth = size - index - 1;
+		JDIStackFrame oldFrame = (JDIStackFrame) fStackFrames.get(index);
+		if (oldFrame == null) {
+			fStackFrames.set(index, new JDIStackFrame(this, frame, depth));
+		} else {
+			JDIStackFrame newFrame = oldFrame.bind(frame, depth);
+			if (newFrame != oldFrame) {
+				fStackFrames.set(index, newFrame);
+			}
+		}
+		fBoundFrames.set(index);
+	}
+
+	/**
+	 * Fills this thread's caches from a snapshot of the suspended VM, such that
+	 * presenting this thread does not need further requests. The cached values
+	 * are discarded when this thread resumes.
+	 *
+	 * @param snapshot
+	 *            state of the underlying thread
+	 * @see JDIDebugTarget#snapshotThreads()
+	 */
+	protected void setSnapshot(ThreadSnapshot snapshot) {
+		String name = snapshot.name();
+		if (name != null) {
+			fPreviousName = name;
+			fSnapshotName = name;
+		}
+		if (isSuspended() && snapshot.isSuspended()) {
+			fSnapshotSuspendCount = snapshot.suspendCount();
+		}
+		if (isSuspended() && snapshot.isSuspended() && snapshot.frameCount() >= 0) {
+			fSnapshotFrameCount = snapshot.frameCount();
+			fSnapshotTopFrame = snapshot.topFrame();
+		}
+	}
+
+	/**
+	 * Discards the values cached by the last snapshot.
+	 */
+	private void clearSnapshot() {
+		fSnapshotSuspendCount = -1;
+		fSnapshotName = null;
+		fSnapshotFrameCount = -1;
+		fSnapshotTopFrame = null;
+	}
+
 	/**
 	 * Returns this thread's current stack frames as a list, computing them if
 	 * required. Returns an empty collection if this thread is not currently
@@ -714,7 +909,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		return computeStackFrames(true);
 	}
 
-	private List<StackFrame> getUnderlyingFrames() throws DebugException {
+	private List<StackFrame> getUnderlyingFrames(int start, int length) throws DebugException {
 		if (!isSuspended()) {
 			// Checking isSuspended here eliminates a race condition in resume
 			// between the time stack frames are preserved and the time the
@@ -724,7 +919,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 					null, IJavaThread.ERR_THREAD_NOT_SUSPENDED);
 		}
 		try {
-			return fThread.frames();
+			return fThread.frames(start, length);
 		} catch (IncompatibleThreadStateException e) {
 			requestFailed(
 					JDIDebugModelMessages.JDIThread_Unable_to_retrieve_stack_frame___thread_not_suspended__1,
@@ -1267,7 +1462,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		setRequestTimeout(restoreTimeout);
 		// update preserved stack frames
 		try {
-			computeStackFrames();
+			computeStackFrames(0, FRAME_WINDOW_SIZE);
 		} catch (DebugException e) {
 			logError(e);
 		}
@@ -1275,6 +1470,13 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 
 	@Override
 	public String getName() throws DebugException {
+		if (isSuspended()) {
+			getJavaDebugTarget().takePendingSnapshot();
+		}
+		String name = fSnapshotName;
+		if (name != null) {
+			return name;
+		}
 		try {
 			fPreviousName = fThread.name();
 		} catch (RuntimeException e) {
@@ -1340,7 +1542,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 
 	@Override
 	public synchronized IStackFrame getTopStackFrame() throws DebugException {
-		List<IJavaStackFrame> c = computeStackFrames();
+		List<IJavaStackFrame> c = computeStackFrames(0, 1);
 		if (c.isEmpty()) {
 			return null;
 		}
@@ -1692,6 +1894,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	protected void setRunning(boolean running) {
 		fRunning = running;
 		if (running) {
+			clearSnapshot();
 			synchronized (breakpointAcessLock) {
 				fCurrentBreakpoints.clear();
 			}
@@ -1712,8 +1915,11 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	protected synchronized void preserveStackFrames() {
 		fRefreshChildren = true;
+		clearSnapshot();
 		for(IJavaStackFrame frame : fStackFrames) {
-			((JDIStackFrame)frame).setUnderlyingStackFrame(null);
+			if (frame != null) {
+				((JDIStackFrame)frame).setUnderlyingStackFrame(null);
+			}
 		}
 	}
 
@@ -1725,7 +1931,9 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 * @see #computeStackFrames()
 	 */
 	protected synchronized void disposeStackFrames() {
+		clearSnapshot();
 		fStackFrames.clear();
+		fBoundFrames.clear();
 		fRefreshChildren = true;
 	}
 
@@ -2029,6 +2237,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 *             if an exception occurs
 	 */
 	protected synchronized void resumedByVM() throws DebugException {
+		// the suspend count of the last snapshot, if any, saves a request
+		int suspendCount = fSnapshotSuspendCount;
 		fClientSuspendRequest = false;
 		setRunning(true);
 		clearMethodResult();
@@ -2039,8 +2249,10 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		// is no greater than 1. @see Bugs 23328 and 27622
 		ThreadReference thread = fThread;
 		try {
-			while (thread.suspendCount() > 1) {
-				thread.resume();
+			if (suspendCount < 0 || suspendCount > 1) {
+				while (thread.suspendCount() > 1) {
+					thread.resume();
+				}
 			}
 		} catch (ObjectCollectedException e) {
 		} catch (VMDisconnectedException e) {
@@ -2121,7 +2333,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 					preserveStackFrames();
 					fThread.popFrames(jdiFrame);
 					lastSize = size;
-					size = computeStackFrames().size();
+					size = computeStackDepth();
 				}
 			} catch (IncompatibleThreadStateException exception) {
 				targetRequestFailed(MessageFormat.format(
@@ -2391,7 +2603,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 				}
 				Location location = frame.location();
 				setOriginalStepLocation(location);
-				setOriginalStepStackDepth(computeStackFrames().size());
+				setOriginalStepStackDepth(computeStackDepth());
 				setStepRequest(createStepRequest());
 				setPendingStepHandler(this);
 				addJDIEventListener(this, getStepRequest());
@@ -2505,11 +2717,11 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 					}
 					fStepResultCandidate = null;
 					fStepResultTimeoutTriggered.set(false);
-					List<IJavaStackFrame> frames = computeStackFrames();
+					List<IJavaStackFrame> frames = computeStackFrames(0, 1);
 					int frameCount = 0;
 					StackFrame currentFrame = null;
 					if (!frames.isEmpty()) {
-						frameCount = frames.size();
+						frameCount = computeStackDepth();
 						currentFrame = ((JDIStackFrame) frames.get(0)).getUnderlyingStackFrame();
 					} else {
 						// can happen, e.g. when step filters are active.
@@ -3119,8 +3331,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		 *                </ul>
 		 */
 		protected StepToFrameHandler(IStackFrame frame) throws DebugException {
-			List<IJavaStackFrame> frames = computeStackFrames();
-			setRemainingFrames(frames.size() - frames.indexOf(frame));
+			int depth = computeStackDepth();
+			setRemainingFrames(depth - fStackFrames.indexOf(frame));
 		}
 
 		/**
@@ -3200,8 +3412,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		 *                </ul>
 		 */
 		protected DropToFrameHandler(IStackFrame frame) throws DebugException {
-			List<IJavaStackFrame> frames = computeStackFrames();
-			setFramesToDrop(frames.indexOf(frame));
+			computeStackDepth();
+			setFramesToDrop(fStackFrames.indexOf(frame));
 		}
 
 		/**
@@ -3534,6 +3746,13 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 
 	@Override
 	public int getFrameCount() throws DebugException {
+		if (isSuspended()) {
+			getJavaDebugTarget().takePendingSnapshot();
+		}
+		int count = fSnapshotFrameCount;
+		if (count >= 0) {
+			return count;
+		}
 		return getUnderlyingFrameCount();
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2019 Igor Fedorenko
+ * Copyright (c) 2011, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -64,7 +64,9 @@ public class Premain {
 
 					final String location = locationUrl.toExternalForm();
 
-					return transformer.transform(classfileBuffer, location);
+					byte[] transformed = transformer.transform(classfileBuffer, location);
+					// null tells the JVM to keep the original bytes instead of parsing a copy
+					return transformed != classfileBuffer ? transformed : null;
 				}
 				catch (Exception e) {
 					System.err.printf("Could not instrument class %s: %s.\n", className, e.getMessage()); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2022 Igor Fedorenko
+ * Copyright (c) 2014, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,7 +30,21 @@ public class ClassfileTransformer {
 	/** supported ASM API version, must match {@link #MAX_CLASS_MAJOR} above */
 	private static final int ASM_API = Opcodes.ASM9;
 
+	/**
+	 * Returns the classfile with a SourceDebugExtension attribute that maps the class to its location.
+	 *
+	 * @return the transformed classfile, or {@code classfileBuffer} itself if the classfile has no SourceFile attribute
+	 */
 	public byte[] transform(byte[] classfileBuffer, final String location) {
+		// most classes have no SMAP yet, patch the attribute table without a full ASM round trip
+		byte[] patched = SourceDebugExtensionPatcher.patch(classfileBuffer, location);
+		if (patched != null) {
+			return patched;
+		}
+		return transformWithAsm(classfileBuffer, location);
+	}
+
+	byte[] transformWithAsm(byte[] classfileBuffer, final String location) {
 
 		final ClassReader r = new ClassReader(classfileBuffer, 0, classfileBuffer.length);
 		final ClassWriter w = new ClassWriter(r, 0);
@@ -38,29 +52,55 @@ public class ClassfileTransformer {
 		r.accept(new ClassVisitor(ASM_API, w) {
 			@Override
 			public void visitSource(String source, String debug) {
-				String javaSource = source;
-				// TODO merge SMAP if present (always present when used together with Equinox weaver)
-				if (debug == null) {
-					StringBuilder smap = new StringBuilder();
-					smap.append("SMAP\n"); //$NON-NLS-1$
-					smap.append(javaSource).append("\n"); //$NON-NLS-1$
-					// default strata name
-					smap.append("Java\n"); //$NON-NLS-1$
-					smap.append("*S " + STRATA_ID + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
-					smap.append("*F\n"); //$NON-NLS-1$
-					smap.append("1 ").append(source).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
-					smap.append("2 ").append(location).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
-					// JSR-045, StratumSection
-					// "One FileSection and one LineSection (in either order) must follow the StratumSection"
-					smap.append("*L\n"); //$NON-NLS-1$
-					smap.append("*E\n"); //$NON-NLS-1$
-					debug = smap.toString();
+				String smap = debug;
+				if (source != null) {
+					smap = debug == null ? newSmap(source, location) : mergeSmap(debug, source, location);
 				}
-
-				super.visitSource(javaSource, debug);
+				super.visitSource(source, smap);
 			}
 		}, 0);
 
 		return w.toByteArray();
 	}
+
+	/**
+	 * Returns a new SMAP with a stratum that maps the given source to the location of its class.
+	 */
+	static String newSmap(String source, String location) {
+		StringBuilder smap = new StringBuilder();
+		smap.append("SMAP\n"); //$NON-NLS-1$
+		smap.append(source).append("\n"); //$NON-NLS-1$
+		// default strata name
+		smap.append("Java\n"); //$NON-NLS-1$
+		appendStratum(smap, source, location);
+		smap.append("*E\n"); //$NON-NLS-1$
+		return smap.toString();
+	}
+
+	/**
+	 * Adds a stratum that maps the given source to the location of its class to an existing SMAP, for example the one
+	 * of the Equinox weaver.
+	 */
+	static String mergeSmap(String debug, String source, String location) {
+		int end = debug.lastIndexOf("*E"); //$NON-NLS-1$
+		if (end == -1 || debug.contains("*S " + STRATA_ID + "\n")) { //$NON-NLS-1$ //$NON-NLS-2$
+			// not an SMAP or already transformed
+			return debug;
+		}
+		StringBuilder smap = new StringBuilder(debug.length() + 64);
+		smap.append(debug, 0, end);
+		appendStratum(smap, source, location);
+		smap.append(debug, end, debug.length());
+		return smap.toString();
+	}
+
+	private static void appendStratum(StringBuilder smap, String source, String location) {
+		smap.append("*S " + STRATA_ID + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		smap.append("*F\n"); //$NON-NLS-1$
+		smap.append("1 ").append(source).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		smap.append("2 ").append(location).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		// JSR-045, StratumSection
+		// "One FileSection and one LineSection (in either order) must follow the StratumSection"
+		smap.append("*L\n"); //$NON-NLS-1$
+	}
 }
@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.launching.internal.weaving;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Adds a SourceDebugExtension attribute to a classfile by patching its constant pool and attribute table, without
+ * parsing or writing fields and methods.
+ * <p>
+ * The constant pool is scanned for the SourceFile and SourceDebugExtension attribute names, fields and methods are
+ * skipped using their attribute lengths, and the new attribute is appended to the class attributes, which end the
+ * classfile. The attribute name is appended to the constant pool if not already present.
+ * </p>
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se21/html/jvms-4.html">JVMS chapter 4</a>
+ */
+final class SourceDebugExtensionPatcher {
+
+	private static final byte[] SOURCE_FILE = "SourceFile".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+	private static final byte[] SOURCE_DEBUG_EXTENSION = "SourceDebugExtension".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	// constant pool tags
+	private static final int UTF8 = 1;
+	private static final int INTEGER = 3;
+	private static final int FLOAT = 4;
+	private static final int LONG = 5;
+	private static final int DOUBLE = 6;
+	private static final int CLASS = 7;
+	private static final int STRING = 8;
+	private static final int FIELDREF = 9;
+	private static final int METHODREF = 10;
+	private static final int INTERFACE_METHODREF = 11;
+	private static final int NAME_AND_TYPE = 12;
+	private static final int METHOD_HANDLE = 15;
+	private static final int METHOD_TYPE = 16;
+	private static final int DYNAMIC = 17;
+	private static final int INVOKE_DYNAMIC = 18;
+	private static final int MODULE = 19;
+	private static final int PACKAGE = 20;
+
+	private SourceDebugExtensionPatcher() {
+	}
+
+	/**
+	 * Returns the given classfile with a SourceDebugExtension attribute that maps its source to the given location.
+	 *
+	 * @param classfile
+	 *            the classfile
+	 * @param location
+	 *            the location of the class
+	 * @return the patched classfile, {@code classfile} itself if it has no SourceFile attribute, or {@code null} if
+	 *         the classfile already has a SourceDebugExtension attribute or can't be patched
+	 */
+	static byte[] patch(byte[] classfile, String location) {
+		try {
+			return patchAttributes(classfile, location);
+		} catch (ArrayIndexOutOfBoundsException e) {
+			// truncated classfile, left to ASM to report
+			return null;
+		}
+	}
+
+	private static byte[] patchAttributes(byte[] classfile, String location) {
+		if (classfile.length < 10 || readInt(classfile, 0) != MAGIC) {
+			return null;
+		}
+		int constantPoolCount = readUnsignedShort(classfile, 8);
+		int[] utf8Offsets = new int[constantPoolCount];
+		int sourceFileName = 0;
+		int sourceDebugExtensionName = 0;
+		int offset = 10;
+		for (int i = 1; i < constantPoolCount; i++) {
+			int tag = classfile[offset];
+			switch (tag) {
+				case UTF8:
+					utf8Offsets[i] = offset;
+					int length = readUnsignedShort(classfile, offset + 1);
+					if (equals(classfile, offset + 3, length, SOURCE_FILE)) {
+						sourceFileName = i;
+					} else if (equals(classfile, offset + 3, length, SOURCE_DEBUG_EXTENSION)) {
+						sourceDebugExtensionName = i;
+					}
+					offset += 3 + length;
+					break;
+				case CLASS:
+				case STRING:
+				case METHOD_TYPE:
+				case MODULE:
+				case PACKAGE:
+					offset += 3;
+					break;
+				case METHOD_HANDLE:
+					offset += 4;
+					break;
+				case INTEGER:
+				case FLOAT:
+				case FIELDREF:
+				case METHODREF:
+				case INTERFACE_METHODREF:
+				case NAME_AND_TYPE:
+				case DYNAMIC:
+				case INVOKE_DYNAMIC:
+					offset += 5;
+					break;
+				case LONG:
+				case DOUBLE:
+					offset += 9;
+					i++;
+					break;
+				default:
+					return null;
+			}
+		}
+		int constantPoolEnd = offset;
+		// access_flags, this_class, super_class, interfaces
+		offset += 6;
+		offset += 2 + 2 * readUnsignedShort(classfile, offset);
+		// fields and methods
+		for (int members = 0; members < 2; members++) {
+			int count = readUnsignedShort(classfile, offset);
+			offset += 2;
+			for (int i = 0; i < count; i++) {
+				offset = skipAttributes(classfile, offset + 6);
+			}
+		}
+		int attributesCountOffset = offset;
+		int attributesCount = readUnsignedShort(classfile, offset);
+		offset += 2;
+		int sourceFile = 0;
+		for (int i = 0; i < attributesCount; i++) {
+			int name = readUnsignedShort(classfile, offset);
+			if (name == 0) {
+				return null;
+			}
+			if (name == sourceDebugExtensionName) {
+				// an existing SMAP has to be merged
+				return null;
+			}
+			if (name == sourceFileName) {
+				sourceFile = readUnsignedShort(classfile, offset + 6);
+			}
+			offset += 6 + readInt(classfile, offset + 2);
+		}
+		if (offset != classfile.length) {
+			return null;
+		}
+		if (sourceFile == 0) {
+			// as for ASM, no SMAP without a source
+			return classfile;
+		}
+		if (sourceFile >= constantPoolCount || utf8Offsets[sourceFile] == 0) {
+			return null;
+		}
+		int sourceOffset = utf8Offsets[sourceFile];
+		String source = decode(classfile, sourceOffset + 3, readUnsignedShort(classfile, sourceOffset + 1));
+		if (source == null) {
+			return null;
+		}
+		byte[] smap = encode(ClassfileTransformer.newSmap(source, location));
+
+		byte[] nameEntry = null;
+		if (sourceDebugExtensionName == 0) {
+			if (constantPoolCount == 0xFFFF) {
+				return null;
+			}
+			sourceDebugExtensionName = constantPoolCount;
+			nameEntry = new byte[3 + SOURCE_DEBUG_EXTENSION.length];
+			nameEntry[0] = UTF8;
+			writeShort(nameEntry, 1, SOURCE_DEBUG_EXTENSION.length);
+			System.arraycopy(SOURCE_DEBUG_EXTENSION, 0, nameEntry, 3, SOURCE_DEBUG_EXTENSION.length);
+		}
+		int nameEntryLength = nameEntry == null ? 0 : nameEntry.length;
+		byte[] patched = new byte[classfile.length + nameEntryLength + 6 + smap.length];
+		System.arraycopy(classfile, 0, patched, 0, constantPoolEnd);
+		int position = constantPoolEnd;
+		if (nameEntry != null) {
+			writeShort(patched, 8, constantPoolCount + 1);
+			System.arraycopy(nameEntry, 0, patched, position, nameEntryLength);
+			position += nameEntryLength;
+		}
+		System.arraycopy(classfile, constantPoolEnd, patched, position, classfile.length - constantPoolEnd);
+		writeShort(patched, attributesCountOffset + nameEntryLength, attributesCount + 1);
+		position += classfile.length - constantPoolEnd;
+		writeShort(patched, position, sourceDebugExtensionName);
+		writeInt(patched, position + 2, smap.length);
+		System.arraycopy(smap, 0, patched, position + 6, smap.length);
+		return patched;
+	}
+
+	private static int skipAttributes(byte[] classfile, int offset) {
+		int count = readUnsignedShort(classfile, offset);
+		offset += 2;
+		for (int i = 0; i < count; i++) {
+			offset += 6 + readInt(classfile, offset + 2);
+		}
+		return offset;
+	}
+
+	private static boolean equals(byte[] classfile, int offset, int length, byte[] name) {
+		if (length != name.length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (classfile[offset + i] != name[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Decodes a modified UTF-8 string.
+	 *
+	 * @return the string or {@code null} if malformed
+	 */
+	private static String decode(byte[] bytes, int offset, int length) {
+		char[] chars = new char[length];
+		int count = 0;
+		int end = offset + length;
+		while (offset < end) {
+			int b = bytes[offset++] & 0xFF;
+			if (b < 0x80) {
+				chars[count++] = (char) b;
+			} else if ((b & 0xE0) == 0xC0 && offset < end) {
+				chars[count++] = (char) (((b & 0x1F) << 6) | (bytes[offset++] & 0x3F));
+			} else if ((b & 0xF0) == 0xE0 && offset + 1 < end) {
+				chars[count++] = (char) (((b & 0x0F) << 12) | ((bytes[offset] & 0x3F) << 6) | (bytes[offset + 1] & 0x3F));
+				offset += 2;
+			} else {
+				return null;
+			}
+		}
+		return new String(chars, 0, count);
+	}
+
+	/**
+	 * Encodes a string in modified UTF-8, as the JVM expects for SourceDebugExtension attributes.
+	 */
+	private static byte[] encode(String string) {
+		int length = 0;
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			length += c >= 0x01 && c <= 0x7F ? 1 : c <= 0x7FF ? 2 : 3;
+		}
+		byte[] bytes = new byte[length];
+		int offset = 0;
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (c >= 0x01 && c <= 0x7F) {
+				bytes[offset++] = (byte) c;
+			} else if (c <= 0x7FF) {
+				bytes[offset++] = (byte) (0xC0 | (c >> 6));
+				bytes[offset++] = (byte) (0x80 | (c & 0x3F));
+			} else {
+				bytes[offset++] = (byte) (0xE0 | (c >> 12));
+				bytes[offset++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				bytes[offset++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		return bytes;
+	}
+
+	private static int readUnsignedShort(byte[] bytes, int offset) {
+		return ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+	}
+
+	private static int readInt(byte[] bytes, int offset) {
+		return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16) | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+	}
+
+	private static void writeShort(byte[] bytes, int offset, int value) {
+		bytes[offset] = (byte) (value >>> 8);
+		bytes[offset + 1] = (byte) value;
+	}
+
+	private static void writeInt(byte[] bytes, int offset, int value) {
+		bytes[offset] = (byte) (value >>> 24);
+		bytes[offset + 1] = (byte) (value >>> 16);
+		bytes[offset + 2] = (byte) (value >>> 8);
+		bytes[offset + 3] = (byte) value;
+	}
+}
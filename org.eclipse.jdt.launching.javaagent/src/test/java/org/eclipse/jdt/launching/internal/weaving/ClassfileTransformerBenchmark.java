@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.launching.internal.weaving;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Measures the time and allocation of loading generated classes without the javaagent transformation, with the
+ * full ASM round trip and with the patched SourceDebugExtension attribute.
+ * <p>
+ * Usage: {@code ClassfileTransformerBenchmark [class count] [rounds]}, by default 50000 classes and 5 rounds.
+ * </p>
+ */
+public class ClassfileTransformerBenchmark {
+
+	private static final String LOCATION = "file:/benchmark/classes/"; //$NON-NLS-1$
+
+	private enum Mode {
+		NONE, ASM, PATCH
+	}
+
+	private static final class BenchmarkClassLoader extends ClassLoader {
+
+		BenchmarkClassLoader() {
+			super(null);
+		}
+
+		Class<?> define(String name, byte[] classfile) {
+			return defineClass(name, classfile, 0, classfile.length);
+		}
+	}
+
+	public static void main(String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		byte[][] classfiles = new byte[count][];
+		for (int i = 0; i < count; i++) {
+			classfiles[i] = generate(i);
+		}
+		ClassfileTransformer transformer = new ClassfileTransformer();
+		for (int round = 0; round < rounds; round++) {
+			for (Mode mode : Mode.values()) {
+				System.gc();
+				long allocated = getAllocatedBytes();
+				long start = System.nanoTime();
+				load(transformer, classfiles, mode);
+				long millis = (System.nanoTime() - start) / 1000000;
+				allocated = getAllocatedBytes() - allocated;
+				System.out.printf("round %d %-5s %6d classes %6d ms %8d KB allocated%n", round, mode, count, millis, allocated / 1024); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private static void load(ClassfileTransformer transformer, byte[][] classfiles, Mode mode) {
+		BenchmarkClassLoader loader = new BenchmarkClassLoader();
+		for (int i = 0; i < classfiles.length; i++) {
+			byte[] classfile = classfiles[i];
+			switch (mode) {
+				case ASM:
+					classfile = transformer.transformWithAsm(classfile, LOCATION);
+					break;
+				case PATCH:
+					classfile = transformer.transform(classfile, LOCATION);
+					break;
+				default:
+					break;
+			}
+			loader.define(getClassName(i), classfile);
+		}
+	}
+
+	private static String getClassName(int i) {
+		return "benchmark.C" + i; //$NON-NLS-1$
+	}
+
+	/**
+	 * Generates a class with a field, a constructor and a few methods, similar in size to a small application class.
+	 */
+	private static byte[] generate(int i) {
+		String internalName = getClassName(i).replace('.', '/');
+		ClassWriter w = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		w.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, "java/lang/Object", null); //$NON-NLS-1$
+		w.visitSource("C" + i + ".java", null); //$NON-NLS-1$ //$NON-NLS-2$
+		w.visitField(Opcodes.ACC_PRIVATE, "value", "I", null, null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		MethodVisitor m = w.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		m.visitCode();
+		m.visitVarInsn(Opcodes.ALOAD, 0);
+		m.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		m.visitInsn(Opcodes.RETURN);
+		m.visitMaxs(0, 0);
+		m.visitEnd();
+		for (int j = 0; j < 4; j++) {
+			m = w.visitMethod(Opcodes.ACC_PUBLIC, "m" + j, "(I)I", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+			m.visitCode();
+			m.visitVarInsn(Opcodes.ALOAD, 0);
+			m.visitFieldInsn(Opcodes.GETFIELD, internalName, "value", "I"); //$NON-NLS-1$ //$NON-NLS-2$
+			m.visitVarInsn(Opcodes.ILOAD, 1);
+			m.visitInsn(Opcodes.IADD);
+			m.visitLdcInsn(Integer.valueOf(i * 31 + j));
+			m.visitInsn(Opcodes.IMUL);
+			m.visitInsn(Opcodes.IRETURN);
+			m.visitMaxs(0, 0);
+			m.visitEnd();
+		}
+		w.visitEnd();
+		return w.toByteArray();
+	}
+
+	private static long getAllocatedBytes() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return 0;
+	}
+}
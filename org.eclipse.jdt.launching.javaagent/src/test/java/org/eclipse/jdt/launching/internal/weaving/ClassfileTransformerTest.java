@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.launching.internal.weaving;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Tests the classfiles transformed by {@link ClassfileTransformer}, patched by {@link SourceDebugExtensionPatcher} or
+ * rewritten by ASM.
+ */
+public class ClassfileTransformerTest {
+
+	private static final String CLASS_NAME = "test.Sample"; //$NON-NLS-1$
+	private static final String SOURCE = "Sample.java"; //$NON-NLS-1$
+	private static final String LOCATION = "file:/test/classes/"; //$NON-NLS-1$
+
+	private final ClassfileTransformer fTransformer = new ClassfileTransformer();
+
+	/**
+	 * Source, SMAP and members of a classfile as read by ASM.
+	 */
+	private static final class ClassContent extends ClassVisitor {
+
+		String fSource;
+		String fDebug;
+		final StringBuilder fMembers = new StringBuilder();
+
+		ClassContent(byte[] classfile) {
+			super(Opcodes.ASM9);
+			new ClassReader(classfile).accept(this, 0);
+		}
+
+		@Override
+		public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+			fMembers.append(version).append(' ').append(access).append(' ').append(name).append(' ').append(superName).append('\n');
+		}
+
+		@Override
+		public void visitSource(String source, String debug) {
+			fSource = source;
+			fDebug = debug;
+		}
+
+		@Override
+		public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+			fMembers.append("field ").append(name).append(descriptor).append('\n'); //$NON-NLS-1$
+			return null;
+		}
+
+		@Override
+		public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+			fMembers.append("method ").append(name).append(descriptor).append('\n'); //$NON-NLS-1$
+			return new MethodVisitor(Opcodes.ASM9) {
+				@Override
+				public void visitLdcInsn(Object value) {
+					fMembers.append("  ldc ").append(value).append('\n'); //$NON-NLS-1$
+				}
+			};
+		}
+	}
+
+	private static final class TestClassLoader extends ClassLoader {
+
+		TestClassLoader() {
+			super(ClassfileTransformerTest.class.getClassLoader());
+		}
+
+		Class<?> define(byte[] classfile) {
+			return defineClass(CLASS_NAME, classfile, 0, classfile.length);
+		}
+	}
+
+	/**
+	 * Generates a class with a field and a method returning the given constant.
+	 *
+	 * @param source
+	 *            the SourceFile attribute, or {@code null} for none
+	 * @param debug
+	 *            the SourceDebugExtension attribute, or {@code null} for none
+	 * @param constant
+	 *            string constant returned by the method
+	 */
+	private static byte[] generate(String source, String debug, String constant) {
+		String internalName = CLASS_NAME.replace('.', '/');
+		ClassWriter w = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		w.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, "java/lang/Object", null); //$NON-NLS-1$
+		if (source != null || debug != null) {
+			w.visitSource(source, debug);
+		}
+		w.visitField(Opcodes.ACC_PRIVATE, "value", "J", null, null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		MethodVisitor m = w.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		m.visitCode();
+		m.visitVarInsn(Opcodes.ALOAD, 0);
+		m.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		m.visitInsn(Opcodes.RETURN);
+		m.visitMaxs(0, 0);
+		m.visitEnd();
+		m = w.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "constant", "()Ljava/lang/String;", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		m.visitCode();
+		m.visitLdcInsn(constant);
+		m.visitInsn(Opcodes.ARETURN);
+		m.visitMaxs(0, 0);
+		m.visitEnd();
+		w.visitEnd();
+		return w.toByteArray();
+	}
+
+	/**
+	 * Checks that the given classfile is valid by loading it and calling its method.
+	 */
+	private static void assertLoads(byte[] classfile, String constant) throws Exception {
+		Class<?> clazz = new TestClassLoader().define(classfile);
+		Method method = clazz.getMethod("constant"); //$NON-NLS-1$
+		assertEquals(constant, method.invoke(null));
+	}
+
+	@Test
+	public void testPatchedClassfile() throws Exception {
+		byte[] classfile = generate(SOURCE, null, "constant"); //$NON-NLS-1$
+		byte[] patched = SourceDebugExtensionPatcher.patch(classfile, LOCATION);
+		assertNotNull(patched);
+
+		ClassContent original = new ClassContent(classfile);
+		ClassContent content = new ClassContent(patched);
+		assertEquals(SOURCE, content.fSource);
+		assertEquals(ClassfileTransformer.newSmap(SOURCE, LOCATION), content.fDebug);
+		assertEquals(original.fMembers.toString(), content.fMembers.toString());
+		assertLoads(patched, "constant"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testPatchedClassfileMatchesAsm() throws Exception {
+		byte[] classfile = generate(SOURCE, null, "constant"); //$NON-NLS-1$
+		ClassContent patched = new ClassContent(fTransformer.transform(classfile, LOCATION));
+		ClassContent rewritten = new ClassContent(fTransformer.transformWithAsm(classfile, LOCATION));
+		assertEquals(rewritten.fSource, patched.fSource);
+		assertEquals(rewritten.fDebug, patched.fDebug);
+		assertEquals(rewritten.fMembers.toString(), patched.fMembers.toString());
+	}
+
+	@Test
+	public void testAttributeNameInConstantPool() throws Exception {
+		// the attribute name is already a constant of the class, it is used rather than added
+		byte[] classfile = generate(SOURCE, null, "SourceDebugExtension"); //$NON-NLS-1$
+		byte[] patched = SourceDebugExtensionPatcher.patch(classfile, LOCATION);
+		assertNotNull(patched);
+		assertEquals(ClassfileTransformer.newSmap(SOURCE, LOCATION), new ClassContent(patched).fDebug);
+		assertLoads(patched, "SourceDebugExtension"); //$NON-NLS-1$
+
+		// a new UTF8 constant has a tag, a length and the name
+		byte[] other = generate(SOURCE, null, "constant"); //$NON-NLS-1$
+		int growth = SourceDebugExtensionPatcher.patch(other, LOCATION).length - other.length;
+		assertEquals(growth - 3 - "SourceDebugExtension".length(), patched.length - classfile.length); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testNoSourceFile() throws Exception {
+		byte[] classfile = generate(null, null, "constant"); //$NON-NLS-1$
+		assertSame(classfile, SourceDebugExtensionPatcher.patch(classfile, LOCATION));
+		assertSame(classfile, fTransformer.transform(classfile, LOCATION));
+	}
+
+	@Test
+	public void testExistingSourceDebugExtension() throws Exception {
+		String smap = "SMAP\n" + SOURCE + "\nJava\n*S woven\n*F\n1 " + SOURCE + "\n*L\n1#1:1\n*E\n"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		byte[] classfile = generate(SOURCE, smap, "constant"); //$NON-NLS-1$
+		assertNull(SourceDebugExtensionPatcher.patch(classfile, LOCATION));
+
+		byte[] transformed = fTransformer.transform(classfile, LOCATION);
+		String debug = new ClassContent(transformed).fDebug;
+		assertEquals(ClassfileTransformer.mergeSmap(smap, SOURCE, LOCATION), debug);
+		assertTrue(debug, debug.startsWith(smap.substring(0, smap.lastIndexOf("*E")) + "*S jdt\n")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(debug, debug.endsWith("*E\n")); //$NON-NLS-1$
+		assertLoads(transformed, "constant"); //$NON-NLS-1$
+
+		// the stratum is added once
+		assertEquals(debug, new ClassContent(fTransformer.transform(transformed, LOCATION)).fDebug);
+	}
+
+	@Test
+	public void testInvalidClassfile() {
+		assertNull(SourceDebugExtensionPatcher.patch(new byte[] { 1, 2, 3 }, LOCATION));
+		byte[] classfile = generate(SOURCE, null, "constant"); //$NON-NLS-1$
+		byte[] truncated = new byte[classfile.length - 4];
+		System.arraycopy(classfile, 0, truncated, 0, truncated.length);
+		assertNull(SourceDebugExtensionPatcher.patch(truncated, LOCATION));
+	}
+}
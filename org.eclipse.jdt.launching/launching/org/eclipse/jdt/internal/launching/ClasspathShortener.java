@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2023 Cedric Chabanois and others.
+ * Copyright (c) 2018, 2026 Cedric Chabanois and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,13 +14,18 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.launching;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.net.URI;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -36,7 +41,6 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
@@ -52,6 +56,10 @@ import org.eclipse.jdt.launching.IVMInstall2;
  * Depending on the java version, os and launch configuration, the classpath argument will be replaced by an argument file, a classpath-only jar or
  * env variable. The modulepath is replaced by an argument file if necessary.
  *
+ * Argument files and classpath-only jars are named after a digest of their contents, so that launching the same classpath again reuses the
+ * existing file. They are written to the state location of the plug-in, the manifest of classpath-only jars referring to absolute locations.
+ * They are not deleted when the process terminates, but when they have not been used for {@link #CACHED_FILE_MAX_AGE}.
+ *
  */
 public class ClasspathShortener implements IProcessTempFileCreator {
 	private static final String CLASSPATH_ENV_VAR_PREFIX = "CLASSPATH="; //$NON-NLS-1$
@@ -68,6 +76,15 @@ public class ClasspathShortener implements IProcessTempFileCreator {
 	private File processTempFilesDir;
 	private final List<File> processTempFiles = new ArrayList<>();
 	private static final String ARGFILE_TEMPDIR_NAME = "temp"; //$NON-NLS-1$
+	/**
+	 * Prefix of reusable argument files and classpath-only jars, which must not start with {@link LaunchingPlugin#LAUNCH_TEMP_FILE_PREFIX} as
+	 * they are kept after the process terminates
+	 */
+	private static final String CACHED_FILE_PREFIX = ".cached"; //$NON-NLS-1$
+	/**
+	 * Time in milliseconds after which an unused argument file or classpath-only jar is deleted
+	 */
+	public static final long CACHED_FILE_MAX_AGE = 24 * 60 * 60 * 1000L;
 
 	/**
 	 *
@@ -104,9 +121,9 @@ public class ClasspathShortener implements IProcessTempFileCreator {
 	}
 
 	/**
-	 * The directory to use to create temp files needed when shortening the classpath. By default, the working directory is used
+	 * The directory relative classpath entries are resolved against when shortening the classpath. By default, the working directory is used
 	 *
-	 * The java.io.tmpdir should not be used on MacOs (does not work for classpath-only jars)
+	 * Argument files and classpath-only jars are written to the state location of the plug-in
 	 *
 	 * @param processTempFilesDir
 	 */
@@ -293,15 +310,7 @@ public class ClasspathShortener implements IProcessTempFileCreator {
 		String path = cmdLine.get(modulePathArgumentIndex);
 		File file;
 		try {
-			IPath stateLocation = LaunchingPlugin.getDefault().getStateLocation();
-			IPath argFileTmpIPath = stateLocation.append(ARGFILE_TEMPDIR_NAME);
-			File argFileTmpDir = argFileTmpIPath.toFile();
-			if (!argFileTmpDir.exists()) {
-				Files.createDirectory(argFileTmpDir.toPath());
-			}
-			File argFile = JavaLaunchingUtils.createFileForArgument(getLaunchTimeStamp(), argFileTmpDir, getLaunchConfigurationName(), "%s" //$NON-NLS-1$
-					+ option + "-arg-%s.txt"); //$NON-NLS-1$
-
+			File argFileTmpDir = getCachedFilesDir();
 			String arg = option + " " + quoteWindowsPath(path); //$NON-NLS-1$
 			Charset systemCharset = Platform.getSystemCharset();
 			if (!systemCharset.newEncoder().canEncode(arg)) {
@@ -309,8 +318,11 @@ public class ClasspathShortener implements IProcessTempFileCreator {
 						+ " as argument file with system charset " //$NON-NLS-1$
 						+ systemCharset.displayName() + ".", null)); //$NON-NLS-1$
 			}
-			Files.writeString(argFile.toPath(), arg, systemCharset);
-			argFile.deleteOnExit();
+			byte[] contents = arg.getBytes(systemCharset);
+			File argFile = new File(argFileTmpDir, CACHED_FILE_PREFIX + option + "-arg-" + getDigest(contents) + ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+			if (!reuseCachedFile(argFile)) {
+				writeCachedFile(argFile, contents);
+			}
 			file = argFile;
 		} catch (IOException e) {
 			throw new CoreException(new Status(IStatus.ERROR, LaunchingPlugin.getUniqueIdentifier(), IStatus.ERROR, "Cannot create " + option //$NON-NLS-1$
@@ -349,8 +361,12 @@ public class ClasspathShortener implements IProcessTempFileCreator {
 
 	private File createClasspathOnlyJar(String classpath) throws CoreException {
 		try {
-			File jarFile = JavaLaunchingUtils.createFileForArgument(getLaunchTimeStamp(), processTempFilesDir, getLaunchConfigurationName(), "%s-classpathOnly-%s.jar"); //$NON-NLS-1$
-			URI workingDirUri = processTempFilesDir.toURI();
+			// relative classpath entries are relative to the working directory
+			String key = processTempFilesDir.getAbsolutePath() + '\n' + classpath;
+			File jarFile = new File(getCachedFilesDir(), CACHED_FILE_PREFIX + "-classpathOnly-" + getDigest(key.getBytes(StandardCharsets.UTF_8)) + ".jar"); //$NON-NLS-1$ //$NON-NLS-2$
+			if (reuseCachedFile(jarFile)) {
+				return jarFile;
+			}
 			StringBuilder manifestClasspath = new StringBuilder();
 			String[] classpathArray = getClasspathAsArray(classpath);
 			for (int i = 0; i < classpathArray.length; i++) {
@@ -358,21 +374,99 @@ public class ClasspathShortener implements IProcessTempFileCreator {
 					manifestClasspath.append(' ');
 				}
 				File file = new File(classpathArray[i]);
-				String relativePath = URIUtil.makeRelative(file.toURI(), workingDirUri).toString();
-				manifestClasspath.append(relativePath);
+				if (!file.isAbsolute()) {
+					file = new File(processTempFilesDir, classpathArray[i]);
+				}
+				// the jar is not next to the classpath entries, refer to them by absolute URIs
+				manifestClasspath.append(file.toURI().toString());
 			}
 			Manifest manifest = new Manifest();
 			manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0"); //$NON-NLS-1$
 			manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, manifestClasspath.toString());
-			try (JarOutputStream target = new JarOutputStream(new FileOutputStream(jarFile), manifest)) {
+			ByteArrayOutputStream contents = new ByteArrayOutputStream();
+			try (JarOutputStream target = new JarOutputStream(contents, manifest)) {
 				target.hashCode(); // avoid warning that target is unused
 			}
+			writeCachedFile(jarFile, contents.toByteArray());
 			return jarFile;
 		} catch (IOException e) {
 			throw new CoreException(new Status(IStatus.ERROR, LaunchingPlugin.getUniqueIdentifier(), IStatus.ERROR, "Cannot create classpath only jar", e)); // $NON-NLS-1$ //$NON-NLS-1$
 		}
 	}
 
+	/**
+	 * Returns the directory of the reusable files in the state location of the plug-in, creating it if needed.
+	 */
+	private static File getCachedFilesDir() throws IOException {
+		IPath stateLocation = LaunchingPlugin.getDefault().getStateLocation();
+		File dir = stateLocation.append(ARGFILE_TEMPDIR_NAME).toFile();
+		if (!dir.exists()) {
+			Files.createDirectories(dir.toPath());
+		}
+		return dir;
+	}
+
+	/**
+	 * Returns a digest of the given contents, to be used in the name of a reusable file.
+	 */
+	private static String getDigest(byte[] contents) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(contents); //$NON-NLS-1$
+			StringBuilder hex = new StringBuilder(32);
+			// 128 bits are enough to identify contents and keep file names short
+			for (int i = 0; i < 16; i++) {
+				hex.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is supported by every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns whether the given reusable file exists, marking it as used if it does.
+	 */
+	private static boolean reuseCachedFile(File file) {
+		if (!file.isFile()) {
+			return false;
+		}
+		file.setLastModified(System.currentTimeMillis());
+		return true;
+	}
+
+	/**
+	 * Writes a reusable file atomically, so that concurrent launches never see partial contents, and deletes the reusable files of the same
+	 * directory that have not been used for {@link #CACHED_FILE_MAX_AGE}.
+	 */
+	private static void writeCachedFile(File file, byte[] contents) throws IOException {
+		File dir = file.getParentFile();
+		Path tempFile = Files.createTempFile(dir.toPath(), LaunchingPlugin.LAUNCH_TEMP_FILE_PREFIX, null);
+		try {
+			Files.write(tempFile, contents);
+			try {
+				Files.move(tempFile, file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+		deleteExpiredCachedFiles(dir);
+	}
+
+	private static void deleteExpiredCachedFiles(File dir) {
+		long expired = System.currentTimeMillis() - CACHED_FILE_MAX_AGE;
+		File[] files = dir.listFiles((d, name) -> name.startsWith(CACHED_FILE_PREFIX));
+		if (files != null) {
+			for (File file : files) {
+				if (file.lastModified() < expired) {
+					file.delete();
+				}
+			}
+		}
+	}
+
 	private String[] getClasspathAsArray(String classpath) {
 		return classpath.split("" + getPathSeparatorChar()); //$NON-NLS-1$
 	}
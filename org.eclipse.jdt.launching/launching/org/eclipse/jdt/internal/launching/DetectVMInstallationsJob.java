@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Red Hat, Inc. and others.
+ * Copyright (c) 2023, 2026 Red Hat, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,6 +57,8 @@ class DetectVMInstallationsJob extends Job {
 		Set<File> knownVMs = knownVMs();
 		candidates.removeIf(knownVMs::contains);
 		monitor.beginTask(LaunchingMessages.lookupInstalledJVMs, candidates.size());
+		// probe all candidates at once rather than one by one when creating the VM installs
+		standardType.detectLibraryInfos(candidates, monitor);
 		for (File f : candidates) {
 			if (monitor.isCanceled()) {
 				return Status.CANCEL_STATUS;
@@ -78,6 +80,8 @@ class DetectVMInstallationsJob extends Job {
 			}
 			subMon.done();
 		}
+		// write the library info of all detected VMs at once
+		LaunchingPlugin.flushLibraryInfo();
 		return Status.OK_STATUS;
 	}
 
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Per-project index of the results of launchable property tests, such as
+ * whether a type has a main method or a method with a test annotation.
+ * <p>
+ * Results are computed on first request and grouped by the compilation unit or
+ * class file they were computed from, which only depend on the contents of that
+ * compilation unit or class file. Java element deltas, including the ones of
+ * reconciled working copies, discard the results of the changed compilation
+ * units and class files, or of whole projects when their classpath changes.
+ * </p>
+ */
+public class JavaLaunchableIndex implements IElementChangedListener {
+
+	/**
+	 * Flags of a Java element delta that may change the compilation units and
+	 * class files of a project
+	 */
+	private static final int PROJECT_CHANGED_FLAGS = IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+			| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_MOVED_FROM | IJavaElementDelta.F_MOVED_TO;
+
+	private static JavaLaunchableIndex fgDefault;
+
+	/**
+	 * Map of projects to their compilation units and class files, mapped to the
+	 * results of property tests on their elements
+	 */
+	private final Map<IJavaProject, Map<IOpenable, Map<List<Object>, Boolean>>> fProjects = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the shared index, creating it if required.
+	 *
+	 * @return the shared index
+	 */
+	public static synchronized JavaLaunchableIndex getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new JavaLaunchableIndex();
+			JavaCore.addElementChangedListener(fgDefault, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Disposes the shared index, if it was created.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault);
+			fgDefault.clear();
+			fgDefault = null;
+		}
+	}
+
+	/**
+	 * Returns the result of a property test on the given element, computing it
+	 * if it is not indexed yet.
+	 *
+	 * @param element
+	 *            the tested element
+	 * @param property
+	 *            the tested property
+	 * @param args
+	 *            the arguments of the test
+	 * @param test
+	 *            computes the result, only from the compilation unit or class
+	 *            file of the element
+	 * @return the result of the test
+	 */
+	public boolean test(IJavaElement element, String property, Object[] args, BooleanSupplier test) {
+		IOpenable openable = element == null ? null : element.getOpenable();
+		IJavaProject project = element == null ? null : element.getJavaProject();
+		if (!(openable instanceof IJavaElement) || project == null) {
+			return test.getAsBoolean();
+		}
+		openable = (IOpenable) ((IJavaElement) openable).getPrimaryElement();
+		List<Object> key = Arrays.asList(element.getPrimaryElement(), property, Arrays.asList(args == null ? new Object[0] : args));
+		Map<List<Object>, Boolean> results = fProjects.computeIfAbsent(project, p -> new ConcurrentHashMap<>()).computeIfAbsent(openable, o -> new ConcurrentHashMap<>());
+		Boolean result = results.get(key);
+		if (result == null) {
+			result = Boolean.valueOf(test.getAsBoolean());
+			results.put(key, result);
+		}
+		return result.booleanValue();
+	}
+
+	/**
+	 * Discards all results.
+	 */
+	public void clear() {
+		fProjects.clear();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (!fProjects.isEmpty()) {
+			processDelta(event.getDelta());
+		}
+	}
+
+	/**
+	 * Discards the results of the elements changed by the given delta.
+	 */
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		int kind = delta.getKind();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (kind != IJavaElementDelta.CHANGED || (delta.getFlags() & PROJECT_CHANGED_FLAGS) != 0) {
+					fProjects.remove(element);
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED || (delta.getFlags() & PROJECT_CHANGED_FLAGS) != 0) {
+					// the class files of an archive are not reported individually
+					fProjects.remove(element.getJavaProject());
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (kind == IJavaElementDelta.REMOVED) {
+					Map<IOpenable, Map<List<Object>, Boolean>> openables = fProjects.get(element.getJavaProject());
+					if (openables != null) {
+						openables.keySet().removeIf(openable -> element.equals(((IJavaElement) openable).getParent()));
+					}
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				Map<IOpenable, Map<List<Object>, Boolean>> openables = fProjects.get(element.getJavaProject());
+				if (openables != null) {
+					openables.remove(element.getPrimaryElement());
+				}
+				return;
+			default:
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+}
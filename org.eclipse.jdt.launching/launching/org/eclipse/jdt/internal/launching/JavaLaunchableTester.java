@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2022 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -573,6 +573,10 @@ public class JavaLaunchableTester extends PropertyTester {
 	 * <li>If inspection of children of containers were done, a user might want to choose a different launch type, even though our tests
 	 * filter it out.</li>
 	 * </ul>
+	 * <p>
+	 * The results of the main method and annotation tests are kept in the {@link JavaLaunchableIndex}, so that they are only
+	 * computed again after the tested compilation unit or class file changes.
+	 * </p>
 	 * @see org.eclipse.core.expressions.IPropertyTester#test(java.lang.Object, java.lang.String, java.lang.Object[], java.lang.Object)
 	 * @since 3.2
 	 * @return true if the specified tests pass, or the context is a container, false otherwise
@@ -597,17 +601,18 @@ public class JavaLaunchableTester extends PropertyTester {
 				}
 			}
 		}
+		final IJavaElement javaElement = element;
 		if(PROPERTY_HAS_MAIN.equals(property)) {
-			return hasMain(element);
+			return JavaLaunchableIndex.getDefault().test(element, property, args, () -> hasMain(javaElement));
 		}
 		if (PROPERTY_HAS_METHOD.equals(property)) {
 			return hasMethod(element, args);
 		}
 		if (PROPERTY_HAS_METHOD_WITH_ANNOTATION.equals(property)) {
-			return hasMethodWithAnnotation(element, args);
+			return JavaLaunchableIndex.getDefault().test(element, property, args, () -> hasMethodWithAnnotation(javaElement, args));
 		}
 		if (PROPERTY_HAS_TYPE_WITH_ANNOTATION.equals(property)) {
-			return hasTypeWithAnnotation(element, (String)args[0]);
+			return JavaLaunchableIndex.getDefault().test(element, property, args, () -> hasTypeWithAnnotation(javaElement, (String) args[0]));
 		}
 		if(PROPERTY_BUILDPATH_REFERENCE.equals(property)) {
 			return hasItemOnBuildPath(element, args);
@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.sourcelookup.ISourceContainer;
+import org.eclipse.debug.core.sourcelookup.containers.DefaultSourceContainer;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.launching.sourcelookup.containers.ClasspathContainerSourceContainer;
+import org.eclipse.jdt.launching.sourcelookup.containers.ClasspathVariableSourceContainer;
+import org.eclipse.jdt.launching.sourcelookup.containers.JavaProjectSourceContainer;
+import org.eclipse.jdt.launching.sourcelookup.containers.PackageFragmentRootSourceContainer;
+
+/**
+ * Index of the packages of the package fragment roots on a source lookup path,
+ * so that a lookup only probes the roots containing the package of the source
+ * name.
+ * <p>
+ * Default, classpath container and variable source containers are expanded
+ * into their members, in lookup order. Package fragment root source containers
+ * are indexed by the names of their package fragments, Java project source
+ * containers by the names of the package fragments of the project's source
+ * folders, for Java like source names. All other containers are probed for
+ * every lookup. A root is indexed again when a Java element delta adds or
+ * removes its packages or changes its archive, a project when its classpath
+ * changes.
+ * </p>
+ */
+public class JavaSourcePackageIndex implements IElementChangedListener {
+
+	/**
+	 * Source containers in lookup order
+	 */
+	private final ISourceContainer[] fContainers;
+
+	/**
+	 * Indexed package fragment root or Java project of each position, or
+	 * <code>null</code> for the containers that are not indexed
+	 */
+	private final IJavaElement[] fElements;
+
+	/**
+	 * Map of package names to the positions of the indexed containers
+	 * containing the package
+	 */
+	private final Map<String, BitSet> fPackages = new HashMap<>();
+
+	/**
+	 * Positions of the containers to probe for every package
+	 */
+	private final BitSet fUnindexed = new BitSet();
+
+	/**
+	 * Positions of the Java project containers, which are only indexed for
+	 * Java like source names
+	 */
+	private final BitSet fProjects = new BitSet();
+
+	/**
+	 * Map of indexed package fragment roots and Java projects to their first
+	 * position. A later container of the same root or project is not probed,
+	 * as a lookup finds the source in the first one.
+	 */
+	private final Map<IJavaElement, Integer> fPositions = new HashMap<>();
+
+	/**
+	 * Positions to index again before the next lookup
+	 */
+	private final BitSet fChanged = new BitSet();
+
+	/**
+	 * Creates an index of the given source containers and starts listening to
+	 * Java element changes.
+	 *
+	 * @param containers
+	 *            source containers in lookup order
+	 */
+	public JavaSourcePackageIndex(ISourceContainer[] containers) {
+		List<ISourceContainer> members = new ArrayList<>();
+		for (ISourceContainer container : containers) {
+			expand(container, members);
+		}
+		fContainers = members.toArray(new ISourceContainer[members.size()]);
+		fElements = new IJavaElement[fContainers.length];
+		for (int i = 0; i < fContainers.length; i++) {
+			IJavaElement element = null;
+			if (fContainers[i] instanceof PackageFragmentRootSourceContainer) {
+				element = ((PackageFragmentRootSourceContainer) fContainers[i]).getPackageFragmentRoot();
+			} else if (fContainers[i] instanceof JavaProjectSourceContainer) {
+				element = ((JavaProjectSourceContainer) fContainers[i]).getJavaProject();
+				fProjects.set(i);
+			}
+			if (element == null) {
+				fUnindexed.set(i);
+			} else if (fPositions.putIfAbsent(element, Integer.valueOf(i)) == null) {
+				fElements[i] = element;
+				index(i);
+			}
+		}
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Adds the given container, or its members for default, classpath
+	 * container and variable source containers, to the given list.
+	 */
+	private static void expand(ISourceContainer container, List<ISourceContainer> members) {
+		Class<?> type = container.getClass();
+		if (type == DefaultSourceContainer.class || type == ClasspathContainerSourceContainer.class
+				|| type == ClasspathVariableSourceContainer.class) {
+			try {
+				for (ISourceContainer member : container.getSourceContainers()) {
+					expand(member, members);
+				}
+				return;
+			} catch (CoreException e) {
+				// probe the container as a whole
+			}
+		}
+		members.add(container);
+	}
+
+	/**
+	 * Indexes the packages of the root or project at the given position, or
+	 * marks it to be probed for every package if they are unknown.
+	 */
+	private void index(int position) {
+		IJavaElement element = fElements[position];
+		try {
+			if (element instanceof IJavaProject) {
+				IJavaProject project = (IJavaProject) element;
+				if (!project.getProject().isOpen()) {
+					return;
+				}
+				for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+					// the project container only searches the source folders
+					// of the project
+					if (root.getKind() == IPackageFragmentRoot.K_SOURCE && project.equals(root.getJavaProject())) {
+						index(root, position);
+					}
+				}
+			} else {
+				index((IPackageFragmentRoot) element, position);
+			}
+		} catch (JavaModelException e) {
+			fUnindexed.set(position);
+		}
+	}
+
+	/**
+	 * Indexes the packages of the given root at the given position.
+	 */
+	private void index(IPackageFragmentRoot root, int position) throws JavaModelException {
+		for (IJavaElement fragment : root.getChildren()) {
+			fPackages.computeIfAbsent(fragment.getElementName(), p -> new BitSet()).set(position);
+		}
+	}
+
+	/**
+	 * Returns the source containers that may contain the source with the given
+	 * name.
+	 *
+	 * @param name
+	 *            source name, a path relative to a source container
+	 * @return candidate source containers in lookup order
+	 */
+	public synchronized List<ISourceContainer> getCandidates(String name) {
+		for (int i = fChanged.nextSetBit(0); i >= 0; i = fChanged.nextSetBit(i + 1)) {
+			fUnindexed.clear(i);
+			for (BitSet positions : fPackages.values()) {
+				positions.clear(i);
+			}
+			index(i);
+		}
+		fChanged.clear();
+		BitSet candidates = (BitSet) fUnindexed.clone();
+		if (!JavaCore.isJavaLikeFileName(name)) {
+			// Java project containers search the whole project for other files
+			candidates.or(fProjects);
+		}
+		BitSet positions = fPackages.get(getPackageName(name));
+		if (positions != null) {
+			candidates.or(positions);
+		}
+		List<ISourceContainer> containers = new ArrayList<>(candidates.cardinality());
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			containers.add(fContainers[i]);
+		}
+		return containers;
+	}
+
+	/**
+	 * Returns the package name of the given source name, as computed by
+	 * {@link PackageFragmentRootSourceContainer#findSourceElements(String)}.
+	 */
+	private static String getPackageName(String name) {
+		String typeName = name;
+		int index = typeName.lastIndexOf('.');
+		if (index >= 0) {
+			// remove file type suffix
+			typeName = typeName.substring(0, index);
+		}
+		typeName = typeName.replace('/', '.').replace('\\', '.');
+		index = typeName.lastIndexOf('.');
+		return index >= 0 ? typeName.substring(0, index) : ""; //$NON-NLS-1$
+	}
+
+	/**
+	 * Stops listening to Java element changes.
+	 */
+	public void dispose() {
+		JavaCore.removeElementChangedListener(this);
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		processDelta(event.getDelta());
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					processDelta(child);
+				}
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_OPENED
+								| IJavaElementDelta.F_CLOSED)) != 0) {
+					changed(element);
+				}
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					processDelta(child);
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (changesPackages(delta)) {
+					changed(element);
+					changed(element.getJavaProject());
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Marks the given root or project to be indexed again, if it is indexed.
+	 */
+	private synchronized void changed(IJavaElement element) {
+		Integer position = fPositions.get(element);
+		if (position != null) {
+			fChanged.set(position.intValue());
+		}
+	}
+
+	/**
+	 * Returns whether the given delta of a package fragment root may change
+	 * its packages.
+	 */
+	private static boolean changesPackages(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED) != 0) {
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getKind() != IJavaElementDelta.CHANGED) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -91,6 +91,7 @@ public class LaunchingMessages extends NLS {
 
 	public static String LaunchingPlugin_39;
 	public static String LaunchingPlugin_40;
+	public static String LaunchingPlugin_41;
 
 	public static String libraryLocation_assert_libraryNotNull;
 
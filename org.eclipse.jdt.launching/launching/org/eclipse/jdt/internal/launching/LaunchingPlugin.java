@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -104,8 +104,10 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 */
 	public static boolean DEBUG = false;
 	public static boolean DEBUG_JRE_CONTAINER = false;
+	public static boolean DEBUG_CLASSPATH_RESOLUTION = false;
 
 	public static final String DEBUG_JRE_CONTAINER_FLAG = "org.eclipse.jdt.launching/debug/classpath/jreContainer"; //$NON-NLS-1$
+	public static final String DEBUG_CLASSPATH_RESOLUTION_FLAG = "org.eclipse.jdt.launching/debug/classpath/resolution"; //$NON-NLS-1$
 	public static final String DEBUG_FLAG = "org.eclipse.jdt.launching/debug"; //$NON-NLS-1$
 
 	/**
@@ -157,10 +159,19 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	public static final String PREF_DETECT_VMS_AT_STARTUP = "detectVMsAtStartup"; //$NON-NLS-1$
 
 	/**
-	 * Mapping of top-level VM installation directories to library info for that
-	 * VM.
+	 * Library info of top-level VM installation directories, see {@link #getLibraryInfoStore()}
 	 */
-	private static Map<String, LibraryInfo> fgLibraryInfoMap = null;
+	private static LibraryInfoStore fgLibraryInfoStore = null;
+
+	/**
+	 * Writes changes of the library info in batches
+	 */
+	private static Job fgLibraryInfoFlushJob = null;
+
+	/**
+	 * Delay before changes of the library info are written, in milliseconds
+	 */
+	private static final long LIBRARY_INFO_FLUSH_DELAY = 1000;
 
 	/**
 	 * Mapping of the last time the directory of a given SDK was modified.
@@ -182,6 +193,12 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 */
 	private static Object installLock = new Object();
 
+	/**
+	 * Mutex for the library info, which is computed for several install
+	 * locations concurrently
+	 */
+	private static final Object libraryInfoLock = new Object();
+
 	/**
 	 * Whether changes in VM preferences are being batched. When being batched
 	 * the plug-in can ignore processing and changes.
@@ -427,10 +444,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 * path, or <code>null</code> if none
 	 */
 	public static LibraryInfo getLibraryInfo(String javaInstallPath) {
-		if (fgLibraryInfoMap == null) {
-			restoreLibraryInfo();
-		}
-		return fgLibraryInfoMap.get(javaInstallPath);
+		return getLibraryInfoStore().get(javaInstallPath);
 	}
 
 	/**
@@ -444,22 +458,45 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 		if (isVMLogging()) {
 			LaunchingPlugin.log(LaunchingMessages.VMLogging_2 + javaInstallPath);
 		}
-		if (fgLibraryInfoMap == null) {
-			restoreLibraryInfo();
-		}
-		if (info == null) {
-			fgLibraryInfoMap.remove(javaInstallPath);
-			if(fgInstallTimeMap != null) {
+		getLibraryInfoStore().put(javaInstallPath, info);
+		synchronized (installLock) {
+			if (info == null && fgInstallTimeMap != null) {
 				fgInstallTimeMap.remove(javaInstallPath);
 				writeInstallInfo();
 			}
+			//once the library info has been set we can forget it has changed
+			fgHasChanged.remove(javaInstallPath);
+		}
+		synchronized (libraryInfoLock) {
+			if (fgLibraryInfoFlushJob == null) {
+				fgLibraryInfoFlushJob = new Job(LaunchingMessages.LaunchingPlugin_41) {
+					@Override
+					protected IStatus run(IProgressMonitor monitor) {
+						flushLibraryInfo();
+						return Status.OK_STATUS;
+					}
+				};
+				fgLibraryInfoFlushJob.setSystem(true);
+			}
+			fgLibraryInfoFlushJob.schedule(LIBRARY_INFO_FLUSH_DELAY);
+		}
+	}
 
-		} else {
-			fgLibraryInfoMap.put(javaInstallPath, info);
+	/**
+	 * Writes the changes of the library info not written yet.
+	 */
+	public static void flushLibraryInfo() {
+		LibraryInfoStore store;
+		synchronized (libraryInfoLock) {
+			store = fgLibraryInfoStore;
+		}
+		if (store != null) {
+			try {
+				store.flush();
+			} catch (IOException e) {
+				log(e);
+			}
 		}
-		//once the library info has been set we can forget it has changed
-		fgHasChanged.remove(javaInstallPath);
-		saveLibraryInfo();
 	}
 
 	public static boolean isVMLogging() {
@@ -536,6 +573,8 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	public void stop(BundleContext context) throws Exception {
 		try {
 			AdvancedSourceLookupSupport.stop();
+			RuntimeClasspathCache.shutdown();
+			JavaLaunchableIndex.shutdown();
 
 			DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(this);
 			DebugPlugin.getDefault().removeDebugEventListener(this);
@@ -544,6 +583,10 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 			InstanceScope.INSTANCE.getNode(ID_PLUGIN).removePreferenceChangeListener(this);
 			JavaRuntime.removeVMInstallChangedListener(this);
 			JavaRuntime.saveVMConfiguration();
+			if (fgLibraryInfoFlushJob != null) {
+				fgLibraryInfoFlushJob.cancel();
+			}
+			flushLibraryInfo();
 			fgXMLParser = null;
 			ResourcesPlugin.getWorkspace().removeSaveParticipant(ID_PLUGIN);
 		} finally {
@@ -856,101 +899,34 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	}
 
 	/**
-	 * Return the VM definitions contained in this object as a String of XML.  The String
-	 * is suitable for storing in the workbench preferences.
-	 * <p>
-	 * The resulting XML is compatible with the static method <code>parseXMLIntoContainer</code>.
-	 * </p>
-	 * @return String the results of flattening this object into XML
-	 * @throws CoreException if this method fails. Reasons include:<ul>
-	 * <li>serialization of the XML document failed</li>
-	 * </ul>
-	 */
-	private static String getLibraryInfoAsXML() throws CoreException {
-
-		Document doc = DebugPlugin.newDocument();
-		Element config = doc.createElement("libraryInfos");    //$NON-NLS-1$
-		doc.appendChild(config);
-
-		// Create a node for each info in the table
-		Iterator<String> locations = fgLibraryInfoMap.keySet().iterator();
-		while (locations.hasNext()) {
-			String home = locations.next();
-			LibraryInfo info = fgLibraryInfoMap.get(home);
-			Element locationElemnet = infoAsElement(doc, info);
-			locationElemnet.setAttribute("home", home); //$NON-NLS-1$
-			config.appendChild(locationElemnet);
-		}
-
-		// Serialize the Document and return the resulting String
-		return DebugPlugin.serializeDocument(doc);
-	}
-
-	/**
-	 * Creates an XML element for the given info.
+	 * Returns the store of library information for VMs, loading it if required.
 	 *
-	 * @param doc the backing {@link Document}
-	 * @param info the {@link LibraryInfo} to add to the {@link Document}
-	 * @return Element
+	 * @return the library info store
 	 */
-	private static Element infoAsElement(Document doc, LibraryInfo info) {
-		Element libraryElement = doc.createElement("libraryInfo"); //$NON-NLS-1$
-		libraryElement.setAttribute("version", info.getVersion()); //$NON-NLS-1$
-		appendPathElements(doc, "bootpath", libraryElement, info.getBootpath()); //$NON-NLS-1$
-		appendPathElements(doc, "extensionDirs", libraryElement, info.getExtensionDirs()); //$NON-NLS-1$
-		appendPathElements(doc, "endorsedDirs", libraryElement, info.getEndorsedDirs()); //$NON-NLS-1$
-		return libraryElement;
-	}
-
-	/**
-	 * Appends path elements to the given library element, rooted by an
-	 * element of the given type.
-	 *
-	 * @param doc the backing {@link Document}
-	 * @param elementType the kind of {@link Element} to create
-	 * @param libraryElement the {@link Element} describing a given {@link LibraryInfo} object
-	 * @param paths the paths to add
-	 */
-	private static void appendPathElements(Document doc, String elementType, Element libraryElement, String[] paths) {
-		if (paths.length > 0) {
-			Element child = doc.createElement(elementType);
-			libraryElement.appendChild(child);
-			for (int i = 0; i < paths.length; i++) {
-				String path = paths[i];
-				Element entry = doc.createElement("entry"); //$NON-NLS-1$
-				child.appendChild(entry);
-				entry.setAttribute("path", path); //$NON-NLS-1$
-			}
-		}
-	}
-
-	/**
-	 * Saves the library info in a local workspace state location
-	 */
-	private static void saveLibraryInfo() {
-		try {
-			String xml = getLibraryInfoAsXML();
-			IPath libPath = getDefault().getStateLocation();
-			libPath = libPath.append("libraryInfos.xml"); //$NON-NLS-1$
-			File file = libPath.toFile();
-			if (!file.exists()) {
-				file.createNewFile();
-			}
-			try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(file))) {
-				stream.write(xml.getBytes("UTF8")); //$NON-NLS-1$
+	private static LibraryInfoStore getLibraryInfoStore() {
+		synchronized (libraryInfoLock) {
+			if (fgLibraryInfoStore == null) {
+				LibraryInfoStore store = new LibraryInfoStore(getDefault().getStateLocation().append("libraryInfos.txt").toFile()); //$NON-NLS-1$
+				try {
+					if (!store.load()) {
+						restoreLibraryInfo(store);
+					}
+				} catch (IOException e) {
+					log(e);
+				}
+				fgLibraryInfoStore = store;
 			}
-		} catch (IOException e) {
-			log(e);
-		}  catch (CoreException e) {
-			log(e);
+			return fgLibraryInfoStore;
 		}
 	}
 
 	/**
-	 * Restores library information for VMs
+	 * Restores library information for VMs saved as XML by previous versions to the given store,
+	 * then removes the XML file.
+	 *
+	 * @param store the library info store
 	 */
-	private static void restoreLibraryInfo() {
-		fgLibraryInfoMap = new HashMap<>(10);
+	private static void restoreLibraryInfo(LibraryInfoStore store) {
 		IPath libPath = getDefault().getStateLocation();
 		libPath = libPath.append("libraryInfos.xml"); //$NON-NLS-1$
 		File file = libPath.toFile();
@@ -982,7 +958,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 									LaunchingPlugin.log(LaunchingMessages.VMLogging_1 + location);
 								}
 								LibraryInfo info = new LibraryInfo(version, bootpath, extDirs, endDirs);
-								fgLibraryInfoMap.put(location, info);
+								store.put(location, info);
 							}
 						}
 					}
@@ -994,6 +970,12 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 			} catch (SAXException e) {
 				log(e);
 			}
+			try {
+				store.flush();
+				file.delete();
+			} catch (IOException e) {
+				log(e);
+			}
 		}
 	}
 
@@ -1009,6 +991,20 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 * @since 3.7
 	 */
 	public static boolean timeStampChanged(String location) {
+		return timeStampChanged(location, null);
+	}
+
+	/**
+	 * Checks to see if the time stamp of the given install location, or the size or time stamp of
+	 * its Java executable, have been modified since the last recorded time stamp. If there is no
+	 * last recorded time stamp we assume it has changed.
+	 *
+	 * @param location the location of the SDK we want to check the time stamp for
+	 * @param javaExecutable the Java executable of the SDK or <code>null</code> to only check the location
+	 * @return <code>true</code> if the time stamp has changed compared to the cached one or if there is
+	 * no recorded time stamp, <code>false</code> otherwise.
+	 */
+	public static boolean timeStampChanged(String location, File javaExecutable) {
 		synchronized (installLock) {
 			if(fgHasChanged.contains(location)) {
 				return true;
@@ -1020,6 +1016,10 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 				}
 				Long stamp = fgInstallTimeMap.get(location);
 				long fstamp = file.lastModified();
+				if (javaExecutable != null) {
+					// a JRE updated in place may keep the time stamp of its directory
+					fstamp = 31 * (31 * fstamp + javaExecutable.length()) + javaExecutable.lastModified();
+				}
 				if(stamp != null) {
 					if(stamp.longValue() == fstamp) {
 						return false;
@@ -1102,7 +1102,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 				for(Iterator<Entry<String, Long>> i = fgInstallTimeMap.entrySet().iterator(); i.hasNext();) {
 					entry = i.next();
 					key = entry.getKey();
-					if(fgLibraryInfoMap == null || fgLibraryInfoMap.containsKey(key)) {
+					if(fgLibraryInfoStore == null || fgLibraryInfoStore.contains(key)) {
 						//only persist the info if the library map also has info OR is null - prevent persisting deleted JRE information
 						e = doc.createElement("entry"); //$NON-NLS-1$
 						root.appendChild(e);
@@ -1333,6 +1333,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	public void optionsChanged(DebugOptions options) {
 		DEBUG = options.getBooleanOption(DEBUG_FLAG, false);
 		DEBUG_JRE_CONTAINER = DEBUG && options.getBooleanOption(DEBUG_JRE_CONTAINER_FLAG, false);
+		DEBUG_CLASSPATH_RESOLUTION = DEBUG && options.getBooleanOption(DEBUG_CLASSPATH_RESOLUTION_FLAG, false);
 	}
 
 	/**
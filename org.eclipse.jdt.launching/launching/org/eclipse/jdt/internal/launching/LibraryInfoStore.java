@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistent store of the {@link LibraryInfo} of VM install locations.
+ * <p>
+ * The store is a versioned text file with one record per line. Changes are
+ * appended as records superseding earlier records of the same install location,
+ * and are only written by {@link #flush()}, so that a batch of changes is
+ * written at once. Records are parsed when the library info of their install
+ * location is first requested. The file is rewritten without superseded records
+ * once they outnumber the current ones.
+ * </p>
+ */
+public class LibraryInfoStore {
+
+	/**
+	 * First line of the file, identifies the format version
+	 */
+	private static final String HEADER = "#libraryInfos 1"; //$NON-NLS-1$
+
+	private static final char PUT = '+';
+	private static final char REMOVE = '-';
+	private static final char SEPARATOR = '\t';
+
+	/**
+	 * Minimum number of superseded records before the file is rewritten
+	 */
+	private static final int MIN_SUPERSEDED_RECORDS = 32;
+
+	private final File fFile;
+
+	/**
+	 * Unparsed records of install locations whose library info was not requested yet
+	 */
+	private final Map<String, String> fRecords = new HashMap<>();
+
+	/**
+	 * Library info of install locations, parsed or set
+	 */
+	private final Map<String, LibraryInfo> fInfos = new HashMap<>();
+
+	/**
+	 * Records not written yet
+	 */
+	private final List<String> fPending = new ArrayList<>();
+
+	/**
+	 * Number of records in the file
+	 */
+	private int fFileRecords;
+
+	/**
+	 * Whether the file has to be rewritten rather than appended to
+	 */
+	private boolean fRewrite = true;
+
+	/**
+	 * Creates a store backed by the given file. The file is not read until
+	 * {@link #load()} is called.
+	 *
+	 * @param file the file of this store
+	 */
+	public LibraryInfoStore(File file) {
+		fFile = file;
+	}
+
+	/**
+	 * Reads the records of the file of this store.
+	 *
+	 * @return whether the file exists in the format of this store
+	 * @throws IOException if the file can't be read
+	 */
+	public synchronized boolean load() throws IOException {
+		fRecords.clear();
+		fInfos.clear();
+		fPending.clear();
+		fFileRecords = 0;
+		fRewrite = true;
+		if (!fFile.isFile()) {
+			return false;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(fFile.toPath(), StandardCharsets.UTF_8)) {
+			if (!HEADER.equals(reader.readLine())) {
+				return false;
+			}
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int separator = line.indexOf(SEPARATOR);
+				if (separator < 2) {
+					// incomplete record of an interrupted write
+					continue;
+				}
+				String home = unescape(line.substring(2, separator));
+				if (line.charAt(0) == REMOVE) {
+					fRecords.remove(home);
+				} else {
+					fRecords.put(home, line);
+				}
+				fFileRecords++;
+			}
+		}
+		fRewrite = false;
+		return true;
+	}
+
+	/**
+	 * Returns the library info of the given install location.
+	 *
+	 * @param home the install location
+	 * @return the library info or <code>null</code> if none
+	 */
+	public synchronized LibraryInfo get(String home) {
+		LibraryInfo info = fInfos.get(home);
+		if (info == null) {
+			String record = fRecords.remove(home);
+			if (record != null) {
+				info = parse(record);
+				if (info != null) {
+					fInfos.put(home, info);
+				}
+			}
+		}
+		return info;
+	}
+
+	/**
+	 * @param home the install location
+	 * @return whether the store has library info for the given install location
+	 */
+	public synchronized boolean contains(String home) {
+		return fInfos.containsKey(home) || fRecords.containsKey(home);
+	}
+
+	/**
+	 * Sets or removes the library info of the given install location. The change
+	 * is written by the next {@link #flush()}.
+	 *
+	 * @param home the install location
+	 * @param info the library info or <code>null</code> to remove it
+	 */
+	public synchronized void put(String home, LibraryInfo info) {
+		boolean existed = fRecords.remove(home) != null;
+		if (info == null) {
+			if (fInfos.remove(home) != null || existed) {
+				fPending.add(REMOVE + " " + escape(home) + SEPARATOR); //$NON-NLS-1$
+			}
+		} else {
+			fInfos.put(home, info);
+			fPending.add(format(home, info));
+		}
+	}
+
+	/**
+	 * Writes the changes since the last flush.
+	 *
+	 * @throws IOException if the file can't be written
+	 */
+	public synchronized void flush() throws IOException {
+		if (fPending.isEmpty() && !fRewrite) {
+			return;
+		}
+		int current = fInfos.size() + fRecords.size();
+		if (fRewrite || fFileRecords + fPending.size() - current > Math.max(current, MIN_SUPERSEDED_RECORDS)) {
+			rewrite();
+		} else {
+			try (Writer writer = Files.newBufferedWriter(fFile.toPath(), StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+				for (String record : fPending) {
+					writer.write(record);
+					writer.write('\n');
+				}
+			}
+			fFileRecords += fPending.size();
+		}
+		fPending.clear();
+	}
+
+	/**
+	 * Writes the current records to a new file replacing the file of this store.
+	 */
+	private void rewrite() throws IOException {
+		File parent = fFile.getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		File tmp = new File(fFile.getPath() + ".tmp"); //$NON-NLS-1$
+		int records = 0;
+		try (Writer writer = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+			writer.write(HEADER);
+			writer.write('\n');
+			for (String record : fRecords.values()) {
+				writer.write(record);
+				writer.write('\n');
+				records++;
+			}
+			for (Map.Entry<String, LibraryInfo> entry : fInfos.entrySet()) {
+				writer.write(format(entry.getKey(), entry.getValue()));
+				writer.write('\n');
+				records++;
+			}
+		}
+		Files.move(tmp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		fFileRecords = records;
+		fRewrite = false;
+	}
+
+	/**
+	 * Formats a record: <code>+ home version bootpath-count bootpath... extension-dirs-count extension-dirs... endorsed-dirs-count endorsed-dirs...</code>
+	 * with tab separated fields.
+	 */
+	private static String format(String home, LibraryInfo info) {
+		StringBuilder record = new StringBuilder();
+		record.append(PUT).append(' ').append(escape(home));
+		record.append(SEPARATOR).append(escape(info.getVersion()));
+		appendPaths(record, info.getBootpath());
+		appendPaths(record, info.getExtensionDirs());
+		appendPaths(record, info.getEndorsedDirs());
+		return record.toString();
+	}
+
+	private static void appendPaths(StringBuilder record, String[] paths) {
+		record.append(SEPARATOR).append(paths.length);
+		for (String path : paths) {
+			record.append(SEPARATOR).append(escape(path));
+		}
+	}
+
+	/**
+	 * Parses a record written by {@link #format(String, LibraryInfo)}.
+	 *
+	 * @return the library info or <code>null</code> if the record is corrupt
+	 */
+	private static LibraryInfo parse(String record) {
+		String[] fields = record.split(String.valueOf(SEPARATOR), -1);
+		try {
+			int index = 1;
+			String version = unescape(fields[index++]);
+			String[][] paths = new String[3][];
+			for (int i = 0; i < paths.length; i++) {
+				paths[i] = new String[Integer.parseInt(fields[index++])];
+				for (int j = 0; j < paths[i].length; j++) {
+					paths[i][j] = unescape(fields[index++]);
+				}
+			}
+			return new LibraryInfo(version, paths[0], paths[1], paths[2]);
+		} catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+			LaunchingPlugin.log(e);
+			return null;
+		}
+	}
+
+	private static String escape(String value) {
+		if (value.indexOf('\\') == -1 && value.indexOf(SEPARATOR) == -1 && value.indexOf('\n') == -1 && value.indexOf('\r') == -1) {
+			return value;
+		}
+		StringBuilder escaped = new StringBuilder(value.length() + 8);
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '\\':
+					escaped.append("\\\\"); //$NON-NLS-1$
+					break;
+				case SEPARATOR:
+					escaped.append("\\t"); //$NON-NLS-1$
+					break;
+				case '\n':
+					escaped.append("\\n"); //$NON-NLS-1$
+					break;
+				case '\r':
+					escaped.append("\\r"); //$NON-NLS-1$
+					break;
+				default:
+					escaped.append(c);
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static String unescape(String value) {
+		if (value.indexOf('\\') == -1) {
+			return value;
+		}
+		StringBuilder unescaped = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '\\' && i + 1 < value.length()) {
+				c = value.charAt(++i);
+				switch (c) {
+					case 't':
+						c = SEPARATOR;
+						break;
+					case 'n':
+						c = '\n';
+						break;
+					case 'r':
+						c = '\r';
+						break;
+					default:
+						break;
+				}
+			}
+			unescaped.append(c);
+		}
+		return unescaped.toString();
+	}
+}
@@ -0,0 +1,421 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.IVMInstallChangedListener;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.PropertyChangeEvent;
+
+/**
+ * Caches the resolved runtime classpath of launch configurations using the
+ * default classpath provider, so that repeated launches of an unchanged
+ * configuration do not resolve all project dependencies again.
+ * <p>
+ * Resolved classpaths are keyed by the attributes of the configuration and the
+ * unresolved entries. Only immutable copies of the resolved entries are
+ * cached, and new entries are created for each lookup. When the classpath of
+ * a Java project changes, including container and variable updates, or when a
+ * project becomes modular or not, the classpaths depending on that project or
+ * on a project requiring it are discarded. The cache is cleared when VM
+ * installs change.
+ * </p>
+ */
+public class RuntimeClasspathCache implements IElementChangedListener, IVMInstallChangedListener {
+
+	/**
+	 * Flags of a Java element delta that may change a resolved runtime
+	 * classpath
+	 */
+	private static final int CLASSPATH_CHANGED_FLAGS = IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+			| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_OPENED
+			| IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_MOVED_FROM | IJavaElementDelta.F_MOVED_TO;
+
+	private static final String MODULE_INFO = "module-info.java"; //$NON-NLS-1$
+
+	/**
+	 * Maximum number of cached classpaths, the least recently used one is
+	 * discarded first
+	 */
+	private static final int MAX_ENTRIES = 32;
+
+	private static RuntimeClasspathCache fgDefault;
+
+	/**
+	 * Map of keys to resolved classpaths, in access order
+	 */
+	private final Map<Key, Classpath> fClasspaths = new LinkedHashMap<Key, Classpath>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Classpath> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Incremented whenever classpaths are discarded, used to discard
+	 * classpaths resolved before a change
+	 */
+	private long fGeneration;
+
+	/**
+	 * The state of a resolved runtime classpath entry. Build path entries and
+	 * Java project handles are immutable.
+	 */
+	private static final class Entry {
+
+		private final IClasspathEntry fEntry;
+		private final int fClasspathProperty;
+		private final IJavaProject fJavaProject;
+
+		Entry(IRuntimeClasspathEntry entry) {
+			fEntry = entry.getClasspathEntry();
+			fClasspathProperty = entry.getClasspathProperty();
+			fJavaProject = entry.getJavaProject();
+		}
+
+		IRuntimeClasspathEntry newEntry() {
+			RuntimeClasspathEntry entry = new RuntimeClasspathEntry(fEntry, fClasspathProperty);
+			entry.setJavaProject(fJavaProject);
+			return entry;
+		}
+	}
+
+	/**
+	 * A resolved classpath and the names of the projects it depends on
+	 */
+	private static final class Classpath {
+
+		private final Entry[] fEntries;
+		private final Set<String> fProjects;
+
+		Classpath(Entry[] entries, Set<String> projects) {
+			fEntries = entries;
+			fProjects = projects;
+		}
+	}
+
+	/**
+	 * The attributes of a configuration and the unresolved entries of a
+	 * resolved classpath
+	 */
+	static final class Key {
+
+		private final Map<String, Object> fAttributes;
+		private final List<String> fEntries;
+		private final boolean fModular;
+
+		Key(Map<String, Object> attributes, List<String> entries, boolean modular) {
+			fAttributes = attributes;
+			fEntries = entries;
+			fModular = modular;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof Key) {
+				Key key = (Key) obj;
+				return fModular == key.fModular && fEntries.equals(key.fEntries) && fAttributes.equals(key.fAttributes);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fAttributes, fEntries, Boolean.valueOf(fModular));
+		}
+	}
+
+	/**
+	 * Returns the shared cache, creating it if required.
+	 *
+	 * @return the shared cache
+	 */
+	public static synchronized RuntimeClasspathCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new RuntimeClasspathCache();
+			JavaCore.addElementChangedListener(fgDefault, ElementChangedEvent.POST_CHANGE);
+			JavaRuntime.addVMInstallChangedListener(fgDefault);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Disposes the shared cache, if it was created.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault);
+			JavaRuntime.removeVMInstallChangedListener(fgDefault);
+			fgDefault.clear();
+			fgDefault = null;
+		}
+	}
+
+	/**
+	 * Returns the key of the resolved classpath of the given entries in the
+	 * context of the given configuration.
+	 *
+	 * @param entries
+	 *            unresolved classpath
+	 * @param configuration
+	 *            launch configuration
+	 * @param modular
+	 *            whether the configuration is modular
+	 * @return the key or <code>null</code> if the resolved classpath depends on
+	 *         state not tracked by this cache
+	 * @throws CoreException
+	 *             if the attributes or entries can't be read
+	 */
+	public Key getKey(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration, boolean modular) throws CoreException {
+		List<String> mementos = new ArrayList<>(entries.length);
+		for (IRuntimeClasspathEntry entry : entries) {
+			if (entry instanceof VariableClasspathEntry) {
+				// string substitution may depend on the selection or dynamic variables
+				return null;
+			}
+			mementos.add(entry.getMemento());
+		}
+		return new Key(configuration.getAttributes(), mementos, modular);
+	}
+
+	/**
+	 * Returns the generation of this cache, to be passed to
+	 * {@link #put(Key, IRuntimeClasspathEntry[], long)} with a classpath
+	 * resolved afterwards.
+	 *
+	 * @return the current generation
+	 */
+	public synchronized long getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Returns the resolved classpath cached with the given key.
+	 *
+	 * @param key
+	 *            key of the resolved classpath
+	 * @return new entries of the resolved classpath or <code>null</code> if
+	 *         none
+	 */
+	public synchronized IRuntimeClasspathEntry[] get(Key key) {
+		Classpath classpath = fClasspaths.get(key);
+		if (classpath == null) {
+			return null;
+		}
+		IRuntimeClasspathEntry[] resolved = new IRuntimeClasspathEntry[classpath.fEntries.length];
+		for (int i = 0; i < resolved.length; i++) {
+			resolved[i] = classpath.fEntries[i].newEntry();
+		}
+		return resolved;
+	}
+
+	/**
+	 * Caches a copy of the given resolved classpath, unless classpaths were
+	 * discarded since the given generation. Classpaths with entries whose
+	 * state can't be copied are not cached.
+	 *
+	 * @param key
+	 *            key of the resolved classpath
+	 * @param resolved
+	 *            the resolved classpath
+	 * @param generation
+	 *            the generation of this cache before the classpath was resolved
+	 */
+	public synchronized void put(Key key, IRuntimeClasspathEntry[] resolved, long generation) {
+		if (generation != fGeneration) {
+			return;
+		}
+		Entry[] entries = new Entry[resolved.length];
+		Set<String> projects = new HashSet<>();
+		Object projectName = key.fAttributes.get(IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME);
+		if (projectName instanceof String) {
+			projects.add((String) projectName);
+		}
+		for (int i = 0; i < resolved.length; i++) {
+			IRuntimeClasspathEntry entry = resolved[i];
+			if (entry.getClass() != RuntimeClasspathEntry.class || entry.getClasspathEntry() == null) {
+				// other entries may have state that is not copied
+				return;
+			}
+			entries[i] = new Entry(entry);
+			if (entry.getJavaProject() != null) {
+				projects.add(entry.getJavaProject().getElementName());
+			}
+			if (entry.getType() == IRuntimeClasspathEntry.PROJECT) {
+				projects.add(entry.getPath().lastSegment());
+			}
+		}
+		fClasspaths.put(key, new Classpath(entries, projects));
+	}
+
+	/**
+	 * Discards all resolved classpaths.
+	 */
+	public synchronized void clear() {
+		fGeneration++;
+		fClasspaths.clear();
+	}
+
+	/**
+	 * Discards the resolved classpaths depending on the given projects or on
+	 * projects requiring them.
+	 *
+	 * @param projectNames
+	 *            names of the changed projects
+	 */
+	private void invalidate(Set<String> projectNames) {
+		synchronized (this) {
+			fGeneration++;
+			if (fClasspaths.isEmpty()) {
+				return;
+			}
+		}
+		Set<String> affected = getRequiringProjects(projectNames);
+		synchronized (this) {
+			if (affected == null) {
+				fClasspaths.clear();
+			} else {
+				fClasspaths.values().removeIf(classpath -> !Collections.disjoint(classpath.fProjects, affected));
+			}
+		}
+	}
+
+	/**
+	 * Returns the names of the given projects and of the Java projects that
+	 * require them, directly or indirectly.
+	 *
+	 * @return project names or <code>null</code> if the required projects
+	 *         can't be determined
+	 */
+	private static Set<String> getRequiringProjects(Set<String> projectNames) {
+		Set<String> affected = new HashSet<>(projectNames);
+		Map<String, String[]> required = new HashMap<>();
+		try {
+			for (IJavaProject project : JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects()) {
+				required.put(project.getElementName(), project.getRequiredProjectNames());
+			}
+		} catch (JavaModelException e) {
+			return null;
+		}
+		boolean added;
+		do {
+			added = false;
+			for (Map.Entry<String, String[]> entry : required.entrySet()) {
+				if (!affected.contains(entry.getKey())) {
+					for (String name : entry.getValue()) {
+						if (affected.contains(name)) {
+							affected.add(entry.getKey());
+							added = true;
+							break;
+						}
+					}
+				}
+			}
+		} while (added);
+		return affected;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		IJavaElementDelta delta = event.getDelta();
+		Set<String> projectNames = new HashSet<>();
+		if (delta.getElement().getElementType() == IJavaElement.JAVA_MODEL && (delta.getFlags() & CLASSPATH_CHANGED_FLAGS) == 0) {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (affectsClasspath(child)) {
+					projectNames.add(child.getElement().getJavaProject().getElementName());
+				}
+			}
+		} else if (affectsClasspath(delta)) {
+			IJavaProject project = delta.getElement().getJavaProject();
+			if (project == null) {
+				clear();
+				return;
+			}
+			projectNames.add(project.getElementName());
+		}
+		if (!projectNames.isEmpty()) {
+			invalidate(projectNames);
+		}
+	}
+
+	/**
+	 * Returns whether the given delta may change a resolved runtime classpath.
+	 */
+	private static boolean affectsClasspath(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		int type = element.getElementType();
+		int kind = delta.getKind();
+		if (type == IJavaElement.COMPILATION_UNIT) {
+			// the module path depends on the module descriptions of projects
+			return MODULE_INFO.equals(element.getElementName());
+		}
+		if (type <= IJavaElement.PACKAGE_FRAGMENT_ROOT && (kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED)) {
+			return true;
+		}
+		if ((delta.getFlags() & CLASSPATH_CHANGED_FLAGS) != 0) {
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getElement().getElementType() <= IJavaElement.COMPILATION_UNIT && affectsClasspath(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void defaultVMInstallChanged(IVMInstall previous, IVMInstall current) {
+		clear();
+	}
+
+	@Override
+	public void vmChanged(PropertyChangeEvent event) {
+		clear();
+	}
+
+	@Override
+	public void vmAdded(IVMInstall vm) {
+		clear();
+	}
+
+	@Override
+	public void vmRemoved(IVMInstall vm) {
+		clear();
+	}
+}
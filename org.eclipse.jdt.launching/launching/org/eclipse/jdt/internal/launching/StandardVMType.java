@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ package org.eclipse.jdt.internal.launching;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -28,8 +29,8 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -37,24 +38,27 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionPoint;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
-import org.eclipse.debug.core.ILaunchManager;
-import org.eclipse.debug.core.Launch;
 import org.eclipse.debug.core.model.IProcess;
-import org.eclipse.debug.core.model.IStreamMonitor;
 import org.eclipse.debug.core.model.IStreamsProxy;
-import org.eclipse.debug.internal.core.OutputStreamMonitor;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.launching.AbstractVMInstallType;
 import org.eclipse.jdt.launching.ILibraryLocationResolver;
@@ -95,6 +99,26 @@ public class StandardVMType extends AbstractVMInstallType {
 	 */
 	public static final String MIN_VM_SIZE = "-Xmx16m"; //$NON-NLS-1$
 
+	/**
+	 * Maximum time to wait for the library detection process, in seconds
+	 */
+	private static final long DETECTION_TIMEOUT = 30;
+
+	/**
+	 * Maximum number of install locations probed concurrently, see
+	 * {@link #detectLibraryInfos(Collection, IProgressMonitor)}
+	 */
+	private static final int MAX_CONCURRENT_PROBES = 4;
+
+	/**
+	 * Reads the output of library detection processes
+	 */
+	private static final ExecutorService fgStreamReaders = Executors.newCachedThreadPool(r -> {
+		Thread thread = new Thread(r, "Library Detection Stream Reader"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	/**
 	 * Name filter for files ending in .jar or .zip
 	 *
@@ -116,7 +140,13 @@ public class StandardVMType extends AbstractVMInstallType {
 	 * Map of the install path for which we were unable to generate
 	 * the library info during this session.
 	 */
-	private static Map<String, LibraryInfo> fgFailedInstallPath = new HashMap<>();
+	private static Map<String, LibraryInfo> fgFailedInstallPath = new ConcurrentHashMap<>();
+
+	/**
+	 * Map of install paths to the locks held while computing their library info,
+	 * so that different install locations can be probed concurrently.
+	 */
+	private static Map<String, Object> fgProbeLocks = new ConcurrentHashMap<>();
 
 	/**
 	 * Cache for default library locations. See {@link #getDefaultLibraryLocations(File)}
@@ -125,7 +155,7 @@ public class StandardVMType extends AbstractVMInstallType {
 	 *
 	 * @since 3.7
 	 */
-	private static Map<String, List<LibraryLocation>> fgDefaultLibLocs = new HashMap<>();
+	private static Map<String, List<LibraryLocation>> fgDefaultLibLocs = new ConcurrentHashMap<>();
 
 	/**
 	 * The list of locations in which to look for the java executable in candidate
@@ -226,33 +256,71 @@ public class StandardVMType extends AbstractVMInstallType {
 	 * @param javaExecutable the Java executable file
 	 * @return the {@link LibraryInfo} for the home and executable path or an empty object, never <code>null</code>
 	 */
-	protected synchronized LibraryInfo getLibraryInfo(File javaHome, File javaExecutable) {
+	protected LibraryInfo getLibraryInfo(File javaHome, File javaExecutable) {
 		String installPath = javaHome.getAbsolutePath();
-		LibraryInfo info = LaunchingPlugin.getLibraryInfo(installPath);
-		if (info == null || LaunchingPlugin.timeStampChanged(installPath)) {
-			info = fgFailedInstallPath.get(installPath);
-			if (info == null) {
-				String version = readReleaseVersion(javaHome);
-				if (JavaCore.compareJavaVersions(version, JavaCore.VERSION_1_8) > 0) {
-					info = new LibraryInfo(version, new String[0], new String[0], new String[0]);
-					LaunchingPlugin.setLibraryInfo(installPath, info);
-				} else {
-					info = generateLibraryInfo(javaHome, javaExecutable);
-					if (info == null) {
-						// Bug 536943: try again in case we have a timing problem with process execution and output retrieval
-						info = generateLibraryInfo(javaHome, javaExecutable);
-					}
-					if (info == null) {
-						info = getDefaultLibraryInfo(javaHome);
-						fgFailedInstallPath.put(installPath, info);
-					} else {
-						// only persist if we were able to generate information - see bug 70011
+		synchronized (fgProbeLocks.computeIfAbsent(installPath, path -> new Object())) {
+			LibraryInfo info = LaunchingPlugin.getLibraryInfo(installPath);
+			if (info == null || LaunchingPlugin.timeStampChanged(installPath, javaExecutable)) {
+				info = fgFailedInstallPath.get(installPath);
+				if (info == null) {
+					String version = readReleaseVersion(javaHome);
+					if (JavaCore.compareJavaVersions(version, JavaCore.VERSION_1_8) > 0) {
+						// modular runtime images don't have a boot path, no need to start the VM
+						info = new LibraryInfo(version, new String[0], new String[0], new String[0]);
 						LaunchingPlugin.setLibraryInfo(installPath, info);
+					} else {
+						info = generateLibraryInfo(javaHome, javaExecutable);
+						if (info == null) {
+							// Bug 536943: try again in case we have a timing problem with process execution and output retrieval
+							info = generateLibraryInfo(javaHome, javaExecutable);
+						}
+						if (info == null) {
+							info = getDefaultLibraryInfo(javaHome);
+							fgFailedInstallPath.put(installPath, info);
+						} else {
+							// only persist if we were able to generate information - see bug 70011
+							LaunchingPlugin.setLibraryInfo(installPath, info);
+						}
 					}
 				}
 			}
+			return info;
+		}
+	}
+
+	/**
+	 * Computes the library info of the given install locations concurrently, so
+	 * that it is available when VM installs are created for them.
+	 *
+	 * @param installLocations the VM install locations
+	 * @param monitor progress monitor, only checked for cancellation
+	 */
+	void detectLibraryInfos(Collection<File> installLocations, IProgressMonitor monitor) {
+		int threads = Math.min(MAX_CONCURRENT_PROBES, Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+		List<Future<LibraryInfo>> futures = new ArrayList<>(installLocations.size());
+		try {
+			for (File installLocation : installLocations) {
+				File javaExecutable = findJavaExecutable(installLocation);
+				if (javaExecutable != null) {
+					futures.add(executor.submit(() -> getLibraryInfo(installLocation, javaExecutable)));
+				}
+			}
+			for (Future<LibraryInfo> future : futures) {
+				if (monitor.isCanceled()) {
+					break;
+				}
+				future.get();
+			}
+		} catch (ExecutionException e) {
+			LaunchingPlugin.log(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			// don't interrupt running probes, their results are still remembered
+			futures.forEach(future -> future.cancel(false));
+			executor.shutdown();
 		}
-		return info;
 	}
 
 	/**
@@ -712,23 +780,18 @@ public class StandardVMType extends AbstractVMInstallType {
 					}
 				}
 				p = DebugPlugin.exec(cmdLine, null, envp);
-				IProcess process = DebugPlugin.newProcess(new Launch(null, ILaunchManager.RUN_MODE, null), p, "Library Detection"); //$NON-NLS-1$
-				process.setAttribute(IProcess.ATTR_CMDLINE, String.join(" ", cmdLine)); //$NON-NLS-1$
-				IStreamMonitor outputStreamMonitor = process.getStreamsProxy().getOutputStreamMonitor();
-				for (int i= 0; i < 600; i++) {
-					// Wait no more than 30 seconds (600 * 50 milliseconds),
-					// also ensure we are done reading the process stream, if we have a OutputStreamMonitor
-					if (process.isTerminated() && isReadingDone(outputStreamMonitor)) {
-						break;
-					}
-					try {
-						Thread.sleep(50);
-					} catch (InterruptedException e) {
-						LaunchingPlugin.log(e);
-					}
-				}
-				checkProcessResult(process);
-				info = parseLibraryInfo(process);
+				p.getOutputStream().close();
+				CompletableFuture<String> output = readStream(p.getInputStream());
+				CompletableFuture<String> error = readStream(p.getErrorStream());
+				// the streams are closed when the process exits, so the output is complete
+				// once the process is done, no more than 30 seconds
+				boolean isTerminated = p.waitFor(DETECTION_TIMEOUT, TimeUnit.SECONDS);
+				String text = isTerminated ? output.get(DETECTION_TIMEOUT, TimeUnit.SECONDS) : output.getNow(""); //$NON-NLS-1$
+				String errorText = isTerminated ? error.get(DETECTION_TIMEOUT, TimeUnit.SECONDS) : error.getNow(""); //$NON-NLS-1$
+				checkProcessResult(cmdLine, isTerminated ? Integer.valueOf(p.exitValue()) : null, text, errorText);
+				info = parseLibraryInfo(text);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
 			} catch (Throwable ioe) {
 				LaunchingPlugin.log(ioe);
 			} finally {
@@ -744,12 +807,14 @@ public class StandardVMType extends AbstractVMInstallType {
 		return info;
 	}
 
-	@SuppressWarnings("restriction")
-	private boolean isReadingDone(IStreamMonitor monitor) {
-		if (monitor instanceof OutputStreamMonitor) {
-			return ((OutputStreamMonitor) monitor).isReadingDone();
-		}
-		return true;
+	private static CompletableFuture<String> readStream(InputStream stream) {
+		return CompletableFuture.supplyAsync(() -> {
+			try (InputStream in = stream) {
+				return new String(in.readAllBytes(), Charset.defaultCharset());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, fgStreamReaders);
 	}
 
 	/**
@@ -764,6 +829,16 @@ public class StandardVMType extends AbstractVMInstallType {
 		if (streamsProxy != null) {
 			text = streamsProxy.getOutputStreamMonitor().getContents();
 		}
+		return parseLibraryInfo(text);
+	}
+
+	/**
+	 * Parses the output from 'LibraryDetector'.
+	 *
+	 * @param text the standard output of the process or <code>null</code>
+	 * @return the new {@link LibraryInfo} object or <code>null</code>
+	 */
+	protected LibraryInfo parseLibraryInfo(String text) {
 		if (text != null && text.length() > 0) {
 			int index = text.indexOf(BAR);
 			if (index > 0) {
@@ -890,7 +965,7 @@ public class StandardVMType extends AbstractVMInstallType {
 		return null;
 	}
 
-	public synchronized String readReleaseVersion(File javaHome) {
+	public String readReleaseVersion(File javaHome) {
 
 		String version = ""; //$NON-NLS-1$
 
@@ -915,19 +990,15 @@ public class StandardVMType extends AbstractVMInstallType {
 	/*
 	 * Logs an error if the process is not yet done, or if the process exited with an error code.
 	 */
-	private static void checkProcessResult(IProcess process) throws DebugException {
-		boolean isTerminated = process.isTerminated();
-		if (!isTerminated) {
-			String output = getOutput(process);
-			Object[] errorInfo = { process.getAttribute(IProcess.ATTR_CMDLINE), output };
+	private static void checkProcessResult(String[] cmdLine, Integer exitCode, String output, String error) {
+		if (exitCode == null) {
+			Object[] errorInfo = { String.join(" ", cmdLine), getOutput(output, error) }; //$NON-NLS-1$
 			String errorMessage = NLS.bind("Process not finished.\n Command line arguments: {0}\nOutput: {1}", errorInfo); //$NON-NLS-1$
 			IllegalStateException exception = new IllegalStateException(errorMessage);
 			LaunchingPlugin.log(exception);
 		} else {
-			int exitCode = process.getExitValue();
-			if (exitCode != 0) {
-				String output = getOutput(process);
-				Object[] errorInfo = { Integer.valueOf(exitCode), process.getAttribute(IProcess.ATTR_CMDLINE), output };
+			if (exitCode.intValue() != 0) {
+				Object[] errorInfo = { exitCode, String.join(" ", cmdLine), getOutput(output, error) }; //$NON-NLS-1$
 				String errorMessage = NLS.bind("Process returned with error code \"{0}\".\nCommand line arguments: {1}\nOutput: {2}", errorInfo); //$NON-NLS-1$
 				IllegalStateException exception = new IllegalStateException(errorMessage);
 				LaunchingPlugin.log(exception);
@@ -935,15 +1006,8 @@ public class StandardVMType extends AbstractVMInstallType {
 		}
 	}
 
-	private static String getOutput(IProcess process) {
-		IStreamsProxy streamsProxy = process.getStreamsProxy();
-		String output = "IProcess.getStreamsProxy() returned null"; //$NON-NLS-1$
-		if (streamsProxy != null) {
-			String[] lines = { "Standard output:", //$NON-NLS-1$
-					streamsProxy.getOutputStreamMonitor().getContents(), "Standard error:", //$NON-NLS-1$
-					streamsProxy.getErrorStreamMonitor().getContents() };
-			output = String.join(System.lineSeparator(), Arrays.asList(lines));
-		}
-		return output;
+	private static String getOutput(String output, String error) {
+		String[] lines = { "Standard output:", output, "Standard error:", error }; //$NON-NLS-1$ //$NON-NLS-2$
+		return String.join(System.lineSeparator(), Arrays.asList(lines));
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -555,9 +555,9 @@ public class VMDefinitionsContainer {
 			File installLocation= new File(installPath);
 			vmStandin.setInstallLocation(installLocation);
 			String install = installLocation.getAbsolutePath();
-			//only consider a VM changed it is a standard VM
+			//only consider a VM changed it is a standard VM, stamped with its Java executable like when its library info is read
 			boolean changed = StandardVMType.ID_STANDARD_VM_TYPE.equals(vmType.getId()) &&
-										LaunchingPlugin.timeStampChanged(install);
+										LaunchingPlugin.timeStampChanged(install, StandardVMType.findJavaExecutable(installLocation));
 			container.addVM(vmStandin);
 
 			// Look for subordinate nodes.  These may be 'libraryLocation',
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2023 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,15 +14,28 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.launching.environments;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.xml.parsers.DocumentBuilder;
 
@@ -37,7 +50,10 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChange
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.internal.launching.EEVMInstall;
 import org.eclipse.jdt.internal.launching.LaunchingPlugin;
+import org.eclipse.jdt.internal.launching.StandardVMType;
+import org.eclipse.jdt.launching.AbstractVMInstall;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstallChangedListener;
 import org.eclipse.jdt.launching.IVMInstallType;
@@ -110,9 +126,57 @@ public class EnvironmentsManager implements IExecutionEnvironmentsManager, IVMIn
 	private boolean fIsUpdatingDefaults = false;
 
 	/**
-	 * Whether compatible environments have been initialized
+	 * Analysis of the installed VMs, completed once their compatible environments are
+	 * known, or <code>null</code> if not started yet
 	 */
-	private boolean fInitializedCompatibilities = false;
+	private CompletableFuture<Void> fCompatibilities = null;
+
+	/**
+	 * Analysis results of VMs keyed by composite VM id, persisted so that unchanged VMs
+	 * are not analyzed again in later sessions
+	 */
+	private final Map<String, AnalysisResult> fAnalysisResults = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether the current thread analyzes VMs for {@link #initializeCompatibilities()}
+	 */
+	private static final ThreadLocal<Boolean> fgAnalyzing = new ThreadLocal<>();
+
+	/**
+	 * Maximum number of VMs analyzed concurrently
+	 */
+	private static final int MAX_CONCURRENT_ANALYSES = 4;
+
+	/**
+	 * Name of the file with the analysis results in the plug-in state location
+	 */
+	private static final String ANALYSIS_RESULTS_FILE = "environmentCompatibilities.txt"; //$NON-NLS-1$
+
+	/**
+	 * First line of the analysis results file, followed by the analyzer ids the results were computed with
+	 */
+	private static final String ANALYSIS_RESULTS_HEADER = "#compatibilities 1"; //$NON-NLS-1$
+
+	/**
+	 * Compatible environments computed for a VM
+	 */
+	private static final class AnalysisResult {
+
+		/**
+		 * Fingerprint of the VM when analyzed, see {@link EnvironmentsManager#getFingerprint(IVMInstall)}
+		 */
+		final String fingerprint;
+
+		/**
+		 * Compatible environments, encoded as comma separated <code>id:strict</code> pairs
+		 */
+		final String environments;
+
+		AnalysisResult(String fingerprint, String environments) {
+			this.fingerprint = fingerprint;
+			this.environments = environments;
+		}
+	}
 
 	/**
 	 * XML attribute
@@ -303,25 +367,88 @@ public class EnvironmentsManager implements IExecutionEnvironmentsManager, IVMIn
 	}
 
 	/**
-	 * Initializes compatibility settings.
+	 * Initializes compatibility settings, waiting for the analysis of installed VMs to complete.
+	 * <p>
+	 * VMs unchanged since a previous session are answered from persisted results, the others
+	 * are analyzed concurrently. The manager is not locked while waiting, so environments can
+	 * be looked up meanwhile.
+	 * </p>
 	 */
 	void initializeCompatibilities() {
 		IVMInstallType[] installTypes = JavaRuntime.getVMInstallTypes();
-        synchronized (this) {
-        	if (!fInitializedCompatibilities) {
-	        	fInitializedCompatibilities = true;
-	            for (int i = 0; i < installTypes.length; i++) {
-	                IVMInstallType type = installTypes[i];
-	                IVMInstall[] installs = type.getVMInstalls();
-	                for (int j = 0; j < installs.length; j++) {
-	                    IVMInstall install = installs[j];
-	                    // TODO: progress reporting?
-	                    analyze(install, new NullProgressMonitor());
-	                }
-	            }
-	            initializeDefaultVMs();
-        	}
-        }
+		CompletableFuture<Void> compatibilities;
+		synchronized (this) {
+			if (fCompatibilities == null) {
+				fCompatibilities = analyzeAll(installTypes);
+			}
+			compatibilities = fCompatibilities;
+		}
+		if (fgAnalyzing.get() != null || Thread.holdsLock(this)) {
+			// analyzers and the manager itself get the compatibilities known so far,
+			// the analysis needs the manager lock
+			return;
+		}
+		try {
+			compatibilities.join();
+		} catch (CompletionException e) {
+			LaunchingPlugin.log(e.getCause());
+		}
+	}
+
+	/**
+	 * Adds the persisted analysis results of unchanged VMs to the environments and
+	 * analyzes the other VMs concurrently.
+	 *
+	 * @param installTypes the VM install types
+	 * @return the analysis of the VMs, completed once all VMs were analyzed and the
+	 *         default VMs were initialized
+	 */
+	private synchronized CompletableFuture<Void> analyzeAll(IVMInstallType[] installTypes) {
+		loadAnalysisResults();
+		List<IVMInstall> pending = new ArrayList<>();
+		for (int i = 0; i < installTypes.length; i++) {
+			IVMInstall[] installs = installTypes[i].getVMInstalls();
+			for (int j = 0; j < installs.length; j++) {
+				IVMInstall install = installs[j];
+				if (!applyAnalysisResult(install)) {
+					pending.add(install);
+				}
+			}
+		}
+		if (pending.isEmpty()) {
+			initializeDefaultVMs();
+			return CompletableFuture.completedFuture(null);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(MAX_CONCURRENT_ANALYSES, pending.size()), r -> {
+			Thread thread = new Thread(r, "Execution Environment Analysis"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		CompletableFuture<?>[] analyses = new CompletableFuture<?>[pending.size()];
+		for (int i = 0; i < analyses.length; i++) {
+			IVMInstall install = pending.get(i);
+			analyses[i] = CompletableFuture.runAsync(() -> {
+				fgAnalyzing.set(Boolean.TRUE);
+				try {
+					// TODO: progress reporting?
+					CompatibleEnvironment[] environments = computeEnvironments(install, new NullProgressMonitor());
+					synchronized (this) {
+						// skip VMs removed meanwhile
+						if (install.getVMInstallType().findVMInstall(install.getId()) == install) {
+							addEnvironments(install, environments);
+						}
+					}
+				} finally {
+					fgAnalyzing.remove();
+				}
+			}, executor);
+		}
+		return CompletableFuture.allOf(analyses).whenComplete((result, e) -> executor.shutdown()).thenRun(() -> {
+			synchronized (this) {
+				initializeDefaultVMs();
+			}
+			saveAnalysisResults();
+		});
 	}
 
 	/**
@@ -404,21 +531,170 @@ public class EnvironmentsManager implements IExecutionEnvironmentsManager, IVMIn
 	 * @param vm the {@link IVMInstall} to find environments for
 	 * @param monitor a progress monitor or <code>null</code>
 	 */
-	private void analyze(IVMInstall vm, IProgressMonitor monitor) {
+	private synchronized void analyze(IVMInstall vm, IProgressMonitor monitor) {
+		addEnvironments(vm, computeEnvironments(vm, monitor));
+	}
+
+	/**
+	 * Runs all analyzers on the given VM install.
+	 *
+	 * @param vm the {@link IVMInstall} to find environments for
+	 * @param monitor a progress monitor or <code>null</code>
+	 * @return the environments compatible with the VM
+	 */
+	private CompatibleEnvironment[] computeEnvironments(IVMInstall vm, IProgressMonitor monitor) {
+		List<CompatibleEnvironment> result = new ArrayList<>();
 		Analyzer[] analyzers = getAnalyzers();
 		for (int i = 0; i < analyzers.length; i++) {
 			Analyzer analyzer = analyzers[i];
 			try {
-				CompatibleEnvironment[] environments = analyzer.analyze(vm, monitor);
-				for (int j = 0; j < environments.length; j++) {
-					CompatibleEnvironment compatibleEnvironment = environments[j];
-					ExecutionEnvironment environment = (ExecutionEnvironment) compatibleEnvironment.getCompatibleEnvironment();
-					environment.add(vm, compatibleEnvironment.isStrictlyCompatbile());
-				}
+				result.addAll(Arrays.asList(analyzer.analyze(vm, monitor)));
 			} catch (CoreException e) {
 				LaunchingPlugin.log(e);
 			}
 		}
+		return result.toArray(new CompatibleEnvironment[result.size()]);
+	}
+
+	/**
+	 * Adds the given VM install to its compatible environments and remembers the
+	 * analysis result.
+	 *
+	 * @param vm the {@link IVMInstall}
+	 * @param environments the environments compatible with the VM
+	 */
+	private synchronized void addEnvironments(IVMInstall vm, CompatibleEnvironment[] environments) {
+		StringBuilder encoded = new StringBuilder();
+		for (int i = 0; i < environments.length; i++) {
+			CompatibleEnvironment compatibleEnvironment = environments[i];
+			ExecutionEnvironment environment = (ExecutionEnvironment) compatibleEnvironment.getCompatibleEnvironment();
+			environment.add(vm, compatibleEnvironment.isStrictlyCompatbile());
+			if (encoded.length() > 0) {
+				encoded.append(',');
+			}
+			encoded.append(environment.getId()).append(':').append(compatibleEnvironment.isStrictlyCompatbile() ? '1' : '0');
+		}
+		String fingerprint = getFingerprint(vm);
+		if (fingerprint != null) {
+			fAnalysisResults.put(JavaRuntime.getCompositeIdFromVM(vm), new AnalysisResult(fingerprint, encoded.toString()));
+		}
+	}
+
+	/**
+	 * Adds the given VM install to the environments it was found compatible with
+	 * before, if it did not change since.
+	 *
+	 * @param vm the {@link IVMInstall}
+	 * @return whether the VM was unchanged and added to its environments
+	 */
+	private synchronized boolean applyAnalysisResult(IVMInstall vm) {
+		AnalysisResult result = fAnalysisResults.get(JavaRuntime.getCompositeIdFromVM(vm));
+		if (result == null || !result.fingerprint.equals(getFingerprint(vm))) {
+			return false;
+		}
+		if (!result.environments.isEmpty()) {
+			for (String encoded : result.environments.split(",")) { //$NON-NLS-1$
+				int separator = encoded.lastIndexOf(':');
+				ExecutionEnvironment environment = (ExecutionEnvironment) getEnvironment(encoded.substring(0, separator));
+				if (environment == null) {
+					// the environment is no longer contributed
+					return false;
+				}
+				environment.add(vm, encoded.charAt(separator + 1) == '1');
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a fingerprint of the given VM install that changes when the VM is replaced
+	 * or updated, or <code>null</code> if the VM can't be identified.
+	 *
+	 * @param vm the {@link IVMInstall}
+	 * @return fingerprint or <code>null</code>
+	 */
+	private static String getFingerprint(IVMInstall vm) {
+		File location = vm.getInstallLocation();
+		if (location == null || vm.getVMInstallType() == null) {
+			return null;
+		}
+		StringBuilder fingerprint = new StringBuilder();
+		fingerprint.append(vm.getVMInstallType().getId()).append('|').append(location.getAbsolutePath()).append('|').append(location.lastModified());
+		File javaExecutable = StandardVMType.findJavaExecutable(location);
+		if (javaExecutable != null) {
+			fingerprint.append('|').append(javaExecutable.length()).append('|').append(javaExecutable.lastModified());
+		}
+		if (vm instanceof AbstractVMInstall) {
+			String eeId = ((AbstractVMInstall) vm).getAttribute(EEVMInstall.ATTR_EXECUTION_ENVIRONMENT_ID);
+			if (eeId != null) {
+				fingerprint.append('|').append(eeId);
+			}
+		}
+		return fingerprint.toString();
+	}
+
+	/**
+	 * Returns the header of the analysis results file, results of other analyzers
+	 * are not used.
+	 *
+	 * @return header line
+	 */
+	private String getAnalysisResultsHeader() {
+		Set<String> ids = new TreeSet<>();
+		for (Analyzer analyzer : getAnalyzers()) {
+			ids.add(analyzer.getId());
+		}
+		return ANALYSIS_RESULTS_HEADER + ' ' + String.join(",", ids); //$NON-NLS-1$
+	}
+
+	private static File getAnalysisResultsFile() {
+		return LaunchingPlugin.getDefault().getStateLocation().append(ANALYSIS_RESULTS_FILE).toFile();
+	}
+
+	/**
+	 * Reads the persisted analysis results, one <code>composite VM id, environments, fingerprint</code>
+	 * line per VM with tab separated fields.
+	 */
+	private void loadAnalysisResults() {
+		File file = getAnalysisResultsFile();
+		if (!file.isFile()) {
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			if (!getAnalysisResultsHeader().equals(reader.readLine())) {
+				return;
+			}
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] fields = line.split("\t", 3); //$NON-NLS-1$
+				if (fields.length == 3) {
+					fAnalysisResults.put(fields[0], new AnalysisResult(fields[2], fields[1]));
+				}
+			}
+		} catch (IOException e) {
+			LaunchingPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Persists the analysis results of installed VMs.
+	 */
+	private void saveAnalysisResults() {
+		File file = getAnalysisResultsFile();
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			writer.write(getAnalysisResultsHeader());
+			writer.write('\n');
+			for (Map.Entry<String, AnalysisResult> entry : fAnalysisResults.entrySet()) {
+				writer.write(entry.getKey());
+				writer.write('\t');
+				writer.write(entry.getValue().environments);
+				writer.write('\t');
+				writer.write(entry.getValue().fingerprint);
+				writer.write('\n');
+			}
+		} catch (IOException e) {
+			LaunchingPlugin.log(e);
+		}
 	}
 
 	/* (non-Javadoc)
@@ -452,6 +728,9 @@ public class EnvironmentsManager implements IExecutionEnvironmentsManager, IVMIn
 			return;
 		}
 		analyze(vm, new NullProgressMonitor());
+		if (fCompatibilities != null && fCompatibilities.isDone()) {
+			saveAnalysisResults();
+		}
 	}
 
 	/* (non-Javadoc)
@@ -467,6 +746,7 @@ public class EnvironmentsManager implements IExecutionEnvironmentsManager, IVMIn
 			ExecutionEnvironment environment = (ExecutionEnvironment) environments[i];
 			environment.remove(vm);
 		}
+		fAnalysisResults.remove(JavaRuntime.getCompositeIdFromVM(vm));
 	}
 
 	synchronized void updateDefaultVMs() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -18,13 +18,14 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.FileLocator;
@@ -120,19 +121,20 @@ class ExecutionEnvironment implements IExecutionEnvironment {
 	private boolean fPropertiesInitialized;
 
 	/**
-	 * Set of compatible vm's - just the strictly compatible ones
+	 * Set of compatible vm's - just the strictly compatible ones. Updated by the
+	 * threads analyzing VMs while clients read it.
 	 */
-	private Set<IVMInstall> fStrictlyCompatible = new HashSet<>();
+	private Set<IVMInstall> fStrictlyCompatible = ConcurrentHashMap.newKeySet();
 
 	/**
-	 * All compatible vm's
+	 * All compatible vm's. Updated by the threads analyzing VMs while clients read it.
 	 */
-	private List<IVMInstall> fCompatibleVMs = new ArrayList<>();
+	private CopyOnWriteArrayList<IVMInstall> fCompatibleVMs = new CopyOnWriteArrayList<>();
 
 	/**
 	 * default VM install or <code>null</code> if none
 	 */
-	private IVMInstall fDefault = null;
+	private volatile IVMInstall fDefault = null;
 
 	/**
 	 * Cache of access rule participants to consider for this environment.
@@ -207,7 +209,7 @@ class ExecutionEnvironment implements IExecutionEnvironment {
 	@Override
 	public IVMInstall[] getCompatibleVMs() {
 		init();
-		return fCompatibleVMs.toArray(new IVMInstall[fCompatibleVMs.size()]);
+		return fCompatibleVMs.toArray(new IVMInstall[0]);
 	}
 
 	/* (non-Javadoc)
@@ -288,10 +290,9 @@ class ExecutionEnvironment implements IExecutionEnvironment {
 	 * @param strictlyCompatible if it is strictly compatible
 	 */
 	void add(IVMInstall vm, boolean strictlyCompatible) {
-		if (fCompatibleVMs.contains(vm)) {
+		if (!fCompatibleVMs.addIfAbsent(vm)) {
 			return;
 		}
-		fCompatibleVMs.add(vm);
 		if (strictlyCompatible) {
 			fStrictlyCompatible.add(vm);
 		}
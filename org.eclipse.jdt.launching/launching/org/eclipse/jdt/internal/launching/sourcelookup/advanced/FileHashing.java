@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2022 Igor Fedorenko
+ * Copyright (c) 2011, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,23 +13,58 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.launching.sourcelookup.advanced;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Helpers to compute file content digests. Provides long-lived hasher instance with bounded cache of most recently requested files, which is useful
  * to handle source lookup requests. Also provides factory of hasher instances with unbounded caches, which is useful to perform bulk workspace
  * indexing.
+ *
+ * <p>
+ * All hashers share an index of file digests keyed by canonical path. Each digest is valid for the length and last modification time the file had
+ * when it was hashed, and is replaced when the file changes, so the index holds at most one digest per file. The index can be saved and loaded, so
+ * unchanged files are not hashed again in later sessions.
  */
 public class FileHashing {
 
+	/**
+	 * Maximum number of threads used to hash files in parallel
+	 */
+	private static final int MAX_HASHING_THREADS = 4;
+
+	/**
+	 * Size of the buffer files are read with
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Digests of all files hashed in this or, if loaded, previous sessions, by canonical file
+	 */
+	private static final Map<File, IndexEntry> INDEX = new ConcurrentHashMap<>();
+
 	public static interface Hasher {
 		Object hash(File file);
 	}
@@ -52,6 +87,113 @@ public class FileHashing {
 		return new HasherImpl(HASHER);
 	}
 
+	/**
+	 * Hashes the given files in parallel using the given hasher, so subsequent requests for the files are answered from its cache.
+	 */
+	public static void hashAll(Hasher hasher, Collection<File> files) {
+		int threads = Math.min(MAX_HASHING_THREADS, Math.min(files.size(), Runtime.getRuntime().availableProcessors()));
+		if (threads <= 1) {
+			files.forEach(hasher::hash);
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Callable<Object>> tasks = new ArrayList<>(files.size());
+			for (File file : files) {
+				tasks.add(() -> hasher.hash(file));
+			}
+			for (Future<Object> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt(); // restore interrupted status
+		}
+		catch (ExecutionException e) {
+			// hash() does not throw, files that can't be read have no hash
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Adds the digests saved in the given file to the index. Entries of files changed since are ignored.
+	 */
+	public static void loadIndex(File indexFile) throws IOException {
+		if (!indexFile.isFile()) {
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				// <sha1>\t<length>\t<lastModified>\t<canonical path>
+				String[] fields = line.split("\t", 4); //$NON-NLS-1$
+				if (fields.length != 4) {
+					continue;
+				}
+				try {
+					CacheKey key = new CacheKey(new File(fields[3]), Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+					if (key.isCurrent()) {
+						INDEX.put(key.file, new IndexEntry(key, HashCode.parse(fields[0])));
+					}
+				}
+				catch (NumberFormatException e) {
+					// corrupt entry, hashed again when needed
+				}
+			}
+		}
+	}
+
+	/**
+	 * Saves the digests of the index to the given file, except for files changed or removed since they were hashed.
+	 */
+	public static void saveIndex(File indexFile) throws IOException {
+		File tmp = new File(indexFile.getPath() + ".tmp"); //$NON-NLS-1$
+		try (BufferedWriter writer = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+			for (IndexEntry entry : INDEX.values()) {
+				CacheKey key = entry.key;
+				if (key.isCurrent()) {
+					writer.write(entry.hashCode.toString());
+					writer.write('\t');
+					writer.write(Long.toString(key.length));
+					writer.write('\t');
+					writer.write(Long.toString(key.lastModified));
+					writer.write('\t');
+					writer.write(key.file.getPath());
+					writer.write('\n');
+				}
+			}
+		}
+		Files.move(tmp.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Returns the indexed digest of the file of the given key, removing the digest if the file changed since it was hashed.
+	 */
+	private static HashCode getIndexed(CacheKey key) {
+		IndexEntry entry = INDEX.get(key.file);
+		if (entry == null) {
+			return null;
+		}
+		if (!entry.key.equals(key)) {
+			INDEX.remove(key.file, entry);
+			return null;
+		}
+		return entry.hashCode;
+	}
+
+	private static class IndexEntry {
+		final CacheKey key;
+
+		final HashCode hashCode;
+
+		IndexEntry(CacheKey key, HashCode hashCode) {
+			this.key = key;
+			this.hashCode = hashCode;
+		}
+	}
+
 	private static class CacheKey {
 		public final File file;
 
@@ -65,6 +207,19 @@ public class FileHashing {
 			this.lastModified = file.lastModified();
 		}
 
+		CacheKey(File canonicalFile, long length, long lastModified) {
+			this.file = canonicalFile;
+			this.length = length;
+			this.lastModified = lastModified;
+		}
+
+		/**
+		 * Returns whether the file still has the length and modification time of this key.
+		 */
+		boolean isCurrent() {
+			return file.length() == length && file.lastModified() == lastModified;
+		}
+
 		@Override
 		public int hashCode() {
 			int hash = 17;
@@ -120,6 +275,17 @@ public class FileHashing {
 		}
 
 		private static final char[] hexDigits = "0123456789abcdef".toCharArray(); //$NON-NLS-1$
+
+		static HashCode parse(String hex) {
+			if (hex.length() % 2 != 0) {
+				throw new NumberFormatException(hex);
+			}
+			byte[] bytes = new byte[hex.length() / 2];
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+			}
+			return new HashCode(bytes);
+		}
 	}
 
 	private static class HasherImpl implements Hasher {
@@ -137,7 +303,9 @@ public class FileHashing {
 		}
 
 		public HasherImpl(HasherImpl initial) {
-			this.cache = new LinkedHashMap<>(initial.cache);
+			synchronized (initial.cache) {
+				this.cache = new LinkedHashMap<>(initial.cache);
+			}
 		}
 
 		@Override
@@ -154,7 +322,11 @@ public class FileHashing {
 					}
 				}
 				// don't hold cache lock while hashing file
-				HashCode hashCode = sha1(file);
+				HashCode hashCode = getIndexed(cacheKey);
+				if (hashCode == null) {
+					hashCode = sha1(file);
+					INDEX.put(cacheKey.file, new IndexEntry(cacheKey, hashCode));
+				}
 				synchronized (cache) {
 					cache.put(cacheKey, hashCode);
 				}
@@ -175,11 +347,13 @@ public class FileHashing {
 		catch (NoSuchAlgorithmException e) {
 			throw new IllegalStateException("Unsupported JVM", e); //$NON-NLS-1$
 		}
-		byte[] buf = new byte[4096];
-		try (InputStream is = new FileInputStream(file)) {
-			int len;
-			while ((len = is.read(buf)) > 0) {
-				digest.update(buf, 0, len);
+		// files are not memory mapped, on some platforms mapped files can't be deleted until the mapping is garbage collected
+		ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE);
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			while (channel.read(buf) > 0) {
+				buf.flip();
+				digest.update(buf);
+				buf.clear();
 			}
 		}
 		return new HashCode(digest.digest());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011-2016 Igor Fedorenko
+ * Copyright (c) 2011-2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,9 @@ package org.eclipse.jdt.internal.launching.sourcelookup.advanced;
 import java.io.File;
 
 import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IStackFrame;
+import org.eclipse.jdt.debug.core.IJavaClassUnloadListener;
 
 /**
  * Helpers to extract source lookup location information from advanced source lookup JSR-45 strata.
@@ -44,4 +46,15 @@ public interface IJDIHelpers {
 	 */
 	public Iterable<File> getStackFramesClassesLocations(Object element) throws DebugException;
 
+	/**
+	 * Registers the given listener for the classes unloaded in the given target. Returns {@code false} if the target does not report unloaded
+	 * classes, in which case the listener is not registered.
+	 */
+	public boolean addClassUnloadListener(IDebugTarget target, IJavaClassUnloadListener listener);
+
+	/**
+	 * Removes the given class unload listener from the given target. Has no effect if the listener is not registered.
+	 */
+	public void removeClassUnloadListener(IDebugTarget target, IJavaClassUnloadListener listener);
+
 }
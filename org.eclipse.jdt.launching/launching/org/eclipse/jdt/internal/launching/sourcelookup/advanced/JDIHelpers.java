@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011-2016 Igor Fedorenko
+ * Copyright (c) 2011-2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,10 @@ import java.util.Arrays;
 import java.util.Iterator;
 
 import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IStackFrame;
+import org.eclipse.jdt.debug.core.IJavaClassUnloadListener;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
@@ -159,6 +162,22 @@ public final class JDIHelpers implements IJDIHelpers {
 		};
 	}
 
+	@Override
+	public boolean addClassUnloadListener(IDebugTarget target, IJavaClassUnloadListener listener) {
+		if (!(target instanceof IJavaDebugTarget) || target.isTerminated() || target.isDisconnected()) {
+			return false;
+		}
+		((IJavaDebugTarget) target).addClassUnloadListener(listener);
+		return true;
+	}
+
+	@Override
+	public void removeClassUnloadListener(IDebugTarget target, IJavaClassUnloadListener listener) {
+		if (target instanceof IJavaDebugTarget) {
+			((IJavaDebugTarget) target).removeClassUnloadListener(listener);
+		}
+	}
+
 	// copy&paste from org.eclipse.pde.internal.launching.sourcelookup.PDESourceLookupQuery.generateSourceName(String)
 	private static String generateSourceName(String qualifiedTypeName) {
 		int index = qualifiedTypeName.indexOf('$');
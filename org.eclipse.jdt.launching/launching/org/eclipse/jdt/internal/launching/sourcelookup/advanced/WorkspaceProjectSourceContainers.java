@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012-2016 Igor Fedorenko
+ * Copyright (c) 2012, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,11 +21,14 @@ import static org.eclipse.jdt.core.IJavaElementDelta.F_REMOVED_FROM_CLASSPATH;
 import static org.eclipse.jdt.core.IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,6 +51,7 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.internal.launching.LaunchingPlugin;
 import org.eclipse.jdt.internal.launching.sourcelookup.advanced.FileHashing.Hasher;
 import org.eclipse.jdt.launching.sourcelookup.advanced.IWorkspaceProjectDescriber;
 import org.eclipse.jdt.launching.sourcelookup.advanced.IWorkspaceProjectDescriber.IJavaProjectSourceDescription;
@@ -63,8 +67,17 @@ import org.eclipse.jdt.launching.sourcelookup.containers.PackageFragmentRootSour
  * <p>
  * The factory maintains up-to-date registry of workspace projects and their classpath entries and can be used to create source containers fast enough
  * to be used from UI thread.
+ *
+ * <p>
+ * Dependency hashes are kept in a persistent index, see {@link FileHashing#loadIndex(File)}, so only files changed since the previous session are
+ * hashed again on initialization.
  */
 public class WorkspaceProjectSourceContainers {
+
+	/**
+	 * Name of the file with the dependency hash index in the plug-in state location
+	 */
+	private static final String HASH_INDEX_FILE = "sourceLookupHashes.txt"; //$NON-NLS-1$
 	private final IElementChangedListener changeListener = new IElementChangedListener() {
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
@@ -191,9 +204,7 @@ public class WorkspaceProjectSourceContainers {
 
 	/**
 	 * Guards concurrent access to {@link #locations}, {@link #hashes} and {@link #projects}. Necessary because source lookup queries and java model
-	 * changes are processed on different threads.
-	 *
-	 * @TODO consider using ConcurrentMaps instead of explicit locking.
+	 * changes are processed on different threads. Files are never hashed while holding the lock.
 	 */
 	private final Object lock = new Object() {
 	};
@@ -250,9 +261,13 @@ public class WorkspaceProjectSourceContainers {
 	}
 
 	private Collection<JavaProjectDescription> getProjectsByHash(File projectLocation, FileHashing.Hasher hasher) {
+		Object hash = hasher.hash(projectLocation);
+		if (hash == null) {
+			return Collections.emptySet();
+		}
 		Collection<JavaProjectDescription> projects;
 		synchronized (lock) {
-			projects = hashes.get(hasher.hash(projectLocation));
+			projects = hashes.get(hash);
 			return projects != null ? new HashSet<>(projects) : Collections.emptySet();
 		}
 	}
@@ -309,17 +324,17 @@ public class WorkspaceProjectSourceContainers {
 		final IJavaModel javaModel = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot());
 		final IJavaProject[] javaProjects = javaModel.getJavaProjects();
 
-		SubMonitor progress = SubMonitor.convert(monitor, javaProjects.length);
+		SubMonitor progress = SubMonitor.convert(monitor, 3);
 
-		// TODO this can take significant time for large workspaces, consider running on multiple threads
-		// NB: can't persist state across restarts because java element change events are not delivered when this plugin isn't active
+		// project descriptions can't be persisted because java element change events are not delivered when this plugin isn't active,
+		// but file hashes can, they are validated against file length and modification time
+		loadHashIndex();
 
 		Hasher hasher = FileHashing.newHasher(); // short-lived hasher for bulk workspace indexing
 
-		List<IWorkspaceProjectDescriber> describers = getJavaProjectDescribers();
-		for (IJavaProject project : javaProjects) {
-			addJavaProject(project, describers, hasher, progress.split(1));
-		}
+		addJavaProjects(Arrays.asList(javaProjects), getJavaProjectDescribers(), hasher, progress.split(3));
+
+		saveHashIndex();
 	}
 
 	public void close() {
@@ -329,9 +344,57 @@ public class WorkspaceProjectSourceContainers {
 			this.hashes.clear();
 			this.projects.clear();
 		}
+		saveHashIndex();
+	}
+
+	private static File getHashIndexFile() {
+		return LaunchingPlugin.getDefault().getStateLocation().append(HASH_INDEX_FILE).toFile();
+	}
+
+	private static void loadHashIndex() {
+		try {
+			FileHashing.loadIndex(getHashIndexFile());
+		}
+		catch (IOException e) {
+			LaunchingPlugin.log(e);
+		}
 	}
 
-	private void addJavaProject(IJavaProject project, List<IWorkspaceProjectDescriber> describers, FileHashing.Hasher hasher, IProgressMonitor monitor) throws CoreException {
+	private static void saveHashIndex() {
+		try {
+			FileHashing.saveIndex(getHashIndexFile());
+		}
+		catch (IOException e) {
+			LaunchingPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Describes the given projects, hashes all of their locations and dependencies in parallel and adds the projects.
+	 */
+	private void addJavaProjects(Collection<IJavaProject> javaProjects, List<IWorkspaceProjectDescriber> describers, FileHashing.Hasher hasher, IProgressMonitor monitor) throws CoreException {
+		SubMonitor progress = SubMonitor.convert(monitor, 2 * javaProjects.size() + 1);
+
+		Map<IJavaProject, JavaProjectDescriptionBuilder> builders = new LinkedHashMap<>();
+		Set<File> files = new HashSet<>();
+		for (IJavaProject project : javaProjects) {
+			JavaProjectDescriptionBuilder builder = describeJavaProject(project, describers);
+			builders.put(project, builder);
+			files.addAll(builder.locations);
+			files.addAll(builder.dependencyLocations.keySet());
+			progress.worked(1);
+		}
+
+		FileHashing.hashAll(hasher, files);
+		progress.worked(1);
+
+		for (Map.Entry<IJavaProject, JavaProjectDescriptionBuilder> entry : builders.entrySet()) {
+			addJavaProject(entry.getKey(), entry.getValue(), hasher);
+			progress.worked(1);
+		}
+	}
+
+	private JavaProjectDescriptionBuilder describeJavaProject(IJavaProject project, List<IWorkspaceProjectDescriber> describers) throws CoreException {
 		if (project == null) {
 			throw new IllegalArgumentException();
 		}
@@ -342,13 +405,17 @@ public class WorkspaceProjectSourceContainers {
 			describer.describeProject(project, builder);
 		}
 
+		// make binary project support little easier to implement
+		builder.locations.forEach(location -> builder.dependencyLocations.remove(location));
+
+		return builder;
+	}
+
+	private void addJavaProject(IJavaProject project, JavaProjectDescriptionBuilder builder, FileHashing.Hasher hasher) {
 		Set<File> locations = builder.locations;
 		List<Supplier<ISourceContainer>> factories = builder.factories;
 		Map<File, IPackageFragmentRoot> dependencies = builder.dependencyLocations;
 
-		// make binary project support little easier to implement
-		locations.forEach(location -> dependencies.remove(location));
-
 		Set<Object> hashes = new HashSet<>();
 		locations.forEach(location -> {
 			Object hash = hasher.hash(location);
@@ -376,8 +443,6 @@ public class WorkspaceProjectSourceContainers {
 			}
 			this.projects.put(project, info);
 		}
-
-		SubMonitor.done(monitor);
 	}
 
 	protected List<IWorkspaceProjectDescriber> getJavaProjectDescribers() {
@@ -432,11 +497,8 @@ public class WorkspaceProjectSourceContainers {
 		for (IJavaProject project : remove) {
 			removeJavaProject(project);
 		}
-		List<IWorkspaceProjectDescriber> describers = getJavaProjectDescribers();
 		Hasher hasher = FileHashing.newHasher();
-		for (IJavaProject project : add) {
-			addJavaProject(project, describers, hasher, progress.split(1));
-		}
+		addJavaProjects(add, getJavaProjectDescribers(), hasher, progress.split(add.size()));
 	}
 
 }
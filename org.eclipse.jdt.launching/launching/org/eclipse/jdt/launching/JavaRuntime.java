@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -85,6 +85,7 @@ import org.eclipse.jdt.internal.launching.JREContainerInitializer;
 import org.eclipse.jdt.internal.launching.JavaSourceLookupUtil;
 import org.eclipse.jdt.internal.launching.LaunchingMessages;
 import org.eclipse.jdt.internal.launching.LaunchingPlugin;
+import org.eclipse.jdt.internal.launching.RuntimeClasspathCache;
 import org.eclipse.jdt.internal.launching.RuntimeClasspathEntry;
 import org.eclipse.jdt.internal.launching.RuntimeClasspathEntryResolver;
 import org.eclipse.jdt.internal.launching.RuntimeClasspathProvider;
@@ -1655,10 +1656,40 @@ public final class JavaRuntime {
 	 * @since 2.0
 	 */
 	public static IRuntimeClasspathEntry[] resolveRuntimeClasspath(IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration) throws CoreException {
-		if (!isModularConfiguration(configuration)) {
-			return getClasspathProvider(configuration).resolveClasspath(entries, configuration);
+		IRuntimeClasspathProvider provider = getClasspathProvider(configuration);
+		boolean modular = isModularConfiguration(configuration);
+		if (provider != fgDefaultClasspathProvider) {
+			// other providers may depend on state not tracked by the cache
+			return resolveRuntimeClasspath(provider, entries, configuration, modular);
 		}
-		IRuntimeClasspathEntry[] entries1 = getClasspathProvider(configuration).resolveClasspath(entries, configuration);
+		long start = System.currentTimeMillis();
+		RuntimeClasspathCache cache = RuntimeClasspathCache.getDefault();
+		RuntimeClasspathCache.Key key = cache.getKey(entries, configuration, modular);
+		IRuntimeClasspathEntry[] resolved = key == null ? null : cache.get(key);
+		boolean cached = resolved != null;
+		if (!cached) {
+			long generation = cache.getGeneration();
+			resolved = resolveRuntimeClasspath(provider, entries, configuration, modular);
+			if (key != null) {
+				cache.put(key, resolved, generation);
+			}
+		}
+		if (LaunchingPlugin.DEBUG_CLASSPATH_RESOLUTION) {
+			LaunchingPlugin.trace(LaunchingPlugin.DEBUG_CLASSPATH_RESOLUTION_FLAG, "Resolved runtime classpath of " + configuration.getName() //$NON-NLS-1$
+					+ (cached ? " from cache" : "") + " in " + (System.currentTimeMillis() - start) + "ms", null); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+		return resolved;
+	}
+
+	/**
+	 * Resolves the given classpath with the given provider, excluding the JRE
+	 * libraries from the resolved classpath of modular configurations.
+	 */
+	private static IRuntimeClasspathEntry[] resolveRuntimeClasspath(IRuntimeClasspathProvider provider, IRuntimeClasspathEntry[] entries, ILaunchConfiguration configuration, boolean modular) throws CoreException {
+		if (!modular) {
+			return provider.resolveClasspath(entries, configuration);
+		}
+		IRuntimeClasspathEntry[] entries1 = provider.resolveClasspath(entries, configuration);
 		List<IRuntimeClasspathEntry> entries2 = new ArrayList<>(entries1.length);
 		IJavaProject project;
 		try {
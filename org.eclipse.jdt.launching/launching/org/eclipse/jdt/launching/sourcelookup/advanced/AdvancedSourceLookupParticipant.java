@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011-2016 Igor Fedorenko
+ * Copyright (c) 2011-2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,12 +28,20 @@ import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.DebugElement;
 import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.ISourceLocator;
 import org.eclipse.debug.core.sourcelookup.ISourceContainer;
 import org.eclipse.debug.core.sourcelookup.ISourceLookupDirector;
 import org.eclipse.debug.core.sourcelookup.ISourceLookupParticipant;
+import org.eclipse.jdt.debug.core.IJavaClassUnloadListener;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaReferenceType;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.internal.launching.sourcelookup.advanced.AdvancedSourceLookupSupport;
 import org.eclipse.jdt.internal.launching.sourcelookup.advanced.CompositeSourceContainer;
 import org.eclipse.jdt.internal.launching.sourcelookup.advanced.IJDIHelpers;
@@ -51,6 +59,70 @@ public class AdvancedSourceLookupParticipant implements ISourceLookupParticipant
 
 	private final Map<File, ISourceContainer> containers = new HashMap<>();
 
+	/**
+	 * Classes locations of the reference types of stack frames, per debug target
+	 */
+	private final Map<IDebugTarget, TypeLocations> typeLocations = new HashMap<>();
+
+	/**
+	 * Disposes the type locations of terminated debug targets, registered while there are type locations
+	 */
+	private IDebugEventSetListener terminateListener;
+
+	/**
+	 * Classes locations of the reference types of a debug target, so that frames of the same type don't query the target
+	 * again. Entries are removed when their type is unloaded.
+	 */
+	private class TypeLocations implements IJavaClassUnloadListener {
+
+		private static final class Location {
+			final String typeName;
+			final File file;
+
+			Location(String typeName, File file) {
+				this.typeName = typeName;
+				this.file = file;
+			}
+		}
+
+		private final IDebugTarget target;
+
+		private final Map<IJavaReferenceType, Location> locations = new HashMap<>();
+
+		TypeLocations(IDebugTarget target) {
+			this.target = target;
+		}
+
+		synchronized boolean contains(IJavaReferenceType type) {
+			return locations.containsKey(type);
+		}
+
+		synchronized File get(IJavaReferenceType type) {
+			Location location = locations.get(type);
+			return location != null ? location.file : null;
+		}
+
+		synchronized void put(IJavaReferenceType type, String typeName, File file) {
+			locations.put(type, new Location(typeName, file));
+		}
+
+		synchronized void clear() {
+			locations.clear();
+		}
+
+		@Override
+		public void classUnloaded(IJavaDebugTarget eventTarget, String typeName) {
+			synchronized (this) {
+				locations.values().removeIf(location -> location.typeName.equals(typeName));
+			}
+		}
+
+		void dispose() {
+			jdi.removeClassUnloadListener(target, this);
+			clear();
+		}
+	}
+
 	public AdvancedSourceLookupParticipant() {
 		this(IJDIHelpers.INSTANCE);
 	}
@@ -85,7 +157,7 @@ public class AdvancedSourceLookupParticipant implements ISourceLookupParticipant
 	}
 
 	public ISourceContainer getSourceContainer(Object element, boolean refresh, IProgressMonitor monitor) throws CoreException {
-		File location = jdi.getClassesLocation(element);
+		File location = getClassesLocation(element, refresh);
 
 		if (location == null) {
 			return null;
@@ -150,6 +222,71 @@ public class AdvancedSourceLookupParticipant implements ISourceLookupParticipant
 		return null;
 	}
 
+	/**
+	 * Returns the classes location of the given element, remembered per reference type for stack frames.
+	 */
+	private File getClassesLocation(Object element, boolean refresh) throws DebugException {
+		if (!(element instanceof IJavaStackFrame)) {
+			return jdi.getClassesLocation(element);
+		}
+		IJavaReferenceType type = ((IJavaStackFrame) element).getReferenceType();
+		TypeLocations locations = getTypeLocations(type.getDebugTarget());
+		if (locations == null) {
+			return jdi.getClassesLocation(element);
+		}
+		if (!refresh && locations.contains(type)) {
+			return locations.get(type);
+		}
+		// the location of a frame only depends on its reference type
+		File location = jdi.getClassesLocation(element);
+		locations.put(type, type.getName(), location);
+		return location;
+	}
+
+	/**
+	 * Returns the type locations of the given target, registering for class unload events of the target if required.
+	 *
+	 * @return the type locations or {@code null} if class unloading can't be tracked
+	 */
+	private TypeLocations getTypeLocations(IDebugTarget target) {
+		if (target == null || target.isTerminated() || target.isDisconnected()) {
+			return null;
+		}
+		synchronized (typeLocations) {
+			TypeLocations locations = typeLocations.get(target);
+			if (locations == null && !typeLocations.containsKey(target)) {
+				if (terminateListener == null) {
+					terminateListener = this::handleDebugEvents;
+					DebugPlugin.getDefault().addDebugEventListener(terminateListener);
+				}
+				locations = new TypeLocations(target);
+				if (!jdi.addClassUnloadListener(target, locations)) {
+					// class unloading can't be tracked, don't remember locations
+					locations = null;
+				}
+				typeLocations.put(target, locations);
+			}
+			return locations;
+		}
+	}
+
+	/**
+	 * Removes and disposes the type locations of terminated debug targets.
+	 */
+	private void handleDebugEvents(DebugEvent[] events) {
+		for (DebugEvent event : events) {
+			if (event.getKind() == DebugEvent.TERMINATE && event.getSource() instanceof IDebugTarget) {
+				TypeLocations locations;
+				synchronized (typeLocations) {
+					locations = typeLocations.remove(event.getSource());
+				}
+				if (locations != null) {
+					locations.dispose();
+				}
+			}
+		}
+	}
+
 	private ISourceContainer cacheContainer(Object element, File location, ISourceContainer container) {
 		ISourceContainer oldContainer;
 		synchronized (containers) {
@@ -191,11 +328,30 @@ public class AdvancedSourceLookupParticipant implements ISourceLookupParticipant
 
 	@Override
 	public void dispose() {
+		synchronized (typeLocations) {
+			if (terminateListener != null) {
+				DebugPlugin.getDefault().removeDebugEventListener(terminateListener);
+				terminateListener = null;
+			}
+			for (TypeLocations locations : typeLocations.values()) {
+				if (locations != null) {
+					locations.dispose();
+				}
+			}
+			typeLocations.clear();
+		}
 		disposeContainers();
 	}
 
 	@Override
 	public void sourceContainersChanged(ISourceLookupDirector director) {
+		synchronized (typeLocations) {
+			for (TypeLocations locations : typeLocations.values()) {
+				if (locations != null) {
+					locations.clear();
+				}
+			}
+		}
 		disposeContainers();
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,11 @@
 
 package org.eclipse.jdt.launching.sourcelookup.containers;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
@@ -31,6 +34,7 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
+import org.eclipse.jdt.internal.launching.JavaSourcePackageIndex;
 
 /**
  * A source lookup participant that searches for Java source code.
@@ -49,6 +53,12 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 	 */
 	private Map<ISourceContainer, PackageFragmentRootSourceContainer> fDelegateContainers;
 
+	/**
+	 * Index of the packages of the source containers, created on the first
+	 * lookup after the source containers change, or <code>null</code>
+	 */
+	private JavaSourcePackageIndex fPackageIndex;
+
 	/**
 	 * Returns the source name associated with the given object, or <code>null</code>
 	 * if none.
@@ -69,6 +79,7 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 	 */
 	@Override
 	public void dispose() {
+		disposePackageIndex();
 		Iterator<PackageFragmentRootSourceContainer> iterator = fDelegateContainers.values().iterator();
 		while (iterator.hasNext()) {
 			ISourceContainer container = iterator.next();
@@ -103,6 +114,7 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 	 */
 	@Override
 	public void sourceContainersChanged(ISourceLookupDirector director) {
+		disposePackageIndex();
 		// use package fragment roots in place of local archives, where they exist
 		fDelegateContainers.clear();
 		ISourceContainer[] containers = director.getSourceContainers();
@@ -136,4 +148,65 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 			}
 		}
 	}
+
+	/**
+	 * Searches only the source containers that may contain the package of
+	 * the source name, in the order of the source lookup path.
+	 *
+	 * @see org.eclipse.debug.core.sourcelookup.AbstractSourceLookupParticipant#findSourceElements(java.lang.Object)
+	 */
+	@Override
+	public Object[] findSourceElements(Object object) throws CoreException {
+		String name = getSourceName(object);
+		if (name == null) {
+			return EMPTY;
+		}
+		List<Object> results = isFindDuplicates() ? new ArrayList<>() : null;
+		CoreException exception = null;
+		for (ISourceContainer container : getPackageIndex().getCandidates(name)) {
+			try {
+				Object[] objects = container.findSourceElements(name);
+				if (objects.length > 0) {
+					if (results == null) {
+						return objects.length == 1 ? objects : new Object[] { objects[0] };
+					}
+					Collections.addAll(results, objects);
+				}
+			} catch (CoreException e) {
+				if (exception == null) {
+					exception = e;
+				}
+			}
+		}
+		if (results != null && !results.isEmpty()) {
+			return results.toArray();
+		}
+		if (exception != null) {
+			throw exception;
+		}
+		return EMPTY;
+	}
+
+	/**
+	 * Returns the package index of the (delegate) source containers of the
+	 * director, creating it if required.
+	 */
+	private synchronized JavaSourcePackageIndex getPackageIndex() {
+		if (fPackageIndex == null) {
+			ISourceContainer[] directorContainers = getSourceContainers();
+			ISourceContainer[] containers = new ISourceContainer[directorContainers.length];
+			for (int i = 0; i < containers.length; i++) {
+				containers[i] = getDelegateContainer(directorContainers[i]);
+			}
+			fPackageIndex = new JavaSourcePackageIndex(containers);
+		}
+		return fPackageIndex;
+	}
+
+	private synchronized void disposePackageIndex() {
+		if (fPackageIndex != null) {
+			fPackageIndex.dispose();
+			fPackageIndex = null;
+		}
+	}
 }